@@ -0,0 +1,46 @@
+package pwe.planner.commons.jfr.jdk;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import pwe.planner.commons.jfr.CascadeEvent;
+
+/**
+ * The Java Flight Recorder event for the cascading of an edited or deleted module code to the degree planners or the
+ * requirement categories.
+ */
+@Name("pwe.planner.Cascade")
+@Label("Cascade")
+@Category({"PlanWithEase", "Model"})
+@Description("Cascading an edited or deleted module code to the degree planners or requirement categories")
+@StackTrace(false)
+public class JfrCascadeEvent extends jdk.jfr.Event implements CascadeEvent {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Code")
+    private String code;
+
+    @Label("Entities Scanned")
+    private int scannedCount;
+
+    @Label("Entities Updated")
+    private int updatedCount;
+
+    @Override
+    public void record(String operation, String code, int scannedCount, int updatedCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.operation = operation;
+        this.code = code;
+        this.scannedCount = scannedCount;
+        this.updatedCount = updatedCount;
+        commit();
+    }
+}
@@ -0,0 +1,53 @@
+package pwe.planner.commons.jfr.jdk;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pwe.planner.commons.jfr.CommandEvent;
+
+/**
+ * The Java Flight Recorder event for the execution of a command, from parsing it to requesting the application to be
+ * saved.
+ */
+@Name("pwe.planner.Command")
+@Label("Command")
+@Category({"PlanWithEase", "Logic"})
+@Description("Parsing and executing a command, committing the application and requesting it to be saved")
+public class JfrCommandEvent extends jdk.jfr.Event implements CommandEvent {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    @Label("Application Modified")
+    private boolean isApplicationModified;
+
+    @Label("Modules")
+    private int moduleCount;
+
+    @Label("Degree Planners")
+    private int degreePlannerCount;
+
+    @Label("Requirement Categories")
+    private int requirementCategoryCount;
+
+    @Override
+    public void record(String commandWord, boolean isSuccessful, boolean isApplicationModified, int moduleCount,
+            int degreePlannerCount, int requirementCategoryCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.commandWord = commandWord;
+        this.isSuccessful = isSuccessful;
+        this.isApplicationModified = isApplicationModified;
+        this.moduleCount = moduleCount;
+        this.degreePlannerCount = degreePlannerCount;
+        this.requirementCategoryCount = requirementCategoryCount;
+        commit();
+    }
+}
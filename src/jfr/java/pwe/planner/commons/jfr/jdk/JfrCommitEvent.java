@@ -0,0 +1,53 @@
+package pwe.planner.commons.jfr.jdk;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pwe.planner.commons.jfr.CommitEvent;
+
+/**
+ * The Java Flight Recorder event for the commit of an application state for undo, including the check of its data
+ * constraints.
+ */
+@Name("pwe.planner.Commit")
+@Label("Commit")
+@Category({"PlanWithEase", "Model"})
+@Description("Checking the data constraints of the application and saving its state for undo")
+public class JfrCommitEvent extends jdk.jfr.Event implements CommitEvent {
+
+    @Label("States")
+    private int stateCount;
+
+    @Label("In Transaction")
+    private boolean isInTransaction;
+
+    @Label("Constraint Violations")
+    private int violationCount;
+
+    @Label("Modules")
+    private int moduleCount;
+
+    @Label("Degree Planners")
+    private int degreePlannerCount;
+
+    @Label("Requirement Categories")
+    private int requirementCategoryCount;
+
+    @Override
+    public void record(int stateCount, boolean isInTransaction, int violationCount, int moduleCount,
+            int degreePlannerCount, int requirementCategoryCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.stateCount = stateCount;
+        this.isInTransaction = isInTransaction;
+        this.violationCount = violationCount;
+        this.moduleCount = moduleCount;
+        this.degreePlannerCount = degreePlannerCount;
+        this.requirementCategoryCount = requirementCategoryCount;
+        commit();
+    }
+}
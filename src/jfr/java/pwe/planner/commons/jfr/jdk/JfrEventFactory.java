@@ -0,0 +1,46 @@
+package pwe.planner.commons.jfr.jdk;
+
+import pwe.planner.commons.jfr.CascadeEvent;
+import pwe.planner.commons.jfr.CommandEvent;
+import pwe.planner.commons.jfr.CommitEvent;
+import pwe.planner.commons.jfr.EventFactory;
+import pwe.planner.commons.jfr.FileWriteEvent;
+import pwe.planner.commons.jfr.ListCellUpdateEvent;
+import pwe.planner.commons.jfr.SaveEvent;
+
+/**
+ * Creates Java Flight Recorder events. Loaded by {@code FlightRecorderEvents} if the JDK has the {@code jdk.jfr}
+ * module.
+ */
+public class JfrEventFactory implements EventFactory {
+
+    @Override
+    public CascadeEvent newCascadeEvent() {
+        return new JfrCascadeEvent();
+    }
+
+    @Override
+    public CommandEvent newCommandEvent() {
+        return new JfrCommandEvent();
+    }
+
+    @Override
+    public CommitEvent newCommitEvent() {
+        return new JfrCommitEvent();
+    }
+
+    @Override
+    public FileWriteEvent newFileWriteEvent() {
+        return new JfrFileWriteEvent();
+    }
+
+    @Override
+    public ListCellUpdateEvent newListCellUpdateEvent() {
+        return new JfrListCellUpdateEvent();
+    }
+
+    @Override
+    public SaveEvent newSaveEvent() {
+        return new JfrSaveEvent();
+    }
+}
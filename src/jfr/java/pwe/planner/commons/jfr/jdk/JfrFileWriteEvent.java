@@ -0,0 +1,41 @@
+package pwe.planner.commons.jfr.jdk;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pwe.planner.commons.jfr.FileWriteEvent;
+
+/**
+ * The Java Flight Recorder event for the writing of a file, including syncing it to the storage device.
+ */
+@Name("pwe.planner.FileWrite")
+@Label("File Write")
+@Category({"PlanWithEase", "Storage"})
+@Description("Writing or appending to a file, including syncing it to the storage device")
+public class JfrFileWriteEvent extends jdk.jfr.Event implements FileWriteEvent {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("Synced")
+    private boolean isSynced;
+
+    @Override
+    public void record(String path, long bytesWritten, boolean isSynced) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.path = path;
+        this.bytesWritten = bytesWritten;
+        this.isSynced = isSynced;
+        commit();
+    }
+}
@@ -0,0 +1,45 @@
+package pwe.planner.commons.jfr.jdk;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import pwe.planner.commons.jfr.ListCellUpdateEvent;
+
+/**
+ * The Java Flight Recorder event for the update of a cell of a list panel, which builds the card of the item shown.
+ */
+@Name("pwe.planner.ListCellUpdate")
+@Label("List Cell Update")
+@Category({"PlanWithEase", "UI"})
+@Description("Updating a cell of a list panel, building the card of the item shown")
+@StackTrace(false)
+public class JfrListCellUpdateEvent extends jdk.jfr.Event implements ListCellUpdateEvent {
+
+    @Label("Panel")
+    private String panel;
+
+    @Label("Index")
+    private int index;
+
+    @Label("Items")
+    private int itemCount;
+
+    @Label("Empty")
+    private boolean isEmpty;
+
+    @Override
+    public void record(String panel, int index, int itemCount, boolean isEmpty) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.panel = panel;
+        this.index = index;
+        this.itemCount = itemCount;
+        this.isEmpty = isEmpty;
+        commit();
+    }
+}
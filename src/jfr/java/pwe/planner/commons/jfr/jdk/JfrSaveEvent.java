@@ -0,0 +1,54 @@
+package pwe.planner.commons.jfr.jdk;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pwe.planner.commons.jfr.SaveEvent;
+
+/**
+ * The Java Flight Recorder event for the saving of the application to its data files.
+ */
+@Name("pwe.planner.Save")
+@Label("Save")
+@Category({"PlanWithEase", "Storage"})
+@Description("Saving the application to its data files")
+public class JfrSaveEvent extends jdk.jfr.Event implements SaveEvent {
+
+    @Label("Storage")
+    private String storage;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    @Label("Modules")
+    private int moduleCount;
+
+    @Label("Degree Planners")
+    private int degreePlannerCount;
+
+    @Label("Requirement Categories")
+    private int requirementCategoryCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    @Override
+    public void record(String storage, boolean isSuccessful, int moduleCount, int degreePlannerCount,
+            int requirementCategoryCount, long bytesWritten) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.storage = storage;
+        this.isSuccessful = isSuccessful;
+        this.moduleCount = moduleCount;
+        this.degreePlannerCount = degreePlannerCount;
+        this.requirementCategoryCount = requirementCategoryCount;
+        this.bytesWritten = bytesWritten;
+        commit();
+    }
+}
@@ -0,0 +1,18 @@
+package pwe.planner.commons.jfr;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pwe.planner.commons.jfr.jdk.JfrCommandEvent;
+import pwe.planner.commons.jfr.jdk.JfrEventFactory;
+
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void loadEventFactory_flightRecorderAvailable_returnsJfrEventFactory() {
+        assertTrue(FlightRecorderEvents.loadEventFactory(FlightRecorderEvents.JFR_EVENT_FACTORY_CLASS_NAME)
+                instanceof JfrEventFactory);
+        assertTrue(FlightRecorderEvents.newCommandEvent() instanceof JfrCommandEvent);
+    }
+}
@@ -0,0 +1,90 @@
+package pwe.planner.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.logic.commands.CommandTestUtil.CODE_DESC_AMY;
+import static pwe.planner.logic.commands.CommandTestUtil.CREDITS_DESC_AMY;
+import static pwe.planner.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static pwe.planner.logic.commands.CommandTestUtil.SEMESTERS_DESC_AMY;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import pwe.planner.commons.jfr.jdk.JfrCommandEvent;
+import pwe.planner.commons.jfr.jdk.JfrCommitEvent;
+import pwe.planner.commons.jfr.jdk.JfrSaveEvent;
+import pwe.planner.logic.commands.AddCommand;
+import pwe.planner.model.ModelManager;
+import pwe.planner.storage.ApplicationSaver;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.StorageManager;
+
+public class LogicManagerFlightRecordingTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void execute_flightRecording_recordsCommandCommitAndSaveEvents() throws Exception {
+        JsonApplicationStorage applicationStorage =
+                new JsonApplicationStorage(temporaryFolder.newFile().toPath(), temporaryFolder.newFile().toPath(),
+                        temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(applicationStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        ApplicationSaver applicationSaver = new ApplicationSaver(storage, Runnable::run);
+        Logic logic = new LogicManager(new ModelManager(), applicationSaver);
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+
+        Path recordingFile = temporaryFolder.getRoot().toPath().resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(JfrCommandEvent.class);
+            recording.enable(JfrCommitEvent.class);
+            recording.enable(JfrSaveEvent.class);
+            recording.start();
+            logic.execute(addCommand);
+            applicationSaver.flush();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        RecordedEvent commandEvent = getRecordedEvent(events, JfrCommandEvent.class);
+        assertEquals(AddCommand.COMMAND_WORD, commandEvent.getString("commandWord"));
+        assertTrue(commandEvent.getBoolean("isSuccessful"));
+        assertTrue(commandEvent.getBoolean("isApplicationModified"));
+        assertEquals(1, commandEvent.getInt("moduleCount"));
+
+        RecordedEvent commitEvent = getRecordedEvent(events, JfrCommitEvent.class);
+        assertEquals(2, commitEvent.getInt("stateCount"));
+        assertEquals(0, commitEvent.getInt("violationCount"));
+
+        RecordedEvent saveEvent = getRecordedEvent(events, JfrSaveEvent.class);
+        assertTrue(saveEvent.getBoolean("isSuccessful"));
+        assertEquals(1, saveEvent.getInt("moduleCount"));
+        assertTrue(saveEvent.getLong("bytesWritten") > 0);
+    }
+
+    /**
+     * Returns the only event of {@code eventClass} in {@code events}.
+     */
+    private RecordedEvent getRecordedEvent(List<RecordedEvent> events, Class<? extends Event> eventClass) {
+        String eventName = EventType.getEventType(eventClass).getName();
+        List<RecordedEvent> matchingEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        assertEquals(1, matchingEvents.size());
+        return matchingEvents.get(0);
+    }
+}
@@ -0,0 +1,78 @@
+package pwe.planner.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+
+/**
+ * Benchmarks adding modules to, and editing modules of, the catalog of an {@link Application}. Editing the code of a
+ * module cascades the new code to the degree planners and requirement categories which contain the module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int moduleCount;
+
+    private Application application;
+    private Module moduleToAdd;
+    private Module plannedModule;
+    private Module editedPlannedModule;
+
+    /**
+     * Builds the application, and a planned module with a code which is not in the catalog to edit it to.
+     */
+    @Setup
+    public void setUp() {
+        application = BenchmarkData.createApplication(moduleCount);
+        moduleToAdd = BenchmarkData.getModuleNotInCatalog();
+        Code plannedCode = application.getDegreePlannerList().get(0).getCodes().iterator().next();
+        plannedModule = application.getModuleList().stream()
+                .filter(module -> module.getCode().equals(plannedCode))
+                .findFirst()
+                .get();
+        editedPlannedModule = new Module(BenchmarkData.CODE_NOT_IN_CATALOG, plannedModule.getName(),
+                plannedModule.getCredits(), plannedModule.getSemesters(), plannedModule.getCorequisites(),
+                plannedModule.getTags());
+    }
+
+    /**
+     * Adds a module, then removes it so that the catalog keeps its size.
+     */
+    @Benchmark
+    public Application addModule() {
+        application.addModule(moduleToAdd);
+        application.removeModule(moduleToAdd);
+        return application;
+    }
+
+    /**
+     * Edits the code of a planned module, then edits it back, each edit cascading to the degree planners and
+     * requirement categories.
+     */
+    @Benchmark
+    public Application editModuleCode() {
+        application.editModule(plannedModule, editedPlannedModule);
+        application.editModule(editedPlannedModule, plannedModule);
+        return application;
+    }
+}
@@ -0,0 +1,50 @@
+package pwe.planner.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.util.SampleDataUtil;
+import pwe.planner.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds the applications the benchmarks run on, with {@link SyntheticDataGenerator} and its default seed, so that
+ * results can be compared between runs, and with the data files generated by {@code GenerateDataApp}.
+ */
+public class BenchmarkData {
+
+    /** The code of {@link #getModuleNotInCatalog()}, which is never generated. */
+    public static final Code CODE_NOT_IN_CATALOG = new Code("ZZZ9999");
+
+    private static final SyntheticDataGenerator GENERATOR =
+            new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns a module without co-requisites which is not in any catalog generated.
+     */
+    public static Module getModuleNotInCatalog() {
+        return new Module(CODE_NOT_IN_CATALOG, new Name("Benchmark Module"), new Credits("4"),
+                SampleDataUtil.getSemesterSet("1", "2"), new HashSet<>(), SampleDataUtil.getTagSet("algorithms"));
+    }
+
+    /**
+     * Returns the catalog of {@code moduleCount} modules.
+     */
+    public static List<Module> getModules(int moduleCount) {
+        return GENERATOR.generateModules(moduleCount);
+    }
+
+    /**
+     * Returns an application with a catalog of {@code moduleCount} modules, filled degree planners and requirement
+     * categories.
+     */
+    public static Application createApplication(int moduleCount) {
+        return GENERATOR.generateApplication(moduleCount);
+    }
+}
@@ -0,0 +1,93 @@
+package pwe.planner.benchmark;
+
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_AND;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_LEFT_BRACKET;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_OR;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_RIGHT_BRACKET;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.logic.parser.BooleanExpressionParser;
+import pwe.planner.logic.parser.Prefix;
+import pwe.planner.logic.parser.exceptions.BooleanParserException;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.module.Module;
+
+/**
+ * Benchmarks {@link BooleanExpressionParser#parse()} of a {@code find} expression, and the evaluation of the
+ * predicate parsed on every module of the catalog, as done by the {@code find} command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BooleanExpressionParserBenchmark {
+
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_NAME, PREFIX_CODE, PREFIX_CREDITS, PREFIX_TAG,
+            PREFIX_SEMESTER);
+    private static final String EXPRESSION = " " + PREFIX_NAME + "Introduction " + OPERATOR_AND + " "
+            + OPERATOR_LEFT_BRACKET + " " + PREFIX_TAG + "algorithms " + OPERATOR_OR + " " + PREFIX_TAG + "math "
+            + OPERATOR_OR + " " + PREFIX_CREDITS + "4 " + OPERATOR_RIGHT_BRACKET + " " + OPERATOR_AND + " "
+            + PREFIX_SEMESTER + "2";
+
+    @Param({"100", "1000", "10000"})
+    private int moduleCount;
+
+    private List<Module> modules;
+    private Predicate<Module> predicate;
+
+    @Setup
+    public void setUp() throws BooleanParserException, ParseException {
+        modules = BenchmarkData.getModules(moduleCount);
+        predicate = new BooleanExpressionParser<Module>(EXPRESSION, PREFIXES).parse();
+    }
+
+    @Benchmark
+    public Predicate<Module> parse() throws BooleanParserException, ParseException {
+        return new BooleanExpressionParser<Module>(EXPRESSION, PREFIXES).parse();
+    }
+
+    /**
+     * Returns the number of modules in the catalog which satisfy the expression.
+     */
+    @Benchmark
+    public int evaluate() {
+        int matchCount = 0;
+        for (Module module : modules) {
+            if (predicate.test(module)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    /**
+     * Parses the expression, then evaluates it on every module of the catalog.
+     */
+    @Benchmark
+    public long parseAndEvaluate() throws BooleanParserException, ParseException {
+        Predicate<Module> parsedPredicate = new BooleanExpressionParser<Module>(EXPRESSION, PREFIXES).parse();
+        return modules.stream().filter(parsedPredicate).count();
+    }
+}
@@ -0,0 +1,79 @@
+package pwe.planner.benchmark;
+
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_OR;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.logic.commands.AddCommand;
+import pwe.planner.logic.commands.Command;
+import pwe.planner.logic.commands.FindCommand;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.module.Module;
+
+/**
+ * Benchmarks {@link CommandParser#parseCommand(String)} on commands whose arguments grow with the size of the
+ * catalog they are written for, e.g. a {@code find} command with a condition for every few modules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandParserBenchmark {
+
+    /** The number of modules the commands are written for, which sets the number of conditions and tags. */
+    @Param({"100", "1000", "10000"})
+    private int moduleCount;
+
+    private final CommandParser commandParser = new CommandParser();
+    private String addCommand;
+    private String findCommand;
+
+    /**
+     * Builds commands with a condition or tag for every 100 modules.
+     */
+    @Setup
+    public void setUp() {
+        List<Module> modules = BenchmarkData.getModules(moduleCount);
+        StringBuilder tags = new StringBuilder();
+        StringBuilder conditions = new StringBuilder().append(PREFIX_CODE).append(modules.get(0).getCode());
+        for (int i = 100; i < moduleCount; i += 100) {
+            tags.append(' ').append(PREFIX_TAG).append("tag").append(i);
+            conditions.append(' ').append(OPERATOR_OR).append(' ').append(PREFIX_CODE).append(modules.get(i).getCode());
+        }
+        addCommand = AddCommand.COMMAND_WORD + " " + PREFIX_CODE + BenchmarkData.CODE_NOT_IN_CATALOG + " "
+                + PREFIX_NAME + "Benchmark " + PREFIX_CREDITS + "4 " + PREFIX_SEMESTER + "1 " + PREFIX_SEMESTER + "2"
+                + tags;
+        findCommand = FindCommand.COMMAND_WORD + " " + conditions;
+    }
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return commandParser.parseCommand(addCommand);
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return commandParser.parseCommand(findCommand);
+    }
+}
@@ -0,0 +1,72 @@
+package pwe.planner.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.WriteDurability;
+
+/**
+ * Benchmarks {@link FileUtil#writeToFile(Path, byte[])} with each {@link WriteDurability}, to measure the cost of
+ * syncing the file, and its directory, to the storage device.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileUtilBenchmark {
+
+    @Param({"NONE", "FILE", "DIRECTORY"})
+    private WriteDurability writeDurability;
+
+    /** The size of the content written, in bytes. */
+    @Param({"1024", "1048576"})
+    private int contentSize;
+
+    private Path file;
+    private byte[] content;
+
+    @Setup
+    public void setUp() throws IOException {
+        FileUtil.setWriteDurability(writeDurability);
+        file = Files.createTempFile("FileUtilBenchmark", ".json");
+        content = new byte[contentSize];
+        Arrays.fill(content, (byte) 'a');
+    }
+
+    /**
+     * Resets the write durability and deletes the file written.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtil.setWriteDurability(WriteDurability.NONE);
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Replaces the content of the file, as the data files are written.
+     */
+    @Benchmark
+    public Path writeToFile() throws IOException {
+        FileUtil.writeToFile(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,94 @@
+package pwe.planner.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.WriteDurability;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.storage.JsonApplicationStorage;
+
+/**
+ * Benchmarks saving and reading an application with {@link JsonApplicationStorage}, in a temporary directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonApplicationStorageBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int moduleCount;
+
+    @Param({"NONE", "FILE", "DIRECTORY"})
+    private WriteDurability writeDurability;
+
+    private Path directory;
+    private JsonApplicationStorage storage;
+    private Application[] applications;
+    private int saveCount;
+
+    /**
+     * Builds two copies of the application, which are saved in turn as the lists of an application which was already
+     * saved are skipped.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        FileUtil.setWriteDurability(writeDurability);
+        directory = Files.createTempDirectory("JsonApplicationStorageBenchmark");
+        storage = new JsonApplicationStorage(directory.resolve("modulelist.json"),
+                directory.resolve("degreeplannerlist.json"), directory.resolve("requirementcategorylist.json"));
+        applications = new Application[] {BenchmarkData.createApplication(moduleCount),
+            BenchmarkData.createApplication(moduleCount)};
+        storage.saveApplication(applications[0]);
+    }
+
+    /**
+     * Resets the write durability and deletes the data files and their backup files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtil.setWriteDurability(WriteDurability.NONE);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Saves the other copy of the application, so that every list is written.
+     */
+    @Benchmark
+    public JsonApplicationStorage save() throws IOException {
+        storage.saveApplication(applications[++saveCount % applications.length]);
+        return storage;
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyApplication> read() throws DataConversionException {
+        return storage.readApplication();
+    }
+}
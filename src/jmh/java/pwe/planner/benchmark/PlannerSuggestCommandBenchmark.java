@@ -0,0 +1,56 @@
+package pwe.planner.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.PlannerSuggestCommand;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Benchmarks {@link PlannerSuggestCommand#execute(Model, CommandHistory)}, which ranks every module of the catalog
+ * which is not planned yet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlannerSuggestCommandBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int moduleCount;
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final PlannerSuggestCommand plannerSuggestCommand = new PlannerSuggestCommand(new Credits("4"),
+            Set.of(new Tag("algorithms"), new Tag("math")));
+    private Model model;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createApplication(moduleCount), new UserPrefs());
+    }
+
+    @Benchmark
+    public CommandResult execute() {
+        return plannerSuggestCommand.execute(model, commandHistory);
+    }
+}
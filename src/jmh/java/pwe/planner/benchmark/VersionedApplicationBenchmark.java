@@ -0,0 +1,55 @@
+package pwe.planner.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pwe.planner.model.VersionedApplication;
+import pwe.planner.model.module.Module;
+
+/**
+ * Benchmarks {@link VersionedApplication#commit()} and {@link VersionedApplication#undo()}, each of which copies the
+ * whole application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionedApplicationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int moduleCount;
+
+    private VersionedApplication versionedApplication;
+    private Module moduleToAdd;
+
+    @Setup
+    public void setUp() {
+        versionedApplication = new VersionedApplication(BenchmarkData.createApplication(moduleCount));
+        moduleToAdd = BenchmarkData.getModuleNotInCatalog();
+    }
+
+    /**
+     * Adds a module and commits, then undoes the commit, so that the state list keeps its size. The undone state is
+     * removed by the next commit.
+     */
+    @Benchmark
+    public VersionedApplication commitAndUndo() {
+        versionedApplication.addModule(moduleToAdd);
+        versionedApplication.commit();
+        versionedApplication.undo();
+        return versionedApplication;
+    }
+}
@@ -0,0 +1,125 @@
+package pwe.planner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import pwe.planner.commons.core.Config;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.BatchResult;
+import pwe.planner.logic.BatchResult.LineResult;
+import pwe.planner.logic.Logic;
+import pwe.planner.logic.LogicManager;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.util.SampleDataUtil;
+import pwe.planner.storage.ApplicationSaver;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.Storage;
+import pwe.planner.storage.StorageManager;
+
+/**
+ * The batch entry point to the application, which executes a script of commands, one command per line, on the data
+ * files of the user prefs without the GUI. See {@link Logic#executeBatch(List, boolean)}.
+ * <br><br>
+ * The optional parameters, given as {@code --name=value}, are:
+ * {@code config} (the config file), {@code script} (the script file, the script is read from the standard input if
+ * not given) and {@code atomic} ({@code true} to roll back every change if any command fails).
+ * The result of each command is printed, and the exit status is non-zero if any command failed or the data could not
+ * be saved.
+ */
+public class BatchApp {
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    private BatchApp() {}
+
+    /**
+     * Executes the script, saves the data files and exits.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = HeadlessAppUtil.parseNamedParameters(args);
+
+        Config config = HeadlessAppUtil.initConfig(namedParameters.get("config"));
+        LogsCenter.init(config);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = HeadlessAppUtil.initPrefs(userPrefsStorage);
+        FileUtil.setWriteDurability(userPrefs.getWriteDurability());
+
+        List<String> scriptLines;
+        ReadOnlyApplication initialData;
+        Storage storage = new StorageManager(MainApp.initApplicationStorage(userPrefs), userPrefsStorage);
+        try {
+            scriptLines = readScript(namedParameters.get("script"));
+            // unlike the GUI, the data files are never replaced by an empty application if they cannot be read
+            Optional<ReadOnlyApplication> application = storage.readApplication();
+            initialData = application.orElseGet(SampleDataUtil::getSampleApplication);
+        } catch (DataConversionException | IOException e) {
+            logger.severe("Failed to read script or data files: " + StringUtil.getDetails(e));
+            System.exit(1);
+            return;
+        }
+
+        ApplicationSaver applicationSaver = new ApplicationSaver(storage, Runnable::run);
+        ModelManager model = new ModelManager(initialData, userPrefs);
+        model.setModuleListReadOnly(storage.isModuleListReadOnly());
+        Logic logic = new LogicManager(model, applicationSaver);
+        BatchResult batchResult = logic.executeBatch(scriptLines,
+                Boolean.parseBoolean(namedParameters.get("atomic")));
+        printBatchResult(batchResult, System.out);
+        logic.getCommandStatistics().logTable();
+
+        applicationSaver.shutdown();
+        try {
+            storage.compact();
+        } catch (IOException e) {
+            logger.warning("Failed to compact data files " + StringUtil.getDetails(e));
+        }
+
+        boolean isSaveFailed = logic.saveFailureProperty().getValue() != null;
+        if (isSaveFailed) {
+            logger.severe("Failed to save data files, the changes made by the script are lost");
+        }
+        System.exit(isSaveFailed || batchResult.getFailureCount() > 0 ? 1 : 0);
+    }
+
+    /**
+     * Returns the lines of the script file at {@code scriptFilePath}, or of the standard input if it is null.
+     */
+    private static List<String> readScript(String scriptFilePath) throws IOException {
+        if (scriptFilePath == null) {
+            logger.info("Reading script from standard input");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            return reader.lines().collect(Collectors.toList());
+        }
+
+        if (!FileUtil.isValidPath(scriptFilePath)) {
+            throw new IOException("Invalid script file path " + scriptFilePath);
+        }
+        logger.info("Reading script from " + scriptFilePath);
+        return Files.readAllLines(Paths.get(scriptFilePath), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Prints the result of each command of {@code batchResult}, followed by a summary, to {@code out}.
+     */
+    private static void printBatchResult(BatchResult batchResult, PrintStream out) {
+        for (LineResult lineResult : batchResult.getLineResults()) {
+            out.println(lineResult);
+        }
+        out.println(batchResult);
+    }
+}
@@ -0,0 +1,86 @@
+package pwe.planner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.Config;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.util.SyntheticDataGenerator;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.Storage;
+import pwe.planner.storage.StorageManager;
+
+/**
+ * The entry point which writes a generated application of a chosen scale to the data files of the user prefs, to
+ * reproduce production-sized data locally. See {@link SyntheticDataGenerator}.
+ * <br><br>
+ * The parameters, given as {@code --name=value}, are:
+ * {@code modules} (the number of modules, required), {@code seed} (the seed of the generator, the same data being
+ * generated for the same seed), {@code config} (the config file) and {@code overwrite} ({@code true} to replace
+ * existing data files, which are otherwise left untouched).
+ */
+public class GenerateDataApp {
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateDataApp.class);
+
+    private GenerateDataApp() {}
+
+    /**
+     * Generates the application, saves it to the data files and exits.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = HeadlessAppUtil.parseNamedParameters(args);
+
+        Config config = HeadlessAppUtil.initConfig(namedParameters.get("config"));
+        LogsCenter.init(config);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = HeadlessAppUtil.initPrefs(userPrefsStorage);
+        FileUtil.setWriteDurability(userPrefs.getWriteDurability());
+
+        List<Path> dataFilePaths = List.of(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
+                userPrefs.getRequirementCategoryListFilePath());
+        boolean isOverwrite = Boolean.parseBoolean(namedParameters.get("overwrite"));
+        if (!isOverwrite && dataFilePaths.stream().anyMatch(FileUtil::isFileExists)) {
+            logger.severe("Data files already exist, use --overwrite=true to replace them: " + dataFilePaths);
+            System.exit(1);
+            return;
+        }
+
+        Application application;
+        try {
+            int moduleCount = Integer.parseInt(namedParameters.getOrDefault("modules", ""));
+            long seed = namedParameters.containsKey("seed")
+                    ? Long.parseLong(namedParameters.get("seed"))
+                    : SyntheticDataGenerator.DEFAULT_SEED;
+            logger.info("Generating " + moduleCount + " modules with seed " + seed);
+            application = new SyntheticDataGenerator(seed).generateApplication(moduleCount);
+        } catch (IllegalArgumentException iae) {
+            // NumberFormatException is an IllegalArgumentException
+            logger.severe("Invalid generator parameters, --modules=<number of modules> is required: "
+                    + iae.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        Storage storage = new StorageManager(MainApp.initApplicationStorage(userPrefs), userPrefsStorage);
+        try {
+            storage.saveApplication(application);
+            storage.compact();
+        } catch (IOException e) {
+            logger.severe("Failed to save data files " + StringUtil.getDetails(e));
+            System.exit(1);
+            return;
+        }
+        logger.info("Saved " + application.getModuleList().size() + " modules, "
+                + application.getDegreePlannerList().size() + " degree planners and "
+                + application.getRequirementCategoryList().size() + " requirement categories to " + dataFilePaths);
+        System.exit(0);
+    }
+}
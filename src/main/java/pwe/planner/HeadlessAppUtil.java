@@ -0,0 +1,80 @@
+package pwe.planner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.Config;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.ConfigUtil;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.storage.UserPrefsStorage;
+
+/**
+ * Helper functions for the entry points of the application which run without the GUI, e.g. {@link ServerApp}.
+ */
+class HeadlessAppUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessAppUtil.class);
+
+    private HeadlessAppUtil() {}
+
+    /**
+     * Returns the parameters in {@code args} given as {@code --name=value}, by name. Other arguments are ignored.
+     */
+    static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (!arg.startsWith("--") || separatorIndex < 0) {
+                logger.warning("Ignoring parameter " + arg);
+                continue;
+            }
+            namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+        }
+        return namedParameters;
+    }
+
+    /**
+     * Returns the {@code Config} in the file at {@code configFilePath}, or in {@code Config#DEFAULT_CONFIG_FILE} if
+     * {@code configFilePath} is null. The default config is used if the file is missing or cannot be read.
+     */
+    static Config initConfig(String configFilePath) {
+        Path configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+        if (configFilePath != null && FileUtil.isValidPath(configFilePath)) {
+            configFilePathUsed = Paths.get(configFilePath);
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+        try {
+            return ConfigUtil.readConfig(configFilePathUsed).orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            return new Config();
+        }
+    }
+
+    /**
+     * Returns the {@code UserPrefs} in the file of {@code storage}, or the default user prefs if the file is missing
+     * or cannot be read. Unlike {@link MainApp}, the file is never written, as it may be shared with the desktop
+     * application.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        logger.info("Using prefs file : " + storage.getUserPrefsFilePath());
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            return prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("UserPrefs file at " + storage.getUserPrefsFilePath() + " cannot be read. "
+                    + "Using default user prefs");
+            return new UserPrefs();
+        }
+    }
+}
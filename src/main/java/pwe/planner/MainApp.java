@@ -5,16 +5,21 @@ import static pwe.planner.model.util.InitialDataUtil.getInitialApplication;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import pwe.planner.commons.core.Config;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.core.StartupProfiler;
 import pwe.planner.commons.core.Version;
 import pwe.planner.commons.exceptions.DataConversionException;
 import pwe.planner.commons.util.ConfigUtil;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.Logic;
 import pwe.planner.logic.LogicManager;
@@ -24,10 +29,18 @@ import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.util.SampleDataUtil;
+import pwe.planner.storage.ApplicationSaver;
 import pwe.planner.storage.ApplicationStorage;
+import pwe.planner.storage.BinaryApplicationStorage;
+import pwe.planner.storage.CachedApplicationStorage;
+import pwe.planner.storage.JournalApplicationStorage;
 import pwe.planner.storage.JsonApplicationStorage;
 import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.ModuleListFileWatcher;
+import pwe.planner.storage.PlanOverlayApplicationStorage;
+import pwe.planner.storage.SharedModuleCatalog;
 import pwe.planner.storage.Storage;
+import pwe.planner.storage.StorageFormatConverter;
 import pwe.planner.storage.StorageManager;
 import pwe.planner.storage.UserPrefsStorage;
 import pwe.planner.ui.Ui;
@@ -45,45 +58,121 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected ApplicationSaver applicationSaver;
     protected Model model;
     protected Config config;
 
+    private Optional<ModuleListFileWatcher> moduleListFileWatcher = Optional.empty();
+    private StartupProfiler startupProfiler;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing PlanWithEase ]===========================");
         super.init();
+        startupProfiler = new StartupProfiler();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        startupProfiler.endPhase("config");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ApplicationStorage applicationStorage =
-                new JsonApplicationStorage(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
-                        userPrefs.getRequirementCategoryListFilePath());
+        FileUtil.setWriteDurability(userPrefs.getWriteDurability());
+        startupProfiler.endPhase("user prefs");
 
+        ApplicationStorage applicationStorage = initApplicationStorage(userPrefs);
         storage = new StorageManager(applicationStorage, userPrefsStorage);
 
         initLogging(config);
+        startupProfiler.endPhase("storage");
+
+        // the data files are checked for the data constraints as they are read, so the two are timed together
+        ReadOnlyApplication initialData = readInitialData(storage);
+        startupProfiler.endPhase("storage read and validation");
+
+        model = new ModelManager(initialData, userPrefs);
+        model.setModuleListReadOnly(storage.isModuleListReadOnly());
+        startupProfiler.endPhase("model");
+
+        applicationSaver = new ApplicationSaver(storage, Platform::runLater);
+        logic = new LogicManager(model, applicationSaver);
+        if (userPrefs.getCommandStatisticsLogIntervalMinutes() > 0) {
+            logic.getCommandStatistics().startPeriodicLogging(
+                    Duration.ofMinutes(userPrefs.getCommandStatisticsLogIntervalMinutes()));
+        }
+        // the module list file is only kept up to date if the data is saved to the JSON data files without a journal
+        if (userPrefs.isModuleListWatchEnabled() && (applicationStorage instanceof JsonApplicationStorage
+                || applicationStorage instanceof CachedApplicationStorage)) {
+            moduleListFileWatcher = initModuleListFileWatcher(userPrefs.getModuleListFilePath());
+        }
+        startupProfiler.endPhase("logic");
+
+        ui = new UiManager(logic, startupProfiler);
+        startupProfiler.endPhase("ui");
+        logger.info(String.format(StartupProfiler.MESSAGE_PHASE, "init (total)", startupProfiler.getElapsedMillis()));
+    }
+
+    /**
+     * Returns the {@code ApplicationStorage} of the data files in {@code userPrefs}, in the storage format enabled in
+     * {@code userPrefs}. <br>
+     * The shared catalog takes precedence over the binary snapshot, which takes precedence over the journal, which
+     * takes precedence over the startup cache. The JSON data files are used if none of them is enabled. <br>
+     * The binary snapshot and the JSON data files are kept in step across restarts which enable or disable the binary
+     * snapshot: whichever of the two is in use is first converted from the other if the other was saved more recently.
+     */
+    static ApplicationStorage initApplicationStorage(ReadOnlyUserPrefs userPrefs) {
+        assert userPrefs != null;
 
-        model = initModelManager(storage, userPrefs);
+        Optional<SharedModuleCatalog> sharedModuleCatalog = userPrefs.isSharedCatalogEnabled()
+                ? initSharedModuleCatalog(userPrefs.getModuleListFilePath(), userPrefs.getCatalogFilePath())
+                : Optional.empty();
+        if (sharedModuleCatalog.isPresent()) {
+            return new PlanOverlayApplicationStorage(sharedModuleCatalog.get(), userPrefs.getPlanOverlayFilePath());
+        }
 
-        logic = new LogicManager(model, storage);
+        ApplicationStorage dataFilesStorage = initDataFilesStorage(userPrefs);
+        List<Path> dataFilePaths = List.of(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
+                userPrefs.getRequirementCategoryListFilePath(), userPrefs.getJournalFilePath());
+        BinaryApplicationStorage binaryApplicationStorage =
+                new BinaryApplicationStorage(userPrefs.getBinarySnapshotFilePath());
+        List<Path> snapshotFilePaths = List.of(userPrefs.getBinarySnapshotFilePath());
+        if (userPrefs.isBinarySnapshotEnabled()) {
+            convertIfNewer(dataFilesStorage, dataFilePaths, binaryApplicationStorage, snapshotFilePaths);
+            return binaryApplicationStorage;
+        }
 
-        ui = new UiManager(logic);
+        convertIfNewer(binaryApplicationStorage, snapshotFilePaths, dataFilesStorage, dataFilePaths);
+        return dataFilesStorage;
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s module list, requirement categories
-     * list, degree planner list and {@code userPrefs}. <br>
+     * Returns the {@code ApplicationStorage} of the JSON data files in {@code userPrefs}, with the journal or the
+     * startup cache if either is enabled in {@code userPrefs}.
+     */
+    private static ApplicationStorage initDataFilesStorage(ReadOnlyUserPrefs userPrefs) {
+        assert userPrefs != null;
+
+        JsonApplicationStorage jsonApplicationStorage =
+                new JsonApplicationStorage(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
+                        userPrefs.getRequirementCategoryListFilePath());
+        if (userPrefs.isJournalEnabled()) {
+            return new JournalApplicationStorage(jsonApplicationStorage, userPrefs.getJournalFilePath());
+        } else if (userPrefs.isStartupCacheEnabled()) {
+            return new CachedApplicationStorage(jsonApplicationStorage, userPrefs.getStartupCacheFilePath());
+        } else {
+            return jsonApplicationStorage;
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s module list, requirement categories list and degree planner list. <br>
      * The data from the sample application will be used instead if {@code storage}'s module list,
      * requirement categories list and degree planner list is not found,
      * or an empty application will be used instead if errors occur when reading {@code storage}'s module list,
      * requirement categories list and degree planner list.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyApplication readInitialData(Storage storage) {
         assert storage != null;
-        assert userPrefs != null;
 
         Optional<ReadOnlyApplication> applicationOptional;
 
@@ -106,8 +195,67 @@ public class MainApp extends Application {
             initialData = getInitialApplication();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Converts the application saved in the files at {@code sourceFilePaths} by {@code source} to {@code target}, if
+     * they were saved after the files at {@code targetFilePaths}, or those files are missing. <br>
+     * The application in {@code target} is used as it is if the conversion fails.
+     *
+     * @see StorageFormatConverter#convertIfNewer(ApplicationStorage, List, ApplicationStorage, List)
+     */
+    private static void convertIfNewer(ApplicationStorage source, List<Path> sourceFilePaths,
+            ApplicationStorage target, List<Path> targetFilePaths) {
+        assert source != null;
+        assert sourceFilePaths != null;
+        assert target != null;
+        assert targetFilePaths != null;
 
+        try {
+            StorageFormatConverter.convertIfNewer(source, sourceFilePaths, target, targetFilePaths);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert " + sourceFilePaths + " to " + targetFilePaths + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the {@code SharedModuleCatalog} mapped from the catalog file at {@code catalogFilePath}, which is built
+     * from the module list file at {@code moduleListFilePath} if it is outdated. <br>
+     * No catalog is returned if the file cannot be read, in which case the JSON data files are used instead.
+     */
+    private static Optional<SharedModuleCatalog> initSharedModuleCatalog(Path moduleListFilePath,
+            Path catalogFilePath) {
+        assert moduleListFilePath != null;
+        assert catalogFilePath != null;
+
+        try {
+            return Optional.of(SharedModuleCatalog.map(moduleListFilePath, catalogFilePath));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to read shared catalog " + catalogFilePath + ", using the data files instead: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a {@code ModuleListFileWatcher} of the module list file at {@code moduleListFilePath}, which applies
+     * the changes made to the file outside of the application through {@code logic}, on the JavaFX application thread.
+     * <br>
+     * No watcher is returned if the file cannot be watched.
+     */
+    private Optional<ModuleListFileWatcher> initModuleListFileWatcher(Path moduleListFilePath) {
+        assert moduleListFilePath != null;
+
+        try {
+            return Optional.of(new ModuleListFileWatcher(moduleListFilePath, model.getApplication().getModuleList(),
+                    logic::applyExternalModuleListChanges, Platform::runLater));
+        } catch (IOException e) {
+            logger.warning("Failed to watch module list file " + moduleListFilePath + " for changes: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
     }
 
     private void initLogging(Config config) {
@@ -193,11 +341,27 @@ public class MainApp extends Application {
 
         logger.info("Starting PlanWithEase " + MainApp.VERSION);
         ui.start(primaryStage);
+        moduleListFileWatcher.ifPresent(ModuleListFileWatcher::start);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PlanWithEase ] =============================");
+        logic.getCommandStatistics().stopPeriodicLogging();
+        logic.getCommandStatistics().logTable();
+        moduleListFileWatcher.ifPresent(watcher -> {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching module list file " + StringUtil.getDetails(e));
+            }
+        });
+        applicationSaver.shutdown();
+        try {
+            storage.compact();
+        } catch (IOException e) {
+            logger.severe("Failed to compact data files " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
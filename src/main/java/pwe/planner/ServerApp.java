@@ -0,0 +1,96 @@
+package pwe.planner;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.Config;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.server.PlannerServer;
+import pwe.planner.server.ServerSettings;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.SharedModuleCatalog;
+import pwe.planner.storage.UserPrefsStorage;
+
+/**
+ * The headless entry point to the application, which serves the plans of many students over a local HTTP endpoint,
+ * as a {@link PlannerServer} over the module list file of the user prefs as the shared catalog.
+ * <br><br>
+ * The optional parameters, given as {@code --name=value}, are:
+ * {@code config} (the config file), {@code port}, {@code workers}, {@code queue} (the queue capacity),
+ * {@code sessions} (the maximum session count), {@code idleMinutes} (the session idle timeout) and
+ * {@code plans} (the plan directory).
+ */
+public class ServerApp {
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    private ServerApp() {}
+
+    /**
+     * Starts the server, which is stopped, after saving the plans of the open sessions, when the JVM shuts down.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = HeadlessAppUtil.parseNamedParameters(args);
+
+        Config config = HeadlessAppUtil.initConfig(namedParameters.get("config"));
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = HeadlessAppUtil.initPrefs(userPrefsStorage);
+        FileUtil.setWriteDurability(userPrefs.getWriteDurability());
+
+        try {
+            ServerSettings settings = parseSettings(namedParameters);
+            logger.info("Using server settings:\n" + settings);
+
+            SharedModuleCatalog catalog = SharedModuleCatalog.map(userPrefs.getModuleListFilePath(),
+                    userPrefs.getCatalogFilePath());
+            PlannerServer server = new PlannerServer(catalog, userPrefs, userPrefsStorage, settings);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "PlannerServer-shutdown"));
+            server.start();
+        } catch (IllegalArgumentException iae) {
+            logger.severe("Invalid server parameters: " + iae.getMessage());
+            System.exit(1);
+        } catch (DataConversionException | IOException e) {
+            logger.severe("Failed to start server: " + e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the {@code ServerSettings} given by {@code namedParameters}, with the default of any setting not given.
+     *
+     * @throws IllegalArgumentException if any setting given is invalid.
+     */
+    private static ServerSettings parseSettings(Map<String, String> namedParameters) {
+        ServerSettings settings = new ServerSettings();
+        if (namedParameters.containsKey("port")) {
+            settings.setPort(Integer.parseInt(namedParameters.get("port")));
+        }
+        if (namedParameters.containsKey("workers")) {
+            settings.setWorkerCount(Integer.parseInt(namedParameters.get("workers")));
+        }
+        if (namedParameters.containsKey("queue")) {
+            settings.setQueueCapacity(Integer.parseInt(namedParameters.get("queue")));
+        }
+        if (namedParameters.containsKey("sessions")) {
+            settings.setMaxSessionCount(Integer.parseInt(namedParameters.get("sessions")));
+        }
+        if (namedParameters.containsKey("idleMinutes")) {
+            settings.setSessionIdleTimeout(Duration.ofMinutes(Long.parseLong(namedParameters.get("idleMinutes"))));
+        }
+        if (namedParameters.containsKey("plans")) {
+            String planDirectory = namedParameters.get("plans");
+            if (!FileUtil.isValidPath(planDirectory)) {
+                throw new IllegalArgumentException("Invalid plan directory " + planDirectory);
+            }
+            settings.setPlanDirectoryPath(Paths.get(planDirectory));
+        }
+        return settings;
+    }
+}
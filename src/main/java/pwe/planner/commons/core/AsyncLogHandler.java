@@ -0,0 +1,249 @@
+package pwe.planner.commons.core;
+
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} which publishes log records to other handlers on a single writer thread, so that the threads
+ * logging them, e.g. the JavaFX application thread, never wait for the console or the log file.<br>
+ * Records are queued in a bounded buffer. When the buffer is full, the {@link LogOverflowPolicy} decides whether a
+ * record is dropped or the thread logging it waits for space. The number of records dropped is logged as soon as the
+ * writer thread catches up.<br>
+ * The handlers published to are flushed, but not closed, when this handler is closed, as they may be shared.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final String MESSAGE_RECORDS_DROPPED = "%1$d log records dropped as the log buffer was full";
+    public static final String MESSAGE_INVALID_CAPACITY = "The log buffer capacity must be positive";
+
+    private static final String WRITER_THREAD_NAME = "LogsCenter-writer";
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final long BLOCK_POLL_MILLIS = 100;
+
+    /** Queued by {@link #close()} to stop the writer thread once the records before it are published. */
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> targets;
+    private final LogOverflowPolicy overflowPolicy;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object pendingLock = new Object();
+    private final Thread writerThread;
+    private long pendingCount;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler publishing to {@code targets}, buffering at most {@code capacity} records.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, LogOverflowPolicy overflowPolicy) {
+        requireAllNonNull(targets, overflowPolicy);
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+
+        this.targets = new ArrayList<>(targets);
+        this.overflowPolicy = overflowPolicy;
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writerThread = new Thread(this::writeRecords, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public LogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records dropped which have not been logged as dropped yet.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Queues {@code record} to be published by the writer thread, or publishes it on the calling thread if this
+     * handler is closed or the calling thread is the writer thread.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !isLoggable(record)) {
+            return;
+        }
+        if (isClosed || Thread.currentThread() == writerThread) {
+            publishToTargets(record);
+            return;
+        }
+
+        // the caller is inferred from the stack of the thread logging the record, so it cannot be left to the writer
+        record.getSourceClassName();
+        incrementPendingCount();
+        if (!enqueue(record)) {
+            decrementPendingCount();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Adds {@code record} to the buffer as allowed by the overflow policy, and returns true if it was added.
+     * A record which cannot wait for space any more because this handler was closed is published directly instead.
+     */
+    private boolean enqueue(LogRecord record) {
+        if (overflowPolicy == LogOverflowPolicy.DROP) {
+            return buffer.offer(record);
+        }
+
+        try {
+            while (!buffer.offer(record, BLOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (isClosed) {
+                    publishToTargets(record);
+                    decrementPendingCount();
+                    return true;
+                }
+            }
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Publishes the buffered records until {@link #END_OF_RECORDS} is reached.
+     */
+    private void writeRecords() {
+        try {
+            while (true) {
+                LogRecord record = buffer.take();
+                if (record == END_OF_RECORDS) {
+                    return;
+                }
+                publishToTargets(record);
+                publishDroppedCount();
+                decrementPendingCount();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publishes a warning with the number of records dropped since the last such warning, if any were dropped.
+     */
+    private void publishDroppedCount() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped == 0) {
+            return;
+        }
+
+        LogRecord droppedRecord = new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped));
+        droppedRecord.setLoggerName(LogsCenter.class.getSimpleName());
+        droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+        droppedRecord.setSourceMethodName("publish");
+        publishToTargets(droppedRecord);
+    }
+
+    /**
+     * Publishes {@code record} to each of the handlers, reporting the failures to the error manager.
+     */
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException re) {
+                // a failing handler must not stop the writer thread
+                reportError("Failed to publish log record", re, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private void incrementPendingCount() {
+        synchronized (pendingLock) {
+            pendingCount++;
+        }
+    }
+
+    /**
+     * Counts a record as published, waking up the threads waiting in {@link #flush()} if none are left.
+     */
+    private void decrementPendingCount() {
+        synchronized (pendingLock) {
+            pendingCount--;
+            if (pendingCount == 0) {
+                pendingLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until the records published so far have been published to the handlers, then flushes them.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() != writerThread) {
+            awaitPendingRecords();
+        }
+        for (Handler target : targets) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Waits until no record is pending, or the writer thread has stopped.
+     */
+    private void awaitPendingRecords() {
+        synchronized (pendingLock) {
+            try {
+                while (pendingCount > 0 && writerThread.isAlive()) {
+                    pendingLock.wait(BLOCK_POLL_MILLIS);
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Publishes the buffered records and stops the writer thread. Records published afterwards are published on the
+     * calling thread. {@code LogManager} closes this handler when the JVM shuts down, so no buffered record is lost
+     * on exit.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+
+        try {
+            if (buffer.offer(END_OF_RECORDS, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                writerThread.join(CLOSE_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        // records queued while the writer thread was stopping
+        List<LogRecord> remainingRecords = new ArrayList<>();
+        buffer.drainTo(remainingRecords);
+        for (LogRecord record : remainingRecords) {
+            if (record != END_OF_RECORDS) {
+                publishToTargets(record);
+            }
+        }
+        publishDroppedCount();
+        for (Handler target : targets) {
+            target.flush();
+        }
+    }
+}
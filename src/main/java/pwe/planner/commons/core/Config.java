@@ -1,6 +1,7 @@
 package pwe.planner.commons.core;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,10 +14,13 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final String MESSAGE_INVALID_LOG_BUFFER_CAPACITY = "The log buffer capacity cannot be negative";
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int logBufferCapacity = 1024; // 0 logs synchronously on the thread logging
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.DROP;
 
     public Level getLogLevel() {
         return logLevel;
@@ -38,6 +42,26 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getLogBufferCapacity() {
+        return logBufferCapacity;
+    }
+
+    public void setLogBufferCapacity(int logBufferCapacity) {
+        checkArgument(logBufferCapacity >= 0, MESSAGE_INVALID_LOG_BUFFER_CAPACITY);
+
+        this.logBufferCapacity = logBufferCapacity;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        requireNonNull(logOverflowPolicy);
+
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +74,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath.toAbsolutePath(), o.userPrefsFilePath.toAbsolutePath());
+                && Objects.equals(userPrefsFilePath.toAbsolutePath(), o.userPrefsFilePath.toAbsolutePath())
+                && logBufferCapacity == o.logBufferCapacity
+                && logOverflowPolicy == o.logOverflowPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, logBufferCapacity, logOverflowPolicy);
     }
 
     @Override
@@ -66,6 +92,12 @@ public class Config {
                 .append('\n')
                 .append("Preference file Location : ")
                 .append(Paths.get("").toAbsolutePath().relativize(userPrefsFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Log buffer capacity : ")
+                .append(logBufferCapacity)
+                .append('\n')
+                .append("Log overflow policy : ")
+                .append(logOverflowPolicy)
                 .toString();
     }
 
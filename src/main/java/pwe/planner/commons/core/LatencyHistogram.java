@@ -0,0 +1,130 @@
+package pwe.planner.commons.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, in nanoseconds, which can be recorded by many threads at once without locking.
+ * <br><br>
+ * Latencies are counted in buckets whose width grows with the latency, so that every latency is known to within
+ * {@code 1 / } {@link #SUB_BUCKET_COUNT} of its value, with a fixed amount of memory whatever the range of latencies.
+ * The count, mean and maximum are exact.
+ */
+public class LatencyHistogram {
+
+    /** The number of buckets for each power of two, which sets the precision of the percentiles. */
+    public static final int SUB_BUCKET_COUNT = 16;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency of {@code nanos}. Negative latencies, which {@link System#nanoTime()} never gives for
+     * intervals within the same JVM, are recorded as zero.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        bucketCounts.incrementAndGet(getBucketIndex(latency));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+    }
+
+    /**
+     * Returns a snapshot of the latencies recorded so far. Latencies recorded while the snapshot is taken may be
+     * left out of some of its values.
+     */
+    public Snapshot getSnapshot() {
+        long[] snapshotBucketCounts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshotBucketCounts[i] = bucketCounts.get(i);
+        }
+        return new Snapshot(snapshotBucketCounts, count.sum(), totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Returns the index of the bucket counting {@code latency}, which is not negative.
+     */
+    static int getBucketIndex(long latency) {
+        assert latency >= 0;
+
+        if (latency < SUB_BUCKET_COUNT) {
+            return (int) latency;
+        }
+        // the bucket of a latency is given by its highest bit and the SUB_BUCKET_BITS bits below it
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(latency) - SUB_BUCKET_BITS;
+        int subBucket = (int) (latency >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest latency counted by the bucket at {@code bucketIndex}.
+     */
+    static long getBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + bucketIndex % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * An immutable snapshot of the latencies recorded by a {@code LatencyHistogram}.
+     */
+    public static class Snapshot {
+        private final long[] bucketCounts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] bucketCounts, long count, long totalNanos, long maxNanos) {
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the mean latency, or zero if no latency was recorded.
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the latency within which {@code percentile} percent of the latencies were recorded, rounded up to
+         * the precision of the histogram, or zero if no latency was recorded.
+         */
+        public long getPercentileNanos(double percentile) {
+            long bucketCountTotal = 0;
+            for (long bucketCount : bucketCounts) {
+                bucketCountTotal += bucketCount;
+            }
+            long rank = Math.max((long) Math.ceil(percentile / 100 * bucketCountTotal), 1);
+
+            long cumulativeCount = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                cumulativeCount += bucketCounts[i];
+                if (cumulativeCount >= rank) {
+                    return Math.min(getBucketUpperBound(i), maxNanos);
+                }
+            }
+            return 0;
+        }
+    }
+}
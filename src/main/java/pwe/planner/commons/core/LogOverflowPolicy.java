@@ -0,0 +1,11 @@
+package pwe.planner.commons.core;
+
+/**
+ * What an {@link AsyncLogHandler} does with a log record which is published while its buffer is full.
+ */
+public enum LogOverflowPolicy {
+    /** Drops the record, so that the thread logging it never waits for the console or the log file. */
+    DROP,
+    /** Waits for space in the buffer, so that no record is lost. */
+    BLOCK
+}
@@ -3,10 +3,16 @@ package pwe.planner.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,41 +22,63 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a single background thread through an {@link AsyncLogHandler}, so that logging does not
+ *   wait for the console or the log file, unless the log buffer capacity in the {@code Config} is 0.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "application.log";
     private static Level currentLogLevel = Level.INFO;
+    private static int currentLogBufferCapacity = new Config().getLogBufferCapacity();
+    private static LogOverflowPolicy currentLogOverflowPolicy = new Config().getLogOverflowPolicy();
+    private static final Set<String> loggerNames = ConcurrentHashMap.newKeySet();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncLogHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
      * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
      * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * is requested again from the LogsCenter.<br>
+     * The log buffer capacity and overflow policy apply to all the loggers obtained from the LogsCenter, as the
+     * messages already buffered are written before the new buffer replaces the old one.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         requireNonNull(config);
 
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        currentLogBufferCapacity = config.getLogBufferCapacity();
+        currentLogOverflowPolicy = config.getLogOverflowPolicy();
+
+        AsyncLogHandler previousAsyncLogHandler = asyncLogHandler;
+        asyncLogHandler = null;
+        for (String loggerName : loggerNames) {
+            Logger existingLogger = Logger.getLogger(loggerName);
+            removeHandlers(existingLogger);
+            addHandlers(existingLogger);
+        }
+        if (previousAsyncLogHandler != null) {
+            previousAsyncLogHandler.close();
+        }
+        logger.info(() -> "currentLogLevel: " + currentLogLevel + ", log buffer capacity: " + currentLogBufferCapacity
+                + ", log overflow policy: " + currentLogOverflowPolicy);
     }
 
     /**
      * Creates a logger with the given name.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         requireNonNull(name);
 
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addHandlers(logger);
+        loggerNames.add(name);
 
         return Logger.getLogger(name);
     }
@@ -67,6 +95,26 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Adds the {@code asyncLogHandler} to the {@code logger}, or the {@code consoleHandler} and {@code fileHandler}
+     * if messages are logged synchronously. <br>
+     * Creates the {@code asyncLogHandler} if it is null.
+     */
+    private static void addHandlers(Logger logger) {
+        assert logger != null;
+
+        if (currentLogBufferCapacity == 0) {
+            addConsoleHandler(logger);
+            addFileHandler(logger);
+            return;
+        }
+
+        if (asyncLogHandler == null) {
+            asyncLogHandler = createAsyncLogHandler();
+        }
+        logger.addHandler(asyncLogHandler);
+    }
+
     /**
      * Adds the {@code consoleHandler} to the {@code logger}. <br>
      * Creates the {@code consoleHandler} if it is null.
@@ -118,6 +166,31 @@ public class LogsCenter {
         return fileHandler;
     }
 
+    /**
+     * Creates an {@code AsyncLogHandler} writing to the {@code consoleHandler} and {@code fileHandler}, creating them
+     * if they are null. The {@code fileHandler} is left out if the log file cannot be opened.
+     */
+    private static AsyncLogHandler createAsyncLogHandler() {
+        List<Handler> targets = new ArrayList<>();
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        targets.add(consoleHandler);
+        try {
+            if (fileHandler == null) {
+                fileHandler = createFileHandler();
+            }
+            targets.add(fileHandler);
+        } catch (IOException e) {
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
+        }
+
+        AsyncLogHandler asyncLogHandler = new AsyncLogHandler(targets, currentLogBufferCapacity,
+                currentLogOverflowPolicy);
+        asyncLogHandler.setLevel(currentLogLevel);
+        return asyncLogHandler;
+    }
+
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(currentLogLevel);
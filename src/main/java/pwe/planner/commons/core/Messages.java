@@ -9,5 +9,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_MODULE_DISPLAYED_INDEX = "The module index provided is invalid";
     public static final String MESSAGE_MODULES_LISTED_OVERVIEW = "%1$d modules listed!";
+    public static final String MESSAGE_MODULE_LIST_READ_ONLY =
+            "The modules cannot be changed, as they are in a read-only shared catalog";
 
 }
@@ -0,0 +1,82 @@
+package pwe.planner.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Times the phases of the startup of the application, from the start of its initialization until it is interactive,
+ * and logs them. Each phase lasts from the end of the previous phase, or from the last call to {@link #startPhase()},
+ * until it is ended.
+ * <br>
+ * Phases are ended one after another, on the threads the application is started on, which are not run at once.
+ */
+public class StartupProfiler {
+
+    public static final String MESSAGE_PHASE = "Startup phase %1$s took %2$d ms";
+    public static final String MESSAGE_FIRST_INTERACTIVE =
+            "Time to first interactive: %1$d ms since the JVM started, %2$d ms since initialization started (%3$s)";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+
+    private final long startTime;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private long phaseStartTime;
+
+    public StartupProfiler() {
+        startTime = System.nanoTime();
+        phaseStartTime = startTime;
+    }
+
+    /**
+     * Starts the next phase now, leaving out the time since the previous phase ended, e.g. while waiting for the
+     * window to be shown.
+     */
+    public void startPhase() {
+        phaseStartTime = System.nanoTime();
+    }
+
+    /**
+     * Ends the phase {@code phase}, and logs the time it took.
+     */
+    public void endPhase(String phase) {
+        requireNonNull(phase);
+
+        long phaseEndTime = System.nanoTime();
+        long nanos = phaseEndTime - phaseStartTime;
+        phaseNanos.merge(phase, nanos, Long::sum);
+        logger.info(String.format(MESSAGE_PHASE, phase, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        phaseStartTime = phaseEndTime;
+    }
+
+    /**
+     * Returns the time taken by each phase ended so far, in nanoseconds, in the order they were first ended.
+     */
+    public Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+
+    /**
+     * Returns the time since this profiler was created, in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Logs the time taken until now, when the application is first interactive, with the time taken by each phase
+     * ended so far.
+     */
+    public void logFirstInteractive() {
+        StringJoiner phases = new StringJoiner(", ");
+        phaseNanos.forEach((phase, nanos) -> phases.add(phase + " " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms"));
+        logger.info(String.format(MESSAGE_FIRST_INTERACTIVE, ManagementFactory.getRuntimeMXBean().getUptime(),
+                getElapsedMillis(), phases));
+    }
+}
@@ -0,0 +1,13 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event for the cascading of an edited or deleted module code to the degree planners or the requirement
+ * categories.
+ */
+public interface CascadeEvent extends FlightRecorderEvent {
+
+    /**
+     * Ends the event and records it with the given values, if the event is being recorded.
+     */
+    void record(String operation, String code, int scannedCount, int updatedCount);
+}
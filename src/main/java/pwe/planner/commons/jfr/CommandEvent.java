@@ -0,0 +1,13 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event for the execution of a command, from parsing it to requesting the application to be saved.
+ */
+public interface CommandEvent extends FlightRecorderEvent {
+
+    /**
+     * Ends the event and records it with the given values, if the event is being recorded.
+     */
+    void record(String commandWord, boolean isSuccessful, boolean isApplicationModified, int moduleCount,
+        int degreePlannerCount, int requirementCategoryCount);
+}
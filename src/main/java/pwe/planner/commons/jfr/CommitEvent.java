@@ -0,0 +1,13 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event for the commit of an application state for undo, including the check of its data constraints.
+ */
+public interface CommitEvent extends FlightRecorderEvent {
+
+    /**
+     * Ends the event and records it with the given values, if the event is being recorded.
+     */
+    void record(int stateCount, boolean isInTransaction, int violationCount, int moduleCount,
+        int degreePlannerCount, int requirementCategoryCount);
+}
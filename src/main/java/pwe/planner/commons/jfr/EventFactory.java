@@ -0,0 +1,19 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * Creates an event of each type. See {@link FlightRecorderEvents}.
+ */
+public interface EventFactory {
+
+    CascadeEvent newCascadeEvent();
+
+    CommandEvent newCommandEvent();
+
+    CommitEvent newCommitEvent();
+
+    FileWriteEvent newFileWriteEvent();
+
+    ListCellUpdateEvent newListCellUpdateEvent();
+
+    SaveEvent newSaveEvent();
+}
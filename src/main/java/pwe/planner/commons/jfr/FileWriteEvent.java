@@ -0,0 +1,12 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event for the writing of a file, including syncing it to the storage device.
+ */
+public interface FileWriteEvent extends FlightRecorderEvent {
+
+    /**
+     * Ends the event and records it with the given values, if the event is being recorded.
+     */
+    void record(String path, long bytesWritten, boolean isSynced);
+}
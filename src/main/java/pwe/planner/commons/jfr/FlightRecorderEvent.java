@@ -0,0 +1,22 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event of the application, which is recorded by Java Flight Recorder if it is available.
+ * See {@link FlightRecorderEvents}.
+ * <br><br>
+ * An event is timed from {@link #begin()} to the call of the {@code record} method of its type, which only records the
+ * values given if the event is being recorded. Values which are costly to work out should only be worked out if
+ * {@link #isEnabled()}.
+ */
+public interface FlightRecorderEvent {
+
+    /**
+     * Starts the timing of the event.
+     */
+    void begin();
+
+    /**
+     * Returns true if events of this type are being recorded.
+     */
+    boolean isEnabled();
+}
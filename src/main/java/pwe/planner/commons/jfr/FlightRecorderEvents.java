@@ -0,0 +1,58 @@
+package pwe.planner.commons.jfr;
+
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LogsCenter;
+
+/**
+ * Creates the events of the application, which are Java Flight Recorder events if the JDK running the application has
+ * the {@code jdk.jfr} module (JDK 11 or later), and the application was built with the events in {@code src/jfr/java}.
+ * Otherwise, the events created do nothing and are never enabled, hence the application runs on JDK 9 unchanged.
+ */
+public class FlightRecorderEvents {
+
+    static final String JFR_EVENT_FACTORY_CLASS_NAME = "pwe.planner.commons.jfr.jdk.JfrEventFactory";
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecorderEvents.class);
+    private static final EventFactory eventFactory = loadEventFactory(JFR_EVENT_FACTORY_CLASS_NAME);
+
+    private FlightRecorderEvents() {}
+
+    public static CascadeEvent newCascadeEvent() {
+        return eventFactory.newCascadeEvent();
+    }
+
+    public static CommandEvent newCommandEvent() {
+        return eventFactory.newCommandEvent();
+    }
+
+    public static CommitEvent newCommitEvent() {
+        return eventFactory.newCommitEvent();
+    }
+
+    public static FileWriteEvent newFileWriteEvent() {
+        return eventFactory.newFileWriteEvent();
+    }
+
+    public static ListCellUpdateEvent newListCellUpdateEvent() {
+        return eventFactory.newListCellUpdateEvent();
+    }
+
+    public static SaveEvent newSaveEvent() {
+        return eventFactory.newSaveEvent();
+    }
+
+    /**
+     * Returns the {@code EventFactory} of the class {@code factoryClassName}, or a factory of events which do nothing
+     * if Java Flight Recorder or the factory class is not available.
+     */
+    static EventFactory loadEventFactory(String factoryClassName) {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (EventFactory) Class.forName(factoryClassName).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.info("Java Flight Recorder events are not available, no events will be recorded: " + e);
+            return new NoOpEventFactory();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event for the update of a cell of a list panel, which builds the card of the item shown.
+ */
+public interface ListCellUpdateEvent extends FlightRecorderEvent {
+
+    /**
+     * Ends the event and records it with the given values, if the event is being recorded.
+     */
+    void record(String panel, int index, int itemCount, boolean isEmpty);
+}
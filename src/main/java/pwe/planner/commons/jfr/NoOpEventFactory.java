@@ -0,0 +1,75 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * Creates events which do nothing and are never enabled, for when Java Flight Recorder is not available.
+ */
+class NoOpEventFactory implements EventFactory {
+
+    @Override
+    public CascadeEvent newCascadeEvent() {
+        return NoOpEvent.INSTANCE;
+    }
+
+    @Override
+    public CommandEvent newCommandEvent() {
+        return NoOpEvent.INSTANCE;
+    }
+
+    @Override
+    public CommitEvent newCommitEvent() {
+        return NoOpEvent.INSTANCE;
+    }
+
+    @Override
+    public FileWriteEvent newFileWriteEvent() {
+        return NoOpEvent.INSTANCE;
+    }
+
+    @Override
+    public ListCellUpdateEvent newListCellUpdateEvent() {
+        return NoOpEvent.INSTANCE;
+    }
+
+    @Override
+    public SaveEvent newSaveEvent() {
+        return NoOpEvent.INSTANCE;
+    }
+
+    /**
+     * An event of every type which does nothing. As it holds no state, a single instance is shared by every event.
+     */
+    private static class NoOpEvent implements CascadeEvent, CommandEvent, CommitEvent, FileWriteEvent,
+            ListCellUpdateEvent, SaveEvent {
+
+        private static final NoOpEvent INSTANCE = new NoOpEvent();
+
+        @Override
+        public void begin() {}
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(String operation, String code, int scannedCount, int updatedCount) {}
+
+        @Override
+        public void record(String commandWord, boolean isSuccessful, boolean isApplicationModified, int moduleCount,
+                int degreePlannerCount, int requirementCategoryCount) {}
+
+        @Override
+        public void record(int stateCount, boolean isInTransaction, int violationCount, int moduleCount,
+                int degreePlannerCount, int requirementCategoryCount) {}
+
+        @Override
+        public void record(String path, long bytesWritten, boolean isSynced) {}
+
+        @Override
+        public void record(String panel, int index, int itemCount, boolean isEmpty) {}
+
+        @Override
+        public void record(String storage, boolean isSuccessful, int moduleCount, int degreePlannerCount,
+                int requirementCategoryCount, long bytesWritten) {}
+    }
+}
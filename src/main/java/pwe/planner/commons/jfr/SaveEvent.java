@@ -0,0 +1,13 @@
+package pwe.planner.commons.jfr;
+
+/**
+ * An event for the saving of the application to its data files.
+ */
+public interface SaveEvent extends FlightRecorderEvent {
+
+    /**
+     * Ends the event and records it with the given values, if the event is being recorded.
+     */
+    void record(String storage, boolean isSuccessful, int moduleCount, int degreePlannerCount,
+        int requirementCategoryCount, long bytesWritten);
+}
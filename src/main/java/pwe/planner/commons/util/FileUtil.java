@@ -4,10 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import pwe.planner.commons.jfr.FileWriteEvent;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
 
 /**
  * Writes and reads files
@@ -15,6 +23,33 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    // Counted per thread, so that a save can tell the bytes it wrote apart from those written by other threads.
+    private static final ThreadLocal<long[]> bytesWrittenOnThread = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static volatile WriteDurability writeDurability = WriteDurability.FILE;
+
+    public static WriteDurability getWriteDurability() {
+        return writeDurability;
+    }
+
+    /**
+     * Sets the durability of all the files written after this call.
+     */
+    public static void setWriteDurability(WriteDurability writeDurability) {
+        requireNonNull(writeDurability);
+
+        FileUtil.writeDurability = writeDurability;
+    }
+
+    /**
+     * Returns the number of bytes written or appended to files by this class on the calling thread so far.
+     */
+    public static long getBytesWrittenOnCurrentThread() {
+        return bytesWrittenOnThread.get()[0];
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -88,11 +123,144 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is written to a temporary file which then replaces the file, hence the file is never left partially
+     * written. The temporary file is synced to the storage device as required by {@link #getWriteDurability()}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
         requireAllNonNull(file, content);
 
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to the file, in the same way as {@link #writeToFile(Path, String)}.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        requireAllNonNull(file, content);
+
+        FileWriteEvent fileWriteEvent = FlightRecorderEvents.newFileWriteEvent();
+        fileWriteEvent.begin();
+        boolean isSynced = writeDurability != WriteDurability.NONE;
+        Path temporaryFile = getTemporaryFilePath(file);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (isSynced) {
+                    channel.force(true);
+                }
+            }
+            replaceFile(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        bytesWrittenOnThread.get()[0] += content.length;
+        if (fileWriteEvent.isEnabled()) {
+            fileWriteEvent.record(file.toString(), content.length, isSynced);
+        }
+    }
+
+    /**
+     * Appends given bytes to the existing file, which is then synced to the storage device as required by
+     * {@link #getWriteDurability()}.
+     * Unlike {@link #writeToFile(Path, byte[])}, the file may be left partially written if the write fails.
+     */
+    public static void appendToFile(Path file, byte[] content) throws IOException {
+        requireAllNonNull(file, content);
+
+        FileWriteEvent fileWriteEvent = FlightRecorderEvents.newFileWriteEvent();
+        fileWriteEvent.begin();
+        boolean isSynced = writeDurability != WriteDurability.NONE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isSynced) {
+                channel.force(true);
+            }
+        }
+
+        bytesWrittenOnThread.get()[0] += content.length;
+        if (fileWriteEvent.isEnabled()) {
+            fileWriteEvent.record(file.toString(), content.length, isSynced);
+        }
+    }
+
+    /**
+     * Writes given string to a file, in the same way as {@link #writeToFile(Path, String)}, but first keeps the
+     * current content of the file (if any) in its backup file, replacing the previous backup.
+     * See {@link #getBackupFilePath(Path)}.
+     */
+    public static void writeToFileWithBackup(Path file, String content) throws IOException {
+        requireAllNonNull(file, content);
+
+        if (isFileExists(file)) {
+            Path backupFile = getBackupFilePath(file);
+            Path temporaryBackupFile = getTemporaryFilePath(backupFile);
+            try {
+                Files.deleteIfExists(temporaryBackupFile);
+                try {
+                    // the file is replaced and not modified in place by writeToFile, so the link keeps its content
+                    Files.createLink(temporaryBackupFile, file);
+                } catch (UnsupportedOperationException | IOException e) {
+                    Files.copy(file, temporaryBackupFile);
+                    if (writeDurability != WriteDurability.NONE) {
+                        syncFile(temporaryBackupFile);
+                    }
+                }
+                replaceFile(temporaryBackupFile, backupFile);
+            } finally {
+                Files.deleteIfExists(temporaryBackupFile);
+            }
+        }
+
+        writeToFile(file, content);
+    }
+
+    /**
+     * Returns the path of the backup file of {@code file}, which is written by
+     * {@link #writeToFileWithBackup(Path, String)}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        requireNonNull(file);
+
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    private static Path getTemporaryFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces {@code target} with {@code source} atomically if supported, then syncs the directory of {@code target}
+     * if required by {@link #getWriteDurability()}.
+     */
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        Path directory = target.toAbsolutePath().getParent();
+        if (writeDurability == WriteDurability.DIRECTORY && directory != null) {
+            try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException ioe) {
+                // some platforms, e.g. Windows, cannot open a directory, and make the replacement durable themselves
+            }
+        }
+    }
+
+    private static void syncFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
     }
 
 }
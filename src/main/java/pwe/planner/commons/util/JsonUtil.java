@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -12,7 +14,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -104,6 +109,27 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a {@code JsonParser} which reads the JSON data in {@code inputStream} one token at a time.
+     * Values read with {@link JsonParser#readValueAs(Class)} are converted the same way as in
+     * {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createJsonParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Returns a {@code JsonGenerator} which writes JSON data to {@code writer} one token at a time, in the same format
+     * as {@link #toJsonString(Object)}. {@code writer} is closed when the generator is closed.
+     */
+    public static JsonGenerator createJsonGenerator(Writer writer) throws IOException {
+        requireNonNull(writer);
+
+        return objectMapper.getFactory().createGenerator(writer).setPrettyPrinter(new DefaultPrettyPrinter());
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -116,6 +142,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @see #toJsonString(Object)
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        requireNonNull(instance);
+
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,26 @@
+package pwe.planner.commons.util;
+
+/**
+ * Represents how far a file written by {@link FileUtil} survives a crash of the operating system or a power loss.
+ * A file is always replaced atomically, hence a crash of the application itself never leaves it partially written.
+ */
+public enum WriteDurability {
+
+    /**
+     * The file is never synced to the storage device. This is the fastest, but after a crash of the operating system
+     * the file may have lost the last writes, or be empty.
+     */
+    NONE,
+
+    /**
+     * The new content is synced to the storage device before it replaces the file, hence after a crash of the
+     * operating system the file has either its old or its new content.
+     */
+    FILE,
+
+    /**
+     * As with {@link #FILE}, and the directory of the file is also synced after the file is replaced, hence a write is
+     * never lost once it is done. This is the slowest, as every write waits for the storage device twice.
+     */
+    DIRECTORY
+}
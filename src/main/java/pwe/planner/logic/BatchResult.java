@@ -0,0 +1,145 @@
+package pwe.planner.logic;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the result of executing a batch of commands, e.g. the lines of a script, with the result of each command.
+ */
+public class BatchResult {
+
+    /** Lines starting with this prefix are comments, which are not executed. */
+    public static final String COMMENT_PREFIX = "#";
+
+    private final List<LineResult> lineResults;
+    private final boolean isRolledBack;
+
+    public BatchResult(List<LineResult> lineResults, boolean isRolledBack) {
+        requireNonNull(lineResults);
+
+        this.lineResults = Collections.unmodifiableList(lineResults);
+        this.isRolledBack = isRolledBack;
+    }
+
+    /**
+     * Returns the result of each command executed, in the order they were executed.
+     */
+    public List<LineResult> getLineResults() {
+        return lineResults;
+    }
+
+    /**
+     * Returns the number of commands which failed.
+     */
+    public long getFailureCount() {
+        return lineResults.stream().filter(lineResult -> !lineResult.isSuccess()).count();
+    }
+
+    /**
+     * Returns true if the changes made by the batch were undone, as a command of the batch failed.
+     */
+    public boolean isRolledBack() {
+        return isRolledBack;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return lineResults.equals(otherBatchResult.lineResults)
+                && isRolledBack == otherBatchResult.isRolledBack;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineResults, isRolledBack);
+    }
+
+    @Override
+    public String toString() {
+        return lineResults.size() + " commands executed, " + getFailureCount() + " failed"
+                + (isRolledBack ? ", all changes rolled back" : "");
+    }
+
+    /**
+     * The result of executing the command on one line of a batch.
+     */
+    public static class LineResult {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+        private final boolean isSuccess;
+
+        /**
+         * Creates the result of the command {@code commandText} on line {@code lineNumber}, where {@code message} is
+         * the feedback of the command if it succeeded, or the error if it failed.
+         */
+        public LineResult(int lineNumber, String commandText, String message, boolean isSuccess) {
+            requireAllNonNull(commandText, message);
+
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+            this.isSuccess = isSuccess;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        /**
+         * Returns the feedback of the command if it succeeded, or the error if it failed.
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        public boolean isSuccess() {
+            return isSuccess;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LineResult)) {
+                return false;
+            }
+
+            LineResult otherLineResult = (LineResult) other;
+            return lineNumber == otherLineResult.lineNumber
+                    && commandText.equals(otherLineResult.commandText)
+                    && message.equals(otherLineResult.message)
+                    && isSuccess == otherLineResult.isSuccess;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText, message, isSuccess);
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + (isSuccess ? " OK: " : " FAILED: ") + commandText + "\n" + message;
+        }
+    }
+}
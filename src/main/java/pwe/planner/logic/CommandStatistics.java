@@ -0,0 +1,205 @@
+package pwe.planner.logic;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LatencyHistogram;
+import pwe.planner.commons.core.LatencyHistogram.Snapshot;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.FileUtil;
+
+/**
+ * The latencies of the commands executed, in a {@link LatencyHistogram} for each command word and {@link Phase} of
+ * execution. Latencies can be recorded by many threads at once without locking.
+ */
+public class CommandStatistics {
+
+    /** The command word under which commands which could not be parsed are recorded. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    /** The command word under which the saves of batches of commands are recorded. */
+    public static final String BATCH_COMMAND_WORD = "(batch)";
+
+    /** The command word under which the saves of changes made to the module list file externally are recorded. */
+    public static final String EXTERNAL_CHANGES_COMMAND_WORD = "(external)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands executed yet.";
+    public static final String MESSAGE_PERIODIC_LOG = "Command latencies so far:\n%1$s";
+    public static final String CSV_HEADER = "command,phase,count,mean_ms,p50_ms,p99_ms,max_ms";
+
+    private static final String TABLE_HEADER_FORMAT = "%-20s %-8s %8s %10s %10s %10s %10s";
+    private static final String TABLE_ROW_FORMAT = "%-20s %-8s %8d %10.3f %10.3f %10.3f %10.3f";
+    private static final String CSV_ROW_FORMAT = "%1$s,%2$s,%3$d,%4$.3f,%5$.3f,%6$.3f,%7$.3f";
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandStatistics.class);
+
+    /**
+     * A phase of the execution of a command.
+     */
+    public enum Phase {
+        /** Parsing the command text into a command. */
+        PARSE,
+        /** Executing the command on the model, except for committing the application. */
+        EXECUTE,
+        /** Committing the application for undo, and checking its data constraints. */
+        COMMIT,
+        /** Writing the application to the data files, which is timed on the thread saving it, and recorded for the
+         *  command whose snapshot was saved if a burst of commands is saved at once. */
+        SAVE
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService periodicLogExecutor;
+
+    /**
+     * Records a latency of {@code nanos} for {@code phase} of the command {@code commandWord}.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+
+        histograms.computeIfAbsent(commandWord, unused -> createPhaseHistograms())[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns a histogram for each phase, indexed by the ordinal of the phase.
+     */
+    private static LatencyHistogram[] createPhaseHistograms() {
+        LatencyHistogram[] phaseHistograms = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        return phaseHistograms;
+    }
+
+    /**
+     * Returns a snapshot of the latencies of {@code phase} of the command {@code commandWord}, which is empty if the
+     * command was never executed.
+     */
+    public Snapshot getSnapshot(String commandWord, Phase phase) {
+        requireAllNonNull(commandWord, phase);
+
+        LatencyHistogram[] phaseHistograms = histograms.get(commandWord);
+        return phaseHistograms == null
+                ? new LatencyHistogram().getSnapshot()
+                : phaseHistograms[phase.ordinal()].getSnapshot();
+    }
+
+    /**
+     * Returns the snapshots of the phases which were recorded for each command, sorted by command word and phase.
+     */
+    private Map<String, Map<Phase, Snapshot>> getRecordedSnapshots() {
+        Map<String, Map<Phase, Snapshot>> recordedSnapshots = new TreeMap<>();
+        histograms.forEach((commandWord, phaseHistograms) -> {
+            Map<Phase, Snapshot> phaseSnapshots = new TreeMap<>();
+            for (Phase phase : Phase.values()) {
+                Snapshot snapshot = phaseHistograms[phase.ordinal()].getSnapshot();
+                if (snapshot.getCount() > 0) {
+                    phaseSnapshots.put(phase, snapshot);
+                }
+            }
+            recordedSnapshots.put(commandWord, phaseSnapshots);
+        });
+        return recordedSnapshots;
+    }
+
+    /**
+     * Returns the count, mean, 50th and 99th percentile, and maximum latency, in milliseconds, of each phase of each
+     * command, as a table with one row per command and phase.
+     */
+    public String toTable() {
+        Map<String, Map<Phase, Snapshot>> recordedSnapshots = getRecordedSnapshots();
+        if (recordedSnapshots.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder table = new StringBuilder(String.format(TABLE_HEADER_FORMAT, "command", "phase", "count",
+                "mean(ms)", "p50(ms)", "p99(ms)", "max(ms)"));
+        recordedSnapshots.forEach((commandWord, phaseSnapshots) -> phaseSnapshots.forEach((phase, snapshot) ->
+                table.append('\n').append(formatRow(TABLE_ROW_FORMAT, commandWord, phase, snapshot))));
+        return table.toString();
+    }
+
+    /**
+     * Returns the same values as {@link #toTable()} in CSV format, with the header {@link #CSV_HEADER}.
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        getRecordedSnapshots().forEach((commandWord, phaseSnapshots) -> phaseSnapshots.forEach((phase, snapshot) ->
+                csv.append('\n').append(formatRow(CSV_ROW_FORMAT, commandWord, phase, snapshot))));
+        return csv.append('\n').toString();
+    }
+
+    /**
+     * Returns the values of {@code snapshot} formatted with {@code format}.
+     */
+    private static String formatRow(String format, String commandWord, Phase phase, Snapshot snapshot) {
+        return String.format(Locale.ROOT, format, commandWord, phase.name().toLowerCase(Locale.ROOT),
+                snapshot.getCount(), snapshot.getMeanNanos() / NANOS_PER_MILLI,
+                snapshot.getPercentileNanos(50) / NANOS_PER_MILLI, snapshot.getPercentileNanos(99) / NANOS_PER_MILLI,
+                snapshot.getMaxNanos() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Writes {@link #toCsv()} to the file at {@code filePath}, replacing the file if it exists.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public void exportCsv(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, toCsv());
+    }
+
+    /**
+     * Logs {@link #toTable()} every {@code interval}, on a daemon thread, until {@link #stopPeriodicLogging()} is
+     * called. Any periodic logging already started is stopped first.
+     */
+    public synchronized void startPeriodicLogging(Duration interval) {
+        requireNonNull(interval);
+        checkArgument(!interval.isNegative() && !interval.isZero(), "The logging interval must be positive");
+
+        stopPeriodicLogging();
+        periodicLogExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CommandStatistics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        periodicLogExecutor.scheduleAtFixedRate(this::logTable, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic logging started by {@link #startPeriodicLogging(Duration)}, if any.
+     */
+    public synchronized void stopPeriodicLogging() {
+        if (periodicLogExecutor != null) {
+            periodicLogExecutor.shutdownNow();
+            periodicLogExecutor = null;
+        }
+    }
+
+    /**
+     * Logs {@link #toTable()}, unless no command was executed.
+     */
+    public void logTable() {
+        if (!histograms.isEmpty()) {
+            logger.info(String.format(MESSAGE_PERIODIC_LOG, toTable()));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package pwe.planner.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -8,9 +10,12 @@ import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.logic.commands.CommandResult;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.CreditTotals;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
 
@@ -28,6 +33,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on each line of {@code scriptLines} in a single transaction, which is committed as a single
+     * undoable change and then saved once. Blank lines and lines starting with {@link BatchResult#COMMENT_PREFIX} are
+     * skipped. Nothing can be undone or redone by the commands.
+     *
+     * @param isAtomic if true, the commands after a failed command are not executed, and the changes made by the
+     *     commands before it are rolled back. Otherwise, every command is executed regardless of failures.
+     * @return the result of each command executed.
+     */
+    BatchResult executeBatch(List<String> scriptLines, boolean isAtomic);
+
+    /**
+     * Applies the changes made to the module list outside of the application, e.g. by an updated catalog, as a single
+     * undoable change which is then saved. The changes are rejected as a whole if they violate the data constraints.
+     *
+     * @return true if the module list holds the changes afterwards, as they were applied or had already been applied,
+     *     or false if they were rejected.
+     * @see Model#applyModuleListDiff(ModuleListDiff)
+     */
+    boolean applyExternalModuleListChanges(ModuleListDiff diff);
+
+    /**
+     * Returns the latencies of the commands executed so far, for each command and phase of execution.
+     */
+    CommandStatistics getCommandStatistics();
+
     /**
      * Returns the Application.
      *
@@ -35,6 +66,26 @@ public interface Logic {
      */
     ReadOnlyApplication getApplication();
 
+    /**
+     * Returns the module with the code {@code code}, or null if there is none.
+     *
+     * @see Model#getModuleByCode(Code)
+     */
+    Module getModuleByCode(Code code);
+
+    /**
+     * Returns the total credits of each degree planner and requirement category of the Application.
+     *
+     * @see Model#getCreditTotals()
+     */
+    CreditTotals getCreditTotals();
+
+    /**
+     * Returns the failure of the last save of the Application to storage, or a property holding null if the last save
+     * succeeded.
+     */
+    ReadOnlyProperty<IOException> saveFailureProperty();
+
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<Module> getFilteredModuleList();
 
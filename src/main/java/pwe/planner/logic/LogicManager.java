@@ -5,44 +5,75 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.jfr.CommandEvent;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
+import pwe.planner.logic.BatchResult.LineResult;
+import pwe.planner.logic.CommandStatistics.Phase;
 import pwe.planner.logic.commands.Command;
 import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.MemoryCommand;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.CommandParser;
 import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.CreditTotals;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.ApplicationSaver;
 import pwe.planner.storage.Storage;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final ApplicationSaver applicationSaver;
     private final CommandHistory history;
+    private final CommandStatistics commandStatistics;
     private final CommandParser commandParser;
     private boolean applicationModified;
+    private long memoryFootprintLogTime = System.nanoTime();
 
+    /**
+     * Creates a LogicManager which saves the application to {@code storage} in the background, reporting save
+     * failures on the saving thread.
+     */
     public LogicManager(Model model, Storage storage) {
-        requireAllNonNull(model, storage);
+        this(model, new ApplicationSaver(storage, Runnable::run));
+    }
+
+    public LogicManager(Model model, ApplicationSaver applicationSaver) {
+        this(model, applicationSaver, new CommandStatistics());
+    }
+
+    /**
+     * Creates a LogicManager which saves the application through {@code applicationSaver}, and records the latencies
+     * of the commands executed in {@code commandStatistics}.
+     */
+    public LogicManager(Model model, ApplicationSaver applicationSaver, CommandStatistics commandStatistics) {
+        requireAllNonNull(model, applicationSaver, commandStatistics);
 
         this.model = model;
-        this.storage = storage;
+        this.applicationSaver = applicationSaver;
+        this.commandStatistics = commandStatistics;
         history = new CommandHistory();
-        commandParser = new CommandParser();
+        commandParser = new CommandParser(commandStatistics);
 
         // Set applicationModified to true whenever the models' application is modified.
         model.getApplication().addListener(observable -> applicationModified = true);
@@ -52,27 +83,177 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         requireNonNull(commandText);
 
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
         applicationModified = false;
+        CommandEvent commandEvent = FlightRecorderEvents.newCommandEvent();
+        commandEvent.begin();
+        boolean isSuccessful = false;
+
+        try {
+            CommandResult commandResult = parseAndExecute(commandText);
+
+            if (applicationModified) {
+                logger.info("Application modified, saving to file in the background.");
+                requestSave(CommandParser.getCommandWord(commandText));
+            }
+
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            logMemoryFootprintIfDue();
+            // the values of the event are only worked out if it may be recorded
+            if (commandEvent.isEnabled()) {
+                ReadOnlyApplication application = model.getApplication();
+                commandEvent.record(CommandParser.getCommandWord(commandText), isSuccessful, applicationModified,
+                        application.getModuleList().size(), application.getDegreePlannerList().size(),
+                        application.getRequirementCategoryList().size());
+            }
+        }
+    }
+
+    /**
+     * Logs the memory footprint of the application data if the logging interval in the user prefs has passed since it
+     * was last logged. It is worked out on the thread executing the commands, as the model is only changed on it, and
+     * only changes when commands are executed.
+     */
+    private void logMemoryFootprintIfDue() {
+        int intervalMinutes = model.getUserPrefs().getMemoryFootprintLogIntervalMinutes();
+        long currentTime = System.nanoTime();
+        if (intervalMinutes == 0 || currentTime - memoryFootprintLogTime < TimeUnit.MINUTES.toNanos(intervalMinutes)) {
+            return;
+        }
 
-        CommandResult commandResult;
+        memoryFootprintLogTime = currentTime;
+        logger.info(MemoryCommand.getMemoryFootprint(model, history).toLogLine());
+    }
+
+    /**
+     * Parses and executes {@code commandText}, and adds it to the history, recording the latency of parsing,
+     * executing and committing the command in the command statistics.
+     */
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
+        long parseStartTime = System.nanoTime();
+        Command command;
+        try {
+            command = commandParser.parseCommand(commandText);
+        } catch (ParseException | RuntimeException e) {
+            history.add(commandText);
+            commandStatistics.record(CommandStatistics.INVALID_COMMAND_WORD, Phase.PARSE,
+                    System.nanoTime() - parseStartTime);
+            throw e;
+        }
+
+        String commandWord = CommandParser.getCommandWord(commandText);
+        long executeStartTime = System.nanoTime();
+        commandStatistics.record(commandWord, Phase.PARSE, executeStartTime - parseStartTime);
+
+        long commitNanos = model.getCommitNanos();
         try {
-            Command command = commandParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            return command.execute(model, history);
         } finally {
             history.add(commandText);
+            long executeNanos = System.nanoTime() - executeStartTime;
+            long executeCommitNanos = model.getCommitNanos() - commitNanos;
+            commandStatistics.record(commandWord, Phase.EXECUTE, executeNanos - executeCommitNanos);
+            if (executeCommitNanos > 0) {
+                commandStatistics.record(commandWord, Phase.COMMIT, executeCommitNanos);
+            }
         }
+    }
+
+    @Override
+    public BatchResult executeBatch(List<String> scriptLines, boolean isAtomic) {
+        requireNonNull(scriptLines);
+
+        logger.info(() -> "----------------[BATCH][" + scriptLines.size() + " lines]");
+        applicationModified = false;
+
+        List<LineResult> lineResults = new ArrayList<>();
+        boolean hasFailure = false;
+        model.beginTransaction();
+        try {
+            for (int i = 0; i < scriptLines.size() && !(isAtomic && hasFailure); i++) {
+                String commandText = scriptLines.get(i).trim();
+                if (commandText.isEmpty() || commandText.startsWith(BatchResult.COMMENT_PREFIX)) {
+                    continue;
+                }
 
-        if (applicationModified) {
-            logger.info("Application modified, saving to file.");
-            try {
-                storage.saveApplication(model.getApplication());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+                LineResult lineResult = executeBatchLine(i + 1, commandText);
+                lineResults.add(lineResult);
+                hasFailure |= !lineResult.isSuccess();
             }
+        } catch (RuntimeException re) {
+            model.rollbackTransaction();
+            throw re;
         }
 
-        return commandResult;
+        boolean isRolledBack = isAtomic && hasFailure;
+        if (isRolledBack) {
+            model.rollbackTransaction();
+        } else {
+            model.endTransaction();
+        }
+
+        BatchResult batchResult = new BatchResult(lineResults, isRolledBack);
+        logger.info(() -> "Batch completed: " + batchResult);
+        if (applicationModified && !isRolledBack) {
+            logger.info("Application modified by batch, saving to file in the background.");
+            requestSave(CommandStatistics.BATCH_COMMAND_WORD);
+        }
+        return batchResult;
+    }
+
+    /**
+     * Executes {@code commandText}, which is on line {@code lineNumber} of a batch, and returns its result.
+     */
+    private LineResult executeBatchLine(int lineNumber, String commandText) {
+        logger.fine(() -> "[BATCH LINE " + lineNumber + "][" + commandText + "]");
+        try {
+            CommandResult commandResult = parseAndExecute(commandText);
+            return new LineResult(lineNumber, commandText, commandResult.getFeedbackToUser(), true);
+        } catch (CommandException | ParseException e) {
+            return new LineResult(lineNumber, commandText, e.getMessage(), false);
+        }
+    }
+
+    @Override
+    public boolean applyExternalModuleListChanges(ModuleListDiff diff) {
+        requireNonNull(diff);
+
+        ReadOnlyApplication previousState = model.getApplicationSnapshot();
+        int appliedChangeCount = model.applyModuleListDiff(diff);
+        if (appliedChangeCount == 0) {
+            logger.info(() -> "External module list changes (" + diff + ") already applied");
+            return true;
+        }
+
+        List<String> violations = model.getInvariantChecker().verifyTouched();
+        if (!violations.isEmpty()) {
+            logger.warning("External module list changes (" + diff + ") rejected, data constraints violated: "
+                    + violations);
+            model.setApplication(previousState);
+            return false;
+        }
+
+        logger.info(() -> appliedChangeCount
+                + " external module list changes applied, saving to file in the background.");
+        model.commitApplication();
+        requestSave(CommandStatistics.EXTERNAL_CHANGES_COMMAND_WORD);
+        return true;
+    }
+
+    /**
+     * Requests a snapshot of the application to be saved in the background, recording the time taken to write it as
+     * the {@code SAVE} phase of {@code commandWord}.
+     */
+    private void requestSave(String commandWord) {
+        LongConsumer saveTimeRecorder = saveNanos -> commandStatistics.record(commandWord, Phase.SAVE, saveNanos);
+        applicationSaver.requestSave(model.getApplicationSnapshot(), saveTimeRecorder);
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return commandStatistics;
     }
 
     @Override
@@ -80,6 +261,21 @@ public class LogicManager implements Logic {
         return model.getApplication();
     }
 
+    @Override
+    public Module getModuleByCode(Code code) {
+        return model.getModuleByCode(code);
+    }
+
+    @Override
+    public CreditTotals getCreditTotals() {
+        return model.getCreditTotals();
+    }
+
+    @Override
+    public ReadOnlyProperty<IOException> saveFailureProperty() {
+        return applicationSaver.saveFailureProperty();
+    }
+
     @Override
     public ObservableList<Module> getFilteredModuleList() {
         return model.getFilteredModuleList();
@@ -1,6 +1,7 @@
 package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_COREQUISITE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
@@ -79,6 +80,10 @@ public class AddCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
+        if (model.isModuleListReadOnly()) {
+            throw new CommandException(MESSAGE_MODULE_LIST_READ_ONLY);
+        }
+
         if (model.hasModule(toAdd)) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_MODULE, toAdd.getCode()));
         }
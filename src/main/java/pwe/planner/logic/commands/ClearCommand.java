@@ -2,6 +2,7 @@ package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 import static pwe.planner.model.util.InitialDataUtil.getInitialApplication;
 
 import pwe.planner.logic.CommandHistory;
@@ -48,6 +49,9 @@ public class ClearCommand extends Command {
 
         // initialize with default constructor
         if (panelToClear.isEmpty()) {
+            if (model.isModuleListReadOnly()) {
+                throw new CommandException(MESSAGE_MODULE_LIST_READ_ONLY);
+            }
             model.setApplication(getInitialApplication());
         } else {
             if (panelToClear.equals(PLANNER)) {
@@ -2,6 +2,7 @@ package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 
 import java.util.List;
 
@@ -48,6 +49,10 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
+        if (model.isModuleListReadOnly()) {
+            throw new CommandException(MESSAGE_MODULE_LIST_READ_ONLY);
+        }
+
         List<Module> lastShownList = model.getFilteredModuleList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -2,6 +2,7 @@ package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 import static pwe.planner.commons.util.CollectionUtil.isAnyNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import static pwe.planner.commons.util.StringUtil.joinStreamAsString;
@@ -116,6 +117,10 @@ public class EditCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
+        if (model.isModuleListReadOnly()) {
+            throw new CommandException(MESSAGE_MODULE_LIST_READ_ONLY);
+        }
+
         List<Module> lastShownModuleList = model.getFilteredModuleList();
         ensureValidIndexInModuleList(lastShownModuleList);
 
@@ -205,8 +210,8 @@ public class EditCommand extends Command {
         assert moduleToEdit != null;
         assert editedModule != null;
 
-        Set<Code> nonExistentCorequisites = editedModule.getCorequisites().stream()
-                .filter(corequisite -> !model.hasModuleCode(corequisite)).collect(Collectors.toSet());
+        Set<Code> nonExistentCorequisites =
+                model.getInvariantChecker().getNonExistentCodes(editedModule.getCorequisites());
 
         if (!nonExistentCorequisites.isEmpty()) {
             String exceptionMessage = String.format(MESSAGE_NON_EXISTENT_COREQUISITE, moduleToEdit.getCode(),
@@ -0,0 +1,176 @@
+package pwe.planner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.model.Application;
+import pwe.planner.model.Model;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.storage.ModuleBatchFileReader;
+
+/**
+ * Adds all the {@link Module modules} in a CSV or JSON file to the {@link Application#modules module list} at once.
+ * <br><br>
+ * Every module of the file is validated before any is added, so that either all the modules are added, or none is.
+ * The modules may have each other as co-requisites, in addition to the modules in the module list.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+
+    // This is declared before MESSAGE_USAGE to prevent illegal forward reference
+    public static final String FORMAT_AND_EXAMPLES = "Format: " + COMMAND_WORD + " FILE_PATH\n"
+            + "The file must be a CSV file with the header " + ModuleBatchFileReader.CSV_HEADER
+            + ", or a JSON file in the format of the module list file.\n"
+            + "Example: " + COMMAND_WORD + " data/newModules.csv";
+
+    // General command help details
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all the modules in a file to the module list.\n"
+            + FORMAT_AND_EXAMPLES;
+
+    // Command success message
+    public static final String MESSAGE_SUCCESS = "Successfully imported %1$d new module(s) from %2$s";
+
+    // Command failure messages
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read the file %1$s: %2$s";
+
+    public static final String MESSAGE_INVALID_FILE =
+            "None of the modules were imported, as the file %1$s contains invalid module(s):\n%2$s";
+
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s does not contain any module to import!";
+
+    public static final String MESSAGE_INVALID_MODULES =
+            "None of the modules were imported, as some modules in the file %1$s cannot be added:\n%2$s";
+
+    public static final String MESSAGE_DUPLICATE_MODULE_IN_FILE =
+            "The module code %1$s appears more than once in the file!";
+
+    public static final String MESSAGE_NON_EXISTENT_COREQUISITE =
+            "The module (%1$s) has a co-requisite module (%2$s) which exists in neither the file nor the module list!";
+
+    public static final String MESSAGE_EXISTING_COREQUISITES_IN_DEGREE_PLAN =
+            "The module (%1$s) cannot have the co-requisite module (%2$s), as the module (%3$s) exists in the "
+            + "degree plan and would become a co-requisite of (%1$s)!";
+
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more";
+
+    /** The maximum number of errors shown when the modules cannot be imported. */
+    public static final int MAX_ERRORS_SHOWN = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the modules in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (model.isModuleListReadOnly()) {
+            throw new CommandException(MESSAGE_MODULE_LIST_READ_ONLY);
+        }
+
+        List<Module> modulesToImport;
+        try {
+            modulesToImport = ModuleBatchFileReader.read(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE_FILE, filePath, ioe.getMessage()), ioe);
+        } catch (IllegalValueException ive) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, ive.getMessage()), ive);
+        }
+
+        if (modulesToImport.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+        }
+
+        List<String> errors = getImportErrors(model, modulesToImport);
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_MODULES, filePath, joinErrors(errors)));
+        }
+
+        model.addModules(modulesToImport);
+        model.commitApplication();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, modulesToImport.size(), filePath));
+    }
+
+    /**
+     * Returns the reasons why {@code modulesToImport} cannot be added to the module list of {@code model}, which is
+     * empty if all of them can be added. The modules are checked against each other and the module list all in one
+     * pass, with a lookup by code for each module and co-requisite.
+     */
+    private static List<String> getImportErrors(Model model, List<Module> modulesToImport) {
+        List<String> errors = new ArrayList<>();
+
+        Set<Code> codesToImport = new HashSet<>();
+        for (Module module : modulesToImport) {
+            if (!codesToImport.add(module.getCode())) {
+                errors.add(String.format(MESSAGE_DUPLICATE_MODULE_IN_FILE, module.getCode()));
+            } else if (model.hasModuleCode(module.getCode())) {
+                errors.add(String.format(AddCommand.MESSAGE_DUPLICATE_MODULE, module.getCode()));
+            }
+        }
+
+        for (Module module : modulesToImport) {
+            for (Code corequisite : module.getCorequisites()) {
+                if (codesToImport.contains(corequisite)) {
+                    continue;
+                }
+
+                Module corequisiteModule = model.getModuleByCode(corequisite);
+                if (corequisiteModule == null) {
+                    errors.add(String.format(MESSAGE_NON_EXISTENT_COREQUISITE, module.getCode(), corequisite));
+                    continue;
+                }
+
+                // the co-requisites of every module in the group of the co-requisite change, so none of them may be
+                // in the degree plan
+                Optional<Code> plannedCode = Stream.concat(Stream.of(corequisite),
+                        corequisiteModule.getCorequisites().stream())
+                        .filter(code -> model.getDegreePlannerByCode(code) != null)
+                        .findFirst();
+                plannedCode.ifPresent(code -> errors.add(String.format(MESSAGE_EXISTING_COREQUISITES_IN_DEGREE_PLAN,
+                        module.getCode(), corequisite, code)));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the first {@link #MAX_ERRORS_SHOWN} of {@code errors}, one per line, followed by the number of errors
+     * not shown.
+     */
+    private static String joinErrors(List<String> errors) {
+        assert !errors.isEmpty();
+
+        List<String> errorsShown = new ArrayList<>(errors.subList(0, Math.min(errors.size(), MAX_ERRORS_SHOWN)));
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            errorsShown.add(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return String.join("\n", errorsShown);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
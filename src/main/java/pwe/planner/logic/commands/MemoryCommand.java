@@ -0,0 +1,38 @@
+package pwe.planner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.MemoryFootprint;
+import pwe.planner.model.Model;
+
+/**
+ * Shows an estimate of the memory retained by each part of the model, e.g. the module list and each undo state, and
+ * by the command history, followed by the heap used by the JVM.
+ */
+public class MemoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "memory";
+
+    public static final String MESSAGE_SUCCESS = "Estimated memory retained by the application data:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        requireNonNull(history);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, getMemoryFootprint(model, history).toTable()));
+    }
+
+    /**
+     * Returns the memory footprint of {@code model}, with {@code history} added last.
+     */
+    public static MemoryFootprint getMemoryFootprint(Model model, CommandHistory history) {
+        requireNonNull(model);
+        requireNonNull(history);
+
+        MemoryFootprint memoryFootprint = model.getMemoryFootprint();
+        memoryFootprint.addStringList(MemoryFootprint.STRUCTURE_COMMAND_HISTORY, history.getHistory());
+        return memoryFootprint;
+    }
+}
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.model.ApplicationInvariantChecker;
 import pwe.planner.model.Model;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
@@ -85,25 +86,21 @@ public class PlannerAddCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, yearToAddTo, semesterToAddTo));
         }
 
-        Set<Code> duplicatePlannerCodes = codesToAdd.stream().filter(codesToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codesToCheck)))
-                .collect(Collectors.toSet());
+        ApplicationInvariantChecker invariantChecker = model.getInvariantChecker();
+        Set<Code> duplicatePlannerCodes = invariantChecker.getCodesInDegreePlanners(codesToAdd);
         if (!duplicatePlannerCodes.isEmpty()) {
             // Converts a set to a string to remove the brackets of set.
             String duplicatePlannerCodeString = StringUtil.joinStreamAsString(duplicatePlannerCodes.stream().sorted());
             throw new CommandException(String.format(MESSAGE_DUPLICATE_CODE, duplicatePlannerCodeString));
         }
 
-        Set<Code> nonExistentModuleCodes = codesToAdd.stream()
-                .filter(codeToCheck -> !model.hasModuleCode(codeToCheck)).collect(Collectors.toSet());
+        Set<Code> nonExistentModuleCodes = invariantChecker.getNonExistentCodes(codesToAdd);
         if (!nonExistentModuleCodes.isEmpty()) {
             String nonExistentModuleString = StringUtil.joinStreamAsString(nonExistentModuleCodes.stream().sorted());
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_MODULES, nonExistentModuleString));
         }
 
-        Set<Code> invalidSemesterCodes = codesToAdd.stream().filter(codeToCheck -> !model.getModuleByCode(codeToCheck)
-                        .getSemesters().contains(semesterToAddTo)).collect(Collectors.toSet());
+        Set<Code> invalidSemesterCodes = invariantChecker.getCodesNotOfferedIn(codesToAdd, semesterToAddTo);
         if (!invalidSemesterCodes.isEmpty()) {
             String invalidSemCodesString = StringUtil.joinStreamAsString(invalidSemesterCodes.stream().sorted());
             throw new CommandException(String.format(MESSAGE_CODE_INVALID_SEMESTER, invalidSemCodesString,
@@ -111,13 +108,9 @@ public class PlannerAddCommand extends Command {
         }
 
         // Returns the co-requisite(s) of codes to add.
-        Set<Code> coreqsOfCodesToAdd = new HashSet<>();
-        codesToAdd.stream().map(model::getModuleByCode).map(Module::getCorequisites)
-                .forEach(coreqsOfCodesToAdd::addAll);
+        Set<Code> coreqsOfCodesToAdd = invariantChecker.getCorequisitesOf(codesToAdd);
         // Returns the invalid co-requisite(s) of codes to add.
-        Set<Code> invalidSemesterCoreqs = coreqsOfCodesToAdd.stream()
-                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).getSemesters().contains(semesterToAddTo))
-                    .collect(Collectors.toSet());
+        Set<Code> invalidSemesterCoreqs = invariantChecker.getCodesNotOfferedIn(coreqsOfCodesToAdd, semesterToAddTo);
         if (!invalidSemesterCoreqs.isEmpty()) {
             // Returns the codes to add that has invalid co-requisite(s).
             Set<Code> invalidCodesToAdd = codesToAdd.stream()
@@ -140,10 +133,7 @@ public class PlannerAddCommand extends Command {
             Module module = model.getModuleByCode(codeToAdd);
 
             // Returns the relevant duplicate co-requisite(s) of the code to add in the entire degree plan.
-            Set<Code> duplicateCoreqs = module.getCorequisites().stream().filter(coreqToCheck -> model.getApplication()
-                    .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                    .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(coreqToCheck)))
-                    .collect(Collectors.toSet());
+            Set<Code> duplicateCoreqs = invariantChecker.getCodesInDegreePlanners(module.getCorequisites());
             Set<Code> invalidCoreqs = new HashSet<>(duplicateCoreqs);
             // Returns the invalid duplicate co-requisite(s) that exists in a different section of the degree plan.
             invalidCoreqs.removeAll(selectedDegreePlanner.getCodes());
@@ -105,10 +105,8 @@ public class PlannerMoveCommand extends Command {
                     String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, destinationYear, destinationSemester));
         }
 
-        Set<Code> codesNotOffered = moduleToMove.getCorequisites().stream()
-                .filter(corequisite -> !model.getModuleByCode(corequisite).getSemesters()
-                        .contains(destinationPlanner.getSemester()))
-                .collect(Collectors.toSet());
+        Set<Code> codesNotOffered = model.getInvariantChecker()
+                .getCodesNotOfferedIn(moduleToMove.getCorequisites(), destinationPlanner.getSemester());
 
         if (!codesNotOffered.isEmpty()) {
             String codesNotOfferedContent =
@@ -29,9 +29,7 @@ public class RequirementListCommand extends Command {
         for (RequirementCategory requirementCategory : requirementCategories) {
             requirementListContent.append(requirementCategory.getName()).append(" ");
 
-            int currentCredits = requirementCategory.getCodeSet().stream()
-                    .map(code -> model.getModuleByCode(code).getCredits().toString())
-                    .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
+            int currentCredits = model.getCreditTotals().getRequirementCategoryCredits(requirementCategory);
 
             requirementListContent.append("(").append(currentCredits).append("/")
                     .append(requirementCategory.getCredits()).append(" Modular Credits Fulfilled) \n");
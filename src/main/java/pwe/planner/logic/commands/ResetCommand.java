@@ -1,8 +1,10 @@
 package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 
 import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
 import pwe.planner.model.util.SampleDataUtil;
 
@@ -15,9 +17,13 @@ public class ResetCommand extends Command {
             + "[Tip] If you unintentionally used this command, do use the undo command to revert back the changes!";
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) {
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
+        if (model.isModuleListReadOnly()) {
+            throw new CommandException(MESSAGE_MODULE_LIST_READ_ONLY);
+        }
+
         model.setApplication(SampleDataUtil.getSampleApplication());
         model.commitApplication();
         return new CommandResult(MESSAGE_SUCCESS);
@@ -0,0 +1,72 @@
+package pwe.planner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.CommandStatistics;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.model.Model;
+
+/**
+ * Shows the latencies of the commands executed since the application was launched, or exports them to the CSV file in
+ * the user prefs.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String EXPORT_KEYWORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the count, mean, median (p50), 99th percentile "
+            + "(p99) and maximum latency of each phase (parse, execute, commit and save) of the commands executed "
+            + "since the application was launched.\n"
+            + "With " + EXPORT_KEYWORD + ", the latencies are written to the command statistics CSV file instead.\n"
+            + "Format: " + COMMAND_WORD + " [" + EXPORT_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + " " + EXPORT_KEYWORD;
+
+    public static final String MESSAGE_SUCCESS = "Latencies of the commands executed:\n%1$s";
+    public static final String MESSAGE_EXPORT_SUCCESS = "Exported the latencies of the commands executed to %1$s";
+    public static final String MESSAGE_EXPORT_FAILURE =
+            "Could not export the latencies of the commands executed to %1$s: %2$s";
+
+    private final CommandStatistics commandStatistics;
+    private final boolean isExport;
+
+    /**
+     * Creates a StatsCommand to show the latencies in {@code commandStatistics}, or to export them if
+     * {@code isExport} is true.
+     */
+    public StatsCommand(CommandStatistics commandStatistics, boolean isExport) {
+        requireNonNull(commandStatistics);
+
+        this.commandStatistics = commandStatistics;
+        this.isExport = isExport;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!isExport) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandStatistics.toTable()));
+        }
+
+        Path filePath = model.getUserPrefs().getCommandStatisticsFilePath();
+        try {
+            commandStatistics.exportCsv(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandStatistics == ((StatsCommand) other).commandStatistics
+                && isExport == ((StatsCommand) other).isExport);
+    }
+}
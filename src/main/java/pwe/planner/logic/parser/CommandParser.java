@@ -7,6 +7,7 @@ import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import pwe.planner.logic.CommandStatistics;
 import pwe.planner.logic.commands.AddCommand;
 import pwe.planner.logic.commands.ClearCommand;
 import pwe.planner.logic.commands.Command;
@@ -16,7 +17,9 @@ import pwe.planner.logic.commands.ExitCommand;
 import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.commands.HelpCommand;
 import pwe.planner.logic.commands.HistoryCommand;
+import pwe.planner.logic.commands.ImportCommand;
 import pwe.planner.logic.commands.ListCommand;
+import pwe.planner.logic.commands.MemoryCommand;
 import pwe.planner.logic.commands.PlannerAddCommand;
 import pwe.planner.logic.commands.PlannerListCommand;
 import pwe.planner.logic.commands.PlannerMoveCommand;
@@ -30,6 +33,7 @@ import pwe.planner.logic.commands.RequirementMoveCommand;
 import pwe.planner.logic.commands.RequirementRemoveCommand;
 import pwe.planner.logic.commands.ResetCommand;
 import pwe.planner.logic.commands.SelectCommand;
+import pwe.planner.logic.commands.StatsCommand;
 import pwe.planner.logic.commands.UndoCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
 
@@ -43,6 +47,34 @@ public class CommandParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates a CommandParser whose {@code stats} commands show the latencies in a new {@code CommandStatistics}.
+     */
+    public CommandParser() {
+        this(new CommandStatistics());
+    }
+
+    /**
+     * Creates a CommandParser whose {@code stats} commands show the latencies in {@code commandStatistics}.
+     */
+    public CommandParser(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+
+        this.commandStatistics = commandStatistics;
+    }
+
+    /**
+     * Returns the command word of {@code userInput}, i.e. its first word, or an empty string if it is blank.
+     */
+    public static String getCommandWord(String userInput) {
+        requireNonNull(userInput);
+
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        return matcher.matches() ? matcher.group("commandWord") : "";
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -65,6 +97,9 @@ public class CommandParser {
         case AddCommand.COMMAND_WORD:
             return new AddCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         case EditCommand.COMMAND_WORD:
             return new EditCommandParser().parse(arguments);
 
@@ -98,9 +133,15 @@ public class CommandParser {
         case RequirementRemoveCommand.COMMAND_WORD:
             return new RequirementRemoveCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser(commandStatistics).parse(arguments);
+
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case MemoryCommand.COMMAND_WORD:
+            return new MemoryCommand();
+
         case PlannerListCommand.COMMAND_WORD:
             return new PlannerListCommand();
 
@@ -0,0 +1,41 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.logic.commands.ImportCommand;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.storage.ModuleBatchFileReader;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE =
+            "Only CSV (.csv) and JSON (.json) files can be imported!\n%1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = Paths.get(trimmedArgs);
+        if (!ModuleBatchFileReader.isSupportedFile(filePath)) {
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_FILE, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(filePath);
+    }
+}
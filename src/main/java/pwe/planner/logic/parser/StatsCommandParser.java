@@ -0,0 +1,42 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import pwe.planner.logic.CommandStatistics;
+import pwe.planner.logic.commands.StatsCommand;
+import pwe.planner.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates a StatsCommandParser of commands which show the latencies in {@code commandStatistics}.
+     */
+    public StatsCommandParser(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+
+        this.commandStatistics = commandStatistics;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand(commandStatistics, false);
+        } else if (trimmedArgs.equals(StatsCommand.EXPORT_KEYWORD)) {
+            return new StatsCommand(commandStatistics, true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -6,14 +6,20 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.jfr.CascadeEvent;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
 import pwe.planner.commons.util.InvalidationListenerManager;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.UniqueModuleList;
 import pwe.planner.model.planner.DegreePlanner;
@@ -27,10 +33,24 @@ import pwe.planner.model.requirement.UniqueRequirementCategoryList;
  */
 public class Application implements ReadOnlyApplication {
 
+    private static final String CASCADE_EDIT_CODE_TO_DEGREE_PLANNERS = "edit code in degree planners";
+    private static final String CASCADE_EDIT_CODE_TO_REQUIREMENT_CATEGORIES = "edit code in requirement categories";
+    private static final String CASCADE_DELETE_CODE_TO_DEGREE_PLANNERS = "delete code from degree planners";
+    private static final String CASCADE_DELETE_CODE_TO_REQUIREMENT_CATEGORIES =
+            "delete code from requirement categories";
+
+    // Shared by all applications, so that list versions are unique across applications.
+    private static final AtomicLong versionCounter = new AtomicLong();
+
     private final UniqueModuleList modules;
     private final UniqueDegreePlannerList degreePlanners;
     private final UniqueRequirementCategoryList requirementCategories;
+    private final ApplicationInvariantChecker invariantChecker;
+    private final CreditTotals creditTotals;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private long moduleListVersion;
+    private long degreePlannerListVersion;
+    private long requirementCategoryListVersion;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -43,6 +63,19 @@ public class Application implements ReadOnlyApplication {
         modules = new UniqueModuleList();
         degreePlanners = new UniqueDegreePlannerList();
         requirementCategories = new UniqueRequirementCategoryList();
+        invariantChecker = new ApplicationInvariantChecker(modules, degreePlanners, requirementCategories);
+        creditTotals = new CreditTotals(modules, degreePlanners, requirementCategories);
+
+        moduleListVersion = versionCounter.incrementAndGet();
+        degreePlannerListVersion = versionCounter.incrementAndGet();
+        requirementCategoryListVersion = versionCounter.incrementAndGet();
+        modules.asUnmodifiableObservableList().addListener((ListChangeListener<Module>) change ->
+                moduleListVersion = versionCounter.incrementAndGet());
+        degreePlanners.asUnmodifiableObservableList().addListener((ListChangeListener<DegreePlanner>) change ->
+                degreePlannerListVersion = versionCounter.incrementAndGet());
+        requirementCategories.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<RequirementCategory>) change ->
+                        requirementCategoryListVersion = versionCounter.incrementAndGet());
     }
 
     public Application() {}
@@ -59,6 +92,7 @@ public class Application implements ReadOnlyApplication {
 
     /**
      * Resets the existing data of this {@code Application} with {@code newData}.
+     * The lists take on the versions of those of {@code newData}, as they have the same contents.
      */
     public void resetData(ReadOnlyApplication newData) {
         requireNonNull(newData);
@@ -66,6 +100,11 @@ public class Application implements ReadOnlyApplication {
         setModules(newData.getModuleList());
         setDegreePlanners(newData.getDegreePlannerList());
         setRequirementCategories(newData.getRequirementCategoryList());
+        invariantChecker.clearTouched();
+
+        moduleListVersion = newData.getModuleListVersion();
+        degreePlannerListVersion = newData.getDegreePlannerListVersion();
+        requirementCategoryListVersion = newData.getRequirementCategoryListVersion();
     }
 
     /**
@@ -96,33 +135,48 @@ public class Application implements ReadOnlyApplication {
     /**
      * Replaces the contents of the module list with {@code modules}.
      * {@code modules} must not contain duplicate modules.
+     * The module list is left untouched if it already equals {@code modules}, hence its version is unchanged.
      */
     public void setModules(List<Module> modules) {
         requireNonNull(modules);
 
-        this.modules.setModules(modules);
+        if (!getModuleList().equals(modules)) {
+            this.modules.setModules(modules);
+            creditTotals.refreshAllDegreePlanners();
+            creditTotals.refreshAllRequirementCategories();
+        }
         indicateModified();
     }
 
     /**
      * Replaces the contents of the degree planner list with {@code degreePlanners}.
      * {@code degreePlanners} must not contain duplicate degree planner.
+     * The degree planner list is left untouched if it already equals {@code degreePlanners}, hence its version is
+     * unchanged.
      */
     public void setDegreePlanners(List<DegreePlanner> degreePlanners) {
         requireNonNull(degreePlanners);
 
-        this.degreePlanners.setDegreePlanners(degreePlanners);
+        if (!getDegreePlannerList().equals(degreePlanners)) {
+            this.degreePlanners.setDegreePlanners(degreePlanners);
+            creditTotals.refreshAllDegreePlanners();
+        }
         indicateModified();
     }
 
     /**
      * Replaces the contents of the requirement list with {@code requirement}.
      * {@code requirement} must not contain duplicate requirement.
+     * The requirement list is left untouched if it already equals {@code requirement}, hence its version is
+     * unchanged.
      */
     public void setRequirementCategories(List<RequirementCategory> requirementCategories) {
         requireNonNull(requirementCategories);
 
-        this.requirementCategories.setRequirementCategories(requirementCategories);
+        if (!getRequirementCategoryList().equals(requirementCategories)) {
+            this.requirementCategories.setRequirementCategories(requirementCategories);
+            creditTotals.refreshAllRequirementCategories();
+        }
         indicateModified();
     }
 
@@ -152,7 +206,7 @@ public class Application implements ReadOnlyApplication {
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
 
-        return modules.asUnmodifiableObservableList().stream().anyMatch((module) -> module.getCode().equals(code));
+        return modules.containsCode(code);
     }
 
     /**
@@ -163,6 +217,25 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(moduleToAdd);
 
         modules.add(moduleToAdd);
+        invariantChecker.markTouched(moduleToAdd);
+        indicateModified();
+    }
+
+    /**
+     * Adds all of {@code modulesToAdd} to the application at once, with their co-requisites resolved as by
+     * {@link UniqueModuleList#addAll(List)}. Listeners are notified once all the modules are added.
+     * None of the modules may already exist in the application, or be added twice.
+     */
+    public void addModules(List<Module> modulesToAdd) {
+        requireNonNull(modulesToAdd);
+
+        Map<Module, Module> replacedModules = modules.addAll(modulesToAdd);
+        modulesToAdd.forEach(invariantChecker::markTouched);
+        replacedModules.forEach((target, editedModule) -> {
+            invariantChecker.markTouched(target);
+            invariantChecker.markTouched(editedModule);
+            creditTotals.refreshCode(editedModule.getCode());
+        });
         indicateModified();
     }
 
@@ -175,6 +248,9 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedModule);
 
         modules.setModule(target, editedModule);
+        invariantChecker.markTouched(target);
+        invariantChecker.markTouched(editedModule);
+        creditTotals.refreshCode(editedModule.getCode());
     }
 
     /**
@@ -190,6 +266,9 @@ public class Application implements ReadOnlyApplication {
             cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
             cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
         }
+        invariantChecker.markTouched(target);
+        invariantChecker.markTouched(editedModule);
+        creditTotals.refreshCode(editedModule.getCode());
 
         indicateModified();
     }
@@ -201,11 +280,15 @@ public class Application implements ReadOnlyApplication {
      */
     private void cascadeEditedCodeInDegreePlanners(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
+        CascadeEvent cascadeEvent = FlightRecorderEvents.newCascadeEvent();
+        cascadeEvent.begin();
+        int updatedCount = 0;
 
         ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
 
         for (DegreePlanner degreePlanner : degreePlanners) {
             if (degreePlanner.getCodes().contains(codeToEdit)) {
+                updatedCount++;
                 Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
                 editedDegreePlannerCodes.remove(codeToEdit);
                 editedDegreePlannerCodes.add(editedCode);
@@ -219,6 +302,8 @@ public class Application implements ReadOnlyApplication {
                 setDegreePlanner(degreePlanner, editedDegreePlanner);
             }
         }
+        cascadeEvent.record(CASCADE_EDIT_CODE_TO_DEGREE_PLANNERS, codeToEdit.value, degreePlanners.size(),
+                updatedCount);
     }
 
     /**
@@ -228,11 +313,15 @@ public class Application implements ReadOnlyApplication {
      */
     private void cascadeEditedCodeInRequirementCategories(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
+        CascadeEvent cascadeEvent = FlightRecorderEvents.newCascadeEvent();
+        cascadeEvent.begin();
+        int updatedCount = 0;
 
         ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
 
         for (RequirementCategory requirementCategory : requirementCategories) {
             if (requirementCategory.getCodeSet().contains(codeToEdit)) {
+                updatedCount++;
                 Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
                 editedCodes.remove(codeToEdit);
                 editedCodes.add(editedCode);
@@ -246,6 +335,8 @@ public class Application implements ReadOnlyApplication {
                 setRequirementCategory(requirementCategory, editedRequirementCategory);
             }
         }
+        cascadeEvent.record(CASCADE_EDIT_CODE_TO_REQUIREMENT_CATEGORIES, codeToEdit.value,
+                requirementCategories.size(), updatedCount);
     }
 
     /**
@@ -258,6 +349,7 @@ public class Application implements ReadOnlyApplication {
         modules.remove(moduleToDelete);
         cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
         cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
+        invariantChecker.markTouched(moduleToDelete);
         indicateModified();
     }
 
@@ -267,10 +359,14 @@ public class Application implements ReadOnlyApplication {
      */
     private void cascadeDeleteCodeToDegreePlanners(Code codeToDelete) {
         assert codeToDelete != null;
+        CascadeEvent cascadeEvent = FlightRecorderEvents.newCascadeEvent();
+        cascadeEvent.begin();
+        int updatedCount = 0;
 
         ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
         for (DegreePlanner degreePlanner : degreePlanners) {
             if (degreePlanner.getCodes().contains(codeToDelete)) {
+                updatedCount++;
                 Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
                 editedCodes.remove(codeToDelete);
 
@@ -283,6 +379,8 @@ public class Application implements ReadOnlyApplication {
                 setDegreePlanner(degreePlanner, editedDegreePlanner);
             }
         }
+        cascadeEvent.record(CASCADE_DELETE_CODE_TO_DEGREE_PLANNERS, codeToDelete.value, degreePlanners.size(),
+                updatedCount);
     }
 
     /**
@@ -291,10 +389,14 @@ public class Application implements ReadOnlyApplication {
      */
     private void cascadeDeleteCodeToRequirementCategories(Code codeToDelete) {
         assert codeToDelete != null;
+        CascadeEvent cascadeEvent = FlightRecorderEvents.newCascadeEvent();
+        cascadeEvent.begin();
+        int updatedCount = 0;
 
         ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
         for (RequirementCategory requirementCategory : requirementCategories) {
             if (requirementCategory.getCodeSet().contains(codeToDelete)) {
+                updatedCount++;
                 Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
                 editedCodes.remove(codeToDelete);
 
@@ -307,6 +409,56 @@ public class Application implements ReadOnlyApplication {
                 setRequirementCategory(requirementCategory, editedRequirementCategory);
             }
         }
+        cascadeEvent.record(CASCADE_DELETE_CODE_TO_REQUIREMENT_CATEGORIES, codeToDelete.value,
+                requirementCategories.size(), updatedCount);
+    }
+
+    /**
+     * Applies the changes in {@code diff} to the module list, with removed modules cascaded as by
+     * {@link #removeModule(Module)}. Listeners are notified once all the changes are applied.
+     * <br><br>
+     * A removed or changed module is only applied if the module list still has the original module, and an added
+     * module is only applied if the module list has no module with its code, hence the modules modified in this
+     * application since {@code diff} was made are kept as they are.
+     *
+     * @return the number of changes applied.
+     */
+    public int applyModuleListDiff(ModuleListDiff diff) {
+        requireNonNull(diff);
+
+        int appliedChangeCount = 0;
+        for (Module removedModule : diff.getRemovedModules()) {
+            if (removedModule.equals(modules.getModuleByCode(removedModule.getCode()))) {
+                modules.remove(removedModule);
+                cascadeDeleteCodeToDegreePlanners(removedModule.getCode());
+                cascadeDeleteCodeToRequirementCategories(removedModule.getCode());
+                invariantChecker.markTouched(removedModule);
+                appliedChangeCount++;
+            }
+        }
+        for (Map.Entry<Module, Module> changedModule : diff.getChangedModules().entrySet()) {
+            Module originalModule = changedModule.getKey();
+            Module updatedModule = changedModule.getValue();
+            if (originalModule.equals(modules.getModuleByCode(originalModule.getCode()))) {
+                modules.setModule(originalModule, updatedModule);
+                invariantChecker.markTouched(originalModule);
+                invariantChecker.markTouched(updatedModule);
+                creditTotals.refreshCode(updatedModule.getCode());
+                appliedChangeCount++;
+            }
+        }
+        for (Module addedModule : diff.getAddedModules()) {
+            if (!modules.containsCode(addedModule.getCode())) {
+                modules.add(addedModule);
+                invariantChecker.markTouched(addedModule);
+                appliedChangeCount++;
+            }
+        }
+
+        if (appliedChangeCount > 0) {
+            indicateModified();
+        }
+        return appliedChangeCount;
     }
 
     //// planner-level operations
@@ -338,6 +490,8 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(degreePlanner);
 
         degreePlanners.add(degreePlanner);
+        invariantChecker.markTouched(degreePlanner.getCodes());
+        creditTotals.refreshDegreePlanner(degreePlanner);
     }
 
     /**
@@ -350,6 +504,9 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedDegreePlanner);
 
         degreePlanners.setDegreePlanner(target, editedDegreePlanner);
+        invariantChecker.markTouched(target.getCodes());
+        invariantChecker.markTouched(editedDegreePlanner.getCodes());
+        creditTotals.replaceDegreePlanner(target, editedDegreePlanner);
     }
 
     /**
@@ -395,6 +552,8 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         degreePlanners.remove(key);
+        invariantChecker.markTouched(key.getCodes());
+        creditTotals.removeDegreePlanner(key);
     }
 
     //// requirement-level operations
@@ -437,6 +596,8 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(requirementCategory);
 
         requirementCategories.add(requirementCategory);
+        invariantChecker.markTouched(requirementCategory.getCodeSet());
+        creditTotals.refreshRequirementCategory(requirementCategory);
     }
 
     /**
@@ -450,6 +611,9 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedRequirementCategory);
 
         requirementCategories.setRequirementCategory(target, editedRequirementCategory);
+        invariantChecker.markTouched(target.getCodeSet());
+        invariantChecker.markTouched(editedRequirementCategory.getCodeSet());
+        creditTotals.replaceRequirementCategory(target, editedRequirementCategory);
     }
 
     /**
@@ -460,6 +624,27 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         requirementCategories.remove(key);
+        invariantChecker.markTouched(key.getCodeSet());
+        creditTotals.removeRequirementCategory(key);
+    }
+
+    //// invariant methods
+
+    /**
+     * Returns the {@code ApplicationInvariantChecker} which validates the data constraints of this application.
+     */
+    public ApplicationInvariantChecker getInvariantChecker() {
+        return invariantChecker;
+    }
+
+    //// credit methods
+
+    /**
+     * Returns the {@code CreditTotals} which maintains the total credits of each degree planner and requirement
+     * category of this application.
+     */
+    public CreditTotals getCreditTotals() {
+        return creditTotals;
     }
 
     //// listener methods
@@ -509,6 +694,21 @@ public class Application implements ReadOnlyApplication {
         return requirementCategories.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModuleListVersion() {
+        return moduleListVersion;
+    }
+
+    @Override
+    public long getDegreePlannerListVersion() {
+        return degreePlannerListVersion;
+    }
+
+    @Override
+    public long getRequirementCategoryListVersion() {
+        return requirementCategoryListVersion;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
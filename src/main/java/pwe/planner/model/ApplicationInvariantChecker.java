@@ -0,0 +1,288 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+
+/**
+ * Checks the data constraints spanning the module list, the degree planner list and the requirement category list
+ * of an {@link Application}.
+ * <br><br>
+ * Data constraints:<br>
+ * 1. All codes in requirement categories must exist in module list.<br>
+ * 2. All codes in degree planners must exist in module list.<br>
+ * 3. All modules in degree planners must be taken only in semesters the module is offered in.<br>
+ * 4. All modules in degree planners must have all their co-requisites in the same semester.<br>
+ * <br>
+ * The {@code Application} marks the codes touched by each of its mutations, and {@link #verifyTouched()} re-checks
+ * the constraints of those codes only. All look-ups are done through the code indexes of the underlying lists,
+ * hence the cost of a check is proportional to the number of codes checked rather than the size of the application.
+ */
+public class ApplicationInvariantChecker {
+    public static final String MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE =
+            "The module code (%1$s) in requirement category (%2$s) does not exists in the module list!";
+    public static final String MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE =
+            "The module code (%1$s) in degree planner (Year %2$s Semester %3$s) does not exists in the module list!";
+    public static final String MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER =
+            "The module code (%1$s) is added to Year %2$s Semester %3$s of the degree plan, but the module is offered "
+            + "only in Semesters %4$s!\n";
+    public static final String MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS =
+            "The module code (%1$s) is added to Year %2$s Semester %3$s of the degree plan, but the module is "
+            + "not offered in any semesters!";
+    public static final String MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER =
+            "The module codes (%1$s) and (%2$s) are co-requisites, but (%2$s) is not added to the degree plan!";
+    public static final String MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER =
+            "The module codes (%1$s) and (%2$s) are co-requisites, but are not added to the same year/semester in the "
+            + "degree plan!\n"
+            + "Module code %1$s is in Year %3$s Semester %4$s, and module code (%2$s) is in Year %5$s Semester %6$s.";
+
+    private final UniqueModuleList modules;
+    private final UniqueDegreePlannerList degreePlanners;
+    private final UniqueRequirementCategoryList requirementCategories;
+    private final Set<Code> touchedCodes = new HashSet<>();
+
+    ApplicationInvariantChecker(UniqueModuleList modules, UniqueDegreePlannerList degreePlanners,
+            UniqueRequirementCategoryList requirementCategories) {
+        requireAllNonNull(modules, degreePlanners, requirementCategories);
+
+        this.modules = modules;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    //// indexed validation queries
+
+    /**
+     * Returns the codes in {@code codes} which do not exist in the module list.
+     */
+    public Set<Code> getNonExistentCodes(Collection<Code> codes) {
+        requireNonNull(codes);
+
+        return codes.stream().filter(code -> !modules.containsCode(code)).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the codes in {@code codes} which are not offered in {@code semester}.
+     * Codes which do not exist in the module list are considered to be not offered in any semester.
+     */
+    public Set<Code> getCodesNotOfferedIn(Collection<Code> codes, Semester semester) {
+        requireAllNonNull(codes, semester);
+
+        return codes.stream().filter(code -> {
+            Module module = modules.getModuleByCode(code);
+            return module == null || !module.getSemesters().contains(semester);
+        }).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the codes in {@code codes} which are already added to the degree plan.
+     */
+    public Set<Code> getCodesInDegreePlanners(Collection<Code> codes) {
+        requireNonNull(codes);
+
+        return codes.stream().filter(code -> degreePlanners.getDegreePlannerByCode(code) != null)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the union of the co-requisites of the modules with the codes in {@code codes}.
+     * Codes which do not exist in the module list are ignored.
+     */
+    public Set<Code> getCorequisitesOf(Collection<Code> codes) {
+        requireNonNull(codes);
+
+        Set<Code> corequisites = new HashSet<>();
+        for (Code code : codes) {
+            Module module = modules.getModuleByCode(code);
+            if (module != null) {
+                corequisites.addAll(module.getCorequisites());
+            }
+        }
+        return corequisites;
+    }
+
+    //// incremental checking
+
+    /**
+     * Marks {@code code}, along with the current co-requisites of its module, as touched by a mutation, to be
+     * re-checked by {@link #verifyTouched()}.
+     */
+    void markTouched(Code code) {
+        requireNonNull(code);
+
+        touchedCodes.add(code);
+        Module module = modules.getModuleByCode(code);
+        if (module != null) {
+            touchedCodes.addAll(module.getCorequisites());
+        }
+    }
+
+    /**
+     * Marks each code in {@code codes} as touched by a mutation.
+     *
+     * @see #markTouched(Code)
+     */
+    void markTouched(Collection<Code> codes) {
+        requireNonNull(codes);
+
+        codes.forEach(this::markTouched);
+    }
+
+    /**
+     * Marks the code of {@code module}, along with both its co-requisites in {@code module} and its current
+     * co-requisites in the module list, as touched by a mutation.
+     * {@code module} may be a module which has since been edited or removed from the module list.
+     */
+    void markTouched(Module module) {
+        requireNonNull(module);
+
+        touchedCodes.addAll(module.getCorequisites());
+        markTouched(module.getCode());
+    }
+
+    /**
+     * Discards all codes marked as touched.
+     * Used when the data is replaced in bulk by data which has already been validated as a whole.
+     */
+    void clearTouched() {
+        touchedCodes.clear();
+    }
+
+    /**
+     * Re-checks the data constraints of the codes touched since the last verification, then clears them.
+     *
+     * @return the messages describing the data constraints violated, or an empty list if there are none.
+     */
+    public List<String> verifyTouched() {
+        List<String> violations = verify(touchedCodes);
+        touchedCodes.clear();
+        return violations;
+    }
+
+    /**
+     * Checks the data constraints of every code in the application.
+     *
+     * @return the messages describing the data constraints violated, or an empty list if there are none.
+     */
+    public List<String> verifyAll() {
+        List<String> violations = new ArrayList<>();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            for (Code code : requirementCategory.getCodeSet()) {
+                violations.addAll(verifyRequirementCategoryCode(code));
+            }
+        }
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            for (Code code : degreePlanner.getCodes()) {
+                // the degree planner is passed on, as the index only has the first degree planner of a code
+                violations.addAll(verifyDegreePlannerCode(code, degreePlanner));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Checks the data constraints of each code in {@code codes}.
+     */
+    private List<String> verify(Collection<Code> codes) {
+        assert codes != null;
+
+        List<String> violations = new ArrayList<>();
+        for (Code code : codes) {
+            violations.addAll(verifyRequirementCategoryCode(code));
+            violations.addAll(verifyDegreePlannerCode(code));
+        }
+        return violations;
+    }
+
+    /**
+     * Checks the data constraints involving {@code code}, if it is in a requirement category.
+     */
+    private List<String> verifyRequirementCategoryCode(Code code) {
+        assert code != null;
+
+        List<String> violations = new ArrayList<>();
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(code);
+
+        // 1. Ensure that the code, if it is in a requirement category, exists in module list
+        if (requirementCategory != null && !modules.containsCode(code)) {
+            violations.add(String.format(MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE, code,
+                    requirementCategory.getName()));
+        }
+
+        return violations;
+    }
+
+    /**
+     * Checks the data constraints involving {@code code}, if it is in a degree planner.
+     */
+    private List<String> verifyDegreePlannerCode(Code code) {
+        assert code != null;
+
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(code);
+        if (degreePlanner == null) {
+            return new ArrayList<>();
+        }
+        return verifyDegreePlannerCode(code, degreePlanner);
+    }
+
+    /**
+     * Checks the data constraints involving {@code code} in {@code degreePlanner}.
+     */
+    private List<String> verifyDegreePlannerCode(Code code, DegreePlanner degreePlanner) {
+        assert code != null;
+        assert degreePlanner != null;
+
+        List<String> violations = new ArrayList<>();
+
+        // 2. Ensure that the code, if it is in a degree planner, exists in module list
+        Module module = modules.getModuleByCode(code);
+        if (module == null) {
+            violations.add(String.format(MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE, code, degreePlanner.getYear(),
+                    degreePlanner.getSemester()));
+            return violations;
+        }
+
+        // 3. Ensure that the module is taken only in semesters the module is offered in
+        Set<Semester> semesters = module.getSemesters();
+        if (!semesters.contains(degreePlanner.getSemester())) {
+            if (semesters.isEmpty()) {
+                violations.add(String.format(MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS, code,
+                        degreePlanner.getYear(), degreePlanner.getSemester()));
+            } else {
+                String semestersOfferingModule = StringUtil.joinStreamAsString(semesters.stream().sorted());
+                violations.add(String.format(MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER, code,
+                        degreePlanner.getYear(), degreePlanner.getSemester(), semestersOfferingModule));
+            }
+        }
+
+        // 4. Ensure that the module has all its co-requisites in the same semester
+        for (Code corequisite : module.getCorequisites()) {
+            DegreePlanner corequisiteDegreePlanner = degreePlanners.getDegreePlannerByCode(corequisite);
+            if (corequisiteDegreePlanner == null) {
+                violations.add(String.format(MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER, code, corequisite));
+            } else if (!degreePlanner.isSameDegreePlanner(corequisiteDegreePlanner)) {
+                violations.add(String.format(MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER, code, corequisite,
+                        degreePlanner.getYear(), degreePlanner.getSemester(), corequisiteDegreePlanner.getYear(),
+                        corequisiteDegreePlanner.getSemester()));
+            }
+        }
+
+        return violations;
+    }
+}
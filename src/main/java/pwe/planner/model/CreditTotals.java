@@ -0,0 +1,239 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.module.UniqueModuleList;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+
+/**
+ * Maintains the total credits of the modules in each degree planner and in each requirement category of an
+ * {@link Application}, exposed as observable properties.
+ * <br><br>
+ * The {@code Application} refreshes the totals affected by each of its mutations, hence reading a total does not
+ * require resolving the codes of a degree planner or requirement category to their modules.
+ * The property of a degree planner or requirement category is kept for as long as a degree planner or requirement
+ * category with the same identity exists in the application.
+ */
+public class CreditTotals {
+
+    private final UniqueModuleList modules;
+    private final UniqueDegreePlannerList degreePlanners;
+    private final UniqueRequirementCategoryList requirementCategories;
+
+    /*
+     * Degree planners are keyed by a degree planner with the same year and semester but no codes, so that the key
+     * is unaffected by changes to the codes of the degree planner.
+     */
+    private final Map<DegreePlanner, ReadOnlyIntegerWrapper> degreePlannerCredits = new HashMap<>();
+    private final Map<Name, ReadOnlyIntegerWrapper> requirementCategoryCredits = new HashMap<>();
+
+    CreditTotals(UniqueModuleList modules, UniqueDegreePlannerList degreePlanners,
+            UniqueRequirementCategoryList requirementCategories) {
+        requireAllNonNull(modules, degreePlanners, requirementCategories);
+
+        this.modules = modules;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    /**
+     * Returns the total credits of the modules in the degree planner with the same identity as
+     * {@code degreePlanner} as an observable property, or a property with value 0 if there is no such degree planner.
+     */
+    public ReadOnlyIntegerProperty degreePlannerCreditsProperty(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        ReadOnlyIntegerWrapper credits = degreePlannerCredits.get(toKey(degreePlanner));
+        return credits == null ? new ReadOnlyIntegerWrapper().getReadOnlyProperty() : credits.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the total credits of the modules in the requirement category with the same identity as
+     * {@code requirementCategory} as an observable property, or a property with value 0 if there is no such
+     * requirement category.
+     */
+    public ReadOnlyIntegerProperty requirementCategoryCreditsProperty(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        ReadOnlyIntegerWrapper credits = requirementCategoryCredits.get(requirementCategory.getName());
+        return credits == null ? new ReadOnlyIntegerWrapper().getReadOnlyProperty() : credits.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the total credits of the modules in the degree planner with the same identity as
+     * {@code degreePlanner}.
+     */
+    public int getDegreePlannerCredits(DegreePlanner degreePlanner) {
+        return degreePlannerCreditsProperty(degreePlanner).get();
+    }
+
+    /**
+     * Returns the total credits of the modules in the requirement category with the same identity as
+     * {@code requirementCategory}.
+     */
+    public int getRequirementCategoryCredits(RequirementCategory requirementCategory) {
+        return requirementCategoryCreditsProperty(requirementCategory).get();
+    }
+
+    //// refresh operations
+
+    /**
+     * Refreshes the totals of the degree planner and the requirement category containing {@code code}.
+     * Used when the credits of the module with the {@code code} have changed.
+     */
+    void refreshCode(Code code) {
+        requireNonNull(code);
+
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(code);
+        if (degreePlanner != null) {
+            refreshDegreePlanner(degreePlanner);
+        }
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(code);
+        if (requirementCategory != null) {
+            refreshRequirementCategory(requirementCategory);
+        }
+    }
+
+    /**
+     * Refreshes the total of {@code degreePlanner}, which must have just been added to or edited in the degree
+     * planner list.
+     */
+    void refreshDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        degreePlannerCredits.computeIfAbsent(toKey(degreePlanner), key -> new ReadOnlyIntegerWrapper())
+                .set(sumCredits(degreePlanner.getCodes()));
+    }
+
+    /**
+     * Refreshes the total of {@code editedDegreePlanner}, which must have just replaced {@code target} in the degree
+     * planner list. The property of {@code target} is kept if both have the same identity.
+     */
+    void replaceDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
+        requireAllNonNull(target, editedDegreePlanner);
+
+        if (!target.isSameDegreePlanner(editedDegreePlanner)) {
+            removeDegreePlanner(target);
+        }
+        refreshDegreePlanner(editedDegreePlanner);
+    }
+
+    /**
+     * Discards the total of {@code degreePlanner}, which must have just been removed from the degree planner list.
+     */
+    void removeDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        ReadOnlyIntegerWrapper credits = degreePlannerCredits.remove(toKey(degreePlanner));
+        if (credits != null) {
+            credits.set(0);
+        }
+    }
+
+    /**
+     * Refreshes the total of {@code requirementCategory}, which must have just been added to or edited in the
+     * requirement category list.
+     */
+    void refreshRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        requirementCategoryCredits.computeIfAbsent(requirementCategory.getName(), key -> new ReadOnlyIntegerWrapper())
+                .set(sumCredits(requirementCategory.getCodeSet()));
+    }
+
+    /**
+     * Refreshes the total of {@code editedRequirementCategory}, which must have just replaced {@code target} in the
+     * requirement category list. The property of {@code target} is kept if both have the same identity.
+     */
+    void replaceRequirementCategory(RequirementCategory target, RequirementCategory editedRequirementCategory) {
+        requireAllNonNull(target, editedRequirementCategory);
+
+        if (!target.isSameRequirementCategory(editedRequirementCategory)) {
+            removeRequirementCategory(target);
+        }
+        refreshRequirementCategory(editedRequirementCategory);
+    }
+
+    /**
+     * Discards the total of {@code requirementCategory}, which must have just been removed from the requirement
+     * category list.
+     */
+    void removeRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        ReadOnlyIntegerWrapper credits = requirementCategoryCredits.remove(requirementCategory.getName());
+        if (credits != null) {
+            credits.set(0);
+        }
+    }
+
+    /**
+     * Recomputes the totals of every degree planner in the degree planner list, discarding the totals of degree
+     * planners which no longer exist.
+     */
+    void refreshAllDegreePlanners() {
+        Map<DegreePlanner, ReadOnlyIntegerWrapper> previousCredits = new HashMap<>(degreePlannerCredits);
+        degreePlannerCredits.clear();
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            DegreePlanner key = toKey(degreePlanner);
+            ReadOnlyIntegerWrapper credits = previousCredits.remove(key);
+            degreePlannerCredits.put(key, credits == null ? new ReadOnlyIntegerWrapper() : credits);
+            refreshDegreePlanner(degreePlanner);
+        }
+        previousCredits.values().forEach(credits -> credits.set(0));
+    }
+
+    /**
+     * Recomputes the totals of every requirement category in the requirement category list, discarding the totals
+     * of requirement categories which no longer exist.
+     */
+    void refreshAllRequirementCategories() {
+        Map<Name, ReadOnlyIntegerWrapper> previousCredits = new HashMap<>(requirementCategoryCredits);
+        requirementCategoryCredits.clear();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            ReadOnlyIntegerWrapper credits = previousCredits.remove(requirementCategory.getName());
+            requirementCategoryCredits.put(requirementCategory.getName(),
+                    credits == null ? new ReadOnlyIntegerWrapper() : credits);
+            refreshRequirementCategory(requirementCategory);
+        }
+        previousCredits.values().forEach(credits -> credits.set(0));
+    }
+
+    /**
+     * Returns the total credits of the modules with the codes in {@code codes}.
+     * Codes which do not exist in the module list are not counted.
+     */
+    private int sumCredits(Collection<Code> codes) {
+        assert codes != null;
+
+        int totalCredits = 0;
+        for (Code code : codes) {
+            Module module = modules.getModuleByCode(code);
+            if (module != null) {
+                totalCredits += Integer.parseInt(module.getCredits().value);
+            }
+        }
+        return totalCredits;
+    }
+
+    /**
+     * Returns the key of the degree planner with the same identity as {@code degreePlanner}.
+     */
+    private static DegreePlanner toKey(DegreePlanner degreePlanner) {
+        return new DegreePlanner(degreePlanner.getYear(), degreePlanner.getSemester(), Collections.emptySet());
+    }
+}
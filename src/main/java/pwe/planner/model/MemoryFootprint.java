@@ -0,0 +1,362 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import javafx.collections.transformation.FilteredList;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An estimate of the heap memory retained by each structure of the model, e.g. the module list or an undo state, to
+ * find out which part of the model grows in a long-running session.
+ * <br><br>
+ * Structures are added in turn, and an object is only counted in the first structure it is reached from, as the
+ * structures share objects, e.g. the undo states share the modules which were not edited with the module list.
+ * The bytes of a structure are hence about the memory which would be freed if the structure were dropped, while the
+ * structures added before it are kept.
+ * <br><br>
+ * The sizes are worked out from the layout of objects in a 64-bit HotSpot JVM with compressed references, rather than
+ * measured, hence they are estimates. The spare capacity of array lists is not counted.
+ */
+public class MemoryFootprint {
+
+    public static final String STRUCTURE_MODULE_LIST = "module list";
+    public static final String STRUCTURE_DEGREE_PLANNERS = "degree planners";
+    public static final String STRUCTURE_REQUIREMENT_CATEGORIES = "requirement categories";
+    public static final String STRUCTURE_UNDO_STATE = "undo state %1$d";
+    public static final String STRUCTURE_CURRENT_UNDO_STATE = "undo state %1$d (current)";
+    public static final String STRUCTURE_FILTERED_LISTS = "filtered lists";
+    public static final String STRUCTURE_COMMAND_HISTORY = "command history";
+
+    private static final String TABLE_ROW_FORMAT = "%-28s %12s";
+    private static final String[] BYTE_UNITS = {"KiB", "MiB", "GiB", "TiB"};
+    private static final int BYTES_PER_UNIT = 1024;
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int INT_BYTES = 4;
+    private static final int ALIGNMENT_BYTES = 8;
+
+    /** A {@code String} has a hash, a coder, a flag and its array of bytes, which is counted separately. */
+    private static final long STRING_BYTES = align(OBJECT_HEADER_BYTES + INT_BYTES + 2 + REFERENCE_BYTES);
+    /** A value object holds a single string, e.g. a {@code Code} or a {@code Tag}. */
+    private static final long VALUE_OBJECT_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+    private static final long MODULE_BYTES = align(OBJECT_HEADER_BYTES + 6 * REFERENCE_BYTES);
+    private static final long DEGREE_PLANNER_BYTES = align(OBJECT_HEADER_BYTES + 3 * REFERENCE_BYTES);
+    private static final long REQUIREMENT_CATEGORY_BYTES = align(OBJECT_HEADER_BYTES + 3 * REFERENCE_BYTES);
+
+    private static final long HASH_SET_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+    private static final long HASH_MAP_BYTES = align(OBJECT_HEADER_BYTES + 4 * REFERENCE_BYTES + 4 * INT_BYTES);
+    private static final long HASH_MAP_NODE_BYTES = align(OBJECT_HEADER_BYTES + INT_BYTES + 3 * REFERENCE_BYTES);
+    private static final int HASH_MAP_MIN_CAPACITY = 16;
+    private static final double HASH_MAP_LOAD_FACTOR = 0.75;
+
+    /** An observable list wrapping an {@code ArrayList}, with an unmodifiable view of it, as in the model lists. */
+    private static final long OBSERVABLE_LIST_BYTES = align(OBJECT_HEADER_BYTES + 5 * REFERENCE_BYTES + INT_BYTES)
+            + align(OBJECT_HEADER_BYTES + 2 * INT_BYTES + REFERENCE_BYTES)
+            + align(OBJECT_HEADER_BYTES + 3 * REFERENCE_BYTES);
+    private static final long FILTERED_LIST_BYTES = align(OBJECT_HEADER_BYTES + 5 * REFERENCE_BYTES + 2 * INT_BYTES);
+
+    private final Set<Object> countedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, Long> structureBytes = new LinkedHashMap<>();
+
+    /**
+     * Adds {@code modules} as the list of a {@code UniqueModuleList}, with its code index, under {@code structure}.
+     */
+    public void addModuleList(String structure, List<Module> modules) {
+        requireAllNonNull(structure, modules);
+
+        addBytes(structure, estimateModuleList(modules));
+    }
+
+    /**
+     * Adds {@code degreePlanners} as the list of a {@code UniqueDegreePlannerList}, with its code index, under
+     * {@code structure}.
+     */
+    public void addDegreePlannerList(String structure, List<DegreePlanner> degreePlanners) {
+        requireAllNonNull(structure, degreePlanners);
+
+        addBytes(structure, estimateDegreePlannerList(degreePlanners));
+    }
+
+    /**
+     * Adds {@code requirementCategories} as the list of a {@code UniqueRequirementCategoryList}, with its code index,
+     * under {@code structure}.
+     */
+    public void addRequirementCategoryList(String structure, List<RequirementCategory> requirementCategories) {
+        requireAllNonNull(structure, requirementCategories);
+
+        addBytes(structure, estimateRequirementCategoryList(requirementCategories));
+    }
+
+    /**
+     * Adds the three lists of {@code application} under {@code structure}.
+     */
+    public void addApplication(String structure, ReadOnlyApplication application) {
+        requireAllNonNull(structure, application);
+
+        addBytes(structure, estimateModuleList(application.getModuleList())
+                + estimateDegreePlannerList(application.getDegreePlannerList())
+                + estimateRequirementCategoryList(application.getRequirementCategoryList()));
+    }
+
+    /**
+     * Adds {@code filteredList}, without its source list, under {@code structure}.
+     */
+    public void addFilteredList(String structure, FilteredList<?> filteredList) {
+        requireAllNonNull(structure, filteredList);
+
+        long bytes = 0;
+        if (countedObjects.add(filteredList)) {
+            // the indexes of the filtered elements are kept in an array as long as the source list
+            bytes = FILTERED_LIST_BYTES + estimateArray(filteredList.getSource().size(), INT_BYTES);
+        }
+        addBytes(structure, bytes);
+    }
+
+    /**
+     * Adds {@code strings} as an observable list of strings under {@code structure}.
+     */
+    public void addStringList(String structure, List<String> strings) {
+        requireAllNonNull(structure, strings);
+
+        long bytes = estimateList(strings);
+        for (String string : strings) {
+            bytes += estimateString(string);
+        }
+        addBytes(structure, bytes);
+    }
+
+    private void addBytes(String structure, long bytes) {
+        structureBytes.merge(structure, bytes, Long::sum);
+    }
+
+    /**
+     * Returns the bytes retained by {@code structure}, or 0 if it was never added.
+     */
+    public long getBytes(String structure) {
+        return structureBytes.getOrDefault(structure, 0L);
+    }
+
+    /**
+     * Returns the bytes retained by each structure, in the order the structures were added.
+     */
+    public Map<String, Long> getStructureBytes() {
+        return Collections.unmodifiableMap(structureBytes);
+    }
+
+    public long getTotalBytes() {
+        return structureBytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    //// estimates of the objects, which are 0 if an object was already counted
+
+    /**
+     * Returns the size of {@code modules} with its modules, and the index of the modules by their code.
+     */
+    private long estimateModuleList(List<Module> modules) {
+        if (!countedObjects.add(modules)) {
+            return 0;
+        }
+
+        long bytes = estimateList(modules) + estimateHashMap(modules.size());
+        for (Module module : modules) {
+            bytes += estimateModule(module);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the size of {@code degreePlanners} with its degree planners, and the index of the degree planners by the
+     * codes in them.
+     */
+    private long estimateDegreePlannerList(List<DegreePlanner> degreePlanners) {
+        if (!countedObjects.add(degreePlanners)) {
+            return 0;
+        }
+
+        long bytes = estimateList(degreePlanners);
+        int codeCount = 0;
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            codeCount += degreePlanner.getCodes().size();
+            if (countedObjects.add(degreePlanner)) {
+                bytes += DEGREE_PLANNER_BYTES + estimateValueObject(degreePlanner.getYear(),
+                        degreePlanner.getYear().year)
+                        + estimateValueObject(degreePlanner.getSemester(), degreePlanner.getSemester().plannerSemester)
+                        + estimateCodeSet(degreePlanner.getCodes());
+            }
+        }
+        return bytes + estimateHashMap(codeCount);
+    }
+
+    /**
+     * Returns the size of {@code requirementCategories} with its requirement categories, and the index of the
+     * requirement categories by the codes in them.
+     */
+    private long estimateRequirementCategoryList(List<RequirementCategory> requirementCategories) {
+        if (!countedObjects.add(requirementCategories)) {
+            return 0;
+        }
+
+        long bytes = estimateList(requirementCategories);
+        int codeCount = 0;
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            codeCount += requirementCategory.getCodeSet().size();
+            if (countedObjects.add(requirementCategory)) {
+                bytes += REQUIREMENT_CATEGORY_BYTES
+                        + estimateValueObject(requirementCategory.getName(), requirementCategory.getName().fullName)
+                        + estimateValueObject(requirementCategory.getCredits(),
+                                requirementCategory.getCredits().value)
+                        + estimateCodeSet(requirementCategory.getCodeSet());
+            }
+        }
+        return bytes + estimateHashMap(codeCount);
+    }
+
+    /**
+     * Returns the size of {@code module} with its fields.
+     */
+    private long estimateModule(Module module) {
+        if (!countedObjects.add(module)) {
+            return 0;
+        }
+
+        long bytes = MODULE_BYTES + estimateValueObject(module.getCode(), module.getCode().value)
+                + estimateValueObject(module.getName(), module.getName().fullName)
+                + estimateValueObject(module.getCredits(), module.getCredits().value)
+                + estimateHashSet(module.getSemesters().size())
+                + estimateCodeSet(module.getCorequisites())
+                + estimateHashSet(module.getTags().size());
+        bytes += module.getSemesters().stream()
+                .mapToLong(semester -> estimateValueObject(semester, semester.plannerSemester))
+                .sum();
+        bytes += module.getTags().stream()
+                .mapToLong(tag -> estimateValueObject(tag, tag.tagName))
+                .sum();
+        return bytes;
+    }
+
+    private long estimateCodeSet(Collection<Code> codes) {
+        return estimateHashSet(codes.size()) + codes.stream()
+                .mapToLong(code -> estimateValueObject(code, code.value))
+                .sum();
+    }
+
+    /**
+     * Returns the size of {@code valueObject}, which holds the single string {@code value}.
+     */
+    private long estimateValueObject(Object valueObject, String value) {
+        if (!countedObjects.add(valueObject)) {
+            return 0;
+        }
+        return VALUE_OBJECT_BYTES + estimateString(value);
+    }
+
+    /**
+     * Returns the size of {@code string} with its array, in which each character takes 1 byte if all the characters
+     * are Latin-1 characters, and 2 bytes otherwise.
+     */
+    private long estimateString(String string) {
+        if (!countedObjects.add(string)) {
+            return 0;
+        }
+
+        boolean isLatin1 = string.chars().allMatch(character -> character <= 0xFF);
+        return STRING_BYTES + estimateArray(string.length(), isLatin1 ? 1 : 2);
+    }
+
+    private long estimateList(List<?> list) {
+        return OBSERVABLE_LIST_BYTES + estimateArray(list.size(), REFERENCE_BYTES);
+    }
+
+    private static long estimateHashSet(int size) {
+        return HASH_SET_BYTES + estimateHashMap(size);
+    }
+
+    /**
+     * Returns the size of a {@code HashMap} of {@code size} entries, without its keys and values.
+     */
+    private static long estimateHashMap(int size) {
+        if (size == 0) {
+            return HASH_MAP_BYTES;
+        }
+
+        int capacity = HASH_MAP_MIN_CAPACITY;
+        while (capacity * HASH_MAP_LOAD_FACTOR < size) {
+            capacity *= 2;
+        }
+        return HASH_MAP_BYTES + estimateArray(capacity, REFERENCE_BYTES) + size * HASH_MAP_NODE_BYTES;
+    }
+
+    private static long estimateArray(int length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + (long) length * elementBytes);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT_BYTES - 1) / ALIGNMENT_BYTES * ALIGNMENT_BYTES;
+    }
+
+    //// formatting
+
+    /**
+     * Returns {@code bytes} in bytes, or in the largest binary unit in which it is at least 1, e.g. {@code 1.5 MiB}.
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < BYTES_PER_UNIT) {
+            return bytes + " B";
+        }
+
+        double value = bytes;
+        int unitIndex = -1;
+        while (value >= BYTES_PER_UNIT && unitIndex < BYTE_UNITS.length - 1) {
+            value /= BYTES_PER_UNIT;
+            unitIndex++;
+        }
+        return String.format(Locale.ROOT, "%.1f %s", value, BYTE_UNITS[unitIndex]);
+    }
+
+    /**
+     * Returns the heap used by the JVM, and the maximum heap it may use.
+     */
+    private static String getHeapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        return formatBytes(runtime.totalMemory() - runtime.freeMemory()) + " of " + formatBytes(runtime.maxMemory());
+    }
+
+    /**
+     * Returns the bytes of each structure, and the total, as a table with one row per structure, followed by the heap
+     * used by the JVM.
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format(TABLE_ROW_FORMAT, "structure", "retained"));
+        structureBytes.forEach((structure, bytes) ->
+                table.append('\n').append(String.format(TABLE_ROW_FORMAT, structure, formatBytes(bytes))));
+        return table.append('\n').append(String.format(TABLE_ROW_FORMAT, "total", formatBytes(getTotalBytes())))
+                .append("\nJVM heap used: ").append(getHeapUsage())
+                .toString();
+    }
+
+    /**
+     * Returns the same values as {@link #toTable()} on a single line, to be logged.
+     */
+    public String toLogLine() {
+        StringJoiner line = new StringJoiner(", ", "Model memory footprint: ", "");
+        line.add("total " + formatBytes(getTotalBytes()));
+        structureBytes.forEach((structure, bytes) -> line.add(structure + " " + formatBytes(bytes)));
+        line.add("JVM heap used " + getHeapUsage());
+        return line.toString();
+    }
+}
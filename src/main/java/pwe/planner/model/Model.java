@@ -1,6 +1,7 @@
 package pwe.planner.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -8,6 +9,7 @@ import javafx.collections.ObservableList;
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
@@ -68,6 +70,27 @@ public interface Model {
     /** Returns the Application */
     ReadOnlyApplication getApplication();
 
+    /**
+     * Returns true if modules cannot be added, edited or deleted, as the module list cannot be saved.
+     */
+    boolean isModuleListReadOnly();
+
+    /**
+     * Sets whether modules cannot be added, edited or deleted. See {@link #isModuleListReadOnly()}.
+     */
+    void setModuleListReadOnly(boolean isModuleListReadOnly);
+
+    /**
+     * Returns an unmodifiable copy of the Application, which is unaffected by later changes to the Application.
+     */
+    ReadOnlyApplication getApplicationSnapshot();
+
+    /** Returns the {@code ApplicationInvariantChecker} of the Application */
+    ApplicationInvariantChecker getInvariantChecker();
+
+    /** Returns the {@code CreditTotals} of the Application */
+    CreditTotals getCreditTotals();
+
     /**
      * Returns the user prefs' requirement list file path.
      */
@@ -120,6 +143,14 @@ public interface Model {
      */
     void addModule(Module module);
 
+    /**
+     * Adds all the given modules at once, with their co-requisites resolved as if they were added one at a time.
+     * None of the modules may already exist in the module list, or be given twice.
+     *
+     * @see Application#addModules(List)
+     */
+    void addModules(List<Module> modules);
+
     /**
      * Replaces the given module {@code target} with {@code editedModule}.
      * {@code target} must exist in the application.
@@ -135,6 +166,14 @@ public interface Model {
      */
     void setModule(Module target, Module editedModule);
 
+    /**
+     * Applies the changes in {@code diff} to the module list, keeping the modules modified since {@code diff} was
+     * made. This method also cascades removed modules to {@code DegreePlanner} and {@code RequirementCategory}.
+     *
+     * @return the number of changes applied.
+     */
+    int applyModuleListDiff(ModuleListDiff diff);
+
     /** Returns an unmodifiable view of the filtered module list */
     ObservableList<Module> getFilteredModuleList();
 
@@ -170,6 +209,32 @@ public interface Model {
      */
     void commitApplication();
 
+    /**
+     * Returns the total time, in nanoseconds, spent in {@link #commitApplication()} by this model so far.
+     */
+    long getCommitNanos();
+
+    /**
+     * Returns an estimate of the memory retained by the application, each of its undo states and the filtered lists.
+     */
+    MemoryFootprint getMemoryFootprint();
+
+    /**
+     * Starts a transaction, in which the application states committed are saved for undo/redo as a single state when
+     * the transaction ends. Nothing can be undone or redone during the transaction.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction, saving the current application state for undo/redo if any state was committed in it.
+     */
+    void endTransaction();
+
+    /**
+     * Ends the transaction, restoring the model's application to its state when the transaction began.
+     */
+    void rollbackTransaction();
+
     /**
      * Selected module in the filtered module list.
      * null if no module is selected.
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -17,6 +18,7 @@ import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.commons.core.LogsCenter;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 import pwe.planner.model.planner.DegreePlanner;
@@ -37,6 +39,8 @@ public class ModelManager implements Model {
 
     private final SimpleObjectProperty<Module> selectedModule = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<RequirementCategory> selectedRequirementCategory = new SimpleObjectProperty<>();
+    private long commitNanos;
+    private boolean isModuleListReadOnly = false;
 
     /**
      * Initializes a ModelManager with the given application and userPrefs.
@@ -45,7 +49,7 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(application, userPrefs);
 
-        logger.fine("Initializing with application: " + application + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with application: " + application + " and user prefs " + userPrefs);
 
         versionedApplication = new VersionedApplication(application);
         this.userPrefs = new UserPrefs(userPrefs);
@@ -147,11 +151,36 @@ public class ModelManager implements Model {
         versionedApplication.resetPlanner();
     }
 
+    @Override
+    public boolean isModuleListReadOnly() {
+        return isModuleListReadOnly;
+    }
+
+    @Override
+    public void setModuleListReadOnly(boolean isModuleListReadOnly) {
+        this.isModuleListReadOnly = isModuleListReadOnly;
+    }
+
     @Override
     public ReadOnlyApplication getApplication() {
         return versionedApplication;
     }
 
+    @Override
+    public ReadOnlyApplication getApplicationSnapshot() {
+        return versionedApplication.getCurrentState();
+    }
+
+    @Override
+    public ApplicationInvariantChecker getInvariantChecker() {
+        return versionedApplication.getInvariantChecker();
+    }
+
+    @Override
+    public CreditTotals getCreditTotals() {
+        return versionedApplication.getCreditTotals();
+    }
+
     @Override
     public boolean hasModule(Module module) {
         requireNonNull(module);
@@ -188,6 +217,14 @@ public class ModelManager implements Model {
         updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
     }
 
+    @Override
+    public void addModules(List<Module> modules) {
+        requireNonNull(modules);
+
+        versionedApplication.addModules(modules);
+        updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+    }
+
     @Override
     public void editModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
@@ -202,6 +239,13 @@ public class ModelManager implements Model {
         versionedApplication.setModule(target, editedModule);
     }
 
+    @Override
+    public int applyModuleListDiff(ModuleListDiff diff) {
+        requireNonNull(diff);
+
+        return versionedApplication.applyModuleListDiff(diff);
+    }
+
     //=========== Filtered Module List Accessors =============================================================
 
     /**
@@ -244,7 +288,44 @@ public class ModelManager implements Model {
 
     @Override
     public void commitApplication() {
+        long commitStartTime = System.nanoTime();
         versionedApplication.commit();
+        commitNanos += System.nanoTime() - commitStartTime;
+    }
+
+    @Override
+    public long getCommitNanos() {
+        return commitNanos;
+    }
+
+    @Override
+    public MemoryFootprint getMemoryFootprint() {
+        MemoryFootprint memoryFootprint = new MemoryFootprint();
+        memoryFootprint.addModuleList(MemoryFootprint.STRUCTURE_MODULE_LIST, versionedApplication.getModuleList());
+        memoryFootprint.addDegreePlannerList(MemoryFootprint.STRUCTURE_DEGREE_PLANNERS,
+                versionedApplication.getDegreePlannerList());
+        memoryFootprint.addRequirementCategoryList(MemoryFootprint.STRUCTURE_REQUIREMENT_CATEGORIES,
+                versionedApplication.getRequirementCategoryList());
+        versionedApplication.addStatesTo(memoryFootprint);
+        memoryFootprint.addFilteredList(MemoryFootprint.STRUCTURE_FILTERED_LISTS, filteredModules);
+        memoryFootprint.addFilteredList(MemoryFootprint.STRUCTURE_FILTERED_LISTS, filteredDegreePlanners);
+        memoryFootprint.addFilteredList(MemoryFootprint.STRUCTURE_FILTERED_LISTS, filteredRequirementCategory);
+        return memoryFootprint;
+    }
+
+    @Override
+    public void beginTransaction() {
+        versionedApplication.beginTransaction();
+    }
+
+    @Override
+    public void endTransaction() {
+        versionedApplication.endTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        versionedApplication.rollbackTransaction();
     }
 
     //=========== Selected module ===========================================================================
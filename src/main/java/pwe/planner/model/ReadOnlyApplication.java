@@ -29,4 +29,25 @@ public interface ReadOnlyApplication extends Observable {
      */
     ObservableList<RequirementCategory> getRequirementCategoryList();
 
+    /**
+     * Returns the version of the modules list, which changes whenever the modules list is modified.
+     * A version is only shared by lists with the same contents, hence an unchanged version means an unchanged list.
+     */
+    long getModuleListVersion();
+
+    /**
+     * Returns the version of the degree planner list, which changes whenever the degree planner list is modified.
+     *
+     * @see #getModuleListVersion()
+     */
+    long getDegreePlannerListVersion();
+
+    /**
+     * Returns the version of the requirementCategories list, which changes whenever the requirementCategories list
+     * is modified.
+     *
+     * @see #getModuleListVersion()
+     */
+    long getRequirementCategoryListVersion();
+
 }
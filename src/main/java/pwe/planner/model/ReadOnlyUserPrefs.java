@@ -3,6 +3,7 @@ package pwe.planner.model;
 import java.nio.file.Path;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.util.WriteDurability;
 
 /**
  * Unmodifiable view of user prefs.
@@ -16,4 +17,73 @@ public interface ReadOnlyUserPrefs {
     Path getDegreePlannerListFilePath();
 
     Path getRequirementCategoryListFilePath();
+
+    /**
+     * Returns true if the application data is saved by appending the changes to a journal file, instead of rewriting
+     * the data files on every save.
+     */
+    boolean isJournalEnabled();
+
+    Path getJournalFilePath();
+
+    /**
+     * Returns true if the application data is saved to a single binary snapshot file instead of the JSON data files.
+     * This takes precedence over {@link #isJournalEnabled()}. The data is carried over between the two when this is
+     * enabled or disabled.
+     */
+    boolean isBinarySnapshotEnabled();
+
+    Path getBinarySnapshotFilePath();
+
+    /**
+     * Returns true if a startup cache of the JSON data files is kept, so that they need not be parsed on launch if
+     * they are unchanged. Only used if the data is saved to the JSON data files without a journal.
+     */
+    boolean isStartupCacheEnabled();
+
+    Path getStartupCacheFilePath();
+
+    /**
+     * Returns how far the files written by the application survive a crash of the operating system or a power loss.
+     */
+    WriteDurability getWriteDurability();
+
+    /**
+     * Returns true if the module list file is watched for changes made outside of the application, e.g. by an updated
+     * catalog, which are then applied to the module list. Only used if the data is saved to the JSON data files
+     * without a journal.
+     */
+    boolean isModuleListWatchEnabled();
+
+    /**
+     * Returns true if the module list file is a read-only catalog shared by many plans, and the degree planners and
+     * requirement categories are saved to the plan overlay file instead of their own data files.
+     * This takes precedence over every other way of saving the application data.
+     */
+    boolean isSharedCatalogEnabled();
+
+    Path getPlanOverlayFilePath();
+
+    /**
+     * Returns the memory-mapped catalog file which the modules of the shared catalog are read from, which is built from
+     * the module list file whenever the module list file is newer.
+     */
+    Path getCatalogFilePath();
+
+    /**
+     * Returns the file which the latencies of the commands executed are exported to by the {@code stats} command.
+     */
+    Path getCommandStatisticsFilePath();
+
+    /**
+     * Returns the interval, in minutes, at which the latencies of the commands executed are logged, or zero if they
+     * are not logged periodically.
+     */
+    int getCommandStatisticsLogIntervalMinutes();
+
+    /**
+     * Returns the interval, in minutes, at which the memory footprint of the application data is logged, or zero if
+     * it is not logged periodically.
+     */
+    int getMemoryFootprintLogIntervalMinutes();
 }
@@ -1,12 +1,14 @@
 package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.util.WriteDurability;
 
 /**
  * Represents User's preferences.
@@ -18,6 +20,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path moduleListFilePath = Paths.get("data", "moduleList.json");
     private Path degreePlannerListFilePath = Paths.get("data", "degreePlannerList.json");
     private Path requirementCategoryListFilePath = Paths.get("data", "requirementCategoryList.json");
+    private boolean journalEnabled = false;
+    private Path journalFilePath = Paths.get("data", "journal.jsonl");
+    private boolean binarySnapshotEnabled = false;
+    private Path binarySnapshotFilePath = Paths.get("data", "application.snapshot");
+    private boolean startupCacheEnabled = true;
+    private Path startupCacheFilePath = Paths.get("data", "startup.cache");
+    private WriteDurability writeDurability = WriteDurability.FILE;
+    private boolean moduleListWatchEnabled = true;
+    private boolean sharedCatalogEnabled = false;
+    private Path planOverlayFilePath = Paths.get("data", "plan.json");
+    private Path catalogFilePath = Paths.get("data", "moduleList.catalog");
+    private Path commandStatisticsFilePath = Paths.get("data", "commandStatistics.csv");
+    private int commandStatisticsLogIntervalMinutes = 10;
+    private int memoryFootprintLogIntervalMinutes = 10;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -44,6 +60,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setModuleListFilePath(newUserPrefs.getModuleListFilePath());
         setDegreePlannerListFilePath(newUserPrefs.getDegreePlannerListFilePath());
         setRequirementCategoryListFilePath(newUserPrefs.getRequirementCategoryListFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setJournalFilePath(newUserPrefs.getJournalFilePath());
+        setBinarySnapshotEnabled(newUserPrefs.isBinarySnapshotEnabled());
+        setBinarySnapshotFilePath(newUserPrefs.getBinarySnapshotFilePath());
+        setStartupCacheEnabled(newUserPrefs.isStartupCacheEnabled());
+        setStartupCacheFilePath(newUserPrefs.getStartupCacheFilePath());
+        setWriteDurability(newUserPrefs.getWriteDurability());
+        setModuleListWatchEnabled(newUserPrefs.isModuleListWatchEnabled());
+        setSharedCatalogEnabled(newUserPrefs.isSharedCatalogEnabled());
+        setPlanOverlayFilePath(newUserPrefs.getPlanOverlayFilePath());
+        setCatalogFilePath(newUserPrefs.getCatalogFilePath());
+        setCommandStatisticsFilePath(newUserPrefs.getCommandStatisticsFilePath());
+        setCommandStatisticsLogIntervalMinutes(newUserPrefs.getCommandStatisticsLogIntervalMinutes());
+        setMemoryFootprintLogIntervalMinutes(newUserPrefs.getMemoryFootprintLogIntervalMinutes());
 
     }
 
@@ -87,6 +117,136 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.requirementCategoryListFilePath = requirementCategoryListFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+
+        this.journalFilePath = journalFilePath;
+    }
+
+    public boolean isBinarySnapshotEnabled() {
+        return binarySnapshotEnabled;
+    }
+
+    public void setBinarySnapshotEnabled(boolean binarySnapshotEnabled) {
+        this.binarySnapshotEnabled = binarySnapshotEnabled;
+    }
+
+    public Path getBinarySnapshotFilePath() {
+        return binarySnapshotFilePath;
+    }
+
+    public void setBinarySnapshotFilePath(Path binarySnapshotFilePath) {
+        requireNonNull(binarySnapshotFilePath);
+
+        this.binarySnapshotFilePath = binarySnapshotFilePath;
+    }
+
+    public boolean isStartupCacheEnabled() {
+        return startupCacheEnabled;
+    }
+
+    public void setStartupCacheEnabled(boolean startupCacheEnabled) {
+        this.startupCacheEnabled = startupCacheEnabled;
+    }
+
+    public Path getStartupCacheFilePath() {
+        return startupCacheFilePath;
+    }
+
+    public void setStartupCacheFilePath(Path startupCacheFilePath) {
+        requireNonNull(startupCacheFilePath);
+
+        this.startupCacheFilePath = startupCacheFilePath;
+    }
+
+    public WriteDurability getWriteDurability() {
+        return writeDurability;
+    }
+
+    public void setWriteDurability(WriteDurability writeDurability) {
+        requireNonNull(writeDurability);
+
+        this.writeDurability = writeDurability;
+    }
+
+    public boolean isModuleListWatchEnabled() {
+        return moduleListWatchEnabled;
+    }
+
+    public void setModuleListWatchEnabled(boolean moduleListWatchEnabled) {
+        this.moduleListWatchEnabled = moduleListWatchEnabled;
+    }
+
+    public boolean isSharedCatalogEnabled() {
+        return sharedCatalogEnabled;
+    }
+
+    public void setSharedCatalogEnabled(boolean sharedCatalogEnabled) {
+        this.sharedCatalogEnabled = sharedCatalogEnabled;
+    }
+
+    public Path getPlanOverlayFilePath() {
+        return planOverlayFilePath;
+    }
+
+    public void setPlanOverlayFilePath(Path planOverlayFilePath) {
+        requireNonNull(planOverlayFilePath);
+
+        this.planOverlayFilePath = planOverlayFilePath;
+    }
+
+    public Path getCatalogFilePath() {
+        return catalogFilePath;
+    }
+
+    public void setCatalogFilePath(Path catalogFilePath) {
+        requireNonNull(catalogFilePath);
+
+        this.catalogFilePath = catalogFilePath;
+    }
+
+    public Path getCommandStatisticsFilePath() {
+        return commandStatisticsFilePath;
+    }
+
+    public void setCommandStatisticsFilePath(Path commandStatisticsFilePath) {
+        requireNonNull(commandStatisticsFilePath);
+
+        this.commandStatisticsFilePath = commandStatisticsFilePath;
+    }
+
+    public int getCommandStatisticsLogIntervalMinutes() {
+        return commandStatisticsLogIntervalMinutes;
+    }
+
+    public void setCommandStatisticsLogIntervalMinutes(int commandStatisticsLogIntervalMinutes) {
+        checkArgument(commandStatisticsLogIntervalMinutes >= 0, "The logging interval must not be negative");
+
+        this.commandStatisticsLogIntervalMinutes = commandStatisticsLogIntervalMinutes;
+    }
+
+    public int getMemoryFootprintLogIntervalMinutes() {
+        return memoryFootprintLogIntervalMinutes;
+    }
+
+    public void setMemoryFootprintLogIntervalMinutes(int memoryFootprintLogIntervalMinutes) {
+        checkArgument(memoryFootprintLogIntervalMinutes >= 0, "The logging interval must not be negative");
+
+        this.memoryFootprintLogIntervalMinutes = memoryFootprintLogIntervalMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -100,13 +260,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && moduleListFilePath.toAbsolutePath().equals(o.moduleListFilePath.toAbsolutePath())
-                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath());
+                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath())
+                && journalEnabled == o.journalEnabled
+                && journalFilePath.toAbsolutePath().equals(o.journalFilePath.toAbsolutePath())
+                && binarySnapshotEnabled == o.binarySnapshotEnabled
+                && binarySnapshotFilePath.toAbsolutePath().equals(o.binarySnapshotFilePath.toAbsolutePath())
+                && startupCacheEnabled == o.startupCacheEnabled
+                && startupCacheFilePath.toAbsolutePath().equals(o.startupCacheFilePath.toAbsolutePath())
+                && writeDurability == o.writeDurability
+                && moduleListWatchEnabled == o.moduleListWatchEnabled
+                && sharedCatalogEnabled == o.sharedCatalogEnabled
+                && planOverlayFilePath.toAbsolutePath().equals(o.planOverlayFilePath.toAbsolutePath())
+                && catalogFilePath.toAbsolutePath().equals(o.catalogFilePath.toAbsolutePath())
+                && commandStatisticsFilePath.toAbsolutePath().equals(o.commandStatisticsFilePath.toAbsolutePath())
+                && commandStatisticsLogIntervalMinutes == o.commandStatisticsLogIntervalMinutes
+                && memoryFootprintLogIntervalMinutes == o.memoryFootprintLogIntervalMinutes;
 
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath);
+        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath, journalEnabled,
+                journalFilePath, binarySnapshotEnabled, binarySnapshotFilePath, startupCacheEnabled,
+                startupCacheFilePath, writeDurability, moduleListWatchEnabled, sharedCatalogEnabled,
+                planOverlayFilePath, catalogFilePath, commandStatisticsFilePath, commandStatisticsLogIntervalMinutes,
+                memoryFootprintLogIntervalMinutes);
     }
 
     @Override
@@ -123,6 +301,48 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append('\n')
                 .append("Local data file location for degree planner list: ")
                 .append(Paths.get("").toAbsolutePath().relativize(degreePlannerListFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Journal enabled: ")
+                .append(journalEnabled)
+                .append('\n')
+                .append("Local data file location for journal: ")
+                .append(Paths.get("").toAbsolutePath().relativize(journalFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Binary snapshot enabled: ")
+                .append(binarySnapshotEnabled)
+                .append('\n')
+                .append("Local data file location for binary snapshot: ")
+                .append(Paths.get("").toAbsolutePath().relativize(binarySnapshotFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Startup cache enabled: ")
+                .append(startupCacheEnabled)
+                .append('\n')
+                .append("Local data file location for startup cache: ")
+                .append(Paths.get("").toAbsolutePath().relativize(startupCacheFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Write durability: ")
+                .append(writeDurability)
+                .append('\n')
+                .append("Module list file watched for changes: ")
+                .append(moduleListWatchEnabled)
+                .append('\n')
+                .append("Shared catalog enabled: ")
+                .append(sharedCatalogEnabled)
+                .append('\n')
+                .append("Local data file location for plan overlay: ")
+                .append(Paths.get("").toAbsolutePath().relativize(planOverlayFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Local data file location for memory-mapped catalog: ")
+                .append(Paths.get("").toAbsolutePath().relativize(catalogFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Local data file location for command statistics: ")
+                .append(Paths.get("").toAbsolutePath().relativize(commandStatisticsFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Command statistics logging interval (minutes): ")
+                .append(commandStatisticsLogIntervalMinutes)
+                .append('\n')
+                .append("Memory footprint logging interval (minutes): ")
+                .append(memoryFootprintLogIntervalMinutes)
                 .toString();
     }
 
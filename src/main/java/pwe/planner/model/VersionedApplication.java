@@ -4,14 +4,22 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.jfr.CommitEvent;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
 
 /**
  * {@code Application} that keeps track of its own history.
  */
 public class VersionedApplication extends Application {
+    private static final Logger logger = LogsCenter.getLogger(VersionedApplication.class);
 
     private final List<ReadOnlyApplication> applicationStateList;
     private int currentStatePointer;
+    private boolean isInTransaction;
+    private boolean hasCommitInTransaction;
 
     public VersionedApplication(ReadOnlyApplication initialState) {
         super(initialState);
@@ -25,12 +33,72 @@ public class VersionedApplication extends Application {
     /**
      * Saves a copy of the current {@code Application} state at the end of the state list.
      * Undone states are removed from the state list.
+     * The data constraints involving the codes touched since the previous commit are re-checked beforehand.
+     * In a transaction, only the data constraints are re-checked, as the state is saved when the transaction ends.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        applicationStateList.add(new Application(this));
-        currentStatePointer++;
-        indicateModified();
+        CommitEvent commitEvent = FlightRecorderEvents.newCommitEvent();
+        commitEvent.begin();
+
+        List<String> violations = getInvariantChecker().verifyTouched();
+        if (!violations.isEmpty()) {
+            logger.warning("Data constraints violated on commit: " + violations);
+        }
+        assert violations.isEmpty() : violations;
+
+        if (isInTransaction) {
+            hasCommitInTransaction = true;
+        } else {
+            removeStatesAfterCurrentPointer();
+            applicationStateList.add(new Application(this));
+            currentStatePointer++;
+            indicateModified();
+        }
+
+        commitEvent.record(applicationStateList.size(), isInTransaction, violations.size(), getModuleList().size(),
+                getDegreePlannerList().size(), getRequirementCategoryList().size());
+    }
+
+    /**
+     * Starts a transaction, in which the states committed are combined into a single state, saved at the end of the
+     * list by {@code endTransaction()}, instead of a copy of the application being saved on every commit.
+     * There are no states to undo or redo until the transaction ends.
+     */
+    public void beginTransaction() {
+        assert !isInTransaction : "Transactions cannot be nested";
+
+        isInTransaction = true;
+        hasCommitInTransaction = false;
+    }
+
+    /**
+     * Ends the transaction, saving the current application state at the end of the state list if any state was
+     * committed in the transaction.
+     */
+    public void endTransaction() {
+        assert isInTransaction : "No transaction to end";
+
+        isInTransaction = false;
+        if (hasCommitInTransaction) {
+            commit();
+        }
+    }
+
+    /**
+     * Ends the transaction, restoring the application to its state when the transaction began.
+     */
+    public void rollbackTransaction() {
+        assert isInTransaction : "No transaction to roll back";
+
+        isInTransaction = false;
+        resetData(applicationStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Returns true if a transaction has begun and has not ended.
+     */
+    public boolean isInTransaction() {
+        return isInTransaction;
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -59,18 +127,47 @@ public class VersionedApplication extends Application {
         resetData(applicationStateList.get(currentStatePointer));
     }
 
+    /**
+     * Returns an unmodifiable copy of the current application state.
+     * The copy saved by the last commit, undo or redo is returned if the application is unchanged since, hence no copy
+     * is made after a commit.
+     */
+    public ReadOnlyApplication getCurrentState() {
+        ReadOnlyApplication currentState = applicationStateList.get(currentStatePointer);
+        // lists with the same version have the same contents
+        boolean isUnchanged = currentState.getModuleListVersion() == getModuleListVersion()
+                && currentState.getDegreePlannerListVersion() == getDegreePlannerListVersion()
+                && currentState.getRequirementCategoryListVersion() == getRequirementCategoryListVersion();
+        return isUnchanged ? currentState : new Application(this);
+    }
+
+    /**
+     * Adds each application state saved for undo/redo to {@code memoryFootprint}, after the states added so far.
+     * The modules shared with those states are hence not counted again.
+     */
+    void addStatesTo(MemoryFootprint memoryFootprint) {
+        requireNonNull(memoryFootprint);
+
+        for (int i = 0; i < applicationStateList.size(); i++) {
+            String structure = String.format(i == currentStatePointer
+                    ? MemoryFootprint.STRUCTURE_CURRENT_UNDO_STATE
+                    : MemoryFootprint.STRUCTURE_UNDO_STATE, i + 1);
+            memoryFootprint.addApplication(structure, applicationStateList.get(i));
+        }
+    }
+
     /**
      * Returns true if {@code undo()} has application states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return !isInTransaction && currentStatePointer > 0;
     }
 
     /**
      * Returns true if {@code redo()} has application states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < applicationStateList.size() - 1;
+        return !isInTransaction && currentStatePointer < applicationStateList.size() - 1;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package pwe.planner.model.module;
 
+import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -14,6 +15,9 @@ import pwe.planner.model.tag.Tag;
 /**
  * Represents a Module in the application.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <br><br>
+ * A subclass may provide the fields other than the code through the getters instead, e.g. to decode them on demand
+ * from a file, as long as it keeps the guarantees.
  */
 public class Module {
     /**
@@ -28,11 +32,12 @@ public class Module {
     private final Code code;
 
     // Data fields
+    // null if provided by the getters of a subclass
     private final Name name;
     private final Credits credits;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Code> corequisites = new HashSet<>();
-    private final Set<Semester> semesters = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Code> corequisites;
+    private final Set<Semester> semesters;
 
     /**
      * Every field must be present and not null.
@@ -44,9 +49,23 @@ public class Module {
         this.code = code;
         this.name = name;
         this.credits = credits;
-        this.semesters.addAll(semesters);
-        this.corequisites.addAll(corequisites);
-        this.tags.addAll(tags);
+        this.semesters = new HashSet<>(semesters);
+        this.corequisites = new HashSet<>(corequisites);
+        this.tags = new HashSet<>(tags);
+    }
+
+    /**
+     * Creates a module with {@code code}, whose other fields are provided by overriding every other getter.
+     */
+    protected Module(Code code) {
+        requireNonNull(code);
+
+        this.code = code;
+        name = null;
+        credits = null;
+        semesters = null;
+        corequisites = null;
+        tags = null;
     }
 
     public Code getCode() {
@@ -122,18 +141,19 @@ public class Module {
 
     @Override
     public int hashCode() {
-        return Objects.hash(code, name, credits, semesters, corequisites, tags);
+        return Objects.hash(getCode(), getName(), getCredits(), getSemesters(), getCorequisites(), getTags());
     }
 
     @Override
     public String toString() {
 
-        final String allSemesters = StringUtil.joinStreamAsString(semesters.stream().sorted());
+        final String allSemesters = StringUtil.joinStreamAsString(getSemesters().stream().sorted());
 
-        final String allCorequisites = StringUtil.joinStreamAsString(corequisites.stream().sorted());
+        final String allCorequisites = StringUtil.joinStreamAsString(getCorequisites().stream().sorted());
 
-        final String allTags = StringUtil.joinStreamAsString(tags.stream().sorted());
+        final String allTags = StringUtil.joinStreamAsString(getTags().stream().sorted());
 
-        return String.format(STRING_REPRESENTATION, code, name, credits, allSemesters, allCorequisites, allTags);
+        return String.format(STRING_REPRESENTATION, getCode(), getName(), getCredits(), allSemesters, allCorequisites,
+                allTags);
     }
 }
@@ -0,0 +1,102 @@
+package pwe.planner.model.module;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents the changes between two versions of a module list, with modules matched by their {@code Code}.
+ * Guarantees: immutable.
+ */
+public class ModuleListDiff {
+
+    private final List<Module> addedModules;
+    private final List<Module> removedModules;
+    private final Map<Module, Module> changedModules;
+
+    private ModuleListDiff(List<Module> addedModules, List<Module> removedModules,
+            Map<Module, Module> changedModules) {
+        this.addedModules = Collections.unmodifiableList(addedModules);
+        this.removedModules = Collections.unmodifiableList(removedModules);
+        this.changedModules = Collections.unmodifiableMap(changedModules);
+    }
+
+    /**
+     * Returns the changes which turn {@code originalModules} into {@code updatedModules}.
+     * Neither list may contain two modules with the same code.
+     */
+    public static ModuleListDiff of(List<Module> originalModules, List<Module> updatedModules) {
+        requireAllNonNull(originalModules, updatedModules);
+
+        Map<Code, Module> originalModulesByCode = new LinkedHashMap<>();
+        originalModules.forEach(module -> originalModulesByCode.put(module.getCode(), module));
+
+        List<Module> addedModules = new ArrayList<>();
+        Map<Module, Module> changedModules = new LinkedHashMap<>();
+        for (Module updatedModule : updatedModules) {
+            Module originalModule = originalModulesByCode.remove(updatedModule.getCode());
+            if (originalModule == null) {
+                addedModules.add(updatedModule);
+            } else if (!originalModule.equals(updatedModule)) {
+                changedModules.put(originalModule, updatedModule);
+            }
+        }
+        List<Module> removedModules = new ArrayList<>(originalModulesByCode.values());
+
+        return new ModuleListDiff(addedModules, removedModules, changedModules);
+    }
+
+    /**
+     * Returns the modules whose code is only in the updated module list.
+     */
+    public List<Module> getAddedModules() {
+        return addedModules;
+    }
+
+    /**
+     * Returns the modules whose code is only in the original module list.
+     */
+    public List<Module> getRemovedModules() {
+        return removedModules;
+    }
+
+    /**
+     * Returns the modules of the original module list which are different in the updated module list, mapped to
+     * their updated versions.
+     */
+    public Map<Module, Module> getChangedModules() {
+        return changedModules;
+    }
+
+    /**
+     * Returns true if both module lists have the same modules.
+     */
+    public boolean isEmpty() {
+        return addedModules.isEmpty() && removedModules.isEmpty() && changedModules.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleListDiff // instanceof handles nulls
+                && addedModules.equals(((ModuleListDiff) other).addedModules)
+                && removedModules.equals(((ModuleListDiff) other).removedModules)
+                && changedModules.equals(((ModuleListDiff) other).changedModules));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(addedModules, removedModules, changedModules);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%1$d added, %2$d removed, %3$d changed", addedModules.size(), removedModules.size(),
+                changedModules.size());
+    }
+}
@@ -3,10 +3,13 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -22,6 +25,8 @@ import pwe.planner.model.module.exceptions.ModuleNotFoundException;
  * as to ensure that the module with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * A {@code Code} to {@code Module} index is maintained alongside the list, so that look-ups by module code
+ * do not require a scan of the entire list.
  *
  * @see Module#isSameModule(Module)
  */
@@ -30,6 +35,7 @@ public class UniqueModuleList implements Iterable<Module> {
     private final ObservableList<Module> internalList = FXCollections.observableArrayList();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, Module> codeIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
@@ -37,7 +43,16 @@ public class UniqueModuleList implements Iterable<Module> {
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return codeIndex.containsKey(toCheck.getCode());
+    }
+
+    /**
+     * Returns true if the list contains a module with the given module code.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeIndex.containsKey(toCheck);
     }
 
     /**
@@ -46,10 +61,7 @@ public class UniqueModuleList implements Iterable<Module> {
     public Module getModuleByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(module -> module.getCode().equals(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeIndex.get(toCheck);
     }
 
     /**
@@ -63,10 +75,119 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         internalList.add(toAdd);
+        codeIndex.put(toAdd.getCode(), toAdd);
 
         cascadeAddToModuleCorequisites(toAdd);
     }
 
+    /**
+     * Adds all of {@code modulesToAdd} to the list at once, with their co-requisites resolved as if they were added one
+     * at a time, in a single update of the list.
+     * The co-requisites of {@code modulesToAdd} may refer to each other as well as to the modules in the list. Every
+     * group of co-requisites linked through them is merged in a single pass, and each module of a merged group has all
+     * the other modules of the group as co-requisites.
+     * None of {@code modulesToAdd} may already exist in the list, or be added twice.
+     *
+     * @return the modules of the list replaced as their co-requisites changed, mapped to their replacements.
+     */
+    public Map<Module, Module> addAll(List<Module> modulesToAdd) {
+        requireAllNonNull(modulesToAdd);
+
+        Set<Code> codesToAdd = new HashSet<>();
+        for (Module toAdd : modulesToAdd) {
+            if (contains(toAdd) || !codesToAdd.add(toAdd.getCode())) {
+                throw new DuplicateModuleException();
+            }
+        }
+
+        // links each module added to its co-requisites, and to the existing group of each co-requisite in the list
+        Map<Code, Code> corequisiteGroupParents = new HashMap<>();
+        for (Module toAdd : modulesToAdd) {
+            for (Code corequisite : toAdd.getCorequisites()) {
+                unionCorequisiteGroups(corequisiteGroupParents, toAdd.getCode(), corequisite);
+                Module existingCorequisite = codeIndex.get(corequisite);
+                if (existingCorequisite == null) {
+                    continue;
+                }
+                for (Code existingGroupCode : existingCorequisite.getCorequisites()) {
+                    unionCorequisiteGroups(corequisiteGroupParents, corequisite, existingGroupCode);
+                }
+            }
+        }
+        Map<Code, Set<Code>> corequisiteGroups = new HashMap<>();
+        for (Code code : new ArrayList<>(corequisiteGroupParents.keySet())) {
+            Code groupCode = findCorequisiteGroup(corequisiteGroupParents, code);
+            corequisiteGroups.computeIfAbsent(groupCode, unused -> new HashSet<>()).add(code);
+        }
+
+        Map<Module, Module> replacedModules = new LinkedHashMap<>();
+        List<Module> updatedList = new ArrayList<>(internalList.size() + modulesToAdd.size());
+        for (Module module : internalList) {
+            Module updatedModule = withGroupCorequisites(module, corequisiteGroupParents, corequisiteGroups);
+            if (updatedModule != module) {
+                replacedModules.put(module, updatedModule);
+            }
+            updatedList.add(updatedModule);
+        }
+        for (Module toAdd : modulesToAdd) {
+            updatedList.add(withGroupCorequisites(toAdd, corequisiteGroupParents, corequisiteGroups));
+        }
+
+        internalList.setAll(updatedList);
+        rebuildCodeIndex();
+        return replacedModules;
+    }
+
+    /**
+     * Returns the code representing the co-requisite group of {@code code} in {@code parents}, which maps each code to
+     * another code of its group (or to itself, for the code representing the group).
+     */
+    private static Code findCorequisiteGroup(Map<Code, Code> parents, Code code) {
+        Code root = code;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+        // points every code on the path directly to the root, so that later look-ups are shorter
+        Code current = code;
+        while (!current.equals(root)) {
+            Code next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the co-requisite groups of {@code code} and {@code otherCode} in {@code parents}.
+     */
+    private static void unionCorequisiteGroups(Map<Code, Code> parents, Code code, Code otherCode) {
+        parents.putIfAbsent(code, code);
+        parents.putIfAbsent(otherCode, otherCode);
+        Code root = findCorequisiteGroup(parents, code);
+        Code otherRoot = findCorequisiteGroup(parents, otherCode);
+        if (!root.equals(otherRoot)) {
+            parents.put(otherRoot, root);
+        }
+    }
+
+    /**
+     * Returns {@code module} with every other code of its co-requisite group in {@code groups} as its co-requisites,
+     * or {@code module} itself if it is in no group, or already has those co-requisites.
+     */
+    private static Module withGroupCorequisites(Module module, Map<Code, Code> parents, Map<Code, Set<Code>> groups) {
+        if (!parents.containsKey(module.getCode())) {
+            return module;
+        }
+
+        Set<Code> groupCorequisites = new HashSet<>(groups.get(findCorequisiteGroup(parents, module.getCode())));
+        groupCorequisites.remove(module.getCode());
+        if (groupCorequisites.equals(module.getCorequisites())) {
+            return module;
+        }
+        return new Module(module.getCode(), module.getName(), module.getCredits(), module.getSemesters(),
+                groupCorequisites, module.getTags());
+    }
+
     /**
      * Combines all co-requisites linked to current module into one {@code Set<Code>}, and update all linked modules to
      * have all-corequisites
@@ -82,12 +203,10 @@ public class UniqueModuleList implements Iterable<Module> {
         Set<Code> allCorequisites = new HashSet<>(currentCorequisites);
 
         for (Code codeToAdd : currentCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToAdd))
-                    .findFirst();
+            Module otherModule = codeIndex.get(codeToAdd);
 
-            if (otherModuleOptional.isPresent()) {
-                allCorequisites.addAll(otherModuleOptional.get().getCorequisites());
+            if (otherModule != null) {
+                allCorequisites.addAll(otherModule.getCorequisites());
             }
         }
 
@@ -95,14 +214,15 @@ public class UniqueModuleList implements Iterable<Module> {
 
         // update all co-requisite modules with the union set excluding itself
         for (Code codeToEditCorequisites : allCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToEditCorequisites))
-                    .findFirst();
+            Module otherModule = codeIndex.get(codeToEditCorequisites);
 
-            if (otherModuleOptional.isPresent()) {
-                Module otherModule = otherModuleOptional.get();
+            if (otherModule != null) {
                 Set<Code> editedOtherCorequisites = new HashSet<>(allCorequisites);
                 editedOtherCorequisites.remove(otherModule.getCode());
+                if (editedOtherCorequisites.equals(otherModule.getCorequisites())) {
+                    // skips the linear search for otherModule in setModule, as it would be replaced by an equal module
+                    continue;
+                }
 
                 Module editedOtherModule = new Module(
                         otherModule.getCode(),
@@ -148,6 +268,8 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        codeIndex.remove(target.getCode());
+        codeIndex.put(editedModule.getCode(), editedModule);
 
         if (cascade) {
             if (!target.getCode().equals(editedModule.getCode())) {
@@ -201,6 +323,7 @@ public class UniqueModuleList implements Iterable<Module> {
         if (!internalList.remove(toRemove)) {
             throw new ModuleNotFoundException();
         }
+        codeIndex.remove(toRemove.getCode());
 
         cascadeDeleteToModuleCorequisites(toRemove);
     }
@@ -238,6 +361,7 @@ public class UniqueModuleList implements Iterable<Module> {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildCodeIndex();
     }
 
     /**
@@ -252,6 +376,17 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.setAll(modules);
+        rebuildCodeIndex();
+    }
+
+    /**
+     * Rebuilds the {@code Code} to {@code Module} index from the contents of the list.
+     */
+    private void rebuildCodeIndex() {
+        codeIndex.clear();
+        for (Module module : internalList) {
+            codeIndex.put(module.getCode(), module);
+        }
     }
 
     /**
@@ -282,11 +417,10 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+        Set<Code> codes = new HashSet<>();
+        for (Module module : modules) {
+            if (!codes.add(module.getCode())) {
+                return false;
             }
         }
         return true;
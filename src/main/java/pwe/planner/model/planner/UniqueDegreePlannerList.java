@@ -3,8 +3,10 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +23,8 @@ import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * A {@code Code} to {@code DegreePlanner} index is maintained alongside the list, so that finding the degreePlanner
+ * containing a module code does not require a scan of every degreePlanner.
  *
  * @see DegreePlanner#isSameDegreePlanner(DegreePlanner)
  */
@@ -29,6 +33,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     private final ObservableList<DegreePlanner> internalList = FXCollections.observableArrayList();
     private final ObservableList<DegreePlanner> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, DegreePlanner> codeIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent degree planner as the given argument.
@@ -46,10 +51,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public DegreePlanner getDegreePlannerByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(degreePlanner -> degreePlanner.getCodes().contains(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeIndex.get(toCheck);
     }
 
     /**
@@ -63,6 +65,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
             throw new DuplicateDegreePlannerException();
         }
         internalList.add(toAdd);
+        addToCodeIndex(toAdd);
     }
 
     /**
@@ -84,6 +87,8 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.set(index, editedDegreePlanner);
+        removeFromCodeIndex(target);
+        addToCodeIndex(editedDegreePlanner);
     }
 
     /**
@@ -96,12 +101,14 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         if (!internalList.remove(toRemove)) {
             throw new DegreePlannerNotFoundException();
         }
+        removeFromCodeIndex(toRemove);
     }
 
     public void setDegreePlanners(UniqueDegreePlannerList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildCodeIndex();
     }
 
     /**
@@ -116,6 +123,51 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.setAll(degreePlanners);
+        rebuildCodeIndex();
+    }
+
+    /**
+     * Indexes every code of {@code degreePlanner}.
+     * Codes which are already indexed to another degreePlanner are left untouched, so that the first degreePlanner
+     * containing a code is always the one returned by {@link #getDegreePlannerByCode(Code)}.
+     */
+    private void addToCodeIndex(DegreePlanner degreePlanner) {
+        for (Code code : degreePlanner.getCodes()) {
+            codeIndex.putIfAbsent(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Removes every code of {@code degreePlanner} that is indexed to {@code degreePlanner}.
+     */
+    private void removeFromCodeIndex(DegreePlanner degreePlanner) {
+        for (Code code : degreePlanner.getCodes()) {
+            if (codeIndex.get(code) == degreePlanner) {
+                codeIndex.remove(code);
+                reindexCode(code);
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code code} to the first degreePlanner in the list that contains it, if any.
+     * This is only needed when the data contains the same code in more than one degreePlanner.
+     */
+    private void reindexCode(Code code) {
+        for (DegreePlanner degreePlanner : internalList) {
+            if (degreePlanner.getCodes().contains(code)) {
+                codeIndex.put(code, degreePlanner);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the {@code Code} to {@code DegreePlanner} index from the contents of the list.
+     */
+    private void rebuildCodeIndex() {
+        codeIndex.clear();
+        internalList.forEach(this::addToCodeIndex);
     }
 
     /**
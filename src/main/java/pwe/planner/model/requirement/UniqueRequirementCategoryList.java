@@ -3,12 +3,15 @@ package pwe.planner.model.requirement;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundException;
@@ -27,6 +30,8 @@ import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundExcep
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * A {@code Code} to {@code RequirementCategory} index is maintained alongside the list, so that finding the
+ * requirement containing a module code does not require a scan of every requirement.
  *
  * @see RequirementCategory#isSameRequirementCategory(RequirementCategory)
  */
@@ -35,6 +40,7 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     private final ObservableList<RequirementCategory> internalList = FXCollections.observableArrayList();
     private final ObservableList<RequirementCategory> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, RequirementCategory> codeIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Name as the given argument.
@@ -67,6 +73,15 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
                 .orElse(null);
     }
 
+    /**
+     * Returns the RequirementCategory in the internalList which contains the given code, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeIndex.get(toCheck);
+    }
+
     /**
      * Adds a requirement to the list.
      * The requirement must not already exist in the list.
@@ -78,6 +93,7 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
             throw new DuplicateRequirementCategoryException();
         }
         internalList.add(toAdd);
+        addToCodeIndex(toAdd);
     }
 
     /**
@@ -100,6 +116,8 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.set(index, editedRequirementCategory);
+        removeFromCodeIndex(target);
+        addToCodeIndex(editedRequirementCategory);
     }
 
     /**
@@ -112,12 +130,14 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         if (!internalList.remove(toRemove)) {
             throw new RequirementCategoryNotFoundException();
         }
+        removeFromCodeIndex(toRemove);
     }
 
     public void setRequirementCategories(UniqueRequirementCategoryList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildCodeIndex();
     }
 
     /**
@@ -132,6 +152,51 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.setAll(requirementCategories);
+        rebuildCodeIndex();
+    }
+
+    /**
+     * Indexes every code of {@code requirementCategory}.
+     * Codes which are already indexed to another requirement are left untouched, so that the first requirement
+     * containing a code is always the one returned by {@link #getRequirementCategoryByCode(Code)}.
+     */
+    private void addToCodeIndex(RequirementCategory requirementCategory) {
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeIndex.putIfAbsent(code, requirementCategory);
+        }
+    }
+
+    /**
+     * Removes every code of {@code requirementCategory} that is indexed to {@code requirementCategory}.
+     */
+    private void removeFromCodeIndex(RequirementCategory requirementCategory) {
+        for (Code code : requirementCategory.getCodeSet()) {
+            if (codeIndex.get(code) == requirementCategory) {
+                codeIndex.remove(code);
+                reindexCode(code);
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code code} to the first requirement in the list that contains it, if any.
+     * This is only needed when the data contains the same code in more than one requirement.
+     */
+    private void reindexCode(Code code) {
+        for (RequirementCategory requirementCategory : internalList) {
+            if (requirementCategory.getCodeSet().contains(code)) {
+                codeIndex.put(code, requirementCategory);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the {@code Code} to {@code RequirementCategory} index from the contents of the list.
+     */
+    private void rebuildCodeIndex() {
+        codeIndex.clear();
+        internalList.forEach(this::addToCodeIndex);
     }
 
     /**
@@ -0,0 +1,284 @@
+package pwe.planner.model.util;
+
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Generates applications with a catalog of any number of modules, to test and benchmark the application at the scale
+ * of a real catalog, which {@link SampleDataUtil} is far from.
+ * <br><br>
+ * The same application is generated for the same seed and number of modules. The modules have co-requisite groups,
+ * a skewed distribution of tags, and are offered in the semesters most real modules are offered in. Every degree
+ * planner is filled with modules offered in its semester, planning co-requisites together, and the requirement
+ * categories of the sample application share out the planned modules and part of the rest of the catalog.
+ * The application generated satisfies every data constraint.
+ */
+public class SyntheticDataGenerator {
+
+    /** The seed used when none is given, so that the same data is generated everywhere by default. */
+    public static final long DEFAULT_SEED = 2113;
+
+    public static final String MESSAGE_INVALID_MODULE_COUNT = "The number of modules should be between 0 and %1$d";
+
+    private static final String[] DEPARTMENTS = {"CS", "MA", "ST", "IS", "EE", "CG", "GER", "GEQ", "IFS", "PC", "CM",
+        "LSM", "EC", "BT", "ACC", "FIN", "MKT", "PL", "SE", "HY"};
+    private static final int CODE_NUMBERS_PER_DEPARTMENT = 6000;
+    /** A multiplier coprime with {@link #CODE_NUMBERS_PER_DEPARTMENT}, spreading the modules over all levels. */
+    private static final int CODE_NUMBER_STRIDE = 7919;
+    private static final char[] CODE_SUFFIXES = {'C', 'R', 'S', 'T'};
+    private static final double CODE_SUFFIX_RATIO = 0.1;
+
+    private static final int MAX_MODULE_COUNT = DEPARTMENTS.length * CODE_NUMBERS_PER_DEPARTMENT;
+
+    private static final String[] NAME_QUALIFIERS = {"Introduction to", "Foundations of", "Principles of",
+        "Applied", "Advanced", "Topics in", "Projects in"};
+    private static final String[] NAME_SUBJECTS = {"Programming", "Algorithms", "Data Structures", "Databases",
+        "Networks", "Operating Systems", "Security", "Cryptography", "Software Engineering", "Calculus",
+        "Linear Algebra", "Statistics", "Probability", "Economics", "Ethics", "Communication", "Graphics",
+        "Compilers", "Machine Learning", "Robotics", "Circuits", "Signals", "Finance", "Marketing"};
+
+    /** Tags from the most to the least common, as the tags of real modules follow a long tail. */
+    private static final String[] TAGS = {"programming", "algorithms", "math", "design", "systems", "theory",
+        "communication", "project", "security", "database", "network", "statistics", "logic", "business",
+        "management", "ethics", "hardware", "graphics", "ai", "probability", "calculus", "economics", "law",
+        "research", "compilers", "crypto", "web", "mobile", "cloud", "robotics", "signals", "finance"};
+    private static final int MAX_TAGS_PER_MODULE = 6;
+
+    /** Credits of the modules, 4 being the most common. */
+    private static final String[] CREDITS = {"4", "4", "4", "4", "4", "4", "4", "2", "6", "8"};
+
+    /** Semesters the modules are offered in, most being offered in both regular semesters. */
+    private static final String[][] SEMESTER_OFFERINGS = {{"1", "2"}, {"1", "2"}, {"1", "2"}, {"1", "2"}, {"1"},
+        {"2"}, {"1", "2", "3"}, {"3", "4"}};
+
+    private static final double COREQUISITE_GROUP_RATIO = 0.05;
+    private static final int MAX_COREQUISITE_GROUP_SIZE = 3;
+
+    private static final int YEAR_COUNT = 4;
+    private static final int SEMESTER_COUNT = 4;
+    private static final int REGULAR_SEMESTER_COUNT = 2;
+    private static final int REGULAR_SEMESTER_CREDITS = 20;
+    private static final int SPECIAL_TERM_CREDITS = 4;
+
+    /** The ratio of the modules which are not planned, but are in a requirement category. */
+    private static final double CATEGORISED_MODULE_RATIO = 0.25;
+
+    private final long seed;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the catalog of {@code moduleCount} modules generated for the seed, which is the module list of
+     * {@link #generateApplication(int)}.
+     */
+    public List<Module> generateModules(int moduleCount) {
+        checkArgument(moduleCount >= 0 && moduleCount <= MAX_MODULE_COUNT,
+                String.format(MESSAGE_INVALID_MODULE_COUNT, MAX_MODULE_COUNT));
+
+        List<Module> modules = new ArrayList<>();
+        for (List<Module> corequisiteGroup : generateCorequisiteGroups(new Random(seed), moduleCount)) {
+            modules.addAll(corequisiteGroup);
+        }
+        return modules;
+    }
+
+    /**
+     * Returns the application generated for the seed, with a catalog of {@code moduleCount} modules, a degree planner
+     * for every semester of every year, and the requirement categories of the sample application.
+     */
+    public Application generateApplication(int moduleCount) {
+        checkArgument(moduleCount >= 0 && moduleCount <= MAX_MODULE_COUNT,
+                String.format(MESSAGE_INVALID_MODULE_COUNT, MAX_MODULE_COUNT));
+
+        Random random = new Random(seed);
+        List<List<Module>> corequisiteGroups = generateCorequisiteGroups(random, moduleCount);
+        List<Module> modules = new ArrayList<>();
+        for (List<Module> corequisiteGroup : corequisiteGroups) {
+            modules.addAll(corequisiteGroup);
+        }
+
+        Set<Code> plannedCodes = new HashSet<>();
+        List<DegreePlanner> degreePlanners = generateDegreePlanners(random, corequisiteGroups, plannedCodes);
+
+        Application application = new Application();
+        application.setModules(modules);
+        application.setDegreePlanners(degreePlanners);
+        application.setRequirementCategories(generateRequirementCategories(random, modules, plannedCodes));
+        return application;
+    }
+
+    /**
+     * Returns {@code moduleCount} modules in co-requisite groups, each module without co-requisites being in a group
+     * of its own. The modules of a group are co-requisites of each other, and are offered in the same semesters.
+     */
+    private static List<List<Module>> generateCorequisiteGroups(Random random, int moduleCount) {
+        List<List<Module>> corequisiteGroups = new ArrayList<>();
+        int moduleIndex = 0;
+        while (moduleIndex < moduleCount) {
+            int groupSize = random.nextDouble() < COREQUISITE_GROUP_RATIO
+                    ? 2 + random.nextInt(MAX_COREQUISITE_GROUP_SIZE - 1)
+                    : 1;
+            groupSize = Math.min(groupSize, moduleCount - moduleIndex);
+
+            List<Code> groupCodes = new ArrayList<>();
+            for (int i = 0; i < groupSize; i++) {
+                groupCodes.add(generateCode(random, moduleIndex + i));
+            }
+            Set<Semester> semesters = SampleDataUtil.getSemesterSet(
+                    SEMESTER_OFFERINGS[random.nextInt(SEMESTER_OFFERINGS.length)]);
+
+            List<Module> corequisiteGroup = new ArrayList<>();
+            for (Code code : groupCodes) {
+                Set<Code> corequisites = new HashSet<>(groupCodes);
+                corequisites.remove(code);
+                corequisiteGroup.add(new Module(code, generateName(random), generateCredits(random), semesters,
+                        corequisites, generateTags(random)));
+            }
+            corequisiteGroups.add(corequisiteGroup);
+            moduleIndex += groupSize;
+        }
+        return corequisiteGroups;
+    }
+
+    /**
+     * Returns the code of the module at {@code moduleIndex} of the catalog, which is unique in the catalog as the
+     * department and number are worked out from the index.
+     */
+    private static Code generateCode(Random random, int moduleIndex) {
+        String department = DEPARTMENTS[moduleIndex % DEPARTMENTS.length];
+        int number = 1000 + (int) ((long) (moduleIndex / DEPARTMENTS.length) * CODE_NUMBER_STRIDE
+                % CODE_NUMBERS_PER_DEPARTMENT);
+        String suffix = random.nextDouble() < CODE_SUFFIX_RATIO
+                ? String.valueOf(CODE_SUFFIXES[random.nextInt(CODE_SUFFIXES.length)])
+                : "";
+        return new Code(String.format(Locale.ROOT, "%s%04d%s", department, number, suffix));
+    }
+
+    private static Name generateName(Random random) {
+        return new Name(NAME_QUALIFIERS[random.nextInt(NAME_QUALIFIERS.length)] + " "
+                + NAME_SUBJECTS[random.nextInt(NAME_SUBJECTS.length)]);
+    }
+
+    private static Credits generateCredits(Random random) {
+        return new Credits(CREDITS[random.nextInt(CREDITS.length)]);
+    }
+
+    /**
+     * Returns 1 to {@value #MAX_TAGS_PER_MODULE} tags, the most common tags being the most likely.
+     */
+    private static Set<Tag> generateTags(Random random) {
+        int tagCount = 1 + random.nextInt(MAX_TAGS_PER_MODULE);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            double skewedRandom = random.nextDouble() * random.nextDouble();
+            tags.add(new Tag(TAGS[(int) (skewedRandom * TAGS.length)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns a degree planner for every semester of every year, each planned with co-requisite groups offered in its
+     * semester which are not planned yet, until it has the credits of a typical semester. The codes planned are added
+     * to {@code plannedCodes}.
+     */
+    private static List<DegreePlanner> generateDegreePlanners(Random random, List<List<Module>> corequisiteGroups,
+            Set<Code> plannedCodes) {
+        List<List<Module>> unplannedGroups = new LinkedList<>(corequisiteGroups);
+        Collections.shuffle(unplannedGroups, random);
+
+        List<DegreePlanner> degreePlanners = new ArrayList<>();
+        for (int year = 1; year <= YEAR_COUNT; year++) {
+            for (int semester = 1; semester <= SEMESTER_COUNT; semester++) {
+                Semester plannerSemester = new Semester(String.valueOf(semester));
+                int targetCredits = semester <= REGULAR_SEMESTER_COUNT
+                        ? REGULAR_SEMESTER_CREDITS
+                        : SPECIAL_TERM_CREDITS;
+                Set<Code> codes = planCorequisiteGroups(unplannedGroups, plannerSemester, targetCredits);
+                plannedCodes.addAll(codes);
+                degreePlanners.add(new DegreePlanner(new Year(String.valueOf(year)), plannerSemester, codes));
+            }
+        }
+        return degreePlanners;
+    }
+
+    /**
+     * Removes co-requisite groups offered in {@code semester} from {@code unplannedGroups}, without going over
+     * {@code targetCredits}, until {@code targetCredits} is reached, and returns the codes of the groups removed.
+     */
+    private static Set<Code> planCorequisiteGroups(List<List<Module>> unplannedGroups, Semester semester,
+            int targetCredits) {
+        Set<Code> codes = new HashSet<>();
+        int plannedCredits = 0;
+        Iterator<List<Module>> iterator = unplannedGroups.iterator();
+        while (plannedCredits < targetCredits && iterator.hasNext()) {
+            List<Module> corequisiteGroup = iterator.next();
+            int groupCredits = corequisiteGroup.stream()
+                    .mapToInt(module -> Integer.parseInt(module.getCredits().value))
+                    .sum();
+            if (!corequisiteGroup.get(0).getSemesters().contains(semester)
+                    || plannedCredits + groupCredits > targetCredits) {
+                continue;
+            }
+
+            corequisiteGroup.forEach(module -> codes.add(module.getCode()));
+            plannedCredits += groupCredits;
+            iterator.remove();
+        }
+        return codes;
+    }
+
+    /**
+     * Returns the requirement categories of the sample application, which share out the planned modules and
+     * {@value #CATEGORISED_MODULE_RATIO} of the other modules by department, each module being in one category at
+     * most.
+     */
+    private static List<RequirementCategory> generateRequirementCategories(Random random, List<Module> modules,
+            Set<Code> plannedCodes) {
+        RequirementCategory[] sampleCategories = SampleDataUtil.getSampleRequirementCategories();
+        List<Set<Code>> categoryCodes = new ArrayList<>();
+        for (int i = 0; i < sampleCategories.length; i++) {
+            categoryCodes.add(new HashSet<>());
+        }
+
+        for (int moduleIndex = 0; moduleIndex < modules.size(); moduleIndex++) {
+            Code code = modules.get(moduleIndex).getCode();
+            if (plannedCodes.contains(code) || random.nextDouble() < CATEGORISED_MODULE_RATIO) {
+                int departmentIndex = moduleIndex % DEPARTMENTS.length;
+                categoryCodes.get(departmentIndex % sampleCategories.length).add(code);
+            }
+        }
+
+        List<RequirementCategory> requirementCategories = new ArrayList<>();
+        for (int i = 0; i < sampleCategories.length; i++) {
+            requirementCategories.add(new RequirementCategory(sampleCategories[i].getName(),
+                    sampleCategories[i].getCredits(), categoryCodes.get(i)));
+        }
+        return requirementCategories;
+    }
+}
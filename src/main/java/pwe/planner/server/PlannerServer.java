@@ -0,0 +1,368 @@
+package pwe.planner.server;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.ReadOnlyUserPrefs;
+import pwe.planner.storage.PlanOverlayApplicationStorage;
+import pwe.planner.storage.SharedModuleCatalog;
+import pwe.planner.storage.UserPrefsStorage;
+
+/**
+ * Serves the plans of any number of students over a local HTTP endpoint, each plan in its own {@link PlannerSession}
+ * over the same {@link SharedModuleCatalog}.
+ * <br><br>
+ * The endpoint has the following resources, where {@code ID} is the session id, which names the overlay file of the
+ * plan of the session in the plan directory:
+ * <ul>
+ *     <li>{@code POST /sessions/ID/commands}, with the command text as the body, executes the command on the plan of
+ *     the session, opening the session if needed. The response is a JSON object with the {@code feedback} of the
+ *     command, or the {@code error} if the command failed.</li>
+ *     <li>{@code DELETE /sessions/ID} saves the plan of the session and closes the session.</li>
+ * </ul>
+ * Requests are handled on a bounded pool of workers, and are rejected with {@code 503 Service Unavailable} once the
+ * queue of the pool is full, or once the maximum number of sessions are open. Sessions which go without executing a
+ * command for longer than the session idle timeout are closed.
+ */
+public class PlannerServer implements AutoCloseable {
+
+    public static final String SESSIONS_PATH = "/sessions/";
+    public static final String COMMANDS_PATH = "/commands";
+
+    public static final String MESSAGE_SERVER_BUSY = "The server is busy, please try again later.";
+    public static final String MESSAGE_TOO_MANY_SESSIONS = "Too many sessions are open, please try again later.";
+    public static final String MESSAGE_PLAN_UNREADABLE = "The plan of session %1$s cannot be read.";
+    public static final String MESSAGE_COMMAND_TOO_LONG = "The command cannot be longer than %1$d bytes.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "An unexpected error occurred, please try again.";
+
+    /** Maximum length of the command text in a request, in bytes. */
+    public static final int MAX_COMMAND_LENGTH = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(PlannerServer.class);
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String PLAN_FILE_EXTENSION = ".json";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final SharedModuleCatalog catalog;
+    private final ReadOnlyUserPrefs userPrefs;
+    private final UserPrefsStorage userPrefsStorage;
+    private final ServerSettings settings;
+    private final HttpServer httpServer;
+    private final ThreadPoolExecutor workerPool;
+    private final ScheduledExecutorService sessionCloser;
+    private final Map<String, PlannerSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a server of the plans over {@code catalog}, listening on the loopback address.
+     * The server does not handle requests until {@link #start()} is called.
+     *
+     * @throws IOException if the server cannot listen on the port of {@code settings}.
+     */
+    public PlannerServer(SharedModuleCatalog catalog, ReadOnlyUserPrefs userPrefs, UserPrefsStorage userPrefsStorage,
+            ServerSettings settings) throws IOException {
+        requireAllNonNull(catalog, userPrefs, userPrefsStorage, settings);
+
+        this.catalog = catalog;
+        this.userPrefs = userPrefs;
+        this.userPrefsStorage = userPrefsStorage;
+        this.settings = settings;
+
+        workerPool = new ThreadPoolExecutor(settings.getWorkerCount(), settings.getWorkerCount(), 0,
+                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                createThreadFactory("PlannerServer-worker-"));
+        sessionCloser = Executors.newSingleThreadScheduledExecutor(createThreadFactory("PlannerServer-sessions-"));
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), settings.getPort()), 0);
+        // requests are only dispatched to the worker pool on the thread of the server, which never blocks on a command
+        httpServer.createContext(SESSIONS_PATH, this::dispatch);
+    }
+
+    /**
+     * Returns a factory of daemon threads named with {@code threadNamePrefix} followed by the thread number.
+     */
+    private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of sessions which are open.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Starts handling requests, and closing the sessions which are idle.
+     */
+    public void start() {
+        long closeIntervalMillis = Math.max(TimeUnit.SECONDS.toMillis(1),
+                settings.getSessionIdleTimeout().toMillis() / 2);
+        sessionCloser.scheduleWithFixedDelay(this::closeIdleSessions, closeIntervalMillis, closeIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        httpServer.start();
+        logger.info("Serving plans over " + catalog.getFilePath() + " on port " + getPort());
+    }
+
+    /**
+     * Stops handling requests, waits for the commands being executed to complete, then closes every session.
+     */
+    @Override
+    public void close() {
+        logger.info("Stopping server on port " + getPort());
+        httpServer.stop(0);
+        sessionCloser.shutdownNow();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning(() -> "Requests still being handled after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        sessions.values().forEach(PlannerSession::close);
+        sessions.clear();
+    }
+
+    /**
+     * Closes the sessions which went without executing a command for longer than the session idle timeout.
+     */
+    void closeIdleSessions() {
+        long now = System.nanoTime();
+        long idleTimeoutNanos = settings.getSessionIdleTimeout().toNanos();
+        sessions.forEach((sessionId, session) -> {
+            if (now - session.getLastAccessTime() >= idleTimeoutNanos && sessions.remove(sessionId, session)) {
+                logger.info(() -> "Closing idle session " + sessionId);
+                session.close();
+            }
+        });
+    }
+
+    /**
+     * Hands {@code exchange} to the worker pool, or rejects it if the queue of the pool is full.
+     */
+    private void dispatch(HttpExchange exchange) throws IOException {
+        try {
+            workerPool.execute(() -> handle(exchange));
+        } catch (RejectedExecutionException ree) {
+            logger.warning(() -> "Rejecting request, no worker available: " + exchange.getRequestURI());
+            sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE, MESSAGE_SERVER_BUSY);
+        }
+    }
+
+    /**
+     * Handles the request of {@code exchange} on the current worker.
+     */
+    private void handle(HttpExchange exchange) {
+        try {
+            String[] pathSegments = exchange.getRequestURI().getPath().substring(SESSIONS_PATH.length()).split("/", -1);
+            String sessionId = pathSegments[0];
+            if (!SESSION_ID_PATTERN.matcher(sessionId).matches() || pathSegments.length > 2) {
+                sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND, "No such resource");
+            } else if (pathSegments.length == 2 && ("/" + pathSegments[1]).equals(COMMANDS_PATH)) {
+                handleCommand(exchange, sessionId);
+            } else if (pathSegments.length == 1) {
+                handleCloseSession(exchange, sessionId);
+            } else {
+                sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND, "No such resource");
+            }
+        } catch (IOException ioe) {
+            logger.warning(() -> "Failed to respond to " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(ioe));
+        } catch (RuntimeException re) {
+            logger.severe("Unexpected error handling " + exchange.getRequestURI() + ": " + StringUtil.getDetails(re));
+            trySendError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, MESSAGE_UNEXPECTED_ERROR);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Executes the command in the body of {@code exchange} on the plan of session {@code sessionId}.
+     */
+    private void handleCommand(HttpExchange exchange, String sessionId) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only POST is allowed");
+            return;
+        }
+
+        Optional<String> commandText = readCommandText(exchange.getRequestBody());
+        if (!commandText.isPresent()) {
+            sendError(exchange, HttpURLConnection.HTTP_ENTITY_TOO_LARGE,
+                    String.format(MESSAGE_COMMAND_TOO_LONG, MAX_COMMAND_LENGTH));
+            return;
+        }
+
+        try {
+            Optional<CommandResult> commandResult = Optional.empty();
+            while (!commandResult.isPresent()) {
+                Optional<PlannerSession> session = getOrOpenSession(sessionId);
+                if (!session.isPresent()) {
+                    sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE, MESSAGE_TOO_MANY_SESSIONS);
+                    return;
+                }
+                // the session is empty if it was closed after it was looked up, in which case it is opened again
+                commandResult = session.get().execute(commandText.get());
+                if (commandResult.isPresent()) {
+                    sendCommandResult(exchange, commandResult.get(), session.get());
+                }
+            }
+        } catch (CommandException | ParseException e) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+        } catch (DataConversionException dce) {
+            logger.warning(() -> "Failed to read plan of session " + sessionId + ": " + StringUtil.getDetails(dce));
+            sendError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, String.format(MESSAGE_PLAN_UNREADABLE,
+                    sessionId));
+        }
+    }
+
+    /**
+     * Closes session {@code sessionId}, if it is open.
+     */
+    private void handleCloseSession(HttpExchange exchange, String sessionId) throws IOException {
+        if (!exchange.getRequestMethod().equals("DELETE")) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only DELETE is allowed");
+            return;
+        }
+
+        PlannerSession session = sessions.remove(sessionId);
+        if (session != null) {
+            logger.info(() -> "Closing session " + sessionId);
+            session.close();
+        }
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_NO_CONTENT, -1);
+    }
+
+    /**
+     * Returns the open session {@code sessionId}, opening it if it is not open.
+     * Returns an empty result if the session is not open and the maximum number of sessions are open.
+     *
+     * @throws DataConversionException if the session is not open and its plan cannot be read.
+     */
+    private Optional<PlannerSession> getOrOpenSession(String sessionId) throws DataConversionException {
+        PlannerSession session = sessions.get(sessionId);
+        if (session != null) {
+            return Optional.of(session);
+        }
+        if (sessions.size() >= settings.getMaxSessionCount()) {
+            logger.warning(() -> "Rejecting session " + sessionId + ", " + sessions.size() + " sessions open");
+            return Optional.empty();
+        }
+
+        Path planFilePath = settings.getPlanDirectoryPath().resolve(sessionId + PLAN_FILE_EXTENSION);
+        PlannerSession openedSession = PlannerSession.open(sessionId,
+                new PlanOverlayApplicationStorage(catalog, planFilePath), userPrefsStorage, userPrefs);
+        session = sessions.putIfAbsent(sessionId, openedSession);
+        if (session != null) {
+            // the session was opened concurrently by another request, which is used instead
+            openedSession.close();
+            return Optional.of(session);
+        }
+
+        logger.info(() -> "Opened session " + sessionId + " with plan " + planFilePath);
+        return Optional.of(openedSession);
+    }
+
+    /**
+     * Reads the command text in {@code requestBody}, or returns an empty result if the command text is longer than
+     * {@link #MAX_COMMAND_LENGTH}.
+     */
+    private static Optional<String> readCommandText(InputStream requestBody) throws IOException {
+        byte[] commandBytes = new byte[MAX_COMMAND_LENGTH + 1];
+        int commandLength = requestBody.readNBytes(commandBytes, 0, commandBytes.length);
+        if (commandLength > MAX_COMMAND_LENGTH) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(commandBytes, 0, commandLength, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Responds to {@code exchange} with {@code commandResult}, and the last save failure of {@code session} (if any).
+     */
+    private static void sendCommandResult(HttpExchange exchange, CommandResult commandResult, PlannerSession session)
+            throws IOException {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("feedback", commandResult.getFeedbackToUser());
+        session.getSaveFailure().ifPresent(saveFailure -> response.put("saveFailure", saveFailure.getMessage()));
+        sendJson(exchange, HttpURLConnection.HTTP_OK, response);
+    }
+
+    /**
+     * Responds to {@code exchange} with {@code statusCode} and the error {@code message}.
+     */
+    private static void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        sendJson(exchange, statusCode, Map.of("error", message));
+    }
+
+    /**
+     * Responds to {@code exchange} with {@code statusCode} and the error {@code message}, unless a response was
+     * already sent.
+     */
+    private static void trySendError(HttpExchange exchange, int statusCode, String message) {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+
+        try {
+            sendError(exchange, statusCode, message);
+        } catch (IOException ioe) {
+            logger.warning(() -> "Failed to respond to " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Responds to {@code exchange} with {@code statusCode} and {@code body} in JSON.
+     */
+    private static void sendJson(HttpExchange exchange, int statusCode, Object body) throws IOException {
+        byte[] responseBytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, responseBytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(responseBytes);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package pwe.planner.server;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.logic.Logic;
+import pwe.planner.logic.LogicManager;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.ReadOnlyUserPrefs;
+import pwe.planner.storage.ApplicationSaver;
+import pwe.planner.storage.PlanOverlayApplicationStorage;
+import pwe.planner.storage.StorageManager;
+import pwe.planner.storage.UserPrefsStorage;
+
+/**
+ * The plan of one student served by {@link PlannerServer}, with its own {@code ModelManager} (and hence its own undo
+ * history) over the shared catalog of its {@code PlanOverlayApplicationStorage}.
+ * <br><br>
+ * Commands of a session are executed one at a time, in the order they acquire the lock of the session, while commands
+ * of different sessions are executed concurrently. The plan is saved to the overlay file of the session by the command
+ * which modified it, while holding the lock of the session, hence a session does not have a thread of its own.
+ */
+public class PlannerSession {
+
+    private final String sessionId;
+    private final Logic logic;
+    private final ApplicationSaver applicationSaver;
+    private volatile long lastAccessTime;
+    private boolean closed;
+
+    private PlannerSession(String sessionId, Logic logic, ApplicationSaver applicationSaver) {
+        this.sessionId = sessionId;
+        this.logic = logic;
+        this.applicationSaver = applicationSaver;
+        lastAccessTime = System.nanoTime();
+    }
+
+    /**
+     * Opens the session {@code sessionId}, with the plan in the overlay file of {@code storage}.
+     * A new plan is started if the overlay file does not exist yet.
+     *
+     * @throws DataConversionException if the plan in the overlay file cannot be read.
+     */
+    public static PlannerSession open(String sessionId, PlanOverlayApplicationStorage storage,
+            UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) throws DataConversionException {
+        requireAllNonNull(sessionId, storage, userPrefsStorage, userPrefs);
+
+        ModelManager model = new ModelManager(storage.readApplication().get(), userPrefs);
+        model.setModuleListReadOnly(storage.isModuleListReadOnly());
+        ApplicationSaver applicationSaver =
+                ApplicationSaver.createSynchronous(new StorageManager(storage, userPrefsStorage));
+        return new PlannerSession(sessionId, new LogicManager(model, applicationSaver), applicationSaver);
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Returns the time this session last executed a command, as given by {@link System#nanoTime()}.
+     */
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    /**
+     * Returns the failure of the last save of the plan, if the last save failed.
+     * The failure is recorded by the command which saved the plan, hence it is read while holding the lock of the
+     * session.
+     */
+    public synchronized Optional<IOException> getSaveFailure() {
+        return Optional.ofNullable(logic.saveFailureProperty().getValue());
+    }
+
+    /**
+     * Executes {@code commandText} on the plan of this session, after every command of this session which acquired
+     * the lock of the session earlier. Returns an empty result if the session was closed in the meantime, in which
+     * case the command is not executed.
+     *
+     * @see Logic#execute(String)
+     */
+    public synchronized Optional<CommandResult> execute(String commandText) throws CommandException, ParseException {
+        if (closed) {
+            return Optional.empty();
+        }
+
+        lastAccessTime = System.nanoTime();
+        return Optional.of(logic.execute(commandText));
+    }
+
+    /**
+     * Closes the session, whose plan was saved by the commands which modified it.
+     * No more commands are executed by the session afterwards.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        applicationSaver.shutdown();
+    }
+}
@@ -0,0 +1,131 @@
+package pwe.planner.server;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Settings of a {@link PlannerServer}.
+ */
+public class ServerSettings {
+
+    private int port = 8080;
+    private int workerCount = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 256;
+    private int maxSessionCount = 1000;
+    private Duration sessionIdleTimeout = Duration.ofMinutes(30);
+    private Path planDirectoryPath = Paths.get("data", "plans");
+
+    /**
+     * Returns the port to listen on, or 0 to listen on any free port.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        checkArgument(port >= 0 && port <= 0xFFFF, "Port must be between 0 and 65535");
+        this.port = port;
+    }
+
+    /**
+     * Returns the number of commands executed concurrently.
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public void setWorkerCount(int workerCount) {
+        checkArgument(workerCount > 0, "Worker count must be positive");
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * Returns the number of requests which can wait for a worker, beyond which requests are rejected.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        checkArgument(queueCapacity > 0, "Queue capacity must be positive");
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Returns the number of sessions which can be open at once, beyond which new sessions are rejected.
+     */
+    public int getMaxSessionCount() {
+        return maxSessionCount;
+    }
+
+    public void setMaxSessionCount(int maxSessionCount) {
+        checkArgument(maxSessionCount > 0, "Maximum session count must be positive");
+        this.maxSessionCount = maxSessionCount;
+    }
+
+    /**
+     * Returns the time a session can go without executing a command before it is closed.
+     */
+    public Duration getSessionIdleTimeout() {
+        return sessionIdleTimeout;
+    }
+
+    public void setSessionIdleTimeout(Duration sessionIdleTimeout) {
+        requireNonNull(sessionIdleTimeout);
+        checkArgument(!sessionIdleTimeout.isNegative(), "Session idle timeout cannot be negative");
+
+        this.sessionIdleTimeout = sessionIdleTimeout;
+    }
+
+    /**
+     * Returns the directory of the overlay files holding the plans of the sessions.
+     */
+    public Path getPlanDirectoryPath() {
+        return planDirectoryPath;
+    }
+
+    public void setPlanDirectoryPath(Path planDirectoryPath) {
+        requireNonNull(planDirectoryPath);
+
+        this.planDirectoryPath = planDirectoryPath;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ServerSettings)) { //this handles null as well.
+            return false;
+        }
+
+        ServerSettings o = (ServerSettings) other;
+
+        return port == o.port
+                && workerCount == o.workerCount
+                && queueCapacity == o.queueCapacity
+                && maxSessionCount == o.maxSessionCount
+                && sessionIdleTimeout.equals(o.sessionIdleTimeout)
+                && planDirectoryPath.equals(o.planDirectoryPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(port, workerCount, queueCapacity, maxSessionCount, sessionIdleTimeout, planDirectoryPath);
+    }
+
+    @Override
+    public String toString() {
+        return "Port : " + port
+                + "\nWorkers : " + workerCount
+                + "\nQueue capacity : " + queueCapacity
+                + "\nMaximum sessions : " + maxSessionCount
+                + "\nSession idle timeout : " + sessionIdleTimeout
+                + "\nPlan directory : " + planDirectoryPath;
+    }
+}
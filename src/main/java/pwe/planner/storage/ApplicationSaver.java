@@ -0,0 +1,169 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.ReadOnlyApplication;
+
+/**
+ * Saves snapshots of the application data to a {@code Storage} on a background thread, or on the thread requesting the
+ * save if created by {@link #createSynchronous(Storage)}.
+ * <br><br>
+ * A snapshot requested to be saved while another snapshot is still waiting to be saved replaces the waiting snapshot,
+ * hence a burst of requests results in a single save of the latest snapshot.
+ * The time taken to write a snapshot can be reported to a recorder given with the request, on the thread saving it.
+ * Snapshots must not be modified once requested to be saved.
+ * The outcome of each save is reported through {@link #saveFailureProperty()}, which is only updated on the
+ * notification executor given.
+ */
+public class ApplicationSaver {
+    private static final Logger logger = LogsCenter.getLogger(ApplicationSaver.class);
+    private static final String SAVE_THREAD_NAME = "ApplicationSaver";
+
+    private final Storage storage;
+    private final Executor notificationExecutor;
+    // null if the snapshots are saved on the thread requesting the save
+    private final ExecutorService saveExecutor;
+    private final AtomicReference<SaveRequest> pendingRequest = new AtomicReference<>();
+    private final ReadOnlyObjectWrapper<IOException> saveFailure = new ReadOnlyObjectWrapper<>();
+
+    public ApplicationSaver(Storage storage, Executor notificationExecutor) {
+        this(storage, notificationExecutor, Executors.newSingleThreadExecutor(runnable -> {
+            Thread saveThread = new Thread(runnable, SAVE_THREAD_NAME);
+            // does not keep the JVM alive, pending saves are written by shutdown() instead
+            saveThread.setDaemon(true);
+            return saveThread;
+        }));
+    }
+
+    private ApplicationSaver(Storage storage, Executor notificationExecutor, ExecutorService saveExecutor) {
+        requireAllNonNull(storage, notificationExecutor);
+
+        this.storage = storage;
+        this.notificationExecutor = notificationExecutor;
+        this.saveExecutor = saveExecutor;
+    }
+
+    /**
+     * Returns an {@code ApplicationSaver} which saves each snapshot on the thread requesting it to be saved, before
+     * {@link #requestSave(ReadOnlyApplication)} returns, and updates {@link #saveFailureProperty()} on that thread.
+     * Unlike an {@code ApplicationSaver} created by the constructor, it does not start a thread of its own, hence it
+     * suits applications which are many to a process, e.g. the sessions of {@code PlannerServer}.
+     */
+    public static ApplicationSaver createSynchronous(Storage storage) {
+        requireNonNull(storage);
+
+        return new ApplicationSaver(storage, Runnable::run, null);
+    }
+
+    /**
+     * Returns the failure of the last save, or a property holding null if the last save succeeded.
+     */
+    public ReadOnlyObjectProperty<IOException> saveFailureProperty() {
+        return saveFailure.getReadOnlyProperty();
+    }
+
+    /**
+     * Requests {@code snapshot} to be saved, replacing the snapshot which is still waiting to be saved (if any).
+     */
+    public void requestSave(ReadOnlyApplication snapshot) {
+        requestSave(snapshot, saveNanos -> { });
+    }
+
+    /**
+     * Requests {@code snapshot} to be saved, replacing the snapshot which is still waiting to be saved (if any), and
+     * reports the time taken to save it, in nanoseconds, to {@code saveTimeRecorder} on the thread saving it, whether
+     * the save succeeds or not. The time is not reported if the snapshot is replaced before it is saved, as the save
+     * of the snapshot replacing it is reported to the recorder of that snapshot instead.
+     */
+    public void requestSave(ReadOnlyApplication snapshot, LongConsumer saveTimeRecorder) {
+        requireAllNonNull(snapshot, saveTimeRecorder);
+
+        // a save is only scheduled if no snapshot was waiting, as the save scheduled for it will save this snapshot
+        if (pendingRequest.getAndSet(new SaveRequest(snapshot, saveTimeRecorder)) != null) {
+            return;
+        }
+
+        if (saveExecutor == null) {
+            savePendingSnapshot();
+        } else {
+            saveExecutor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot requested to be saved so far has been saved, or has failed to be saved.
+     */
+    public void flush() {
+        if (saveExecutor == null) {
+            return;
+        }
+
+        try {
+            // saves are run in the order they were scheduled, hence this runs after every save scheduled so far
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail.", ee);
+        }
+    }
+
+    /**
+     * Saves the snapshots requested to be saved so far, then stops the background thread.
+     * No more snapshots can be requested to be saved afterwards.
+     */
+    public void shutdown() {
+        if (saveExecutor == null) {
+            return;
+        }
+
+        flush();
+        saveExecutor.shutdown();
+    }
+
+    /**
+     * Saves the snapshot waiting to be saved.
+     */
+    private void savePendingSnapshot() {
+        SaveRequest request = pendingRequest.getAndSet(null);
+        assert request != null : "Each scheduled save has a snapshot waiting to be saved";
+
+        long saveStartTime = System.nanoTime();
+        try {
+            storage.saveApplication(request.snapshot);
+            notificationExecutor.execute(() -> saveFailure.set(null));
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data: " + StringUtil.getDetails(ioe));
+            notificationExecutor.execute(() -> saveFailure.set(ioe));
+        } finally {
+            request.saveTimeRecorder.accept(System.nanoTime() - saveStartTime);
+        }
+    }
+
+    /**
+     * A snapshot requested to be saved, with the recorder of the time taken to save it.
+     */
+    private static class SaveRequest {
+        private final ReadOnlyApplication snapshot;
+        private final LongConsumer saveTimeRecorder;
+
+        private SaveRequest(ReadOnlyApplication snapshot, LongConsumer saveTimeRecorder) {
+            this.snapshot = snapshot;
+            this.saveTimeRecorder = saveTimeRecorder;
+        }
+    }
+}
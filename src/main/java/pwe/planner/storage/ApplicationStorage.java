@@ -59,6 +59,20 @@ public interface ApplicationStorage {
      */
     void saveApplication(ReadOnlyApplication application) throws IOException;
 
+    /**
+     * Rewrites the data saved by {@link #saveApplication(ReadOnlyApplication)} in the form which is fastest to read
+     * back, if it is not already in that form. Called before the application exits.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compact() throws IOException;
+
+    /**
+     * Returns true if the module list cannot be changed, e.g. as it is a read-only catalog, in which case an
+     * application can only be saved with the module list read from the storage.
+     */
+    boolean isModuleListReadOnly();
+
     /**
      * Saves the given {@link ReadOnlyApplication} to the storage.
      *
@@ -0,0 +1,226 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An {@link ApplicationStorage} which saves all the lists of the application into a single snapshot file, in the
+ * compact binary format of {@link BinarySnapshot}, which is much faster to read than the JSON data files.
+ * <br><br>
+ * As all the lists are in the snapshot file, the file path of every list is the snapshot file path, and saving any
+ * single list saves the whole application.
+ * Use {@link StorageFormatConverter} to convert between the snapshot file and the JSON data files.
+ */
+public class BinaryApplicationStorage implements ApplicationStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryApplicationStorage.class);
+    private static final long UNSAVED_VERSION = -1;
+
+    private final Path snapshotFilePath;
+
+    /*
+     * Versions of the lists last written to the snapshot file, used to skip the write if no list changed since.
+     * See ReadOnlyApplication#getModuleListVersion().
+     */
+    private long savedModuleListVersion = UNSAVED_VERSION;
+    private long savedDegreePlannerListVersion = UNSAVED_VERSION;
+    private long savedRequirementCategoryListVersion = UNSAVED_VERSION;
+
+    public BinaryApplicationStorage(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+
+        this.snapshotFilePath = snapshotFilePath;
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Path getModuleListFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Path getDegreePlannerListFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Path getRequirementCategoryListFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplication> readApplication() throws DataConversionException, IOException {
+        return readApplication(snapshotFilePath);
+    }
+
+    /**
+     * Reads the application from the snapshot file at {@code moduleListFilePath}. The other file paths are not used,
+     * as all the lists are in the snapshot file.
+     *
+     * @param moduleListFilePath cannot be null
+     * @param degreePlannerListFilePath cannot be null
+     * @param requirementCategoryListFilePath cannot be null
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) throws DataConversionException, IOException {
+        requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+
+        return readApplication(moduleListFilePath);
+    }
+
+    /**
+     * @param filePath location of the snapshot file. Cannot be null.
+     */
+    public Optional<ReadOnlyApplication> readApplication(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        byte[] snapshot = Files.readAllBytes(filePath);
+        try {
+            return Optional.of(BinarySnapshot.decode(snapshot));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves {@code application} to the snapshot file, unless none of its lists were modified since they were last
+     * saved by this method.
+     */
+    @Override
+    public void saveApplication(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        if (application.getModuleListVersion() == savedModuleListVersion
+                && application.getDegreePlannerListVersion() == savedDegreePlannerListVersion
+                && application.getRequirementCategoryListVersion() == savedRequirementCategoryListVersion) {
+            logger.fine(() -> "Application unchanged, skipping write to snapshot file: " + snapshotFilePath);
+            return;
+        }
+
+        saveApplication(application, snapshotFilePath);
+    }
+
+    /**
+     * @param filePath location of the snapshot file. Cannot be null.
+     */
+    public void saveApplication(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        // the versions are read before encoding, so a list modified while it is encoded is saved again next time
+        long moduleListVersion = application.getModuleListVersion();
+        long degreePlannerListVersion = application.getDegreePlannerListVersion();
+        long requirementCategoryListVersion = application.getRequirementCategoryListVersion();
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, BinarySnapshot.encode(application));
+
+        if (filePath.equals(snapshotFilePath)) {
+            savedModuleListVersion = moduleListVersion;
+            savedDegreePlannerListVersion = degreePlannerListVersion;
+            savedRequirementCategoryListVersion = requirementCategoryListVersion;
+        }
+    }
+
+    /**
+     * Does nothing, as the snapshot file is always fully written.
+     */
+    @Override
+    public void compact() {}
+
+    @Override
+    public boolean isModuleListReadOnly() {
+        return false;
+    }
+
+    // ================ Single list methods, which read and write the whole snapshot file ================
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList() throws DataConversionException, IOException {
+        return readModuleList(snapshotFilePath);
+    }
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException, IOException {
+        return readApplication(filePath).map(ReadOnlyApplication::getModuleList);
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application) throws IOException {
+        saveModuleList(application, snapshotFilePath);
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+        saveApplication(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList()
+            throws DataConversionException, IOException {
+        return readDegreePlannerList(snapshotFilePath);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList(Path filePath)
+            throws DataConversionException, IOException {
+        return readApplication(filePath).map(ReadOnlyApplication::getDegreePlannerList);
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application) throws IOException {
+        saveDegreePlannerList(application, snapshotFilePath);
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+        saveApplication(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList()
+            throws DataConversionException, IOException {
+        return readRequirementCategoryList(snapshotFilePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList(Path filePath)
+            throws DataConversionException, IOException {
+        return readApplication(filePath).map(ReadOnlyApplication::getRequirementCategoryList);
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application) throws IOException {
+        saveRequirementCategoryList(application, snapshotFilePath);
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+        saveApplication(application, filePath);
+    }
+}
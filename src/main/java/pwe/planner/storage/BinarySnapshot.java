@@ -0,0 +1,448 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Converts an application to and from the compact binary snapshot format of {@link BinaryApplicationStorage}.
+ * <br><br>
+ * A snapshot is a header followed by a payload. The header holds {@link #MAGIC}, {@link #FORMAT_VERSION}, the length
+ * of the payload and its CRC32 checksum.<br>
+ * The payload starts with a dictionary of every distinct code, name and tag in the application, which the rest of the
+ * payload refers to by index. Numbers (credits, years, semesters and counts) are unsigned varints, and the semesters a
+ * module is offered in are a bitset.
+ * <br><br>
+ * Each value in the dictionary is converted into a model object (and hence validated) at most once, no matter how
+ * often it is referred to, and the model objects are shared by every module, degree planner and requirement category
+ * referring to them.
+ */
+final class BinarySnapshot {
+
+    static final int MAGIC = 0x50574553; // "PWES"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_LENGTH = Integer.BYTES * 3 + Long.BYTES;
+
+    static final String MESSAGE_NOT_A_SNAPSHOT = "The file is not a binary snapshot.";
+    static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "The binary snapshot format version %1$d is not supported.";
+    static final String MESSAGE_CORRUPTED = "The binary snapshot is truncated or corrupted.";
+
+    private BinarySnapshot() {}
+
+    /**
+     * Returns the snapshot of the lists of {@code application}.
+     */
+    static byte[] encode(ReadOnlyApplication application) {
+        requireNonNull(application);
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        ByteArrayOutputStream lists = new ByteArrayOutputStream();
+
+        List<Module> modules = application.getModuleList();
+        writeVarInt(lists, modules.size());
+        for (Module module : modules) {
+            writeString(lists, dictionary, module.getCode().value);
+            writeString(lists, dictionary, module.getName().fullName);
+            writeVarInt(lists, Integer.parseInt(module.getCredits().value));
+            writeVarInt(lists, toBitset(module.getSemesters()));
+            writeStrings(lists, dictionary, module.getCorequisites(), code -> code.value);
+            writeStrings(lists, dictionary, module.getTags(), tag -> tag.tagName);
+        }
+
+        List<DegreePlanner> degreePlanners = application.getDegreePlannerList();
+        writeVarInt(lists, degreePlanners.size());
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            writeVarInt(lists, Integer.parseInt(degreePlanner.getYear().year));
+            writeVarInt(lists, Integer.parseInt(degreePlanner.getSemester().plannerSemester));
+            writeStrings(lists, dictionary, degreePlanner.getCodes(), code -> code.value);
+        }
+
+        List<RequirementCategory> requirementCategories = application.getRequirementCategoryList();
+        writeVarInt(lists, requirementCategories.size());
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            writeString(lists, dictionary, requirementCategory.getName().fullName);
+            writeVarInt(lists, Integer.parseInt(requirementCategory.getCredits().value));
+            writeStrings(lists, dictionary, requirementCategory.getCodeSet(), code -> code.value);
+        }
+
+        // the dictionary is only complete once the lists are written, but is needed first when decoding
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        writeVarInt(payload, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(payload, bytes.length);
+            payload.write(bytes, 0, bytes.length);
+        }
+        byte[] listBytes = lists.toByteArray();
+        payload.write(listBytes, 0, listBytes.length);
+
+        byte[] payloadBytes = payload.toByteArray();
+        return ByteBuffer.allocate(HEADER_LENGTH + payloadBytes.length)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(payloadBytes.length)
+                .putLong(checksum(payloadBytes, 0, payloadBytes.length))
+                .put(payloadBytes)
+                .array();
+    }
+
+    /**
+     * Returns the application in {@code snapshot}, checked for the same data constraints as the JSON data files.
+     *
+     * @throws IllegalValueException if {@code snapshot} is not a valid snapshot, or if there were any data
+     *     constraints violated.
+     */
+    static Application decode(byte[] snapshot) throws IllegalValueException {
+        return decodeSnapshot(snapshot, true);
+    }
+
+    /**
+     * Returns the application in {@code snapshot}, without checking the data constraints across lists (e.g. that the
+     * codes in degree planners exist in the module list). Only for snapshots of applications which were already
+     * checked for those constraints, such as a startup cache.
+     *
+     * @throws IllegalValueException if {@code snapshot} is not a valid snapshot, or if there were any data
+     *     constraints of single values violated.
+     */
+    static Application decodeTrusted(byte[] snapshot) throws IllegalValueException {
+        return decodeSnapshot(snapshot, false);
+    }
+
+    /**
+     * Returns the application in {@code snapshot}, which is only checked for the data constraints across lists if
+     * {@code isCrossListCheckNeeded}.
+     */
+    private static Application decodeSnapshot(byte[] snapshot, boolean isCrossListCheckNeeded)
+            throws IllegalValueException {
+        requireNonNull(snapshot);
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+            if (snapshot.length < HEADER_LENGTH || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion));
+            }
+            int payloadLength = buffer.getInt();
+            long payloadChecksum = buffer.getLong();
+            if (payloadLength != buffer.remaining()
+                    || payloadChecksum != checksum(snapshot, buffer.position(), payloadLength)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            return new Decoder(buffer).decodeApplication(isCrossListCheckNeeded);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static long checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the bitset of {@code semesters}, in which semester {@code n} is bit {@code n - 1}.
+     */
+    private static int toBitset(Set<Semester> semesters) {
+        int bitset = 0;
+        for (Semester semester : semesters) {
+            bitset |= 1 << (Integer.parseInt(semester.plannerSemester) - 1);
+        }
+        return bitset;
+    }
+
+    /**
+     * Writes the number of {@code values}, followed by the dictionary index of each of them.
+     */
+    private static <T> void writeStrings(ByteArrayOutputStream out, Map<String, Integer> dictionary,
+            Collection<T> values, Function<T, String> toString) {
+        writeVarInt(out, values.size());
+        for (T value : values) {
+            writeString(out, dictionary, toString.apply(value));
+        }
+    }
+
+    /**
+     * Writes the dictionary index of {@code value}, adding {@code value} to {@code dictionary} if it is not in it yet.
+     */
+    private static void writeString(ByteArrayOutputStream out, Map<String, Integer> dictionary, String value) {
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.put(value, index);
+        }
+        writeVarInt(out, index);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned varint, 7 bits per byte from the least significant bits, with the most
+     * significant bit of a byte set if more bytes follow.
+     */
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        assert value >= 0;
+
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Reads the payload of a snapshot, caching the model objects created for the values in the dictionary.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private final Map<Integer, Credits> creditsCache = new HashMap<>();
+        private final Map<Integer, Year> yearCache = new HashMap<>();
+        private final Map<Integer, Semester> semesterCache = new HashMap<>();
+        private String[] strings;
+        private Code[] codes;
+        private Name[] names;
+        private Tag[] tags;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the application in the payload, which starts at the current position of the buffer.
+         * The data constraints across lists are only checked if {@code isCrossListCheckNeeded}.
+         *
+         * @throws IllegalValueException if the payload is corrupted, or if there were any data constraints violated.
+         */
+        Application decodeApplication(boolean isCrossListCheckNeeded) throws IllegalValueException {
+            int dictionarySize = readCount();
+            strings = new String[dictionarySize];
+            codes = new Code[dictionarySize];
+            names = new Name[dictionarySize];
+            tags = new Tag[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                byte[] bytes = new byte[readCount()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int moduleCount = readCount();
+            List<Module> modules = new ArrayList<>(moduleCount);
+            for (int i = 0; i < moduleCount; i++) {
+                Code code = readCode();
+                Name name = readName();
+                Credits credits = readCredits();
+                Set<Semester> semesters = readSemesterBitset();
+                Set<Code> corequisites = readCodes();
+                if (corequisites.contains(code)) {
+                    throw new IllegalValueException(String.format(JsonAdaptedModule.MESSAGE_INVALID_COREQUISITE, code));
+                }
+                Set<Tag> moduleTags = new HashSet<>();
+                for (int tagCount = readCount(); tagCount > 0; tagCount--) {
+                    moduleTags.add(readTag());
+                }
+                modules.add(new Module(code, name, credits, semesters, corequisites, moduleTags));
+            }
+
+            int degreePlannerCount = readCount();
+            List<DegreePlanner> degreePlanners = new ArrayList<>(degreePlannerCount);
+            for (int i = 0; i < degreePlannerCount; i++) {
+                Year year = readYear();
+                Semester semester = readSemester();
+                degreePlanners.add(new DegreePlanner(year, semester, readCodes()));
+            }
+
+            int requirementCategoryCount = readCount();
+            List<RequirementCategory> requirementCategories = new ArrayList<>(requirementCategoryCount);
+            for (int i = 0; i < requirementCategoryCount; i++) {
+                Name name = readName();
+                Credits credits = readCredits();
+                requirementCategories.add(new RequirementCategory(name, credits, readCodes()));
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            if (isCrossListCheckNeeded) {
+                return JsonSerializableApplication.toValidatedApplication(modules, degreePlanners,
+                        requirementCategories);
+            }
+
+            Application application = new Application();
+            application.setModules(modules);
+            application.setRequirementCategories(requirementCategories);
+            application.setDegreePlanners(degreePlanners);
+            return application;
+        }
+
+        /**
+         * Reads a number of codes, followed by the dictionary index of each of them.
+         */
+        private Set<Code> readCodes() throws IllegalValueException {
+            Set<Code> codeSet = new HashSet<>();
+            for (int codeCount = readCount(); codeCount > 0; codeCount--) {
+                codeSet.add(readCode());
+            }
+            return codeSet;
+        }
+
+        /**
+         * Reads the dictionary index of a code, converting the value at the index into a {@code Code} on first use.
+         */
+        private Code readCode() throws IllegalValueException {
+            int index = readDictionaryIndex();
+            if (codes[index] == null) {
+                codes[index] = toModelType(strings[index], Code::new);
+            }
+            return codes[index];
+        }
+
+        /**
+         * Reads the dictionary index of a name, converting the value at the index into a {@code Name} on first use.
+         */
+        private Name readName() throws IllegalValueException {
+            int index = readDictionaryIndex();
+            if (names[index] == null) {
+                names[index] = toModelType(strings[index], Name::new);
+            }
+            return names[index];
+        }
+
+        /**
+         * Reads the dictionary index of a tag, converting the value at the index into a {@code Tag} on first use.
+         */
+        private Tag readTag() throws IllegalValueException {
+            int index = readDictionaryIndex();
+            if (tags[index] == null) {
+                tags[index] = toModelType(strings[index], Tag::new);
+            }
+            return tags[index];
+        }
+
+        private Credits readCredits() throws IllegalValueException {
+            return readCached(creditsCache, Credits::new);
+        }
+
+        private Year readYear() throws IllegalValueException {
+            return readCached(yearCache, Year::new);
+        }
+
+        private Semester readSemester() throws IllegalValueException {
+            return readCached(semesterCache, Semester::new);
+        }
+
+        /**
+         * Reads a bitset of semesters, as written by {@link BinarySnapshot#toBitset(Set)}.
+         */
+        private Set<Semester> readSemesterBitset() throws IllegalValueException {
+            int bitset = readVarInt();
+            Set<Semester> semesters = new HashSet<>();
+            for (int bit = 0; bit < Integer.SIZE; bit++) {
+                if ((bitset & (1 << bit)) != 0) {
+                    semesters.add(toCached(semesterCache, bit + 1, Semester::new));
+                }
+            }
+            return semesters;
+        }
+
+        private <T> T readCached(Map<Integer, T> cache, Function<String, T> constructor) throws IllegalValueException {
+            return toCached(cache, readVarInt(), constructor);
+        }
+
+        /**
+         * Returns the model object for the number {@code value} from {@code cache}, constructing it on first use.
+         */
+        private <T> T toCached(Map<Integer, T> cache, int value, Function<String, T> constructor)
+                throws IllegalValueException {
+            T modelObject = cache.get(value);
+            if (modelObject == null) {
+                modelObject = toModelType(String.valueOf(value), constructor);
+                cache.put(value, modelObject);
+            }
+            return modelObject;
+        }
+
+        /**
+         * Returns the model object constructed from {@code value}.
+         *
+         * @throws IllegalValueException if {@code value} violates the data constraints of the model object.
+         */
+        private <T> T toModelType(String value, Function<String, T> constructor) throws IllegalValueException {
+            try {
+                return constructor.apply(value);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage(), iae);
+            }
+        }
+
+        /**
+         * Reads an index into the dictionary.
+         */
+        private int readDictionaryIndex() throws IllegalValueException {
+            int index = readVarInt();
+            if (index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return index;
+        }
+
+        /**
+         * Reads the number of items which follow, each taking at least a byte.
+         */
+        private int readCount() throws IllegalValueException {
+            int count = readVarInt();
+            if (count > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return count;
+        }
+
+        /**
+         * Reads an unsigned varint, as written by {@link BinarySnapshot#writeVarInt(ByteArrayOutputStream, int)}.
+         */
+        private int readVarInt() throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED);
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+}
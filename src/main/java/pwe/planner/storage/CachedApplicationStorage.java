@@ -0,0 +1,344 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An {@link ApplicationStorage} which keeps a startup cache of the application in the JSON data files of a
+ * {@link JsonApplicationStorage}, so that the data files need not be parsed and validated on every launch.
+ * <br><br>
+ * The cache file holds the SHA-256 hash of the content of each data file, followed by a {@link BinarySnapshot} of the
+ * already validated application in the data files. The application is read from the cache if the hashes match the
+ * data files, and from the data files otherwise. Hence any change to a data file (even one made outside of the
+ * application) invalidates the cache.
+ * <br><br>
+ * The cache is written after the data files are read, and on {@link #compact()} if the data files were saved since,
+ * so that the next launch reads from the cache.
+ */
+public class CachedApplicationStorage implements ApplicationStorage {
+
+    public static final int MAGIC = 0x5057454B; // "PWEK"
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(CachedApplicationStorage.class);
+    private static final long UNHASHED_VERSION = -1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 32;
+    private static final int DATA_FILE_COUNT = 3;
+    private static final int HEADER_LENGTH = Integer.BYTES * 2 + HASH_LENGTH * DATA_FILE_COUNT;
+
+    private final JsonApplicationStorage dataFilesStorage;
+    private final Path cacheFilePath;
+
+    /*
+     * The hashes of the data files as last read or saved through this storage, or null if they are unknown (e.g. a
+     * save failed). On save, the hash of a data file is only recomputed if its list changed since it was last hashed,
+     * as the file is otherwise not rewritten.
+     */
+    private byte[][] dataFileHashes;
+    private final long[] hashedListVersions = new long[DATA_FILE_COUNT];
+
+    /*
+     * The application last saved to the data files, which is yet to be written to the cache.
+     */
+    private ReadOnlyApplication uncachedApplication;
+
+    public CachedApplicationStorage(JsonApplicationStorage dataFilesStorage, Path cacheFilePath) {
+        requireAllNonNull(dataFilesStorage, cacheFilePath);
+
+        this.dataFilesStorage = dataFilesStorage;
+        this.cacheFilePath = cacheFilePath;
+    }
+
+    public Path getCacheFilePath() {
+        return cacheFilePath;
+    }
+
+    @Override
+    public Path getModuleListFilePath() {
+        return dataFilesStorage.getModuleListFilePath();
+    }
+
+    @Override
+    public Path getDegreePlannerListFilePath() {
+        return dataFilesStorage.getDegreePlannerListFilePath();
+    }
+
+    @Override
+    public Path getRequirementCategoryListFilePath() {
+        return dataFilesStorage.getRequirementCategoryListFilePath();
+    }
+
+    /**
+     * Reads the application from the cache if it matches the data files, or from the data files otherwise, in which
+     * case the cache is rewritten.
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication() throws DataConversionException, IOException {
+        byte[][] hashesBeforeRead = hashDataFiles();
+        if (hashesBeforeRead == null) {
+            return dataFilesStorage.readApplication();
+        }
+
+        Optional<ReadOnlyApplication> cachedApplication = readCache(hashesBeforeRead);
+        if (cachedApplication.isPresent()) {
+            logger.info("Data files unchanged, read application from startup cache: " + cacheFilePath);
+            setDataFileHashes(hashesBeforeRead);
+            return cachedApplication;
+        }
+
+        Optional<ReadOnlyApplication> application = dataFilesStorage.readApplication();
+        if (!application.isPresent()) {
+            return application;
+        }
+
+        // a data file changed while it was read cannot be matched to the application read
+        byte[][] hashesAfterRead = hashDataFiles();
+        if (Arrays.deepEquals(hashesBeforeRead, hashesAfterRead)) {
+            setDataFileHashes(hashesAfterRead);
+            writeCache(application.get());
+        }
+        return application;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplication> readApplication(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) throws DataConversionException, IOException {
+        return dataFilesStorage.readApplication(moduleListFilePath, degreePlannerListFilePath,
+                requirementCategoryListFilePath);
+    }
+
+    @Override
+    public void saveApplication(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        try {
+            dataFilesStorage.saveApplication(application);
+            if (dataFileHashes == null) {
+                setDataFileHashes(new byte[DATA_FILE_COUNT][]);
+            }
+            long[] listVersions = getListVersions(application);
+            Path[] dataFilePaths = getDataFilePaths();
+            for (int i = 0; i < DATA_FILE_COUNT; i++) {
+                if (listVersions[i] != hashedListVersions[i]) {
+                    dataFileHashes[i] = hash(dataFilePaths[i]);
+                    hashedListVersions[i] = listVersions[i];
+                }
+            }
+            uncachedApplication = application;
+        } catch (IOException ioe) {
+            dataFileHashes = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes the application last saved to the cache, if it is not already in the cache.
+     */
+    @Override
+    public void compact() throws IOException {
+        dataFilesStorage.compact();
+        if (uncachedApplication != null && dataFileHashes != null) {
+            writeCache(uncachedApplication);
+        }
+    }
+
+    @Override
+    public boolean isModuleListReadOnly() {
+        return dataFilesStorage.isModuleListReadOnly();
+    }
+
+    /**
+     * Returns the application in the cache file, or an empty {@code Optional} if the cache file is missing, is not a
+     * valid cache file, or is not of data files with {@code expectedDataFileHashes}.
+     */
+    private Optional<ReadOnlyApplication> readCache(byte[][] expectedDataFileHashes) {
+        if (!Files.exists(cacheFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] cache = Files.readAllBytes(cacheFilePath);
+            ByteBuffer buffer = ByteBuffer.wrap(cache);
+            if (cache.length < HEADER_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                logger.info("Startup cache " + cacheFilePath + " is not a valid cache file, ignoring it");
+                return Optional.empty();
+            }
+            for (byte[] expectedDataFileHash : expectedDataFileHashes) {
+                byte[] cachedDataFileHash = new byte[HASH_LENGTH];
+                buffer.get(cachedDataFileHash);
+                if (!Arrays.equals(expectedDataFileHash, cachedDataFileHash)) {
+                    logger.info("Data files changed since startup cache " + cacheFilePath + " was written");
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(BinarySnapshot.decodeTrusted(Arrays.copyOfRange(cache, HEADER_LENGTH, cache.length)));
+        } catch (IOException | BufferUnderflowException | IllegalValueException e) {
+            logger.warning("Failed to read startup cache " + cacheFilePath + ", ignoring it: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code application}, which is the application in the data files with {@link #dataFileHashes}, to the
+     * cache file. A failure to write the cache file is logged, as the data is safe in the data files.
+     */
+    private void writeCache(ReadOnlyApplication application) {
+        assert dataFileHashes != null;
+
+        byte[] snapshot = BinarySnapshot.encode(application);
+        ByteBuffer cache = ByteBuffer.allocate(HEADER_LENGTH + snapshot.length)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION);
+        for (byte[] dataFileHash : dataFileHashes) {
+            cache.put(dataFileHash);
+        }
+        cache.put(snapshot);
+
+        try {
+            FileUtil.createParentDirsOfFile(cacheFilePath);
+            FileUtil.writeToFile(cacheFilePath, cache.array());
+            uncachedApplication = null;
+            logger.fine(() -> "Wrote startup cache: " + cacheFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write startup cache " + cacheFilePath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Sets the hashes of the data files to {@code hashes}, which are not known to be of any list version yet.
+     * As the data files are rewritten by the first save after they are read, they are all hashed again on that save.
+     */
+    private void setDataFileHashes(byte[][] hashes) {
+        dataFileHashes = hashes;
+        Arrays.fill(hashedListVersions, UNHASHED_VERSION);
+    }
+
+    private long[] getListVersions(ReadOnlyApplication application) {
+        return new long[] {application.getModuleListVersion(), application.getDegreePlannerListVersion(),
+                application.getRequirementCategoryListVersion()};
+    }
+
+    private Path[] getDataFilePaths() {
+        return new Path[] {getModuleListFilePath(), getDegreePlannerListFilePath(),
+                getRequirementCategoryListFilePath()};
+    }
+
+    /**
+     * Returns the hash of each data file, or null if any of them is missing.
+     */
+    private byte[][] hashDataFiles() throws IOException {
+        Path[] dataFilePaths = getDataFilePaths();
+        byte[][] hashes = new byte[DATA_FILE_COUNT][];
+        for (int i = 0; i < DATA_FILE_COUNT; i++) {
+            if (!Files.exists(dataFilePaths[i])) {
+                return null;
+            }
+            hashes[i] = hash(dataFilePaths[i]);
+        }
+        return hashes;
+    }
+
+    /**
+     * Returns the hash of the content of the file at {@code filePath}.
+     */
+    private static byte[] hash(Path filePath) throws IOException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(Files.readAllBytes(filePath));
+        } catch (NoSuchAlgorithmException nsae) {
+            // every Java platform is required to support SHA-256
+            throw new AssertionError(nsae);
+        }
+    }
+
+    // ================ Single list methods, which read and write the data files only ================
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList() throws DataConversionException, IOException {
+        return dataFilesStorage.readModuleList();
+    }
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException, IOException {
+        return dataFilesStorage.readModuleList(filePath);
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application) throws IOException {
+        saveModuleList(application, getModuleListFilePath());
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+        // the data files may no longer match the hashes of the application last saved
+        dataFileHashes = null;
+        dataFilesStorage.saveModuleList(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList()
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readDegreePlannerList();
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList(Path filePath)
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readDegreePlannerList(filePath);
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application) throws IOException {
+        saveDegreePlannerList(application, getDegreePlannerListFilePath());
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+        dataFileHashes = null;
+        dataFilesStorage.saveDegreePlannerList(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList()
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readRequirementCategoryList();
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList(Path filePath)
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readRequirementCategoryList(filePath);
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application) throws IOException {
+        saveRequirementCategoryList(application, getRequirementCategoryListFilePath());
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+        dataFileHashes = null;
+        dataFilesStorage.saveRequirementCategoryList(application, filePath);
+    }
+}
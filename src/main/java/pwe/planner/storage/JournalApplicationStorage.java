@@ -0,0 +1,466 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An {@link ApplicationStorage} which appends the changes made since the previous save to a journal file on each
+ * save, instead of rewriting the data files of a {@link JsonApplicationStorage}.
+ * <br><br>
+ * The data files are only rewritten (compacted) once the journal has {@value #COMPACTION_INTERVAL} records, and on
+ * {@link #compact()}. The application is read from the data files, with the records of the journal replayed on top.
+ * <br><br>
+ * The journal starts with a header holding the checksums of the data files it follows on from. A compaction rewrites
+ * the data files one at a time, each keeping its previous content as its backup file, before starting a new journal.
+ * Hence if a compaction did not complete (e.g. due to a crash), the data files it rewrote are restored from their
+ * backup files when the application is next read, and the journal is replayed over the data files it follows on from.
+ * A journal which follows on from neither the data files nor their backup files is ignored.
+ * A record which was not completely appended to the journal (e.g. due to a crash) is ignored.
+ */
+public class JournalApplicationStorage implements ApplicationStorage {
+
+    public static final int COMPACTION_INTERVAL = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalApplicationStorage.class);
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final JsonApplicationStorage dataFilesStorage;
+    private final Path journalFilePath;
+
+    /*
+     * The lists last written to the data files and the journal, which the next record is relative to.
+     * They are only used if isJournalValid, i.e. the journal follows on from the data files and its records lead up to
+     * these lists. Otherwise, the next save compacts.
+     */
+    private List<Module> savedModules;
+    private List<DegreePlanner> savedDegreePlanners;
+    private List<RequirementCategory> savedRequirementCategories;
+    private long savedModuleListVersion;
+    private long savedDegreePlannerListVersion;
+    private long savedRequirementCategoryListVersion;
+    private int journalRecordCount;
+    private boolean isJournalValid = false;
+
+    public JournalApplicationStorage(JsonApplicationStorage dataFilesStorage, Path journalFilePath) {
+        requireAllNonNull(dataFilesStorage, journalFilePath);
+
+        this.dataFilesStorage = dataFilesStorage;
+        this.journalFilePath = journalFilePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Path getModuleListFilePath() {
+        return dataFilesStorage.getModuleListFilePath();
+    }
+
+    @Override
+    public Path getDegreePlannerListFilePath() {
+        return dataFilesStorage.getDegreePlannerListFilePath();
+    }
+
+    @Override
+    public Path getRequirementCategoryListFilePath() {
+        return dataFilesStorage.getRequirementCategoryListFilePath();
+    }
+
+    /**
+     * Returns the application in the data files, with the records of the journal replayed on top.
+     * The data files rewritten by a compaction which did not complete are first restored from their backup files.
+     * The journal is ignored if it does not exist, or does not follow on from the data files.
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication() throws DataConversionException, IOException {
+        restoreDataFilesOfIncompleteCompaction();
+        Optional<ReadOnlyApplication> dataFilesApplication = dataFilesStorage.readApplication();
+        if (!dataFilesApplication.isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> journalRecords = readJournalRecords();
+        if (!journalRecords.isPresent()) {
+            return dataFilesApplication;
+        }
+
+        List<Module> modules = new ArrayList<>(dataFilesApplication.get().getModuleList());
+        List<DegreePlanner> degreePlanners = new ArrayList<>(dataFilesApplication.get().getDegreePlannerList());
+        List<RequirementCategory> requirementCategories =
+                new ArrayList<>(dataFilesApplication.get().getRequirementCategoryList());
+        try {
+            for (JsonAdaptedJournalRecord journalRecord : journalRecords.get()) {
+                journalRecord.applyTo(modules, degreePlanners, requirementCategories);
+            }
+            Application application = JsonSerializableApplication.toValidatedApplication(modules, degreePlanners,
+                    requirementCategories);
+            updateSavedLists(application);
+            journalRecordCount = journalRecords.get().size();
+            return Optional.of(application);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the data files at the given paths, without the journal.
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) throws DataConversionException, IOException {
+        return dataFilesStorage.readApplication(moduleListFilePath, degreePlannerListFilePath,
+                requirementCategoryListFilePath);
+    }
+
+    /**
+     * Appends the changes made to {@code application} since the previous save to the journal, or compacts if the
+     * journal is full or does not follow on from the data files.
+     */
+    @Override
+    public void saveApplication(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        if (!isJournalValid || journalRecordCount >= COMPACTION_INTERVAL) {
+            compact(application);
+            return;
+        }
+
+        JsonAdaptedJournalRecord journalRecord = new JsonAdaptedJournalRecord(
+                toSplice(savedModules, savedModuleListVersion, application.getModuleList(),
+                        application.getModuleListVersion(), JsonAdaptedModule::new),
+                toSplice(savedDegreePlanners, savedDegreePlannerListVersion, application.getDegreePlannerList(),
+                        application.getDegreePlannerListVersion(), JsonAdaptedDegreePlanner::new),
+                toSplice(savedRequirementCategories, savedRequirementCategoryListVersion,
+                        application.getRequirementCategoryList(), application.getRequirementCategoryListVersion(),
+                        JsonAdaptedRequirementCategory::new));
+        if (journalRecord.isEmpty()) {
+            logger.fine(() -> "Application unchanged, skipping write to journal file: " + journalFilePath);
+            return;
+        }
+
+        logger.fine(() -> "Attempting to append to journal file: " + journalFilePath);
+        try {
+            String line = JsonUtil.toCompactJsonString(journalRecord) + LINE_SEPARATOR;
+            FileUtil.appendToFile(journalFilePath, line.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ioe) {
+            // the record may have been partially appended, which must not be followed by other records
+            isJournalValid = false;
+            throw ioe;
+        }
+        updateSavedLists(application);
+        journalRecordCount++;
+    }
+
+    @Override
+    public boolean isModuleListReadOnly() {
+        return dataFilesStorage.isModuleListReadOnly();
+    }
+
+    /**
+     * Rewrites the data files with the application last saved, and empties the journal.
+     */
+    @Override
+    public void compact() throws IOException {
+        if (!isJournalValid || journalRecordCount == 0) {
+            return;
+        }
+
+        Application application = new Application();
+        application.setModules(savedModules);
+        application.setDegreePlanners(savedDegreePlanners);
+        application.setRequirementCategories(savedRequirementCategories);
+        compact(application);
+    }
+
+    /**
+     * Rewrites the data files with {@code application}, keeping their previous contents as their backup files, then
+     * starts a new journal which follows on from them.
+     */
+    private void compact(ReadOnlyApplication application) throws IOException {
+        assert application != null;
+
+        logger.fine(() -> "Attempting to compact journal file: " + journalFilePath);
+        // a compaction which does not complete is redone on the next save
+        isJournalValid = false;
+        dataFilesStorage.saveApplication(application);
+        JsonAdaptedJournalHeader journalHeader = new JsonAdaptedJournalHeader(computeDataFileChecksums());
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, JsonUtil.toCompactJsonString(journalHeader) + LINE_SEPARATOR);
+
+        updateSavedLists(application);
+        journalRecordCount = 0;
+        isJournalValid = true;
+    }
+
+    /**
+     * Restores the data files which were rewritten by a compaction which did not complete from their backup files, so
+     * that the journal follows on from the data files again. The data files are left as they are unless each of them
+     * either follows on from the journal header, or has a backup file which does.
+     */
+    private void restoreDataFilesOfIncompleteCompaction() throws DataConversionException, IOException {
+        Optional<JsonAdaptedJournalHeader> journalHeader = readJournalHeader();
+        if (!journalHeader.isPresent()) {
+            return;
+        }
+
+        List<Path> dataFilePaths = getDataFilePaths();
+        List<Long> dataFileChecksums = journalHeader.get().getDataFileChecksums();
+        if (dataFileChecksums.size() != dataFilePaths.size()) {
+            return;
+        }
+
+        List<Path> rewrittenFilePaths = new ArrayList<>();
+        for (int i = 0; i < dataFilePaths.size(); i++) {
+            Path dataFilePath = dataFilePaths.get(i);
+            long dataFileChecksum = dataFileChecksums.get(i);
+            if (computeChecksum(dataFilePath) == dataFileChecksum) {
+                continue;
+            }
+            if (computeChecksum(FileUtil.getBackupFilePath(dataFilePath)) != dataFileChecksum) {
+                // the journal does not follow on from the data files, and is ignored
+                return;
+            }
+            rewrittenFilePaths.add(dataFilePath);
+        }
+
+        for (Path dataFilePath : rewrittenFilePaths) {
+            logger.warning("Data file " + dataFilePath + " was rewritten by a compaction which did not complete, "
+                    + "restoring it from its backup file");
+            FileUtil.writeToFile(dataFilePath, Files.readAllBytes(FileUtil.getBackupFilePath(dataFilePath)));
+        }
+    }
+
+    /**
+     * Returns the header of the journal, or {@code Optional.empty()} if the journal does not exist or is empty.
+     *
+     * @throws DataConversionException if the header is not in the expected format.
+     */
+    private Optional<JsonAdaptedJournalHeader> readJournalHeader() throws DataConversionException, IOException {
+        if (!Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            return parseJournalHeader(reader.readLine());
+        }
+    }
+
+    /**
+     * Returns the journal header in {@code line}, or {@code Optional.empty()} if {@code line} is null.
+     *
+     * @throws DataConversionException if {@code line} is not a journal header.
+     */
+    private Optional<JsonAdaptedJournalHeader> parseJournalHeader(String line) throws DataConversionException {
+        if (line == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the records of the journal, or {@code Optional.empty()} if the journal does not exist or does not
+     * follow on from the data files. The journal is valid after this method if the records are returned.
+     *
+     * @throws DataConversionException if the journal is not in the expected format.
+     */
+    private Optional<List<JsonAdaptedJournalRecord>> readJournalRecords() throws DataConversionException,
+            IOException {
+        if (!Files.exists(journalFilePath)) {
+            logger.info("Journal file " + journalFilePath + " not found");
+            return Optional.empty();
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        Optional<JsonAdaptedJournalHeader> journalHeader = parseJournalHeader(lines.isEmpty() ? null : lines.get(0));
+        if (!journalHeader.isPresent()
+                || !journalHeader.get().getDataFileChecksums().equals(computeDataFileChecksums())) {
+            logger.warning("Journal file " + journalFilePath + " does not follow on from the data files, "
+                    + "ignoring it");
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalRecord> journalRecords = new ArrayList<>();
+        isJournalValid = true;
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                journalRecords.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class));
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+                    throw new DataConversionException(ioe);
+                }
+                logger.warning("Ignoring incomplete last record of journal file " + journalFilePath);
+                // the incomplete record must not be followed by other records
+                isJournalValid = false;
+            }
+        }
+        return Optional.of(journalRecords);
+    }
+
+    /**
+     * Returns the paths of the data files, in the order of their checksums in the journal header.
+     */
+    private List<Path> getDataFilePaths() {
+        return List.of(getModuleListFilePath(), getDegreePlannerListFilePath(), getRequirementCategoryListFilePath());
+    }
+
+    /**
+     * Returns the checksums of the contents of the data files, in the order of {@link #getDataFilePaths()}.
+     */
+    private List<Long> computeDataFileChecksums() throws IOException {
+        List<Long> dataFileChecksums = new ArrayList<>();
+        for (Path dataFilePath : getDataFilePaths()) {
+            dataFileChecksums.add(computeChecksum(dataFilePath));
+        }
+        return dataFileChecksums;
+    }
+
+    /**
+     * Returns the checksum of the content of {@code filePath}, or -1 if the file does not exist.
+     * As checksums are never negative, a file which does not exist does not match any checksum.
+     */
+    private static long computeChecksum(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return -1;
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(filePath));
+        return checksum.getValue();
+    }
+
+    /**
+     * Records the lists of {@code application} as the lists last saved.
+     * Only the lists which were modified since they were last recorded are copied.
+     */
+    private void updateSavedLists(ReadOnlyApplication application) {
+        assert application != null;
+
+        if (!isJournalValid || application.getModuleListVersion() != savedModuleListVersion) {
+            savedModules = new ArrayList<>(application.getModuleList());
+            savedModuleListVersion = application.getModuleListVersion();
+        }
+        if (!isJournalValid || application.getDegreePlannerListVersion() != savedDegreePlannerListVersion) {
+            savedDegreePlanners = new ArrayList<>(application.getDegreePlannerList());
+            savedDegreePlannerListVersion = application.getDegreePlannerListVersion();
+        }
+        if (!isJournalValid
+                || application.getRequirementCategoryListVersion() != savedRequirementCategoryListVersion) {
+            savedRequirementCategories = new ArrayList<>(application.getRequirementCategoryList());
+            savedRequirementCategoryListVersion = application.getRequirementCategoryListVersion();
+        }
+    }
+
+    /**
+     * Returns the splice which turns {@code savedList} into {@code list}, or null if {@code list} is unchanged.
+     */
+    private static <M, T> JsonAdaptedListSplice<T> toSplice(List<M> savedList, long savedVersion, List<M> list,
+            long version, Function<M, T> toJsonAdapted) {
+        if (savedVersion == version) {
+            return null;
+        }
+        return JsonAdaptedListSplice.of(savedList, list, toJsonAdapted).orElse(null);
+    }
+
+    // ================ Single list methods, which read and write the data files only ================
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList() throws DataConversionException, IOException {
+        return dataFilesStorage.readModuleList();
+    }
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException, IOException {
+        return dataFilesStorage.readModuleList(filePath);
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application) throws IOException {
+        saveModuleList(application, getModuleListFilePath());
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+        // the data files may no longer be what the journal follows on from
+        isJournalValid = false;
+        dataFilesStorage.saveModuleList(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList()
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readDegreePlannerList();
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList(Path filePath)
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readDegreePlannerList(filePath);
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application) throws IOException {
+        saveDegreePlannerList(application, getDegreePlannerListFilePath());
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+        isJournalValid = false;
+        dataFilesStorage.saveDegreePlannerList(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList()
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readRequirementCategoryList();
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList(Path filePath)
+            throws DataConversionException, IOException {
+        return dataFilesStorage.readRequirementCategoryList(filePath);
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application) throws IOException {
+        saveRequirementCategoryList(application, getRequirementCategoryListFilePath());
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+        isJournalValid = false;
+        dataFilesStorage.saveRequirementCategoryList(application, filePath);
+    }
+}
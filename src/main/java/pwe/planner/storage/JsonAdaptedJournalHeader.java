@@ -0,0 +1,31 @@
+package pwe.planner.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a journal, which identifies the data files the journal was started
+ * from.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final List<Long> dataFileChecksums = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the checksums of the data files the journal was started from,
+     * in the order of the module list, degree planner list and requirement category list files.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("dataFileChecksums") List<Long> dataFileChecksums) {
+        if (dataFileChecksums != null) {
+            this.dataFileChecksums.addAll(dataFileChecksums);
+        }
+    }
+
+    public List<Long> getDataFileChecksums() {
+        return dataFileChecksums;
+    }
+}
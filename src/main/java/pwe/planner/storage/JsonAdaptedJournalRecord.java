@@ -0,0 +1,68 @@
+package pwe.planner.storage;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Jackson-friendly version of the changes made to the lists of an {@link Application} between two saves.
+ * The change to a list which is unchanged is null.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    private final JsonAdaptedListSplice<JsonAdaptedModule> modules;
+    private final JsonAdaptedListSplice<JsonAdaptedDegreePlanner> degreePlanners;
+    private final JsonAdaptedListSplice<JsonAdaptedRequirementCategory> requirementCategories;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given changes to each list.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("modules") JsonAdaptedListSplice<JsonAdaptedModule> modules,
+            @JsonProperty("degreePlanners") JsonAdaptedListSplice<JsonAdaptedDegreePlanner> degreePlanners,
+            @JsonProperty("requirementCategories")
+                    JsonAdaptedListSplice<JsonAdaptedRequirementCategory> requirementCategories) {
+        this.modules = modules;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    /**
+     * Returns true if this record has no changes.
+     */
+    public boolean isEmpty() {
+        return modules == null && degreePlanners == null && requirementCategories == null;
+    }
+
+    /**
+     * Applies the changes in this record to the given lists.
+     *
+     * @throws IllegalValueException if a change does not fit its list, or if there were any data constraints violated
+     *     in the elements added.
+     */
+    public void applyTo(List<Module> moduleList, List<DegreePlanner> degreePlannerList,
+            List<RequirementCategory> requirementCategoryList) throws IllegalValueException {
+        requireAllNonNull(moduleList, degreePlannerList, requirementCategoryList);
+
+        if (modules != null) {
+            modules.applyTo(moduleList, JsonAdaptedModule::toModelType);
+        }
+        if (degreePlanners != null) {
+            degreePlanners.applyTo(degreePlannerList, JsonAdaptedDegreePlanner::toModelType);
+        }
+        if (requirementCategories != null) {
+            requirementCategories.applyTo(requirementCategoryList, JsonAdaptedRequirementCategory::toModelType);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package pwe.planner.storage;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a change to a list, which replaces a contiguous range of the list with other elements.
+ *
+ * @param <T> the Jackson-friendly type of the elements of the list.
+ */
+class JsonAdaptedListSplice<T> {
+
+    public static final String MESSAGE_SPLICE_OUT_OF_BOUNDS =
+            "List change from index %1$d removing %2$d elements does not fit a list of %3$d elements!";
+
+    private final int index;
+    private final int removedCount;
+    private final List<T> addedElements = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListSplice} which replaces the {@code removedCount} elements from {@code index}
+     * with {@code addedElements}.
+     */
+    @JsonCreator
+    public JsonAdaptedListSplice(@JsonProperty("index") int index, @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("addedElements") List<T> addedElements) {
+        this.index = index;
+        this.removedCount = removedCount;
+        if (addedElements != null) {
+            this.addedElements.addAll(addedElements);
+        }
+    }
+
+    /**
+     * Returns the splice which turns {@code oldList} into {@code newList}, with the elements added converted by
+     * {@code toJsonAdapted}, or {@code Optional.empty()} if both lists are equal.
+     * Only the elements between the longest common prefix and the longest common suffix of both lists are replaced,
+     * hence the size of the splice is proportional to the size of the change rather than the size of the lists.
+     */
+    public static <M, T> Optional<JsonAdaptedListSplice<T>> of(List<M> oldList, List<M> newList,
+            Function<M, T> toJsonAdapted) {
+        requireAllNonNull(oldList, newList, toJsonAdapted);
+
+        int commonLength = Math.min(oldList.size(), newList.size());
+        int prefixLength = 0;
+        while (prefixLength < commonLength && oldList.get(prefixLength).equals(newList.get(prefixLength))) {
+            prefixLength++;
+        }
+        if (prefixLength == oldList.size() && prefixLength == newList.size()) {
+            return Optional.empty();
+        }
+
+        int suffixLength = 0;
+        while (suffixLength < commonLength - prefixLength && oldList.get(oldList.size() - 1 - suffixLength)
+                .equals(newList.get(newList.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        List<T> addedElements = new ArrayList<>();
+        for (M element : newList.subList(prefixLength, newList.size() - suffixLength)) {
+            addedElements.add(toJsonAdapted.apply(element));
+        }
+        return Optional.of(new JsonAdaptedListSplice<>(prefixLength, oldList.size() - prefixLength - suffixLength,
+                addedElements));
+    }
+
+    /**
+     * Applies this splice to {@code list}, with the elements added converted by {@code toModelType}.
+     *
+     * @throws IllegalValueException if the range replaced does not fit {@code list}, or if there were any data
+     *     constraints violated in the elements added.
+     */
+    public <M> void applyTo(List<M> list, ModelTypeConverter<T, M> toModelType) throws IllegalValueException {
+        requireAllNonNull(list, toModelType);
+
+        if (index < 0 || removedCount < 0 || index + removedCount > list.size()) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_SPLICE_OUT_OF_BOUNDS, index, removedCount, list.size()));
+        }
+
+        List<M> modelAddedElements = new ArrayList<>();
+        for (T addedElement : addedElements) {
+            modelAddedElements.add(toModelType.toModelType(addedElement));
+        }
+
+        List<M> replacedRange = list.subList(index, index + removedCount);
+        replacedRange.clear();
+        replacedRange.addAll(modelAddedElements);
+    }
+
+    /**
+     * Converts a Jackson-friendly element into the model's type.
+     */
+    @FunctionalInterface
+    interface ModelTypeConverter<T, M> {
+        M toModelType(T jsonAdaptedElement) throws IllegalValueException;
+    }
+}
@@ -4,8 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -21,15 +29,36 @@ import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * A class to call JsonSerializableApplication methods
+ * <br><br>
+ * Every data file is written with a backup of its previous content, which is read instead of the data file if the data
+ * file is not in the correct format. See {@link FileUtil#writeToFileWithBackup(Path, String)}.
  */
 public class JsonApplicationStorage implements ApplicationStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonSerializableApplication.class);
+    private static final long UNSAVED_VERSION = -1;
+    private static final int FILE_COUNT = 3;
+
+    private final JsonModuleListWriter moduleListWriter = new JsonModuleListWriter();
+
+    /*
+     * Data files which were not in the correct format and were read from their backup files instead. Such a data file
+     * must not replace its backup file when it is next written, as the backup file is the last good data.
+     */
+    private final Set<Path> filePathsReadFromBackup = ConcurrentHashMap.newKeySet();
 
     private Path moduleListFilePath;
     private Path degreePlannerListFilePath;
     private Path requirementCategoryListFilePath;
 
+    /*
+     * Versions of the lists last written by saveApplication(ReadOnlyApplication), used to skip the files of lists
+     * which are unchanged since. See ReadOnlyApplication#getModuleListVersion().
+     */
+    private long savedModuleListVersion = UNSAVED_VERSION;
+    private long savedDegreePlannerListVersion = UNSAVED_VERSION;
+    private long savedRequirementCategoryListVersion = UNSAVED_VERSION;
+
     public JsonApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
             Path requirementCategoryListFilePath) {
         requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
@@ -51,13 +80,50 @@ public class JsonApplicationStorage implements ApplicationStorage {
         return requirementCategoryListFilePath;
     }
 
+    /**
+     * Saves the lists of {@code application} which were modified since they were last saved by this method.
+     */
     @Override
     public void saveApplication(ReadOnlyApplication application) throws IOException {
         requireNonNull(application);
 
-        saveModuleList(application, getModuleListFilePath());
-        saveDegreePlannerList(application, getDegreePlannerListFilePath());
-        saveRequirementCategoryList(application, getRequirementCategoryListFilePath());
+        // a list's version is only recorded once its file is written, so a failed save is retried on the next save
+        long moduleListVersion = application.getModuleListVersion();
+        if (moduleListVersion != savedModuleListVersion) {
+            saveModuleList(application, getModuleListFilePath());
+            savedModuleListVersion = moduleListVersion;
+        } else {
+            logger.fine(() -> "Module list unchanged, skipping write to data file: " + getModuleListFilePath());
+        }
+
+        long degreePlannerListVersion = application.getDegreePlannerListVersion();
+        if (degreePlannerListVersion != savedDegreePlannerListVersion) {
+            saveDegreePlannerList(application, getDegreePlannerListFilePath());
+            savedDegreePlannerListVersion = degreePlannerListVersion;
+        } else {
+            logger.fine("Degree planner list unchanged, skipping write to data file: "
+                    + getDegreePlannerListFilePath());
+        }
+
+        long requirementCategoryListVersion = application.getRequirementCategoryListVersion();
+        if (requirementCategoryListVersion != savedRequirementCategoryListVersion) {
+            saveRequirementCategoryList(application, getRequirementCategoryListFilePath());
+            savedRequirementCategoryListVersion = requirementCategoryListVersion;
+        } else {
+            logger.fine("Requirement category list unchanged, skipping write to data file: "
+                    + getRequirementCategoryListFilePath());
+        }
+    }
+
+    /**
+     * Does nothing, as the data files are always fully written.
+     */
+    @Override
+    public void compact() {}
+
+    @Override
+    public boolean isModuleListReadOnly() {
+        return false;
     }
 
     @Override
@@ -66,6 +132,9 @@ public class JsonApplicationStorage implements ApplicationStorage {
     }
 
     /**
+     * Reads and parses the three files concurrently, then checks the data constraints across the files.
+     * A file which is not in the correct format is read from its backup file instead, if there is one.
+     *
      * @param moduleListFilePath cannot be null
      * @param degreePlannerListFilePath cannot be null
      * @param requirementCategoryListFilePath cannot be null
@@ -75,11 +144,27 @@ public class JsonApplicationStorage implements ApplicationStorage {
             throws DataConversionException {
         requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
 
-        Optional<ObservableList<Module>> optionalModuleObservableList = readModuleList(moduleListFilePath);
-        Optional<ObservableList<DegreePlanner>> optionalDegreePlannerObservableList =
-                readDegreePlannerList(degreePlannerListFilePath);
-        Optional<ObservableList<RequirementCategory>> optionalRequirementCategoryObservableList =
-                readRequirementCategoryList(requirementCategoryListFilePath);
+        Optional<ObservableList<Module>> optionalModuleObservableList;
+        Optional<ObservableList<DegreePlanner>> optionalDegreePlannerObservableList;
+        Optional<ObservableList<RequirementCategory>> optionalRequirementCategoryObservableList;
+        ExecutorService executor = Executors.newFixedThreadPool(FILE_COUNT);
+        try {
+            Future<Optional<ObservableList<Module>>> moduleListFuture = executor.submit(() ->
+                    timed("Reading " + moduleListFilePath, () ->
+                            readWithBackup(moduleListFilePath, this::readModuleList)));
+            Future<Optional<ObservableList<DegreePlanner>>> degreePlannerListFuture = executor.submit(() ->
+                    timed("Reading " + degreePlannerListFilePath, () ->
+                            readWithBackup(degreePlannerListFilePath, this::readDegreePlannerList)));
+            Future<Optional<ObservableList<RequirementCategory>>> requirementCategoryListFuture = executor.submit(() ->
+                    timed("Reading " + requirementCategoryListFilePath, () ->
+                            readWithBackup(requirementCategoryListFilePath, this::readRequirementCategoryList)));
+
+            optionalModuleObservableList = getResult(moduleListFuture);
+            optionalDegreePlannerObservableList = getResult(degreePlannerListFuture);
+            optionalRequirementCategoryObservableList = getResult(requirementCategoryListFuture);
+        } finally {
+            executor.shutdownNow();
+        }
 
         if (!optionalModuleObservableList.isPresent()) {
             return Optional.empty();
@@ -94,7 +179,8 @@ public class JsonApplicationStorage implements ApplicationStorage {
                     new JsonSerializableApplication(optionalModuleObservableList.get(),
                             optionalDegreePlannerObservableList.get(),
                             optionalRequirementCategoryObservableList.get());
-            ReadOnlyApplication jsonApplication = application.toModelType();
+            ReadOnlyApplication jsonApplication = timed("Checking data constraints across data files",
+                    application::toModelType);
             return Optional.of(jsonApplication);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + moduleListFilePath + ": " + ive.getMessage());
@@ -104,6 +190,97 @@ public class JsonApplicationStorage implements ApplicationStorage {
         }
     }
 
+    /**
+     * Returns the list read by {@code reader} from {@code filePath}, or from the backup file of {@code filePath} if
+     * the file at {@code filePath} is not in the correct format.
+     *
+     * @throws DataConversionException if neither the file nor its backup file is in the correct format.
+     */
+    private <T> Optional<T> readWithBackup(Path filePath, ListReader<T> reader) throws DataConversionException {
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException dce) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!Files.exists(backupFilePath)) {
+                throw dce;
+            }
+
+            logger.warning("Data file " + filePath + " not in the correct format, reading backup file "
+                    + backupFilePath + " instead");
+            try {
+                Optional<T> list = reader.read(backupFilePath);
+                filePathsReadFromBackup.add(filePath);
+                return list;
+            } catch (DataConversionException backupDce) {
+                dce.addSuppressed(backupDce);
+                throw dce;
+            }
+        }
+    }
+
+    /**
+     * Reads a list from a data file, as used by {@link #readWithBackup(Path, ListReader)}.
+     */
+    @FunctionalInterface
+    private interface ListReader<T> {
+        Optional<T> read(Path filePath) throws DataConversionException;
+    }
+
+    /**
+     * Writes {@code content} to the data file at {@code filePath}, keeping its previous content as its backup file
+     * unless it was not in the correct format when it was read.
+     */
+    private void writeDataFile(Path filePath, String content) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        if (filePathsReadFromBackup.remove(filePath)) {
+            FileUtil.writeToFile(filePath, content);
+        } else {
+            FileUtil.writeToFileWithBackup(filePath, content);
+        }
+    }
+
+    /**
+     * Returns the result of {@code task}, after logging the time it took.
+     */
+    private static <T, E extends Exception> T timed(String description, TimedTask<T, E> task) throws E {
+        long startTime = System.nanoTime();
+        T result = task.run();
+        logger.info(String.format("%1$s took %2$d ms", description,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return result;
+    }
+
+    /**
+     * Returns the result of {@code future}, waiting for it if needed, with the exception it completed with (if any)
+     * rethrown as is.
+     */
+    private static <T> T getResult(Future<T> future) throws DataConversionException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new DataConversionException(ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * A task whose time taken is logged by {@link #timed(String, TimedTask)}.
+     */
+    @FunctionalInterface
+    private interface TimedTask<T, E extends Exception> {
+        T run() throws E;
+    }
+
     @Override
     public Optional<ObservableList<Module>> readModuleList() throws DataConversionException {
         return readModuleList(moduleListFilePath);
@@ -115,14 +292,16 @@ public class JsonApplicationStorage implements ApplicationStorage {
     public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableModuleList> jsonAppliction = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplication.getJsonSerializableModuleListClass());
-        if (!jsonAppliction.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAppliction.get().toModelType());
+            return Optional.of(JsonModuleListStreamReader.readModuleList(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -142,8 +321,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
     public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
         requireAllNonNull(application, filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableModuleList(application), filePath);
+        writeDataFile(filePath, moduleListWriter.toJsonString(application.getModuleList()));
     }
 
     @Override
@@ -187,10 +365,9 @@ public class JsonApplicationStorage implements ApplicationStorage {
             throws IOException {
         requireAllNonNull(application, filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonSerializableDegreePlannerList serializedDegreePlannerList =
                 new JsonSerializableDegreePlannerList(application.getDegreePlannerList());
-        JsonUtil.saveJsonFile(serializedDegreePlannerList, filePath);
+        writeDataFile(filePath, JsonUtil.toJsonString(serializedDegreePlannerList));
     }
 
     @Override
@@ -234,10 +411,9 @@ public class JsonApplicationStorage implements ApplicationStorage {
             throws IOException {
         requireAllNonNull(application, filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonSerializableRequirementCategoryList serializedRequirementCategoryList =
                 new JsonSerializableRequirementCategoryList(application.getRequirementCategoryList());
-        JsonUtil.saveJsonFile(serializedRequirementCategoryList, filePath);
+        writeDataFile(filePath, JsonUtil.toJsonString(serializedRequirementCategoryList));
     }
 
 }
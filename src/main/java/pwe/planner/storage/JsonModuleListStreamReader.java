@@ -0,0 +1,100 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
+
+/**
+ * Reads a JSON module list file in the format of {@link JsonSerializableModuleList} as a stream of JSON tokens.
+ * <br><br>
+ * Each module is read into a {@link JsonAdaptedModule} and converted into a {@link Module} before the next module is
+ * read, hence neither the file contents nor the list of {@code JsonAdaptedModule} is held in memory as a whole.
+ * The same data constraints as {@link JsonSerializableModuleList#toModelType()} are checked.
+ */
+class JsonModuleListStreamReader {
+    public static final String MESSAGE_MISSING_MODULES_FIELD = "Module list file is missing the modules field!";
+
+    private static final String MODULES_FIELD_NAME = "modules";
+
+    private JsonModuleListStreamReader() {} // prevents instantiation
+
+    /**
+     * Reads the module list in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, or is not a JSON module list file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ObservableList<Module> readModuleList(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return readModuleList(inputStream);
+        }
+    }
+
+    /**
+     * Reads the module list in {@code inputStream}. {@code inputStream} is not closed.
+     *
+     * @throws IOException if the stream cannot be read, or is not a JSON module list.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ObservableList<Module> readModuleList(InputStream inputStream)
+            throws IOException, IllegalValueException {
+        requireNonNull(inputStream);
+
+        try (JsonParser parser = JsonUtil.createJsonParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            UniqueModuleList uniqueModuleList = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (MODULES_FIELD_NAME.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    uniqueModuleList = readModules(parser);
+                } else {
+                    // unknown fields (such as comments) are ignored, as with JsonUtil#fromJsonString
+                    parser.skipChildren();
+                }
+            }
+
+            if (uniqueModuleList == null) {
+                throw new JsonParseException(parser, MESSAGE_MISSING_MODULES_FIELD);
+            }
+            return JsonSerializableModuleList.toValidatedModuleList(uniqueModuleList);
+        }
+    }
+
+    /**
+     * Reads the modules in the JSON array which {@code parser} is at the start of, up to the end of the array.
+     */
+    private static UniqueModuleList readModules(JsonParser parser) throws IOException, IllegalValueException {
+        assert parser.getCurrentToken() == JsonToken.START_ARRAY;
+
+        UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of module list");
+            }
+            JsonAdaptedModule jsonAdaptedModule = parser.readValueAs(JsonAdaptedModule.class);
+            JsonSerializableModuleList.addUniqueModule(uniqueModuleList, jsonAdaptedModule.toModelType());
+        }
+        return uniqueModuleList;
+    }
+}
@@ -0,0 +1,73 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.module.Module;
+
+/**
+ * Writes module lists in the format of {@link JsonSerializableModuleList}, keeping the JSON of each module written as
+ * a fragment which is reused if the same module is written again.
+ * <br><br>
+ * As a {@link Module} is immutable, the fragments are keyed by the identity of the module, hence an unchanged module
+ * is never converted into a {@link JsonAdaptedModule} and serialized again. Only the fragments of the modules in the
+ * last module list written are kept.
+ */
+class JsonModuleListWriter {
+
+    private static final String MODULES_FIELD_NAME = "modules";
+
+    /*
+     * A module in the list is nested one level deeper than a module serialized on its own, and every line but the
+     * first of a pretty-printed module is indented by its nesting level.
+     */
+    private static final String NESTED_LINE_SEPARATOR = DefaultIndenter.SYS_LF + "  ";
+
+    private Map<Module, String> fragments = new IdentityHashMap<>();
+
+    /**
+     * Returns the JSON of {@code modules}, which is identical to that of {@link JsonSerializableModuleList} as written
+     * by {@link JsonUtil#toJsonString(Object)}.
+     */
+    public String toJsonString(List<Module> modules) throws IOException {
+        requireNonNull(modules);
+
+        Map<Module, String> writtenFragments = new IdentityHashMap<>();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeFieldName(MODULES_FIELD_NAME);
+            generator.writeStartArray();
+            for (Module module : modules) {
+                String fragment = fragments.get(module);
+                if (fragment == null) {
+                    fragment = toFragment(module);
+                }
+                writtenFragments.put(module, fragment);
+                generator.writeRawValue(fragment);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        fragments = writtenFragments;
+        return writer.toString();
+    }
+
+    /**
+     * Returns the JSON of {@code module}, as it appears in a module list.
+     */
+    private static String toFragment(Module module) throws IOException {
+        return JsonUtil.toJsonString(new JsonAdaptedModule(module)).replace(DefaultIndenter.SYS_LF,
+                NESTED_LINE_SEPARATOR);
+    }
+}
@@ -2,38 +2,36 @@ package pwe.planner.storage;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Set;
+import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.exceptions.IllegalValueException;
-import pwe.planner.commons.util.StringUtil;
 import pwe.planner.model.Application;
-import pwe.planner.model.module.Code;
+import pwe.planner.model.ApplicationInvariantChecker;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
 import pwe.planner.model.planner.DegreePlanner;
-import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 
 /**
  * A class to access the JsonSerializable* files data stored as a json file on the hard disk.
  */
 public class JsonSerializableApplication {
     public static final String MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE =
-            "The module code (%1$s) in requirement category (%2$s) does not exists in the module list!";
+            ApplicationInvariantChecker.MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE;
     public static final String MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE =
-            "The module code (%1$s) in degree planner (Year %2$s Semester %3$s) does not exists in the module list!";
+            ApplicationInvariantChecker.MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE;
     public static final String MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER =
-            "The module code (%1$s) is added to Year %2$s Semester %3$s of the degree plan, but the module is offered "
-            + "only in Semesters %4$s!\n";
+            ApplicationInvariantChecker.MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER;
     public static final String MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS =
-            "The module code (%1$s) is added to Year %2$s Semester %3$s of the degree plan, but the module is "
-            + "not offered in any semesters!";
+            ApplicationInvariantChecker.MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS;
     public static final String MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER =
-            "The module codes (%1$s) and (%2$s) are co-requisites, but (%2$s) is not added to the degree plan!";
+            ApplicationInvariantChecker.MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER;
     public static final String MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER =
-            "The module codes (%1$s) and (%2$s) are co-requisites, but are not added to the same year/semester in the "
-            + "degree plan!\n"
-            + "Module code %1$s is in Year %3$s Semester %4$s, and module code (%2$s) is in Year %5$s Semester %6$s.";
+            ApplicationInvariantChecker.MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER;
 
     private ObservableList<Module> moduleObservableList;
     private ObservableList<DegreePlanner> degreeObservableList;
@@ -84,6 +82,7 @@ public class JsonSerializableApplication {
      * 2. All codes in degree planners must exist in module list.<br>
      * 3. All modules in degree planners must be taken only in semesters the module is offered in.<br>
      * 4. All modules in degree planners must have all their co-requisites in the same semester.<br>
+     * The data constraints are checked by {@link ApplicationInvariantChecker#verifyAll()}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
@@ -97,57 +96,33 @@ public class JsonSerializableApplication {
         application.setRequirementCategories(requirementCategories);
         application.setDegreePlanners(degreePlanners);
 
-        // 1. Ensure that all codes in requirement categories exist in module list
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            for (Code code : requirementCategory.getCodeSet()) {
-                if (!application.hasModuleCode(code)) {
-                    throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE, code,
-                            requirementCategory.getName()));
-                }
-            }
+        List<String> violations = application.getInvariantChecker().verifyAll();
+        if (!violations.isEmpty()) {
+            throw new IllegalValueException(violations.get(0));
         }
 
-        // 2. Ensure that all codes in degree planner exist in module list
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            for (Code code : degreePlanner.getCodes()) {
-                if (!application.hasModuleCode(code)) {
-                    throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE, code,
-                            degreePlanner.getYear(), degreePlanner.getSemester()
-                    ));
-                }
-
-                // 3. Ensure that all modules in degree planners are taken only in semesters the module is offered in.
-                Module module = application.getModuleByCode(code);
-                Set<Semester> semesters = module.getSemesters();
-
-                if (!semesters.contains(degreePlanner.getSemester())) {
-                    if (semesters.isEmpty()) {
-                        throw new IllegalValueException(String.format(
-                                MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS, code, degreePlanner.getYear(),
-                                degreePlanner.getSemester()));
-                    } else {
-                        String semestersOfferingModule = StringUtil.joinStreamAsString(semesters.stream().sorted());
-                        throw new IllegalValueException(String.format(MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER,
-                                code, degreePlanner.getYear(), degreePlanner.getSemester(), semestersOfferingModule));
-                    }
-                }
-
-                // 4. Ensure that all modules in degree planners have all their co-requisites in the same semester.
-                Set<Code> corequisites = module.getCorequisites();
-                for (Code corequisite : corequisites) {
-                    DegreePlanner corequisiteDegreePlanner = application.getDegreePlannerByCode(corequisite);
-                    if (corequisiteDegreePlanner == null) {
-                        throw new IllegalValueException(String.format(MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER,
-                                code, corequisite));
-                    } else if (!degreePlanner.isSameDegreePlanner(corequisiteDegreePlanner)) {
-                        throw new IllegalValueException(String.format(MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER,
-                                code, corequisite, degreePlanner.getYear(), degreePlanner.getSemester(),
-                                corequisiteDegreePlanner.getYear(), corequisiteDegreePlanner.getSemester()));
-                    }
-                }
-            }
+        return application;
+    }
+
+    /**
+     * Returns the application with the given lists, checked for the same data constraints as {@link #toModelType()},
+     * on top of the module list constraints of {@link JsonSerializableModuleList#toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Application toValidatedApplication(List<Module> modules, List<DegreePlanner> degreePlanners,
+            List<RequirementCategory> requirementCategories) throws IllegalValueException {
+        UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        for (Module module : modules) {
+            JsonSerializableModuleList.addUniqueModule(uniqueModuleList, module);
         }
 
-        return application;
+        try {
+            return new JsonSerializableApplication(JsonSerializableModuleList.toValidatedModuleList(uniqueModuleList),
+                    FXCollections.observableList(degreePlanners), FXCollections.observableList(requirementCategories))
+                    .toModelType();
+        } catch (DuplicateDegreePlannerException | DuplicateRequirementCategoryException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
     }
 }
@@ -1,10 +1,10 @@
 package pwe.planner.storage;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -52,6 +52,13 @@ class JsonSerializableModuleList {
         modules.addAll(source.getModuleList().stream().map(JsonAdaptedModule::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the modules of this list, in their order in the JSON file.
+     */
+    List<JsonAdaptedModule> getModules() {
+        return modules;
+    }
+
     /**
      * Converts the list of {@link JsonAdaptedModule} into the model's {@code ObservableList<Module>} object.<br>
      * Checks for additional data constraints on top of {@link JsonAdaptedModule#toModelType()}.
@@ -65,29 +72,50 @@ class JsonSerializableModuleList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ObservableList<Module> toModelType() throws IllegalValueException {
-        // Ensure all modules are unique
         UniqueModuleList uniqueModuleList = new UniqueModuleList();
         for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            Module module = jsonAdaptedModule.toModelType();
-            if (uniqueModuleList.contains(module)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
-            }
-            uniqueModuleList.add(module);
+            addUniqueModule(uniqueModuleList, jsonAdaptedModule.toModelType());
         }
 
+        return toValidatedModuleList(uniqueModuleList);
+    }
+
+    /**
+     * Adds {@code module} to {@code uniqueModuleList}.
+     *
+     * @throws IllegalValueException if {@code module} already exists in {@code uniqueModuleList}.
+     */
+    static void addUniqueModule(UniqueModuleList uniqueModuleList, Module module) throws IllegalValueException {
+        requireAllNonNull(uniqueModuleList, module);
+
+        // Ensure all modules are unique
+        if (uniqueModuleList.contains(module)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
+        }
+        uniqueModuleList.add(module);
+    }
+
+    /**
+     * Returns the modules in {@code uniqueModuleList} as an {@code ObservableList<Module>}, after checking that the
+     * co-requisites of all modules refer to existing modules in the list, and are two-way.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ObservableList<Module> toValidatedModuleList(UniqueModuleList uniqueModuleList)
+            throws IllegalValueException {
+        requireNonNull(uniqueModuleList);
+
         ObservableList<Module> moduleList = uniqueModuleList.asUnmodifiableObservableList();
         for (Module module : moduleList) {
             for (Code corequisite : module.getCorequisites()) {
-                Optional<Module> corequisiteModuleOptional = moduleList.stream()
-                        .filter(currentModule -> currentModule.getCode().equals(corequisite))
-                        .findFirst();
+                Module corequisiteModule = uniqueModuleList.getModuleByCode(corequisite);
 
                 // Ensure that all module co-requisites refers to existing modules in module list
-                if (!corequisiteModuleOptional.isPresent()) {
+                if (corequisiteModule == null) {
                     throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_COREQUISITE, corequisite));
                 }
                 // Ensure that module co-requisites must be two-way (A has B as a co-requisite, and vice versa)
-                if (!corequisiteModuleOptional.get().getCorequisites().contains(module.getCode())) {
+                if (!corequisiteModule.getCorequisites().contains(module.getCode())) {
                     throw new IllegalValueException(String.format(MESSAGE_ONE_WAY_COREQUISITE, module.getCode(),
                             corequisite));
                 }
@@ -0,0 +1,73 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * The plan of a student, i.e. the degree planners and requirement categories of an application without its module
+ * list, that is serializable to JSON format. See {@link PlanOverlayApplicationStorage}.
+ */
+@JsonRootName(value = "planOverlay")
+class JsonSerializablePlanOverlay {
+
+    private final List<JsonAdaptedDegreePlanner> degreePlanners = new ArrayList<>();
+    private final List<JsonAdaptedRequirementCategory> requirementCategories = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializablePlanOverlay} with the given degree planners and requirement categories.
+     */
+    @JsonCreator
+    public JsonSerializablePlanOverlay(@JsonProperty("degreePlanners") List<JsonAdaptedDegreePlanner> degreePlanners,
+            @JsonProperty("requirementCategories") List<JsonAdaptedRequirementCategory> requirementCategories) {
+        requireAllNonNull(degreePlanners, requirementCategories);
+
+        this.degreePlanners.addAll(degreePlanners);
+        this.requirementCategories.addAll(requirementCategories);
+    }
+
+    /**
+     * Converts the plan of a given {@code ReadOnlyApplication} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializablePlanOverlay}.
+     */
+    public JsonSerializablePlanOverlay(ReadOnlyApplication source) {
+        requireNonNull(source);
+
+        source.getDegreePlannerList().stream().map(JsonAdaptedDegreePlanner::new).forEach(degreePlanners::add);
+        source.getRequirementCategoryList().stream().map(JsonAdaptedRequirementCategory::new)
+                .forEach(requirementCategories::add);
+    }
+
+    /**
+     * Converts the degree planners into the model's {@code ObservableList<DegreePlanner>} object, with the same data
+     * constraints as {@link JsonSerializableDegreePlannerList#toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ObservableList<DegreePlanner> toDegreePlannerList() throws IllegalValueException {
+        return new JsonSerializableDegreePlannerList(degreePlanners).toModelType();
+    }
+
+    /**
+     * Converts the requirement categories into the model's {@code ObservableList<RequirementCategory>} object, with
+     * the same data constraints as {@link JsonSerializableRequirementCategoryList#toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ObservableList<RequirementCategory> toRequirementCategoryList() throws IllegalValueException {
+        return new JsonSerializableRequirementCategoryList(requirementCategories).toModelType();
+    }
+}
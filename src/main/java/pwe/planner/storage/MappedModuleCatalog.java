@@ -0,0 +1,396 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * A read-only catalog of modules in a prebuilt catalog file, which is memory-mapped rather than read into the heap.
+ * <br><br>
+ * The modules are exposed as {@link ModuleView} flyweights, which are modules that only hold their code and the
+ * position of their module in the file, and decode any other field each time it is requested. Hence they can be held
+ * by the model in place of full modules, see {@link SharedModuleCatalog#map(Path, Path)}. A full {@link Module} is
+ * only created by {@link ModuleView#toModule()}, or by a command which edits the module. As the file is mapped
+ * read-only, the pages of the file are shared by every process which maps it, through the page cache of the operating
+ * system.
+ * <br><br>
+ * A catalog file is written by {@link #write(Collection, Path)}. It holds {@link #MAGIC}, {@link #FORMAT_VERSION},
+ * the number of modules, the file offsets of the modules sorted by code, and then the modules. Each string in a module
+ * is an unsigned 16-bit length followed by its UTF-8 bytes.
+ */
+public class MappedModuleCatalog {
+
+    public static final int MAGIC = 0x50574543; // "PWEC"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_CATALOG = "The file is not a module catalog.";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "The module catalog format version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "The module catalog is truncated or corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedModuleCatalog.class);
+    private static final int HEADER_LENGTH = Integer.BYTES * 3;
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private MappedModuleCatalog(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Returns the catalog in the catalog file at {@code filePath}, which is memory-mapped read-only.
+     *
+     * @throws DataConversionException if the file is not a catalog file.
+     * @throws IOException if there was any problem when mapping the file.
+     */
+    public static MappedModuleCatalog open(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED));
+            }
+            // the mapping remains valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            MappedModuleCatalog catalog = new MappedModuleCatalog(buffer, readHeader(buffer));
+            logger.info("Mapped module catalog of " + catalog.size() + " modules: " + filePath);
+            return catalog;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the number of modules in the catalog file, after checking its header and that the offsets of all
+     * modules are in the file.
+     *
+     * @throws IllegalValueException if the file is not a valid catalog file.
+     */
+    private static int readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.limit() < HEADER_LENGTH || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_CATALOG);
+        }
+        int formatVersion = buffer.getInt(Integer.BYTES);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion));
+        }
+
+        int size = buffer.getInt(Integer.BYTES * 2);
+        if (size < 0 || size > (buffer.limit() - HEADER_LENGTH) / Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        int modulesOffset = HEADER_LENGTH + size * Integer.BYTES;
+        for (int i = 0; i < size; i++) {
+            int offset = buffer.getInt(HEADER_LENGTH + i * Integer.BYTES);
+            if (offset < modulesOffset || offset >= buffer.limit()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes {@code modules} to a catalog file at {@code filePath}, replacing the file if it exists.
+     */
+    public static void write(Collection<Module> modules, Path filePath) throws IOException {
+        requireAllNonNull(modules, filePath);
+
+        List<Module> sortedModules = new ArrayList<>(modules);
+        sortedModules.sort(Comparator.comparing(Module::getCode));
+
+        ByteArrayOutputStream moduleBytes = new ByteArrayOutputStream();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH + sortedModules.size() * Integer.BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(sortedModules.size());
+        for (Module module : sortedModules) {
+            header.putInt(header.capacity() + moduleBytes.size());
+            writeString(moduleBytes, module.getCode().value);
+            writeString(moduleBytes, module.getName().fullName);
+            writeUnsignedShort(moduleBytes, Integer.parseInt(module.getCredits().value));
+            moduleBytes.write(toBitset(module.getSemesters()));
+            writeStrings(moduleBytes, module.getCorequisites(), code -> code.value);
+            writeStrings(moduleBytes, module.getTags(), tag -> tag.tagName);
+        }
+
+        ByteArrayOutputStream catalog = new ByteArrayOutputStream(header.capacity() + moduleBytes.size());
+        catalog.write(header.array(), 0, header.capacity());
+        moduleBytes.writeTo(catalog);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, catalog.toByteArray());
+    }
+
+    /**
+     * Returns the bitset of {@code semesters}, in which semester {@code n} is bit {@code n - 1}.
+     */
+    private static int toBitset(Set<Semester> semesters) {
+        int bitset = 0;
+        for (Semester semester : semesters) {
+            bitset |= 1 << (Integer.parseInt(semester.plannerSemester) - 1);
+        }
+        return bitset;
+    }
+
+    /**
+     * Writes the number of {@code values}, followed by each of them.
+     */
+    private static <T> void writeStrings(ByteArrayOutputStream out, Collection<T> values,
+            Function<T, String> toString) {
+        writeUnsignedShort(out, values.size());
+        values.stream().map(toString).sorted().forEach(value -> writeString(out, value));
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedShort(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned 16-bit number.
+     *
+     * @throws IllegalArgumentException if {@code value} does not fit in 16 bits.
+     */
+    private static void writeUnsignedShort(ByteArrayOutputStream out, int value) {
+        if (value < 0 || value > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("Value does not fit the module catalog format: " + value);
+        }
+        out.write(value >>> Byte.SIZE);
+        out.write(value);
+    }
+
+    /**
+     * Returns the number of modules in the catalog.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the module at {@code index} of the catalog, in which the modules are sorted by code.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the catalog.
+     */
+    public ModuleView get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return createView(buffer.getInt(HEADER_LENGTH + index * Integer.BYTES));
+    }
+
+    /**
+     * Returns the module with {@code code}, or an empty {@code Optional} if it is not in the catalog.
+     * The module is found by a binary search on the mapped file, which decodes no module other than the one returned.
+     */
+    public Optional<ModuleView> find(Code code) {
+        requireNonNull(code);
+
+        byte[] codeBytes = code.value.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = buffer.getInt(HEADER_LENGTH + middle * Integer.BYTES);
+            int comparison = compareString(offset, codeBytes);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(createView(offset));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the modules in the catalog, sorted by code.
+     */
+    public Stream<ModuleView> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the view of the module at {@code offset}, whose code is decoded as it identifies the module.
+     */
+    private ModuleView createView(int offset) {
+        return new ModuleView(new Code(readString(offset)), offset);
+    }
+
+    /**
+     * Compares the string at {@code offset} with {@code bytes}, byte by byte as unsigned values, which is the same
+     * order as {@link String#compareTo(String)} for the ASCII characters of codes.
+     */
+    private int compareString(int offset, byte[] bytes) {
+        int length = readUnsignedShort(offset);
+        int commonLength = Math.min(length, bytes.length);
+        for (int i = 0; i < commonLength; i++) {
+            int difference = Byte.toUnsignedInt(buffer.get(offset + Short.BYTES + i)) - Byte.toUnsignedInt(bytes[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - bytes.length;
+    }
+
+    // the buffer is only read with absolute gets, so views can be used from several threads at once
+
+    private int readUnsignedShort(int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset));
+    }
+
+    /**
+     * Returns the string at {@code offset}, copied out of the mapped file.
+     */
+    private String readString(int offset) {
+        byte[] bytes = new byte[readUnsignedShort(offset)];
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset + Short.BYTES);
+        duplicate.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the offset after the string at {@code offset}.
+     */
+    private int skipString(int offset) {
+        return offset + Short.BYTES + readUnsignedShort(offset);
+    }
+
+    /**
+     * Returns the strings in the list at {@code offset}, converted by {@code constructor}.
+     */
+    private <T> Set<T> readStrings(int offset, Function<String, T> constructor) {
+        int count = readUnsignedShort(offset);
+        Set<T> values = new HashSet<>();
+        int valueOffset = offset + Short.BYTES;
+        for (int i = 0; i < count; i++) {
+            values.add(constructor.apply(readString(valueOffset)));
+            valueOffset = skipString(valueOffset);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the offset after the list of strings at {@code offset}.
+     */
+    private int skipStrings(int offset) {
+        int count = readUnsignedShort(offset);
+        int valueOffset = offset + Short.BYTES;
+        for (int i = 0; i < count; i++) {
+            valueOffset = skipString(valueOffset);
+        }
+        return valueOffset;
+    }
+
+    /**
+     * A read-only view of a module in a {@link MappedModuleCatalog}, which decodes the fields of the module other than
+     * its code from the mapped file on demand. It is equal to the full {@code Module} with the same fields.
+     */
+    public class ModuleView extends Module {
+        private final int offset;
+
+        private ModuleView(Code code, int offset) {
+            super(code);
+            this.offset = offset;
+        }
+
+        @Override
+        public Name getName() {
+            return new Name(readString(getNameOffset()));
+        }
+
+        @Override
+        public Credits getCredits() {
+            return new Credits(String.valueOf(readUnsignedShort(getCreditsOffset())));
+        }
+
+        /**
+         * Returns an immutable {@code Semester} set.
+         */
+        @Override
+        public Set<Semester> getSemesters() {
+            int bitset = Byte.toUnsignedInt(buffer.get(getCreditsOffset() + Short.BYTES));
+            Set<Semester> semesters = new HashSet<>();
+            for (int bit = 0; bit < Byte.SIZE; bit++) {
+                if ((bitset & (1 << bit)) != 0) {
+                    semesters.add(new Semester(String.valueOf(bit + 1)));
+                }
+            }
+            return Collections.unmodifiableSet(semesters);
+        }
+
+        /**
+         * Returns an immutable {@code Code} set.
+         */
+        @Override
+        public Set<Code> getCorequisites() {
+            return Collections.unmodifiableSet(readStrings(getCorequisitesOffset(), Code::new));
+        }
+
+        /**
+         * Returns an immutable {@code Tag} set.
+         */
+        @Override
+        public Set<Tag> getTags() {
+            return Collections.unmodifiableSet(readStrings(skipStrings(getCorequisitesOffset()), Tag::new));
+        }
+
+        /**
+         * Returns the {@code Module} this is a view of, with all its fields decoded.
+         */
+        public Module toModule() {
+            return new Module(getCode(), getName(), getCredits(), getSemesters(), getCorequisites(), getTags());
+        }
+
+        private int getNameOffset() {
+            return skipString(offset);
+        }
+
+        private int getCreditsOffset() {
+            return skipString(getNameOffset());
+        }
+
+        private int getCorequisitesOffset() {
+            return getCreditsOffset() + Short.BYTES + Byte.BYTES;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.module.Module;
+
+/**
+ * Reads a batch of {@link Module modules} to import from a CSV or JSON file, chosen by the extension of the file.
+ * <br><br>
+ * A JSON file is in the format of the module list file, i.e. {@code {"modules": [...]}}.
+ * A CSV file has the header {@link #CSV_HEADER}, followed by one module per row. The semesters, co-requisites and tags
+ * of a module are separated by spaces, and fields containing commas may be quoted with {@code "}.
+ * <br><br>
+ * Unlike the module list file, the co-requisites of the modules are not checked against each other, as they may refer
+ * to modules which are not in the batch.
+ */
+public class ModuleBatchFileReader {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_EXTENSION = ".json";
+    public static final List<String> CSV_COLUMNS =
+            Arrays.asList("code", "name", "credits", "semesters", "corequisites", "tags");
+    public static final String CSV_HEADER = String.join(",", CSV_COLUMNS);
+
+    public static final String MESSAGE_INVALID_CSV_HEADER = "The first row of a CSV file must be the header: "
+            + CSV_HEADER;
+    public static final String MESSAGE_INVALID_COLUMN_COUNT = "Expected %1$d columns, but found %2$d";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+
+    private static final String CSV_LIST_SEPARATOR = " ";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+
+    private ModuleBatchFileReader() {}
+
+    /**
+     * Returns true if {@code filePath} has the extension of a file format which can be read.
+     */
+    public static boolean isSupportedFile(Path filePath) {
+        requireNonNull(filePath);
+
+        String fileName = filePath.getFileName() == null
+                ? ""
+                : filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(CSV_EXTENSION) || fileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Returns the modules in the file at {@code filePath}, in their order in the file. Every row of the file is
+     * converted before any error is reported, so that all the invalid rows are reported together.
+     *
+     * @throws IOException if the file cannot be read, or is not a valid JSON file.
+     * @throws IllegalValueException if any row of the file is not a valid module, with the errors of all such rows.
+     */
+    public static List<Module> read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!isSupportedFile(filePath)) {
+            throw new IOException("Unsupported file format " + filePath);
+        }
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        List<JsonAdaptedModule> rows = filePath.getFileName().toString().toLowerCase(Locale.ROOT)
+                .endsWith(CSV_EXTENSION)
+                ? parseCsv(content)
+                : JsonUtil.fromJsonString(content, JsonSerializableModuleList.class).getModules();
+
+        List<Module> modules = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                modules.add(rows.get(i).toModelType());
+            } catch (IllegalValueException ive) {
+                rowErrors.add(String.format(MESSAGE_INVALID_ROW, i + 1, ive.getMessage()));
+            }
+        }
+        if (!rowErrors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", rowErrors));
+        }
+        return modules;
+    }
+
+    /**
+     * Returns the rows of the CSV {@code content} as adapted modules. Blank lines are ignored.
+     *
+     * @throws IllegalValueException if the header is invalid, or any row does not have a field for each column,
+     *     with the errors of all such rows.
+     */
+    private static List<JsonAdaptedModule> parseCsv(String content) throws IllegalValueException {
+        List<String> lines = Arrays.stream(content.split("\\R"))
+                .filter(line -> !line.trim().isEmpty())
+                .collect(Collectors.toList());
+        if (lines.isEmpty() || !isCsvHeader(lines.get(0))) {
+            throw new IllegalValueException(MESSAGE_INVALID_CSV_HEADER);
+        }
+
+        List<JsonAdaptedModule> rows = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                rows.add(toAdaptedModule(splitCsvLine(lines.get(i))));
+            } catch (IllegalValueException ive) {
+                rowErrors.add(String.format(MESSAGE_INVALID_ROW, i, ive.getMessage()));
+            }
+        }
+        if (!rowErrors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", rowErrors));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns true if {@code line} is the CSV header, ignoring case and the spaces around the column names.
+     */
+    private static boolean isCsvHeader(String line) throws IllegalValueException {
+        List<String> columns = splitCsvLine(line).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        return columns.equals(CSV_COLUMNS);
+    }
+
+    /**
+     * Returns the fields of the CSV {@code line}. A field may be quoted with {@code "}, in which case it may contain
+     * commas, and {@code ""} stands for a {@code "} in the field.
+     *
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    static List<String> splitCsvLine(String line) throws IllegalValueException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted && c == CSV_QUOTE && i + 1 < line.length() && line.charAt(i + 1) == CSV_QUOTE) {
+                field.append(CSV_QUOTE);
+                i++;
+            } else if (c == CSV_QUOTE) {
+                isQuoted = !isQuoted;
+            } else if (c == CSV_SEPARATOR && !isQuoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the adapted module of the CSV row with {@code fields}, in the order of {@link #CSV_COLUMNS}.
+     *
+     * @throws IllegalValueException if there is not a field for each column.
+     */
+    private static JsonAdaptedModule toAdaptedModule(List<String> fields) throws IllegalValueException {
+        if (fields.size() != CSV_COLUMNS.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COLUMN_COUNT, CSV_COLUMNS.size(),
+                    fields.size()));
+        }
+
+        List<JsonAdaptedSemester> semesters = splitCsvList(fields.get(3)).stream()
+                .map(JsonAdaptedSemester::new).collect(Collectors.toList());
+        List<JsonAdaptedCode> corequisites = splitCsvList(fields.get(4)).stream()
+                .map(JsonAdaptedCode::new).collect(Collectors.toList());
+        List<JsonAdaptedTag> tags = splitCsvList(fields.get(5)).stream()
+                .map(JsonAdaptedTag::new).collect(Collectors.toList());
+        return new JsonAdaptedModule(new JsonAdaptedCode(fields.get(0).trim()),
+                new JsonAdaptedName(fields.get(1).trim()), new JsonAdaptedCredits(fields.get(2).trim()),
+                semesters, corequisites, tags);
+    }
+
+    /**
+     * Returns the values of the multi-valued CSV {@code field}, which are separated by spaces.
+     */
+    private static List<String> splitCsvList(String field) {
+        String trimmedField = field.trim();
+        if (trimmedField.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(trimmedField.split(CSV_LIST_SEPARATOR + "+"));
+    }
+}
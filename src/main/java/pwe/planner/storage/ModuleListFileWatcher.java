@@ -0,0 +1,185 @@
+package pwe.planner.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
+
+/**
+ * Watches a module list data file for changes made outside of the application, e.g. the file being replaced by an
+ * updated catalog, on a background thread.
+ * <br><br>
+ * The changed file is parsed on the background thread, and the differences from the module list last known to be in
+ * the file are reported to a handler, on the notification executor given. Hence writes of the application itself are
+ * reported as the modules it saved, which the handler should find to be already applied.
+ * The module list of the file only becomes the one known once the handler accepts its differences, so that the
+ * differences of a file whose changes were rejected are reported again, with any later changes, when it next changes.
+ * A file which is not in the correct format, e.g. one still being written, is skipped until it changes again.
+ */
+public class ModuleListFileWatcher implements AutoCloseable {
+    private static final Logger logger = LogsCenter.getLogger(ModuleListFileWatcher.class);
+    private static final String WATCH_THREAD_NAME = "ModuleListFileWatcher";
+
+    /*
+     * Time to wait for the changes to the file to stop before it is parsed, as replacing a file may raise several
+     * events in a row.
+     */
+    private static final long SETTLE_DELAY_MILLIS = 100;
+
+    private final Path moduleListFilePath;
+    private final Predicate<ModuleListDiff> changeHandler;
+    private final Executor notificationExecutor;
+    private final WatchService watchService;
+    private final Thread watchThread;
+
+    // read by the watch thread, and replaced by the handler on the notification executor once it accepts a diff
+    private volatile List<Module> knownModules;
+
+    /**
+     * Creates a watcher of the module list data file at {@code moduleListFilePath}, whose contents are currently
+     * {@code knownModules}. The file is only watched once {@link #start()} is called.
+     *
+     * @param changeHandler returns true if the differences it is given are applied, or had already been applied, and
+     *     false if they are rejected.
+     *
+     * @throws IOException if the directory of the file cannot be watched.
+     */
+    public ModuleListFileWatcher(Path moduleListFilePath, List<Module> knownModules,
+            Predicate<ModuleListDiff> changeHandler, Executor notificationExecutor) throws IOException {
+        requireAllNonNull(moduleListFilePath, knownModules, changeHandler, notificationExecutor);
+
+        this.moduleListFilePath = moduleListFilePath.toAbsolutePath();
+        this.knownModules = new ArrayList<>(knownModules);
+        this.changeHandler = changeHandler;
+        this.notificationExecutor = notificationExecutor;
+
+        Path directory = this.moduleListFilePath.getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        // a file replaced by moving another file over it raises a creation event instead of a modification event
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        watchThread = new Thread(this::watch, WATCH_THREAD_NAME);
+        // does not keep the JVM alive
+        watchThread.setDaemon(true);
+    }
+
+    public Path getModuleListFilePath() {
+        return moduleListFilePath;
+    }
+
+    /**
+     * Starts watching the module list data file.
+     */
+    public void start() {
+        logger.info("Watching " + moduleListFilePath + " for changes");
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching the module list data file. Changes which are being parsed may still be reported.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Waits for changes to the module list data file until this watcher is closed.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isFileChanged = pollFileEvents(key);
+                // waits for the changes to stop, as the events of one change may arrive one after another
+                while ((key = watchService.poll(SETTLE_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isFileChanged |= pollFileEvents(key);
+                }
+
+                if (isFileChanged) {
+                    checkForChanges();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.info("Stopped watching " + moduleListFilePath + " for changes");
+        }
+    }
+
+    /**
+     * Returns true if any event of {@code key} is about the module list data file, after resetting {@code key}.
+     */
+    private boolean pollFileEvents(WatchKey key) {
+        boolean isFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object changedFileName = event.context();
+            isFileChanged |= changedFileName == null // an overflow event, which may hide an event about the file
+                    || moduleListFilePath.getFileName().equals(changedFileName);
+        }
+        key.reset();
+        return isFileChanged;
+    }
+
+    /**
+     * Parses the module list data file, and reports its differences from the module list last known to be in the
+     * file (if any).
+     */
+    void checkForChanges() {
+        if (!Files.exists(moduleListFilePath)) {
+            logger.info("Module list file " + moduleListFilePath + " removed, ignoring");
+            return;
+        }
+
+        List<Module> modules;
+        try {
+            modules = JsonModuleListStreamReader.readModuleList(moduleListFilePath);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Changed module list file " + moduleListFilePath + " not in the correct format, ignoring: "
+                    + StringUtil.getDetails(e));
+            return;
+        }
+
+        ModuleListDiff diff = ModuleListDiff.of(knownModules, modules);
+        if (diff.isEmpty()) {
+            logger.fine(() -> "Module list file " + moduleListFilePath + " changed without changes to its modules");
+            return;
+        }
+
+        logger.info("Module list file " + moduleListFilePath + " changed: " + diff);
+        notificationExecutor.execute(() -> handleChanges(diff, modules));
+    }
+
+    /**
+     * Reports {@code diff} to the handler, and makes {@code modules}, the module list of the file it was made from, the
+     * known module list if the handler accepts it.
+     */
+    private void handleChanges(ModuleListDiff diff, List<Module> modules) {
+        if (!changeHandler.test(diff)) {
+            logger.warning("Changes of module list file " + moduleListFilePath + " (" + diff + ", " + modules.size()
+                    + " modules in the file) rejected, keeping the module list last known to report them again when the"
+                    + " file next changes");
+            return;
+        }
+
+        knownModules = modules;
+    }
+}
@@ -0,0 +1,313 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.util.SampleDataUtil;
+
+/**
+ * An {@link ApplicationStorage} which combines a {@link SharedModuleCatalog} with the plan of one student, i.e. the
+ * degree planners and requirement categories, saved in an overlay file in the format of
+ * {@link JsonSerializablePlanOverlay}.
+ * <br><br>
+ * The catalog is read-only, hence saving an application whose module list differs from the catalog fails.
+ * Commands which change the modules are rejected up front instead, see {@link #isModuleListReadOnly()}.
+ * The file path of the module list is the catalog file path, and the file path of the other lists is the overlay file
+ * path. The overlay file can be switched by {@link #switchOverlay(Path)} without reading the catalog again.
+ */
+public class PlanOverlayApplicationStorage implements ApplicationStorage {
+
+    public static final String MESSAGE_CATALOG_READ_ONLY = "The modules of the shared catalog (%1$s) cannot be "
+            + "changed, undo the changes to the modules to save the plan.";
+
+    private static final Logger logger = LogsCenter.getLogger(PlanOverlayApplicationStorage.class);
+    private static final long UNSAVED_VERSION = -1;
+
+    private final SharedModuleCatalog catalog;
+    private Path overlayFilePath;
+
+    /*
+     * Versions of the lists last written to the overlay file, used to skip the write if neither list changed since.
+     * See ReadOnlyApplication#getDegreePlannerListVersion().
+     */
+    private long savedDegreePlannerListVersion = UNSAVED_VERSION;
+    private long savedRequirementCategoryListVersion = UNSAVED_VERSION;
+
+    public PlanOverlayApplicationStorage(SharedModuleCatalog catalog, Path overlayFilePath) {
+        requireAllNonNull(catalog, overlayFilePath);
+
+        this.catalog = catalog;
+        this.overlayFilePath = overlayFilePath;
+    }
+
+    public SharedModuleCatalog getCatalog() {
+        return catalog;
+    }
+
+    public Path getOverlayFilePath() {
+        return overlayFilePath;
+    }
+
+    @Override
+    public Path getModuleListFilePath() {
+        return catalog.getFilePath();
+    }
+
+    @Override
+    public Path getDegreePlannerListFilePath() {
+        return overlayFilePath;
+    }
+
+    @Override
+    public Path getRequirementCategoryListFilePath() {
+        return overlayFilePath;
+    }
+
+    /**
+     * Reads the plan in the overlay file at {@code overlayFilePath}, which then becomes the overlay file of this
+     * storage. The overlay file is left unchanged if the plan cannot be read.
+     *
+     * @see #readApplication(Path)
+     */
+    public ReadOnlyApplication switchOverlay(Path overlayFilePath) throws DataConversionException {
+        requireNonNull(overlayFilePath);
+
+        ReadOnlyApplication application = readApplication(overlayFilePath);
+        logger.info("Switching overlay file from " + this.overlayFilePath + " to " + overlayFilePath);
+        this.overlayFilePath = overlayFilePath;
+        savedDegreePlannerListVersion = UNSAVED_VERSION;
+        savedRequirementCategoryListVersion = UNSAVED_VERSION;
+        return application;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplication> readApplication() throws DataConversionException {
+        return Optional.of(readApplication(overlayFilePath));
+    }
+
+    /**
+     * Reads the plan in the overlay file at {@code degreePlannerListFilePath}. The other file paths are not used, as
+     * the module list is the catalog and both other lists are in the overlay file.
+     *
+     * @param moduleListFilePath cannot be null
+     * @param degreePlannerListFilePath cannot be null
+     * @param requirementCategoryListFilePath cannot be null
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) throws DataConversionException {
+        requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+
+        return Optional.of(readApplication(degreePlannerListFilePath));
+    }
+
+    /**
+     * Returns the application of the catalog and the plan in the overlay file at {@code overlayFilePath}.
+     * If the overlay file is not found, the plan is a new plan with the degree planners and requirement categories of
+     * the sample application, without any module codes.
+     *
+     * @throws DataConversionException if the overlay file is not in the correct format, or its plan does not fit the
+     *     modules of the catalog.
+     */
+    public ReadOnlyApplication readApplication(Path overlayFilePath) throws DataConversionException {
+        requireNonNull(overlayFilePath);
+
+        Optional<JsonSerializablePlanOverlay> planOverlay =
+                JsonUtil.readJsonFile(overlayFilePath, JsonSerializablePlanOverlay.class);
+        if (!planOverlay.isPresent()) {
+            logger.info("Overlay file " + overlayFilePath + " not found, starting a new plan");
+            return getNewPlan();
+        }
+
+        try {
+            // the modules of the catalog are already checked, so only the plan is checked against the modules
+            return new JsonSerializableApplication(catalog.getModules(), planOverlay.get().toDegreePlannerList(),
+                    planOverlay.get().toRequirementCategoryList()).toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + overlayFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the application of the catalog and a plan with the degree planners and requirement categories of the
+     * sample application, without any module codes.
+     */
+    private Application getNewPlan() {
+        Application application = new Application();
+        application.setModules(catalog.getModules());
+        application.setDegreePlanners(Arrays.stream(SampleDataUtil.getSampleDegreePlanners())
+                .map(degreePlanner -> new DegreePlanner(degreePlanner.getYear(), degreePlanner.getSemester(), Set.of()))
+                .collect(Collectors.toList()));
+        application.setRequirementCategories(Arrays.stream(SampleDataUtil.getSampleRequirementCategories())
+                .map(requirementCategory -> new RequirementCategory(requirementCategory.getName(),
+                        requirementCategory.getCredits(), Set.of()))
+                .collect(Collectors.toList()));
+        return application;
+    }
+
+    /**
+     * Saves the plan of {@code application} to the overlay file, unless neither of its lists was modified since they
+     * were last saved by this method.
+     *
+     * @throws IOException if the module list of {@code application} differs from the catalog, or there was any
+     *     problem writing to the file.
+     */
+    @Override
+    public void saveApplication(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        requireCatalogModules(application);
+        if (application.getDegreePlannerListVersion() == savedDegreePlannerListVersion
+                && application.getRequirementCategoryListVersion() == savedRequirementCategoryListVersion) {
+            logger.fine(() -> "Plan unchanged, skipping write to overlay file: " + overlayFilePath);
+            return;
+        }
+
+        saveApplication(application, overlayFilePath);
+    }
+
+    /**
+     * Saves the plan of {@code application} to the overlay file at {@code overlayFilePath}.
+     *
+     * @throws IOException if the module list of {@code application} differs from the catalog, or there was any
+     *     problem writing to the file.
+     */
+    public void saveApplication(ReadOnlyApplication application, Path overlayFilePath) throws IOException {
+        requireAllNonNull(application, overlayFilePath);
+
+        requireCatalogModules(application);
+        // the versions are read before writing, so a list modified while it is written is saved again next time
+        long degreePlannerListVersion = application.getDegreePlannerListVersion();
+        long requirementCategoryListVersion = application.getRequirementCategoryListVersion();
+
+        FileUtil.createParentDirsOfFile(overlayFilePath);
+        FileUtil.writeToFileWithBackup(overlayFilePath,
+                JsonUtil.toJsonString(new JsonSerializablePlanOverlay(application)));
+
+        if (overlayFilePath.equals(this.overlayFilePath)) {
+            savedDegreePlannerListVersion = degreePlannerListVersion;
+            savedRequirementCategoryListVersion = requirementCategoryListVersion;
+        }
+    }
+
+    /**
+     * Throws an {@code IOException} if the module list of {@code application} differs from the catalog.
+     */
+    private void requireCatalogModules(ReadOnlyApplication application) throws IOException {
+        // the modules are compared by reference first, which is fast as they are usually the modules of the catalog
+        if (!application.getModuleList().equals(catalog.getModules())) {
+            throw new IOException(String.format(MESSAGE_CATALOG_READ_ONLY, catalog.getFilePath()));
+        }
+    }
+
+    /**
+     * Does nothing, as the overlay file is always fully written.
+     */
+    @Override
+    public void compact() {}
+
+    /**
+     * Returns true, as the modules of the catalog cannot be changed.
+     */
+    @Override
+    public boolean isModuleListReadOnly() {
+        return true;
+    }
+
+    // ================ Single list methods, of the catalog or the whole overlay file ================
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList() {
+        return Optional.of(catalog.getModules());
+    }
+
+    /**
+     * Returns the modules of the catalog, as the catalog is only read once. {@code filePath} is not used.
+     */
+    @Override
+    public Optional<ObservableList<Module>> readModuleList(Path filePath) {
+        requireNonNull(filePath);
+
+        return Optional.of(catalog.getModules());
+    }
+
+    /**
+     * Does nothing if the module list of {@code application} is the catalog, as the catalog is read-only.
+     *
+     * @throws IOException if the module list of {@code application} differs from the catalog.
+     */
+    @Override
+    public void saveModuleList(ReadOnlyApplication application) throws IOException {
+        saveModuleList(application, catalog.getFilePath());
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        requireCatalogModules(application);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList() throws DataConversionException {
+        return readDegreePlannerList(overlayFilePath);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList(Path filePath)
+            throws DataConversionException {
+        return Optional.of(readApplication(filePath).getDegreePlannerList());
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application) throws IOException {
+        saveDegreePlannerList(application, overlayFilePath);
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+        saveApplication(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList()
+            throws DataConversionException {
+        return readRequirementCategoryList(overlayFilePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList(Path filePath)
+            throws DataConversionException {
+        return Optional.of(readApplication(filePath).getRequirementCategoryList());
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application) throws IOException {
+        saveRequirementCategoryList(application, overlayFilePath);
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+        saveApplication(application, filePath);
+    }
+}
@@ -0,0 +1,126 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
+
+/**
+ * A module list which is read once and then shared by the applications of any number of plans, e.g. those of every
+ * student of a course. See {@link PlanOverlayApplicationStorage}.
+ * <br><br>
+ * As a {@link Module} is immutable, the applications all refer to the same modules, hence each application only holds
+ * its own list of references to the modules.
+ * The modules of a catalog created by {@link #map(Path, Path)} are views of a memory-mapped catalog file, which only
+ * hold their code on the heap, and whose pages are shared with the other processes mapping the file.
+ * Guarantees: immutable.
+ */
+public class SharedModuleCatalog {
+
+    private static final Logger logger = LogsCenter.getLogger(SharedModuleCatalog.class);
+
+    private final Path filePath;
+    private final ObservableList<Module> modules;
+
+    private SharedModuleCatalog(Path filePath, ObservableList<Module> modules) {
+        this.filePath = filePath;
+        this.modules = FXCollections.unmodifiableObservableList(modules);
+    }
+
+    /**
+     * Reads the catalog from the module list file at {@code filePath}, which is in the format of
+     * {@link JsonSerializableModuleList}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if the file cannot be read.
+     */
+    public static SharedModuleCatalog read(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        try {
+            ObservableList<Module> modules = JsonModuleListStreamReader.readModuleList(filePath);
+            logger.info("Read " + modules.size() + " modules into the shared catalog from " + filePath);
+            return new SharedModuleCatalog(filePath, modules);
+        } catch (JsonProcessingException jpe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + jpe);
+            throw new DataConversionException(jpe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the catalog of the module list file at {@code moduleListFilePath}, whose modules are
+     * {@link MappedModuleCatalog.ModuleView views} of the memory-mapped catalog file at {@code catalogFilePath},
+     * sorted by code. The catalog file is first built from the module list file, which is in the format of
+     * {@link JsonSerializableModuleList}, if it is missing or older than the module list file. A catalog file without
+     * a module list file is mapped as it is.
+     * <br><br>
+     * Each module is decoded once to check the data constraints of the module list, then only its view is kept.
+     *
+     * @throws DataConversionException if either file is not in the correct format.
+     * @throws IOException if either file cannot be read, or the catalog file cannot be built.
+     */
+    public static SharedModuleCatalog map(Path moduleListFilePath, Path catalogFilePath)
+            throws DataConversionException, IOException {
+        requireAllNonNull(moduleListFilePath, catalogFilePath);
+
+        if (Files.exists(moduleListFilePath) && (!Files.exists(catalogFilePath)
+                || Files.getLastModifiedTime(moduleListFilePath).compareTo(
+                        Files.getLastModifiedTime(catalogFilePath)) > 0)) {
+            logger.info("Building catalog file " + catalogFilePath + " from " + moduleListFilePath);
+            // the catalog file is replaced as a whole, so processes which mapped the previous file are unaffected
+            MappedModuleCatalog.write(read(moduleListFilePath).getModules(), catalogFilePath);
+        }
+
+        MappedModuleCatalog mappedCatalog = MappedModuleCatalog.open(catalogFilePath);
+        try {
+            UniqueModuleList uniqueModuleList = new UniqueModuleList();
+            for (int i = 0; i < mappedCatalog.size(); i++) {
+                MappedModuleCatalog.ModuleView moduleView = mappedCatalog.get(i);
+                // decodes every field, which fails if any field is not valid
+                moduleView.toModule();
+                JsonSerializableModuleList.addUniqueModule(uniqueModuleList, moduleView);
+            }
+            ObservableList<Module> modules = JsonSerializableModuleList.toValidatedModuleList(uniqueModuleList);
+            logger.info("Mapped " + modules.size() + " modules into the shared catalog from " + catalogFilePath);
+            return new SharedModuleCatalog(moduleListFilePath, modules);
+        } catch (IllegalArgumentException | IllegalValueException e) {
+            logger.info("Illegal values found in " + catalogFilePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            logger.info("Module outside of the catalog file " + catalogFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the module list file of the catalog, which is the file the modules were read from, or the catalog file
+     * was built from if they are mapped.
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns an unmodifiable view of the modules of the catalog.
+     */
+    public ObservableList<Module> getModules() {
+        return modules;
+    }
+}
@@ -0,0 +1,89 @@
+package pwe.planner.storage;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.model.ReadOnlyApplication;
+
+/**
+ * Converts the application data saved by one {@link ApplicationStorage} into the format of another, e.g. between the
+ * JSON data files of {@link JsonApplicationStorage} and the snapshot file of {@link BinaryApplicationStorage}.
+ */
+public class StorageFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageFormatConverter.class);
+
+    private StorageFormatConverter() {}
+
+    /**
+     * Saves the application read from {@code source} to {@code target}.
+     * Returns false, and leaves {@code target} unchanged, if {@code source} has no saved data.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(ApplicationStorage source, ApplicationStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyApplication> application = source.readApplication();
+        if (!application.isPresent()) {
+            logger.info("No data to convert in " + source.getModuleListFilePath());
+            return false;
+        }
+
+        logger.info("Converting data in " + source.getModuleListFilePath() + " to " + target.getModuleListFilePath());
+        target.saveApplication(application.get());
+        return true;
+    }
+
+    /**
+     * Saves the application read from {@code source} to {@code target}, as with
+     * {@link #convert(ApplicationStorage, ApplicationStorage)}, if a file of {@code source} was modified after every
+     * file of {@code target}, or none of the files of {@code target} exist.
+     * Returns false, and leaves {@code target} unchanged, otherwise.
+     *
+     * @param sourceFilePaths the files {@code source} saves the application to, which may not exist
+     * @param targetFilePaths the files {@code target} saves the application to, which may not exist
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convertIfNewer(ApplicationStorage source, List<Path> sourceFilePaths,
+            ApplicationStorage target, List<Path> targetFilePaths) throws DataConversionException, IOException {
+        requireAllNonNull(source, sourceFilePaths, target, targetFilePaths);
+
+        Optional<FileTime> sourceLastModifiedTime = getLastModifiedTime(sourceFilePaths);
+        Optional<FileTime> targetLastModifiedTime = getLastModifiedTime(targetFilePaths);
+        if (!sourceLastModifiedTime.isPresent() || (targetLastModifiedTime.isPresent()
+                && sourceLastModifiedTime.get().compareTo(targetLastModifiedTime.get()) <= 0)) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+    /**
+     * Returns the time the last of {@code filePaths} was modified, or {@code Optional.empty()} if none of them exist.
+     */
+    private static Optional<FileTime> getLastModifiedTime(List<Path> filePaths) throws IOException {
+        FileTime lastModifiedTime = null;
+        for (Path filePath : filePaths) {
+            if (!Files.exists(filePath)) {
+                continue;
+            }
+            FileTime modifiedTime = Files.getLastModifiedTime(filePath);
+            if (lastModifiedTime == null || modifiedTime.compareTo(lastModifiedTime) > 0) {
+                lastModifiedTime = modifiedTime;
+            }
+        }
+        return Optional.ofNullable(lastModifiedTime);
+    }
+}
@@ -11,6 +11,9 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.core.LogsCenter;
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
+import pwe.planner.commons.jfr.SaveEvent;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.UserPrefs;
@@ -57,9 +60,10 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyApplication> readApplication() throws DataConversionException, IOException {
-        return readApplication(applicationStorage.getModuleListFilePath(),
-                applicationStorage.getDegreePlannerListFilePath(),
-                applicationStorage.getRequirementCategoryListFilePath());
+        logger.fine(() -> "Attempting to read data from files: " + applicationStorage.getModuleListFilePath() + ", "
+                + applicationStorage.getDegreePlannerListFilePath() + ", "
+                + applicationStorage.getRequirementCategoryListFilePath());
+        return applicationStorage.readApplication();
     }
 
     @Override
@@ -68,9 +72,9 @@ public class StorageManager implements Storage {
             throws DataConversionException, IOException {
         requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
 
-        logger.fine("Attempting to read data from file: " + moduleListFilePath);
-        logger.fine("Attempting to read data from file: " + degreePlannerListFilePath);
-        logger.fine("Attempting to read data from file: " + requirementCategoryListFilePath);
+        logger.fine(() -> "Attempting to read data from file: " + moduleListFilePath);
+        logger.fine(() -> "Attempting to read data from file: " + degreePlannerListFilePath);
+        logger.fine(() -> "Attempting to read data from file: " + requirementCategoryListFilePath);
         return applicationStorage
                 .readApplication(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
     }
@@ -79,9 +83,33 @@ public class StorageManager implements Storage {
     public void saveApplication(ReadOnlyApplication application) throws IOException {
         requireNonNull(application);
 
-        saveModuleList(application, applicationStorage.getModuleListFilePath());
-        saveDegreePlannerList(application, applicationStorage.getDegreePlannerListFilePath());
-        saveRequirementCategoryList(application, applicationStorage.getRequirementCategoryListFilePath());
+        logger.fine("Attempting to write to data files");
+        SaveEvent saveEvent = FlightRecorderEvents.newSaveEvent();
+        saveEvent.begin();
+        long bytesWrittenBefore = FileUtil.getBytesWrittenOnCurrentThread();
+        boolean isSuccessful = false;
+        try {
+            applicationStorage.saveApplication(application);
+            isSuccessful = true;
+        } finally {
+            if (saveEvent.isEnabled()) {
+                saveEvent.record(applicationStorage.getClass().getSimpleName(), isSuccessful,
+                        application.getModuleList().size(), application.getDegreePlannerList().size(),
+                        application.getRequirementCategoryList().size(),
+                        FileUtil.getBytesWrittenOnCurrentThread() - bytesWrittenBefore);
+            }
+        }
+    }
+
+    @Override
+    public void compact() throws IOException {
+        logger.fine("Attempting to compact data files");
+        applicationStorage.compact();
+    }
+
+    @Override
+    public boolean isModuleListReadOnly() {
+        return applicationStorage.isModuleListReadOnly();
     }
 
 
@@ -101,7 +129,7 @@ public class StorageManager implements Storage {
     public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return applicationStorage.readModuleList(filePath);
     }
 
@@ -116,7 +144,7 @@ public class StorageManager implements Storage {
     public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
         requireAllNonNull(application, filePath);
 
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         applicationStorage.saveModuleList(application, filePath);
     }
 
@@ -137,7 +165,7 @@ public class StorageManager implements Storage {
             throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return applicationStorage.readDegreePlannerList(filePath);
     }
 
@@ -152,7 +180,7 @@ public class StorageManager implements Storage {
     public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
         requireAllNonNull(application, filePath);
 
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         applicationStorage.saveDegreePlannerList(application, filePath);
     }
 
@@ -174,7 +202,7 @@ public class StorageManager implements Storage {
             throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return applicationStorage.readRequirementCategoryList(filePath);
     }
 
@@ -190,7 +218,7 @@ public class StorageManager implements Storage {
     public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
         requireAllNonNull(application, filePath);
 
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         applicationStorage.saveRequirementCategoryList(application, filePath);
     }
 }
@@ -46,7 +46,12 @@ public class BrowserPanel extends UiPart<Region> {
             loadModulePage(newValue);
         });
 
-        loadDefaultPage();
+        // the module may have been selected before this panel was created
+        if (selectedModule.getValue() == null) {
+            loadDefaultPage();
+        } else {
+            loadModulePage(selectedModule.getValue());
+        }
     }
 
     private void loadModulePage(Module module) {
@@ -4,16 +4,20 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -43,9 +47,18 @@ public class DegreePlannerCard extends UiPart<Region> {
     @FXML
     private VBox degreePlannerListView;
 
-    public DegreePlannerCard(DegreePlanner degreePlanner, ObservableList<Module> moduleList) {
+    // Held strongly by this card, as the credits property outlives the card.
+    private final ChangeListener<Number> creditsListener = (observable, oldValue, newValue) ->
+            updateCredits(newValue.intValue());
+
+    /**
+     * Creates a card of {@code degreePlanner}, whose modules are looked up by their code with {@code moduleLookup},
+     * so that creating the card does not depend on the number of modules in the module list.
+     */
+    public DegreePlannerCard(DegreePlanner degreePlanner, Function<Code, Module> moduleLookup,
+            ReadOnlyIntegerProperty currentCredits) {
         super(FXML);
-        requireAllNonNull(degreePlanner, moduleList);
+        requireAllNonNull(degreePlanner, moduleLookup, currentCredits);
 
         this.degreePlanner = degreePlanner;
 
@@ -64,22 +77,13 @@ public class DegreePlannerCard extends UiPart<Region> {
         semester.setText(plannerSemesterContent.toString());
 
         List<Module> modulesInDegreePlanner = degreePlanner.getCodes().stream()
-                .map(code -> moduleList.stream().filter(module -> module.getCode().equals(code))
-                        .findFirst().get()).collect(Collectors.toList());
-
-        int currentCredits = modulesInDegreePlanner.stream().map(Module::getCredits).map(Credits::toString)
-                .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
+                .map(moduleLookup)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
-        credits.setText("Total Credits: " + currentCredits + " MCs");
         credits.setPadding(new Insets(0, 0, 0, 5));
-        credits.getStyleClass().clear();
-        if (currentCredits < MINIMUM_LOAD) {
-            credits.getStyleClass().add("orange");
-        } else if (currentCredits < OVER_LOAD) {
-            credits.getStyleClass().add("green");
-        } else {
-            credits.getStyleClass().add("red");
-        }
+        updateCredits(currentCredits.get());
+        currentCredits.addListener(new WeakChangeListener<>(creditsListener));
 
         modulesInDegreePlanner.stream().sorted(Comparator.comparing(Module::getCode))
                 .forEach(module -> {
@@ -94,6 +98,21 @@ public class DegreePlannerCard extends UiPart<Region> {
         degreePlannerCardPane.setOnMouseClicked(null);
     }
 
+    /**
+     * Displays {@code currentCredits} as the total credits of the degree planner, styled by the load it represents.
+     */
+    private void updateCredits(int currentCredits) {
+        credits.setText("Total Credits: " + currentCredits + " MCs");
+        credits.getStyleClass().clear();
+        if (currentCredits < MINIMUM_LOAD) {
+            credits.getStyleClass().add("orange");
+        } else if (currentCredits < OVER_LOAD) {
+            credits.getStyleClass().add("green");
+        } else {
+            credits.getStyleClass().add("red");
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
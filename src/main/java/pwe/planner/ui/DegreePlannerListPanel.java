@@ -2,11 +2,17 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.function.Function;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
+import pwe.planner.commons.jfr.ListCellUpdateEvent;
+import pwe.planner.model.CreditTotals;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -16,17 +22,19 @@ import pwe.planner.model.planner.DegreePlanner;
 public class DegreePlannerListPanel extends UiPart<Region> {
 
     private static final String FXML = "DegreePlannerListPanel.fxml";
-    private ObservableList<Module> modules;
+    private Function<Code, Module> moduleLookup;
+    private CreditTotals creditTotals;
 
     @FXML
     private ListView<DegreePlanner> degreePlanners;
 
     public DegreePlannerListPanel(ObservableList<DegreePlanner> degreePlannerList,
-            ObservableList<Module> moduleList) {
+            Function<Code, Module> moduleLookup, CreditTotals creditTotals) {
         super(FXML);
-        requireAllNonNull(degreePlannerList, moduleList);
+        requireAllNonNull(degreePlannerList, moduleLookup, creditTotals);
 
-        modules = moduleList;
+        this.moduleLookup = moduleLookup;
+        this.creditTotals = creditTotals;
         degreePlanners.setItems(degreePlannerList);
         degreePlanners.setCellFactory(listView -> new DegreePlannerViewCell());
     }
@@ -38,13 +46,21 @@ public class DegreePlannerListPanel extends UiPart<Region> {
     class DegreePlannerViewCell extends ListCell<DegreePlanner> {
         @Override
         protected void updateItem(DegreePlanner degreePlanner, boolean empty) {
+            ListCellUpdateEvent listCellUpdateEvent = FlightRecorderEvents.newListCellUpdateEvent();
+            listCellUpdateEvent.begin();
             super.updateItem(degreePlanner, empty);
 
             if (empty || degreePlanner == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DegreePlannerCard(degreePlanner, modules).getRoot());
+                setGraphic(new DegreePlannerCard(degreePlanner, moduleLookup,
+                        creditTotals.degreePlannerCreditsProperty(degreePlanner)).getRoot());
+            }
+            if (listCellUpdateEvent.isEnabled()) {
+                int itemCount = getListView() == null ? 0 : getListView().getItems().size();
+                listCellUpdateEvent.record(DegreePlannerListPanel.class.getSimpleName(), getIndex(), itemCount,
+                        empty || degreePlanner == null);
             }
         }
     }
@@ -2,6 +2,7 @@ package pwe.planner.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -73,8 +74,6 @@ public class MainWindow extends UiPart<Stage> {
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -117,34 +116,54 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window which are needed to start entering commands.
      */
     void fillInnerParts() {
-        browserPanel = new BrowserPanel(logic.selectedModuleProperty());
-        browserPlaceholder.getChildren().add(browserPanel.getRoot());
-
         moduleListPanel = new ModuleListPanel(logic.getFilteredModuleList(), logic.selectedModuleProperty(),
                 logic::setSelectedModule);
         moduleListPanelPlaceholder.getChildren().add(moduleListPanel.getRoot());
 
         degreePlannerListPanel = new DegreePlannerListPanel(logic.getFilteredDegreePlannerList(),
-                logic.getApplication().getModuleList());
+                logic::getModuleByCode, logic.getCreditTotals());
         degreePlannerListPanelPlaceholder.getChildren().add(degreePlannerListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         requirementCategoryListPanel = new RequirementCategoryListPanel(logic.getFilteredRequirementCategoryList(),
-                logic.getApplication().getModuleList());
+                logic.getCreditTotals());
         requirementCategoryListPanelPlaceholder.getChildren().add(requirementCategoryListPanel.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(), logic.getApplication());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(), logic.getApplication(),
+                logic.saveFailureProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Fills up the browser placeholder, and creates the help window, each in its own event so that commands entered
+     * in between are handled first. Their web views take long to create, and are not needed to start entering
+     * commands.
+     */
+    void fillDeferredParts() {
+        browserPanel = new BrowserPanel(logic.selectedModuleProperty());
+        browserPlaceholder.getChildren().add(browserPanel.getRoot());
+
+        Platform.runLater(this::getHelpWindow);
+    }
+
+    /**
+     * Returns the help window, which is created the first time it is needed.
+     */
+    private HelpWindow getHelpWindow() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
+        return helpWindow;
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -162,6 +181,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        HelpWindow helpWindow = getHelpWindow();
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -181,7 +201,9 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -207,7 +229,7 @@ public class MainWindow extends UiPart<Stage> {
 
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -220,7 +242,7 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -13,6 +13,8 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
+import pwe.planner.commons.jfr.ListCellUpdateEvent;
 import pwe.planner.model.module.Module;
 
 /**
@@ -33,11 +35,11 @@ public class ModuleListPanel extends UiPart<Region> {
         moduleListView.setItems(moduleList);
         moduleListView.setCellFactory(listView -> new ModuleListViewCell());
         moduleListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in module list panel changed to : '" + newValue + "'");
+            logger.fine(() -> "Selection in module list panel changed to : '" + newValue + "'");
             onSelectedModuleChange.accept(newValue);
         });
         selectedModule.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected module changed to: " + newValue);
+            logger.fine(() -> "Selected module changed to: " + newValue);
 
             // Don't modify selection if we are already selecting the selected module,
             // otherwise we would have an infinite loop.
@@ -61,6 +63,8 @@ public class ModuleListPanel extends UiPart<Region> {
     class ModuleListViewCell extends ListCell<Module> {
         @Override
         protected void updateItem(Module module, boolean empty) {
+            ListCellUpdateEvent listCellUpdateEvent = FlightRecorderEvents.newListCellUpdateEvent();
+            listCellUpdateEvent.begin();
             super.updateItem(module, empty);
 
             if (empty || module == null) {
@@ -69,6 +73,11 @@ public class ModuleListPanel extends UiPart<Region> {
             } else {
                 setGraphic(new ModuleCard(module, getIndex() + 1).getRoot());
             }
+            if (listCellUpdateEvent.isEnabled()) {
+                int itemCount = getListView() == null ? 0 : getListView().getItems().size();
+                listCellUpdateEvent.record(ModuleListPanel.class.getSimpleName(), getIndex(), itemCount,
+                        empty || module == null);
+            }
         }
     }
 
@@ -2,17 +2,18 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
 
-import javafx.collections.ObservableList;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
-import pwe.planner.model.module.Credits;
-import pwe.planner.model.module.Module;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
@@ -36,33 +37,23 @@ public class RequirementCategoryCard extends UiPart<Region> {
     @FXML
     private FlowPane codes;
 
-    public RequirementCategoryCard(RequirementCategory requirementCategory, ObservableList<Module> moduleList) {
+    private final List<String> defaultCreditStyleClasses;
+
+    // Held strongly by this card, as the credits property outlives the card.
+    private final ChangeListener<Number> creditsListener = (observable, oldValue, newValue) ->
+            updateCredits(newValue.intValue());
+
+    public RequirementCategoryCard(RequirementCategory requirementCategory, ReadOnlyIntegerProperty currentCredits) {
         super(FXML);
-        requireAllNonNull(requirementCategory, moduleList);
+        requireAllNonNull(requirementCategory, currentCredits);
 
         this.requirementCategory = requirementCategory;
 
         requirementCategoryName.setText(requirementCategory.getName().fullName);
 
-        Stream<Module> modulesInRequirementCategory = requirementCategory.getCodeSet().stream()
-                .map(code -> moduleList.stream().filter(module -> module.getCode().equals(code)).findFirst().get());
-
-        int currentCredits = modulesInRequirementCategory.map(Module::getCredits).map(Credits::toString)
-                .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
-
-        String creditsRequired = requirementCategory.getCredits().toString();
-
-        requirementCategoryCredit.setText("Modular Credits Fulfilled: " + currentCredits + "/" + creditsRequired);
-
-        if (currentCredits == Integer.parseInt(creditsRequired)) {
-            requirementCategoryCredit.getStyleClass().clear();
-            requirementCategoryCredit.getStyleClass().add("green");
-        }
-
-        if (currentCredits > Integer.parseInt(creditsRequired)) {
-            requirementCategoryCredit.getStyleClass().clear();
-            requirementCategoryCredit.getStyleClass().add("red");
-        }
+        defaultCreditStyleClasses = new ArrayList<>(requirementCategoryCredit.getStyleClass());
+        updateCredits(currentCredits.get());
+        currentCredits.addListener(new WeakChangeListener<>(creditsListener));
 
         if (requirementCategory.getCodeSet().isEmpty()) {
             Text noCodes = new Text("No modules in this category!");
@@ -78,6 +69,24 @@ public class RequirementCategoryCard extends UiPart<Region> {
 
     }
 
+    /**
+     * Displays {@code currentCredits} as the credits fulfilled for the requirement category, styled by whether the
+     * credits required are met or exceeded.
+     */
+    private void updateCredits(int currentCredits) {
+        String creditsRequired = requirementCategory.getCredits().toString();
+
+        requirementCategoryCredit.setText("Modular Credits Fulfilled: " + currentCredits + "/" + creditsRequired);
+
+        if (currentCredits == Integer.parseInt(creditsRequired)) {
+            requirementCategoryCredit.getStyleClass().setAll("green");
+        } else if (currentCredits > Integer.parseInt(creditsRequired)) {
+            requirementCategoryCredit.getStyleClass().setAll("red");
+        } else {
+            requirementCategoryCredit.getStyleClass().setAll(defaultCreditStyleClasses);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
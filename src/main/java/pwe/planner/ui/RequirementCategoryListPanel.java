@@ -7,30 +7,30 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import pwe.planner.model.module.Module;
+import pwe.planner.commons.jfr.FlightRecorderEvents;
+import pwe.planner.commons.jfr.ListCellUpdateEvent;
+import pwe.planner.model.CreditTotals;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * Panel containing the list of requirement categories to be displayed.
- * This class takes in an ObservableModule list for the sole purpose of having the ObservableModule list as a
- * reference object.
- * As the ObservableRequirementCategory list only contains the module code, the ObservableModule list is necessary
- * to be able to compute the total amount of credits.
+ * This class takes in the {@code CreditTotals} of the application, as the ObservableRequirementCategory list only
+ * contains the module code, and the total amount of credits of each requirement category is maintained there.
  */
 public class RequirementCategoryListPanel extends UiPart<Region> {
     private static final String FXML = "RequirementCategoryListPanel.fxml";
-    private ObservableList<Module> modules;
+    private CreditTotals creditTotals;
 
 
     @FXML
     private ListView<RequirementCategory> requirementCategories;
 
     public RequirementCategoryListPanel(ObservableList<RequirementCategory> requirementCategoryList,
-            ObservableList<Module> moduleList) {
+            CreditTotals creditTotals) {
         super(FXML);
-        requireAllNonNull(requirementCategoryList, moduleList);
+        requireAllNonNull(requirementCategoryList, creditTotals);
 
-        modules = moduleList;
+        this.creditTotals = creditTotals;
         requirementCategories.setItems(requirementCategoryList);
         requirementCategories.setCellFactory(listView -> new RequirementCategoryViewCell());
     }
@@ -42,13 +42,21 @@ public class RequirementCategoryListPanel extends UiPart<Region> {
     class RequirementCategoryViewCell extends ListCell<RequirementCategory> {
         @Override
         protected void updateItem(RequirementCategory requirementCategory, boolean empty) {
+            ListCellUpdateEvent listCellUpdateEvent = FlightRecorderEvents.newListCellUpdateEvent();
+            listCellUpdateEvent.begin();
             super.updateItem(requirementCategory, empty);
 
             if (empty || requirementCategory == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RequirementCategoryCard(requirementCategory, modules).getRoot());
+                setGraphic(new RequirementCategoryCard(requirementCategory,
+                        creditTotals.requirementCategoryCreditsProperty(requirementCategory)).getRoot());
+            }
+            if (listCellUpdateEvent.isEnabled()) {
+                int itemCount = getListView() == null ? 0 : getListView().getItems().size();
+                listCellUpdateEvent.record(RequirementCategoryListPanel.class.getSimpleName(), getIndex(), itemCount,
+                        empty || requirementCategory == null);
             }
         }
     }
@@ -3,11 +3,13 @@ package pwe.planner.ui;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -20,6 +22,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVE_FAILED = "Could not save data to file: %s";
 
     /**
      * Used to generate time stamps.
@@ -38,13 +41,18 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    private final ObservableValue<IOException> saveFailure;
+    private String lastUpdatedStatus = SYNC_STATUS_INITIAL;
 
-    public StatusBarFooter(Path saveLocation, ReadOnlyApplication application) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyApplication application,
+            ObservableValue<IOException> saveFailure) {
         super(FXML);
-        requireAllNonNull(saveLocation, application);
+        requireAllNonNull(saveLocation, application, saveFailure);
 
+        this.saveFailure = saveFailure;
         application.addListener(observable -> updateSyncStatus());
-        syncStatus.setText(SYNC_STATUS_INITIAL);
+        saveFailure.addListener((observable, oldSaveFailure, newSaveFailure) -> showSyncStatus());
+        showSyncStatus();
         saveLocationStatus.setText(Paths.get("").toAbsolutePath().relativize(
                 saveLocation.toAbsolutePath()).toString());
     }
@@ -71,7 +79,18 @@ public class StatusBarFooter extends UiPart<Region> {
     private void updateSyncStatus() {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+        lastUpdatedStatus = String.format(SYNC_STATUS_UPDATED, lastUpdated);
+        showSyncStatus();
+    }
+
+    /**
+     * Shows the failure of the last save if it failed, or the "last updated" status otherwise.
+     */
+    private void showSyncStatus() {
+        IOException lastSaveFailure = saveFailure.getValue();
+        syncStatus.setText(lastSaveFailure == null
+                ? lastUpdatedStatus
+                : String.format(SYNC_STATUS_SAVE_FAILED, lastSaveFailure));
     }
 
 }
@@ -11,6 +11,7 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.core.StartupProfiler;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.Logic;
 
@@ -25,19 +26,22 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/plan_with_ease_32.png";
 
     private Logic logic;
+    private StartupProfiler startupProfiler;
     private MainWindow mainWindow;
 
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, StartupProfiler startupProfiler) {
         super();
-        requireNonNull(logic);
+        requireAllNonNull(logic, startupProfiler);
 
         this.logic = logic;
+        this.startupProfiler = startupProfiler;
     }
 
     @Override
     public void start(Stage primaryStage) {
         requireNonNull(primaryStage);
 
+        startupProfiler.endPhase("javafx launch");
         logger.info("Starting UI...");
 
         //Set the application icon.
@@ -47,11 +51,25 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
-
+            startupProfiler.endPhase("main window");
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
         }
+
+        // the parts which are not needed to start entering commands are built after the main window is shown
+        Platform.runLater(() -> {
+            startupProfiler.logFirstInteractive();
+            startupProfiler.startPhase();
+            try {
+                mainWindow.fillDeferredParts();
+            } catch (Throwable e) {
+                logger.severe(StringUtil.getDetails(e));
+                showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            }
+            startupProfiler.endPhase("deferred ui parts");
+        });
     }
 
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
@@ -0,0 +1,233 @@
+package performancetests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_AND;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_LEFT_BRACKET;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_OR;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_RIGHT_BRACKET;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.core.LatencyHistogram;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.logic.Logic;
+import pwe.planner.logic.LogicManager;
+import pwe.planner.logic.commands.AddCommand;
+import pwe.planner.logic.commands.EditCommand;
+import pwe.planner.logic.commands.FindCommand;
+import pwe.planner.logic.commands.ListCommand;
+import pwe.planner.logic.commands.PlannerMoveCommand;
+import pwe.planner.logic.commands.RedoCommand;
+import pwe.planner.logic.commands.UndoCommand;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.util.SyntheticDataGenerator;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.StorageManager;
+
+/**
+ * Executes a scripted mix of commands through {@link LogicManager#execute(String)} on a generated catalog of
+ * {@value #MODULE_COUNT} modules, saving to data files after every command as the application does, and fails if the
+ * 95th percentile latency of a command exceeds its recorded baseline by more than the tolerance.
+ *
+ * The tolerance is a fraction of the baseline, 0.25 by default, and may be set with the {@value #TOLERANCE_PROPERTY}
+ * system property, e.g. {@code gradle performanceTests -Ptolerance=0.5} on a machine slower than the one the baseline
+ * was recorded on, such as a shared CI machine.
+ */
+public class LogicManagerPerformanceTest {
+
+    public static final String TOLERANCE_PROPERTY = "performance.tolerance";
+
+    private static final int MODULE_COUNT = 10_000;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 100;
+    private static final int UNDO_CHAIN_LENGTH = 3;
+    private static final double PERCENTILE = 95;
+    private static final double DEFAULT_TOLERANCE = 0.25;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private static final String COMPLEX_FIND_CONDITION = PREFIX_NAME + "Introduction " + OPERATOR_AND + " "
+            + OPERATOR_LEFT_BRACKET + " " + PREFIX_TAG + "algorithms " + OPERATOR_OR + " " + PREFIX_TAG + "math "
+            + OPERATOR_OR + " " + PREFIX_CREDITS + "4 " + OPERATOR_RIGHT_BRACKET + " " + OPERATOR_AND + " "
+            + PREFIX_SEMESTER + "2";
+    private static final String RENAMED_CODE = "PRF9999";
+
+    /**
+     * The 95th percentile latency of each command, in milliseconds, as logged by this test when the baseline was last
+     * recorded, rounded up to the slowest of two runs. Record it again from the logged latencies when a change is
+     * meant to make a command slower or faster.
+     */
+    private static final Map<String, Double> BASELINE_LATENCIES_MILLIS = new LinkedHashMap<>();
+
+    static {
+        BASELINE_LATENCIES_MILLIS.put(AddCommand.COMMAND_WORD, 18.0);
+        BASELINE_LATENCIES_MILLIS.put(FindCommand.COMMAND_WORD, 185.0);
+        BASELINE_LATENCIES_MILLIS.put(ListCommand.COMMAND_WORD, 5.5);
+        BASELINE_LATENCIES_MILLIS.put(EditCommand.COMMAND_WORD, 24.5);
+        BASELINE_LATENCIES_MILLIS.put(PlannerMoveCommand.COMMAND_WORD, 16.5);
+        BASELINE_LATENCIES_MILLIS.put(UndoCommand.COMMAND_WORD, 17.0);
+        BASELINE_LATENCIES_MILLIS.put(RedoCommand.COMMAND_WORD, 18.0);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(LogicManagerPerformanceTest.class);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private Model model;
+    private Logic logic;
+    private int addedModuleCount;
+
+    // the planned module renamed to and from RENAMED_CODE, and the planned module moved between two degree planners
+    private Code renamedCode;
+    private Code movedCode;
+    private DegreePlanner sourcePlanner;
+    private DegreePlanner destinationPlanner;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(
+                new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).generateApplication(MODULE_COUNT),
+                new UserPrefs());
+        JsonApplicationStorage applicationStorage = new JsonApplicationStorage(temporaryFolder.newFile().toPath(),
+                temporaryFolder.newFile().toPath(), temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(applicationStorage, userPrefsStorage));
+
+        chooseMovedModule();
+        renamedCode = model.getApplication().getDegreePlannerList().stream()
+                .flatMap(degreePlanner -> degreePlanner.getCodes().stream())
+                .filter(code -> !code.equals(movedCode))
+                .findFirst()
+                .get();
+    }
+
+    /**
+     * Chooses a planned module without co-requisites which is offered in semesters 1 and 2, and a degree planner of
+     * the other of the two semesters to move it to.
+     */
+    private void chooseMovedModule() {
+        Semester firstSemester = new Semester("1");
+        Semester secondSemester = new Semester("2");
+        for (DegreePlanner degreePlanner : model.getApplication().getDegreePlannerList()) {
+            Semester semester = degreePlanner.getSemester();
+            if (!semester.equals(firstSemester) && !semester.equals(secondSemester)) {
+                continue;
+            }
+
+            for (Code code : degreePlanner.getCodes()) {
+                Module module = model.getModuleByCode(code);
+                if (module.getCorequisites().isEmpty() && module.getSemesters().contains(firstSemester)
+                        && module.getSemesters().contains(secondSemester)) {
+                    Semester otherSemester = semester.equals(firstSemester) ? secondSemester : firstSemester;
+                    movedCode = code;
+                    sourcePlanner = degreePlanner;
+                    destinationPlanner = model.getApplication().getDegreePlannerList().stream()
+                            .filter(planner -> planner.getSemester().equals(otherSemester))
+                            .findFirst()
+                            .get();
+                    return;
+                }
+            }
+        }
+        throw new AssertionError("The generated application has no module which can be moved");
+    }
+
+    @Test
+    public void execute_commandMix_withinBaselineLatencies() throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            executeRound(i);
+        }
+        histograms.clear();
+        for (int i = WARM_UP_ROUNDS; i < WARM_UP_ROUNDS + MEASURED_ROUNDS; i++) {
+            executeRound(i);
+        }
+
+        double tolerance = Double.parseDouble(
+                System.getProperty(TOLERANCE_PROPERTY, String.valueOf(DEFAULT_TOLERANCE)));
+        StringBuilder report = new StringBuilder();
+        List<String> regressions = new ArrayList<>();
+        BASELINE_LATENCIES_MILLIS.forEach((commandWord, baselineMillis) -> {
+            LatencyHistogram.Snapshot snapshot = histograms.get(commandWord).getSnapshot();
+            double percentileMillis = snapshot.getPercentileNanos(PERCENTILE) / NANOS_PER_MILLI;
+            String row = String.format(Locale.ROOT, "%-15s p%.0f %9.3f ms, baseline %7.1f ms, %5d runs",
+                    commandWord, PERCENTILE, percentileMillis, baselineMillis, snapshot.getCount());
+            report.append('\n').append(row);
+            if (percentileMillis > baselineMillis * (1 + tolerance)) {
+                regressions.add(row);
+            }
+        });
+        logger.info("Latencies on " + MODULE_COUNT + " modules:" + report);
+
+        assertTrue(String.format(Locale.ROOT, "Baseline latencies exceeded by more than %.0f%%:\n%s", tolerance * 100,
+                String.join("\n", regressions)), regressions.isEmpty());
+    }
+
+    /**
+     * Executes a round of the command mix: adding a module, a complex find, listing the modules, renaming a planned
+     * module, moving a planned module between degree planners, and undoing and redoing the last commands.
+     * Rounds alternate between renaming and moving the modules there and back, so that every round succeeds.
+     */
+    private void executeRound(int round) throws Exception {
+        boolean isReturnTrip = round % 2 == 1;
+
+        execute(AddCommand.COMMAND_WORD + " " + PREFIX_CODE + String.format(Locale.ROOT, "PRF%04d", addedModuleCount++)
+                + " " + PREFIX_NAME + "Performance Testing " + PREFIX_CREDITS + "4 " + PREFIX_SEMESTER + "1 "
+                + PREFIX_SEMESTER + "2");
+        execute(FindCommand.COMMAND_WORD + " " + COMPLEX_FIND_CONDITION);
+        execute(ListCommand.COMMAND_WORD);
+
+        Code codeToRename = isReturnTrip ? new Code(RENAMED_CODE) : renamedCode;
+        Code newCode = isReturnTrip ? renamedCode : new Code(RENAMED_CODE);
+        int displayedIndex = model.getFilteredModuleList().indexOf(model.getModuleByCode(codeToRename)) + 1;
+        execute(EditCommand.COMMAND_WORD + " " + displayedIndex + " " + PREFIX_CODE + newCode);
+
+        DegreePlanner destination = isReturnTrip ? sourcePlanner : destinationPlanner;
+        execute(PlannerMoveCommand.COMMAND_WORD + " " + PREFIX_YEAR + destination.getYear() + " " + PREFIX_SEMESTER
+                + destination.getSemester() + " " + PREFIX_CODE + movedCode);
+
+        for (int i = 0; i < UNDO_CHAIN_LENGTH; i++) {
+            execute(UndoCommand.COMMAND_WORD);
+        }
+        for (int i = 0; i < UNDO_CHAIN_LENGTH; i++) {
+            execute(RedoCommand.COMMAND_WORD);
+        }
+        assertEquals(newCode, model.getModuleByCode(newCode).getCode());
+    }
+
+    /**
+     * Executes {@code commandText}, which must succeed, and records its latency under its command word.
+     */
+    private void execute(String commandText) throws Exception {
+        long startTime = System.nanoTime();
+        logic.execute(commandText);
+        long latency = System.nanoTime() - startTime;
+
+        String commandWord = commandText.split(" ", 2)[0];
+        histograms.computeIfAbsent(commandWord, unused -> new LatencyHistogram()).record(latency);
+    }
+}
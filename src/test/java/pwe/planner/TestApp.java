@@ -34,6 +34,8 @@ public class TestApp extends MainApp {
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pref_testing.json");
+    protected static final Path STARTUP_CACHE_LOCATION_FOR_TESTING =
+            TestUtil.getFilePathInSandboxFolder("startup_cache_testing.cache");
     protected Supplier<ReadOnlyApplication> initialDataSupplier = () -> null;
     protected Path saveModuleListFileLocation = SAVE_LOCATION_FOR_MODULE_LIST_TESTING;
     protected Path saveDegreePlannerListFileLocation = SAVE_LOCATION_FOR_DEGREE_PLANNER_LIST_TESTING;
@@ -83,13 +85,17 @@ public class TestApp extends MainApp {
         userPrefs.setModuleListFilePath(saveModuleListFileLocation);
         userPrefs.setRequirementCategoryListFilePath(saveRequirementCategoryListFileLocation);
         userPrefs.setDegreePlannerListFilePath(saveDegreePlannerListFileLocation);
+        userPrefs.setStartupCacheFilePath(STARTUP_CACHE_LOCATION_FOR_TESTING);
+        userPrefs.setModuleListWatchEnabled(false);
         return userPrefs;
     }
 
     /**
-     * Returns a defensive copy of the application data stored inside the storage file.
+     * Returns a defensive copy of the application data stored inside the storage file, once the pending saves are
+     * written.
      */
     public Application readStorageapplication() {
+        applicationSaver.flush();
         try {
             return new Application(storage.readApplication().get());
         } catch (DataConversionException dce) {
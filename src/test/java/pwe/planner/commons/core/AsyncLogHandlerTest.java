@@ -0,0 +1,184 @@
+package pwe.planner.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AsyncLogHandlerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler asyncLogHandler;
+
+    @After
+    public void tearDown() {
+        target.release();
+        if (asyncLogHandler != null) {
+            asyncLogHandler.close();
+        }
+    }
+
+    @Test
+    public void constructor_nullTargets_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new AsyncLogHandler(null, 1, LogOverflowPolicy.DROP);
+    }
+
+    @Test
+    public void constructor_zeroCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(AsyncLogHandler.MESSAGE_INVALID_CAPACITY);
+        new AsyncLogHandler(Collections.singletonList(target), 0, LogOverflowPolicy.DROP);
+    }
+
+    @Test
+    public void publish_thenFlush_recordsPublishedInOrderWithCaller() {
+        target.release();
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 4, LogOverflowPolicy.BLOCK);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(asyncLogHandler);
+        for (int i = 0; i < 10; i++) {
+            logger.info("message " + i);
+        }
+        asyncLogHandler.flush();
+
+        assertEquals(10, target.getMessages().size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("message " + i, target.getMessages().get(i));
+        }
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.getRecords().get(0).getSourceClassName());
+    }
+
+    @Test
+    public void publish_levelBelowHandlerLevel_notPublished() {
+        target.release();
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 4, LogOverflowPolicy.DROP);
+        asyncLogHandler.setLevel(Level.INFO);
+        asyncLogHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncLogHandler.flush();
+
+        assertTrue(target.getMessages().isEmpty());
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_recordDroppedAndCounted() throws Exception {
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 1, LogOverflowPolicy.DROP);
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "published"));
+        target.awaitPublishing();
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "buffered"));
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, asyncLogHandler.getDroppedCount());
+
+        target.release();
+        asyncLogHandler.flush();
+        assertEquals(0, asyncLogHandler.getDroppedCount());
+        assertEquals(3, target.getMessages().size());
+        assertEquals("published", target.getMessages().get(0));
+        assertEquals(String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 1), target.getMessages().get(1));
+        assertEquals("buffered", target.getMessages().get(2));
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_waitsForSpace() throws Exception {
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 1, LogOverflowPolicy.BLOCK);
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "published"));
+        target.awaitPublishing();
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "buffered"));
+
+        CountDownLatch blockedPublished = new CountDownLatch(1);
+        Thread loggingThread = new Thread(() -> {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "blocked"));
+            blockedPublished.countDown();
+        });
+        loggingThread.start();
+        assertFalse(blockedPublished.await(200, TimeUnit.MILLISECONDS));
+
+        target.release();
+        assertTrue(blockedPublished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        asyncLogHandler.flush();
+        assertEquals(0, asyncLogHandler.getDroppedCount());
+        assertEquals(3, target.getMessages().size());
+        assertEquals("blocked", target.getMessages().get(2));
+    }
+
+    @Test
+    public void close_bufferedRecords_publishedBeforeClosing() {
+        target.release();
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 16, LogOverflowPolicy.DROP);
+        for (int i = 0; i < 10; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncLogHandler.close();
+        assertEquals(10, target.getMessages().size());
+
+        // records published after closing are published on the calling thread
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals("after close", target.getMessages().get(10));
+    }
+
+    /**
+     * A handler which records the records published to it, and holds up the first record until released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            try {
+                released.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        void awaitPublishing() throws InterruptedException {
+            assertTrue(publishing.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<LogRecord> getRecords() {
+            return new ArrayList<>(records);
+        }
+
+        List<String> getMessages() {
+            List<String> messages = new ArrayList<>();
+            for (LogRecord record : getRecords()) {
+                messages.add(record.getMessage());
+            }
+            return messages;
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
@@ -1,17 +1,25 @@
 package pwe.planner.commons.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class ConfigTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Log buffer capacity : 1024\n"
+                + "Log overflow policy : DROP";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -21,6 +29,21 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        Config synchronousLoggingConfig = new Config();
+        synchronousLoggingConfig.setLogBufferCapacity(0);
+        assertFalse(defaultConfig.equals(synchronousLoggingConfig));
+
+        Config blockingLoggingConfig = new Config();
+        blockingLoggingConfig.setLogOverflowPolicy(LogOverflowPolicy.BLOCK);
+        assertFalse(defaultConfig.equals(blockingLoggingConfig));
+    }
+
+    @Test
+    public void setLogBufferCapacity_negativeCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Config.MESSAGE_INVALID_LOG_BUFFER_CAPACITY);
+        new Config().setLogBufferCapacity(-1);
     }
 
 
@@ -0,0 +1,95 @@
+package pwe.planner.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.LatencyHistogram.SUB_BUCKET_COUNT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import pwe.planner.commons.core.LatencyHistogram.Snapshot;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getSnapshot_noLatencies_returnsZeros() {
+        Snapshot snapshot = new LatencyHistogram().getSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMeanNanos(), 0);
+        assertEquals(0, snapshot.getPercentileNanos(50));
+        assertEquals(0, snapshot.getMaxNanos());
+    }
+
+    @Test
+    public void getSnapshot_recordedLatencies_returnsExactCountMeanAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(3_000);
+        histogram.record(-5); // recorded as zero
+
+        Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(3, snapshot.getCount());
+        assertEquals(4_000.0 / 3, snapshot.getMeanNanos(), 1e-9);
+        assertEquals(3_000, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getPercentileNanos(0));
+    }
+
+    @Test
+    public void getPercentileNanos_manyLatencies_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long latency = 1; latency <= 10_000; latency++) {
+            histogram.record(latency * 1_000);
+        }
+
+        Snapshot snapshot = histogram.getSnapshot();
+        assertWithinPrecision(5_000_000, snapshot.getPercentileNanos(50));
+        assertWithinPrecision(9_900_000, snapshot.getPercentileNanos(99));
+        assertEquals(10_000_000, snapshot.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getBucketIndex_boundaries_consistentWithUpperBounds() {
+        List<Long> latencies = new ArrayList<>();
+        for (long latency = 0; latency < 1_000; latency++) {
+            latencies.add(latency);
+        }
+        latencies.add(Long.MAX_VALUE);
+        latencies.add(1L << 40);
+
+        for (long latency : latencies) {
+            int bucketIndex = LatencyHistogram.getBucketIndex(latency);
+            assertTrue(latency <= LatencyHistogram.getBucketUpperBound(bucketIndex));
+            assertTrue(bucketIndex == 0 || latency > LatencyHistogram.getBucketUpperBound(bucketIndex - 1));
+        }
+    }
+
+    @Test
+    public void record_concurrentThreads_allLatenciesCounted() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int latency = 0; latency < 10_000; latency++) {
+                    histogram.record(latency);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getSnapshot().getCount());
+    }
+
+    /**
+     * Asserts that {@code actual} is at least {@code expected}, and exceeds it by no more than the precision of the
+     * histogram.
+     */
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected);
+        assertTrue(actual - expected <= expected / SUB_BUCKET_COUNT);
+    }
+}
@@ -0,0 +1,70 @@
+package pwe.planner.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class StartupProfilerTest {
+
+    private static final long SLEEP_MILLIS = 20;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final StartupProfiler startupProfiler = new StartupProfiler();
+
+    @Test
+    public void endPhase_nullPhase_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        startupProfiler.endPhase(null);
+    }
+
+    @Test
+    public void endPhase_phasesInOrder_eachTimedFromPreviousPhase() throws Exception {
+        Thread.sleep(SLEEP_MILLIS);
+        startupProfiler.endPhase("first");
+        startupProfiler.endPhase("second");
+
+        Map<String, Long> phaseNanos = startupProfiler.getPhaseNanos();
+        assertEquals(List.of("first", "second"), new ArrayList<>(phaseNanos.keySet()));
+        assertTrue(phaseNanos.get("first") >= TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS));
+        assertTrue(phaseNanos.get("second") < phaseNanos.get("first"));
+        assertTrue(startupProfiler.getElapsedMillis() >= SLEEP_MILLIS);
+    }
+
+    @Test
+    public void startPhase_timeBeforeStartLeftOut() throws Exception {
+        startupProfiler.endPhase("first");
+        Thread.sleep(SLEEP_MILLIS);
+        startupProfiler.startPhase();
+        startupProfiler.endPhase("second");
+
+        assertTrue(startupProfiler.getPhaseNanos().get("second") < TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS));
+    }
+
+    @Test
+    public void endPhase_samePhaseTwice_timesAdded() throws Exception {
+        startupProfiler.endPhase("phase");
+        long firstNanos = startupProfiler.getPhaseNanos().get("phase");
+        Thread.sleep(SLEEP_MILLIS);
+        startupProfiler.endPhase("phase");
+
+        assertEquals(1, startupProfiler.getPhaseNanos().size());
+        assertTrue(startupProfiler.getPhaseNanos().get("phase")
+                >= firstNanos + TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS));
+    }
+
+    @Test
+    public void getPhaseNanos_modify_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        startupProfiler.getPhaseNanos().put("phase", 0L);
+    }
+}
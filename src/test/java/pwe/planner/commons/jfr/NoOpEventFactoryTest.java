@@ -0,0 +1,27 @@
+package pwe.planner.commons.jfr;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class NoOpEventFactoryTest {
+
+    @Test
+    public void loadEventFactory_factoryClassNotFound_returnsNoOpEventFactory() {
+        assertTrue(FlightRecorderEvents.loadEventFactory("pwe.planner.commons.jfr.jdk.NoSuchEventFactory")
+                instanceof NoOpEventFactory);
+    }
+
+    @Test
+    public void newEvents_noOpEventFactory_sameEventNeverEnabled() {
+        NoOpEventFactory eventFactory = new NoOpEventFactory();
+        CommandEvent commandEvent = eventFactory.newCommandEvent();
+        commandEvent.begin();
+        commandEvent.record("add", true, true, 1, 0, 0);
+
+        assertFalse(commandEvent.isEnabled());
+        assertSame(commandEvent, eventFactory.newSaveEvent());
+    }
+}
@@ -1,14 +1,25 @@
 package pwe.planner.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +32,82 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentWithoutTemporaryFile() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void writeToFile_fileIsDirectory_throwsIoExceptionWithoutTemporaryFile() throws Exception {
+        Path directory = temporaryFolder.newFolder("directory").toPath();
+
+        Assert.assertThrows(FileSystemException.class, () -> FileUtil.writeToFile(directory, "content"));
+        assertTrue(Files.isDirectory(directory));
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void writeToFile_everyWriteDurability_writesContent() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+        try {
+            for (WriteDurability writeDurability : WriteDurability.values()) {
+                FileUtil.setWriteDurability(writeDurability);
+                FileUtil.writeToFile(file, writeDurability.toString());
+                assertEquals(writeDurability.toString(), FileUtil.readFromFile(file));
+            }
+        } finally {
+            FileUtil.setWriteDurability(WriteDurability.FILE);
+        }
+    }
+
+    @Test
+    public void writeToFileWithBackup_newFile_noBackupFile() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+        FileUtil.writeToFileWithBackup(file, "content");
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileWithBackup_existingFile_previousContentInBackupFile() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+        FileUtil.writeToFileWithBackup(file, "oldest content");
+        FileUtil.writeToFileWithBackup(file, "old content");
+        FileUtil.writeToFileWithBackup(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals("old content", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertEquals(2, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void appendToFile_existingFile_appendsContent() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.appendToFile(file, " and new content".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("old content and new content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void getBytesWrittenOnCurrentThread_writeAndAppend_countsBytes() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+        long bytesWrittenBefore = FileUtil.getBytesWrittenOnCurrentThread();
+        FileUtil.writeToFile(file, "content");
+        FileUtil.appendToFile(file, "more".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(11, FileUtil.getBytesWrittenOnCurrentThread() - bytesWrittenBefore);
+    }
+
+    @Test
+    public void setWriteDurability_nullWriteDurability_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> FileUtil.setWriteDurability(null));
+    }
+
 }
@@ -0,0 +1,78 @@
+package pwe.planner.logic;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.logic.CommandStatistics.CSV_HEADER;
+import static pwe.planner.logic.CommandStatistics.MESSAGE_NO_COMMANDS;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.logic.CommandStatistics.Phase;
+
+public class CommandStatisticsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+
+    @Test
+    public void record_nullCommandWord_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        commandStatistics.record(null, Phase.PARSE, 1);
+    }
+
+    @Test
+    public void getSnapshot_recordedPhases_countedSeparately() {
+        commandStatistics.record("add", Phase.PARSE, 1_000);
+        commandStatistics.record("add", Phase.PARSE, 2_000);
+        commandStatistics.record("add", Phase.EXECUTE, 5_000);
+
+        assertEquals(2, commandStatistics.getSnapshot("add", Phase.PARSE).getCount());
+        assertEquals(1, commandStatistics.getSnapshot("add", Phase.EXECUTE).getCount());
+        assertEquals(0, commandStatistics.getSnapshot("add", Phase.SAVE).getCount());
+        assertEquals(0, commandStatistics.getSnapshot("list", Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void toTable_noCommands_returnsNoCommandsMessage() {
+        assertEquals(MESSAGE_NO_COMMANDS, commandStatistics.toTable());
+    }
+
+    @Test
+    public void toCsv_recordedPhases_oneRowPerCommandAndPhase() {
+        commandStatistics.record("list", Phase.PARSE, 2_000_000);
+        commandStatistics.record("add", Phase.EXECUTE, 1_000_000);
+        commandStatistics.record("add", Phase.PARSE, 1_000_000);
+
+        String expectedCsv = CSV_HEADER + "\n"
+                + "add,parse,1,1.000,1.000,1.000,1.000\n"
+                + "add,execute,1,1.000,1.000,1.000,1.000\n"
+                + "list,parse,1,2.000,2.000,2.000,2.000\n";
+        assertEquals(expectedCsv, commandStatistics.toCsv());
+    }
+
+    @Test
+    public void exportCsv_missingParentDirectory_writesCsv() throws Exception {
+        commandStatistics.record("add", Phase.PARSE, 1_000_000);
+        Path filePath = temporaryFolder.getRoot().toPath().resolve("stats").resolve("commandStatistics.csv");
+
+        commandStatistics.exportCsv(filePath);
+        assertEquals(commandStatistics.toCsv(), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void startPeriodicLogging_zeroInterval_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        commandStatistics.startPeriodicLogging(Duration.ZERO);
+    }
+}
@@ -1,18 +1,26 @@
 package pwe.planner.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static pwe.planner.logic.commands.CommandTestUtil.CODE_DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.CREDITS_DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.SEMESTERS_DESC_AMY;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.AMY;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.Before;
@@ -22,11 +30,13 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.CommandStatistics.Phase;
 import pwe.planner.logic.commands.AddCommand;
 import pwe.planner.logic.commands.CommandResult;
 import pwe.planner.logic.commands.HistoryCommand;
 import pwe.planner.logic.commands.ListCommand;
 import pwe.planner.logic.commands.PlannerListCommand;
+import pwe.planner.logic.commands.UndoCommand;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.Model;
@@ -34,7 +44,10 @@ import pwe.planner.model.ModelManager;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
+import pwe.planner.storage.ApplicationSaver;
 import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonSerializableApplication;
 import pwe.planner.storage.JsonUserPrefsStorage;
 import pwe.planner.storage.StorageManager;
 import pwe.planner.testutil.ModuleBuilder;
@@ -49,6 +62,7 @@ public class LogicManagerTest {
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private Model model = new ModelManager();
+    private ApplicationSaver applicationSaver;
     private Logic logic;
 
     @Before
@@ -58,7 +72,8 @@ public class LogicManagerTest {
                         temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         StorageManager storage = new StorageManager(applicationStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        applicationSaver = new ApplicationSaver(storage, Runnable::run);
+        logic = new LogicManager(model, applicationSaver);
     }
 
     @Test
@@ -93,7 +108,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
         // Setup LogicManager with JsonApplicationIoExceptionThrowingStub
         JsonApplicationStorage applicationStorage =
                 new JsonApplicationIoExceptionThrowingStub(temporaryFolder.newFile().toPath(),
@@ -101,7 +116,8 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
 
         StorageManager storage = new StorageManager(applicationStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        ApplicationSaver applicationSaver = new ApplicationSaver(storage, Runnable::run);
+        logic = new LogicManager(model, applicationSaver);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
@@ -111,9 +127,162 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addModule(expectedModule);
         expectedModel.commitApplication();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        // the command succeeds as the application is saved in the background
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedModule);
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
         assertHistoryCorrect(addCommand);
+
+        applicationSaver.flush();
+        assertEquals(DUMMY_IO_EXCEPTION, logic.saveFailureProperty().getValue());
+    }
+
+    @Test
+    public void execute_commands_recordsPhaseLatencies() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+        try {
+            logic.execute("uicfhmowqewca");
+        } catch (ParseException pe) {
+            // recorded as an invalid command
+        }
+        // the save is recorded once it is written in the background
+        applicationSaver.flush();
+
+        CommandStatistics commandStatistics = logic.getCommandStatistics();
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, commandStatistics.getSnapshot(AddCommand.COMMAND_WORD, phase).getCount());
+        }
+        // the list command neither commits nor saves the application
+        assertEquals(1, commandStatistics.getSnapshot(ListCommand.COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(1, commandStatistics.getSnapshot(ListCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(0, commandStatistics.getSnapshot(ListCommand.COMMAND_WORD, Phase.COMMIT).getCount());
+        assertEquals(0, commandStatistics.getSnapshot(ListCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(1, commandStatistics.getSnapshot(CommandStatistics.INVALID_COMMAND_WORD, Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void executeBatch_validCommands_singleUndoableChange() {
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+        List<String> scriptLines = Arrays.asList("# adds AMY", "", addCommand, ListCommand.COMMAND_WORD);
+
+        BatchResult batchResult = logic.executeBatch(scriptLines, false);
+        assertEquals(Arrays.asList(3, 4), batchResult.getLineResults().stream()
+                .map(BatchResult.LineResult::getLineNumber).collect(Collectors.toList()));
+        assertEquals(0, batchResult.getFailureCount());
+        assertFalse(batchResult.isRolledBack());
+
+        Module expectedModule = new ModuleBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addModule(expectedModule);
+        expectedModel.commitApplication();
+        assertEquals(expectedModel, model);
+        assertHistoryCorrect(addCommand, ListCommand.COMMAND_WORD);
+
+        // the batch is saved once, which is recorded for the batch rather than its commands
+        applicationSaver.flush();
+        CommandStatistics commandStatistics = logic.getCommandStatistics();
+        assertEquals(1, commandStatistics.getSnapshot(CommandStatistics.BATCH_COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(0, commandStatistics.getSnapshot(AddCommand.COMMAND_WORD, Phase.SAVE).getCount());
+
+        // the whole batch is undone at once
+        model.undoApplication();
+        assertFalse(model.canUndoApplication());
+        assertFalse(model.hasModule(expectedModule));
+    }
+
+    @Test
+    public void executeBatch_failedCommandNotAtomic_otherCommandsExecuted() {
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+        List<String> scriptLines = Arrays.asList("delete 9", UndoCommand.COMMAND_WORD, addCommand);
+
+        BatchResult batchResult = logic.executeBatch(scriptLines, false);
+        assertEquals(3, batchResult.getLineResults().size());
+        assertEquals(new BatchResult.LineResult(1, "delete 9", MESSAGE_INVALID_MODULE_DISPLAYED_INDEX, false),
+                batchResult.getLineResults().get(0));
+        // nothing can be undone in a batch
+        assertEquals(new BatchResult.LineResult(2, UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE, false),
+                batchResult.getLineResults().get(1));
+        assertTrue(batchResult.getLineResults().get(2).isSuccess());
+        assertEquals(2, batchResult.getFailureCount());
+        assertTrue(model.hasModule(AMY));
+    }
+
+    @Test
+    public void executeBatch_failedCommandAtomic_changesRolledBack() {
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+        List<String> scriptLines = Arrays.asList(addCommand, "delete 9", ListCommand.COMMAND_WORD);
+
+        BatchResult batchResult = logic.executeBatch(scriptLines, true);
+        // the commands after the failed command are not executed
+        assertEquals(2, batchResult.getLineResults().size());
+        assertTrue(batchResult.isRolledBack());
+        assertEquals(new ModelManager(), model);
+        assertFalse(model.canUndoApplication());
+    }
+
+    @Test
+    public void applyExternalModuleListChanges_moduleAdded_appliedAsUndoableChange() {
+        List<Module> updatedModules = new ArrayList<>(model.getApplication().getModuleList());
+        updatedModules.add(AMY);
+
+        assertTrue(logic.applyExternalModuleListChanges(
+                ModuleListDiff.of(model.getApplication().getModuleList(), updatedModules)));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addModule(AMY);
+        expectedModel.commitApplication();
+        assertEquals(expectedModel, model);
+        assertTrue(model.canUndoApplication());
+
+        applicationSaver.flush();
+        assertEquals(1, logic.getCommandStatistics()
+                .getSnapshot(CommandStatistics.EXTERNAL_CHANGES_COMMAND_WORD, Phase.SAVE).getCount());
+    }
+
+    @Test
+    public void applyExternalModuleListChanges_changesAlreadyApplied_accepted() {
+        List<Module> previousModules = new ArrayList<>(model.getApplication().getModuleList());
+        model.addModule(AMY);
+        model.commitApplication();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addModule(AMY);
+        expectedModel.commitApplication();
+
+        // e.g. the module list file written by the application itself
+        assertTrue(logic.applyExternalModuleListChanges(
+                ModuleListDiff.of(previousModules, model.getApplication().getModuleList())));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void applyExternalModuleListChanges_dataConstraintsViolated_changesRejected() throws Exception {
+        model = new ModelManager(new JsonSerializableApplication(getTypicalModuleList(),
+                getTypicalDegreePlannerList(), getTypicalRequirementCategoriesList()).toModelType());
+        logic = new LogicManager(model, new ApplicationSaver(new StorageManager(
+                new JsonApplicationStorage(temporaryFolder.newFile().toPath(), temporaryFolder.newFile().toPath(),
+                        temporaryFolder.newFile().toPath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath())), Runnable::run));
+        ModelManager expectedModel = new ModelManager(model.getApplication());
+
+        // CARL is planned in semester 1, which it is no longer offered in
+        List<Module> updatedModules = new ArrayList<>(model.getApplication().getModuleList());
+        updatedModules.set(updatedModules.indexOf(CARL), new ModuleBuilder(CARL).withSemesters("2").build());
+
+        assertFalse(logic.applyExternalModuleListChanges(
+                ModuleListDiff.of(model.getApplication().getModuleList(), updatedModules)));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void getModuleByCode_existingAndMissingCodes_returnsModuleOrNull() {
+        model.addModule(AMY);
+        assertEquals(AMY, logic.getModuleByCode(AMY.getCode()));
+        assertEquals(null, logic.getModuleByCode(CARL.getCode()));
     }
 
     @Test
@@ -4,10 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,11 +22,16 @@ import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Application;
+import pwe.planner.model.ApplicationInvariantChecker;
+import pwe.planner.model.CreditTotals;
+import pwe.planner.model.MemoryFootprint;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
@@ -57,6 +64,16 @@ public class AddCommandTest {
         assertEquals(EMPTY_COMMAND_HISTORY, commandHistory);
     }
 
+    @Test
+    public void execute_moduleListReadOnly_throwsCommandException() throws Exception {
+        Model model = new ModelManager();
+        model.setModuleListReadOnly(true);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(MESSAGE_MODULE_LIST_READ_ONLY);
+        new AddCommand(new ModuleBuilder().build()).execute(model, commandHistory);
+    }
+
     @Test
     public void execute_duplicateModule_throwsCommandException() throws Exception {
         Module validModule = new ModuleBuilder().build();
@@ -150,6 +167,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isModuleListReadOnly() {
+            return false;
+        }
+
+        @Override
+        public void setModuleListReadOnly(boolean isModuleListReadOnly) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setModuleListFilePath(Path moduleListFilePath) {
             throw new AssertionError("This method should not be called.");
@@ -181,11 +208,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addModules(List<Module> modules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyApplication getApplication() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyApplication getApplicationSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicationInvariantChecker getInvariantChecker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CreditTotals getCreditTotals() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setApplication(ReadOnlyApplication application) {
             throw new AssertionError("This method should not be called.");
@@ -221,6 +268,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int applyModuleListDiff(ModuleListDiff diff) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void editModule(Module target, Module editedModule) {
             throw new AssertionError("This method should not be called.");
@@ -266,6 +318,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getCommitNanos() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MemoryFootprint getMemoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Module> selectedModuleProperty() {
             throw new AssertionError("This method should not be called.");
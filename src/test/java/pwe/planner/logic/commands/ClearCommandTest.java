@@ -1,7 +1,9 @@
 package pwe.planner.logic.commands;
 
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 import static pwe.planner.logic.commands.ClearCommand.PLANNER;
 import static pwe.planner.logic.commands.ClearCommand.REQUIREMENT;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.model.util.InitialDataUtil.getInitialApplication;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
@@ -78,4 +80,20 @@ public class ClearCommandTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_moduleListReadOnly_onlyDegreePlannersAndRequirementCategoriesCleared() {
+        Model model = new ModelManager();
+        model.setModuleListReadOnly(true);
+        TypicalModules.getTypicalModules().forEach(model::addModule);
+        TypicalDegreePlanners.getTypicalDegreePlanners().forEach(model::addDegreePlanner);
+        Model expectedModel = new ModelManager();
+        TypicalModules.getTypicalModules().forEach(expectedModel::addModule);
+        TypicalDegreePlanners.getTypicalDegreePlanners().forEach(expectedModel::addDegreePlanner);
+        expectedModel.resetPlanner();
+        expectedModel.commitApplication();
+
+        assertCommandFailure(new ClearCommand(), model, commandHistory, MESSAGE_MODULE_LIST_READ_ONLY);
+        assertCommandSuccess(new ClearCommand(PLANNER), model, commandHistory, ClearCommand.MESSAGE_SUCCESS,
+                expectedModel);
+    }
 }
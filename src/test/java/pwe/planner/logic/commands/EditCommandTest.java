@@ -4,6 +4,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
 import static pwe.planner.commons.util.StringUtil.joinStreamAsString;
 import static pwe.planner.logic.commands.CommandTestUtil.DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.DESC_BOB;
@@ -417,6 +418,16 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, commandHistory, expectedMessage);
     }
 
+    @Test
+    public void execute_moduleListReadOnly_throwsCommandException() {
+        model.setModuleListReadOnly(true);
+        EditCommand.EditModuleDescriptor descriptor =
+                new EditModuleDescriptorBuilder().withName(VALID_NAME_BOB).build();
+
+        assertCommandFailure(new EditCommand(INDEX_FIRST_MODULE, descriptor), model, commandHistory,
+                MESSAGE_MODULE_LIST_READ_ONLY);
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(INDEX_FIRST_MODULE, DESC_AMY);
@@ -0,0 +1,175 @@
+package pwe.planner.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static pwe.planner.logic.commands.ImportCommand.MAX_ERRORS_SHOWN;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.storage.JsonSerializableApplication;
+import pwe.planner.storage.ModuleBatchFileReader;
+import pwe.planner.testutil.ModuleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(
+            new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                    getTypicalRequirementCategoriesList()).toModelType(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    public ImportCommandTest() throws IllegalValueException {}
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ImportCommand(null);
+    }
+
+    @Test
+    public void execute_validFile_success() throws Exception {
+        // CS3230 links the existing module CS2101 to CS3231
+        Path filePath = writeCsvFile("CS3230,Design and Analysis of Algorithms,4,1 2,CS2101 CS3231,algorithms",
+                "CS3231,Theory of Computation,4,2,,");
+        ImportCommand importCommand = new ImportCommand(filePath);
+
+        ModelManager expectedModel = new ModelManager(model.getApplication(), new UserPrefs());
+        expectedModel.addModules(Arrays.asList(
+                new ModuleBuilder().withCode("CS3230").withName("Design and Analysis of Algorithms").withCredits("4")
+                        .withSemesters("1", "2").withCorequisites("CS2101", "CS3231").withTags("algorithms").build(),
+                new ModuleBuilder().withCode("CS3231").withName("Theory of Computation").withCredits("4")
+                        .withSemesters("2").build()));
+        expectedModel.commitApplication();
+
+        assertCommandSuccess(importCommand, model, commandHistory,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+        assertEquals(new HashSet<>(Arrays.asList(new Code("CS3230"), new Code("CS3231"))),
+                model.getModuleByCode(new Code("CS2101")).getCorequisites());
+    }
+
+    @Test
+    public void execute_invalidModules_reportsAllErrors() throws Exception {
+        Path filePath = writeCsvFile("CS1010,Programming Methodology,4,1,,",
+                "CS3230,Design and Analysis of Algorithms,4,1,,",
+                "CS3230,Design and Analysis of Algorithms,4,1,,",
+                "CS3232,Undergraduate Research,4,1,CS9999,",
+                "CS3233,Competitive Programming,4,1,CS1231,");
+
+        String expectedErrors = String.join("\n",
+                String.format(AddCommand.MESSAGE_DUPLICATE_MODULE, "CS1010"),
+                String.format(ImportCommand.MESSAGE_DUPLICATE_MODULE_IN_FILE, "CS3230"),
+                String.format(ImportCommand.MESSAGE_NON_EXISTENT_COREQUISITE, "CS3232", "CS9999"),
+                String.format(ImportCommand.MESSAGE_EXISTING_COREQUISITES_IN_DEGREE_PLAN, "CS3233", "CS1231",
+                        "CS1231"));
+        assertCommandFailure(new ImportCommand(filePath), model, commandHistory,
+                String.format(ImportCommand.MESSAGE_INVALID_MODULES, filePath, expectedErrors));
+    }
+
+    @Test
+    public void execute_manyInvalidModules_reportsFirstErrors() throws Exception {
+        String[] rows = new String[MAX_ERRORS_SHOWN + 2];
+        Arrays.fill(rows, "CS1010,Programming Methodology,4,1,,");
+        Path filePath = writeCsvFile(rows);
+
+        List<String> expectedErrors = new ArrayList<>();
+        expectedErrors.add(String.format(AddCommand.MESSAGE_DUPLICATE_MODULE, "CS1010"));
+        expectedErrors.addAll(Collections.nCopies(MAX_ERRORS_SHOWN - 1,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_MODULE_IN_FILE, "CS1010")));
+        expectedErrors.add(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 2));
+        assertCommandFailure(new ImportCommand(filePath), model, commandHistory,
+                String.format(ImportCommand.MESSAGE_INVALID_MODULES, filePath, String.join("\n", expectedErrors)));
+    }
+
+    @Test
+    public void execute_invalidRow_throwsCommandException() throws Exception {
+        Path filePath = writeCsvFile("CS3230,Design and Analysis of Algorithms,four,1,,");
+        String expectedRowError = String.format(ModuleBatchFileReader.MESSAGE_INVALID_ROW, 1,
+                Credits.MESSAGE_CONSTRAINTS);
+        assertCommandFailure(new ImportCommand(filePath), model, commandHistory,
+                String.format(ImportCommand.MESSAGE_INVALID_FILE, filePath, expectedRowError));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path filePath = writeCsvFile();
+        assertCommandFailure(new ImportCommand(filePath), model, commandHistory,
+                String.format(ImportCommand.MESSAGE_EMPTY_FILE, filePath));
+    }
+
+    @Test
+    public void execute_moduleListReadOnly_throwsCommandException() throws Exception {
+        model.setModuleListReadOnly(true);
+        Path filePath = writeCsvFile("CS3231,Theory of Computation,4,2,,");
+
+        assertCommandFailure(new ImportCommand(filePath), model, commandHistory, MESSAGE_MODULE_LIST_READ_ONLY);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(Paths.get("modules.csv"));
+        ImportCommand importJsonCommand = new ImportCommand(Paths.get("modules.json"));
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportCommand(Paths.get("modules.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsvCommand.equals(importJsonCommand));
+    }
+
+    /**
+     * Returns the path of a new CSV file in the test folder, with the header followed by {@code rows}.
+     */
+    private Path writeCsvFile(String... rows) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(ModuleBatchFileReader.CSV_HEADER);
+        lines.addAll(Arrays.asList(rows));
+        Path filePath = testFolder.getRoot().toPath().resolve("modules.csv");
+        Files.write(filePath, lines, StandardCharsets.UTF_8);
+        return filePath;
+    }
+}
@@ -0,0 +1,46 @@
+package pwe.planner.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.MemoryFootprint;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+
+public class MemoryCommandTest {
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_showsEveryStructure() {
+        commandHistory.add(ListCommand.COMMAND_WORD);
+        CommandResult result = new MemoryCommand().execute(model, commandHistory);
+
+        // the heap used by the JVM changes between calls, so only the structures are compared
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(MemoryCommand.MESSAGE_SUCCESS, "")));
+        MemoryFootprint memoryFootprint = MemoryCommand.getMemoryFootprint(model, commandHistory);
+        for (String structure : memoryFootprint.getStructureBytes().keySet()) {
+            assertTrue(feedback.contains(structure));
+        }
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void getMemoryFootprint_commandHistoryAddedLast() {
+        commandHistory.add(ListCommand.COMMAND_WORD);
+        MemoryFootprint memoryFootprint = MemoryCommand.getMemoryFootprint(model, commandHistory);
+
+        String lastStructure = null;
+        for (String structure : memoryFootprint.getStructureBytes().keySet()) {
+            lastStructure = structure;
+        }
+        assertEquals(MemoryFootprint.STRUCTURE_COMMAND_HISTORY, lastStructure);
+        assertTrue(memoryFootprint.getBytes(MemoryFootprint.STRUCTURE_COMMAND_HISTORY) > 0);
+    }
+}
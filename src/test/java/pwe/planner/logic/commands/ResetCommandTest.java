@@ -1,5 +1,7 @@
 package pwe.planner.logic.commands;
 
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULE_LIST_READ_ONLY;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import org.junit.Test;
@@ -22,4 +24,12 @@ public class ResetCommandTest {
         assertCommandSuccess(new ResetCommand(), model, commandHistory, ResetCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_moduleListReadOnly_throwsCommandException() {
+        Model model = new ModelManager();
+        model.setModuleListReadOnly(true);
+
+        assertCommandFailure(new ResetCommand(), model, commandHistory, MESSAGE_MODULE_LIST_READ_ONLY);
+    }
+
 }
@@ -0,0 +1,76 @@
+package pwe.planner.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.CommandStatistics;
+import pwe.planner.logic.CommandStatistics.Phase;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+    private CommandStatistics commandStatistics = new CommandStatistics();
+
+    @Test
+    public void execute_show_showsTable() {
+        commandStatistics.record(ListCommand.COMMAND_WORD, Phase.EXECUTE, 1_000_000);
+        assertCommandSuccess(new StatsCommand(commandStatistics, false), model, commandHistory,
+                String.format(StatsCommand.MESSAGE_SUCCESS, commandStatistics.toTable()), expectedModel);
+    }
+
+    @Test
+    public void execute_export_writesCsvFile() throws Exception {
+        Path filePath = temporaryFolder.getRoot().toPath().resolve("commandStatistics.csv");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCommandStatisticsFilePath(filePath);
+        model.setUserPrefs(userPrefs);
+        expectedModel.setUserPrefs(userPrefs);
+        commandStatistics.record(ListCommand.COMMAND_WORD, Phase.EXECUTE, 1_000_000);
+
+        assertCommandSuccess(new StatsCommand(commandStatistics, true), model, commandHistory,
+                String.format(StatsCommand.MESSAGE_EXPORT_SUCCESS, filePath), expectedModel);
+        assertEquals(commandStatistics.toCsv(), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand showCommand = new StatsCommand(commandStatistics, false);
+        StatsCommand exportCommand = new StatsCommand(commandStatistics, true);
+
+        // same object -> returns true
+        assertTrue(showCommand.equals(showCommand));
+
+        // same values -> returns true
+        assertTrue(showCommand.equals(new StatsCommand(commandStatistics, false)));
+
+        // different types -> returns false
+        assertFalse(showCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(showCommand.equals(null));
+
+        // different action -> returns false
+        assertFalse(showCommand.equals(exportCommand));
+
+        // different statistics -> returns false
+        assertFalse(showCommand.equals(new StatsCommand(new CommandStatistics(), false)));
+    }
+}
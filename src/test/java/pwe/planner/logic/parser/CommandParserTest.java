@@ -12,6 +12,7 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 import static pwe.planner.testutil.TypicalIndexes.INDEX_FIRST_MODULE;
 
+import java.nio.file.Paths;
 import java.util.Set;
 
 import org.junit.Rule;
@@ -27,7 +28,9 @@ import pwe.planner.logic.commands.ExitCommand;
 import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.commands.HelpCommand;
 import pwe.planner.logic.commands.HistoryCommand;
+import pwe.planner.logic.commands.ImportCommand;
 import pwe.planner.logic.commands.ListCommand;
+import pwe.planner.logic.commands.MemoryCommand;
 import pwe.planner.logic.commands.PlannerAddCommand;
 import pwe.planner.logic.commands.PlannerListCommand;
 import pwe.planner.logic.commands.PlannerMoveCommand;
@@ -41,6 +44,7 @@ import pwe.planner.logic.commands.RequirementMoveCommand;
 import pwe.planner.logic.commands.RequirementRemoveCommand;
 import pwe.planner.logic.commands.ResetCommand;
 import pwe.planner.logic.commands.SelectCommand;
+import pwe.planner.logic.commands.StatsCommand;
 import pwe.planner.logic.commands.UndoCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.Code;
@@ -137,6 +141,12 @@ public class CommandParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_memory() throws Exception {
+        assertTrue(parser.parseCommand(MemoryCommand.COMMAND_WORD) instanceof MemoryCommand);
+        assertTrue(parser.parseCommand(MemoryCommand.COMMAND_WORD + " 3") instanceof MemoryCommand);
+    }
+
     @Test
     public void parseCommand_select() throws Exception {
         SelectCommand command = (SelectCommand) parser.parseCommand(
@@ -144,6 +154,19 @@ public class CommandParserTest {
         assertEquals(new SelectCommand(INDEX_FIRST_MODULE), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " newModules.csv");
+        assertEquals(new ImportCommand(Paths.get("newModules.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " " + StatsCommand.EXPORT_KEYWORD)
+                instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_plannerList() throws Exception {
         assertTrue(parser.parseCommand(PlannerListCommand.COMMAND_WORD) instanceof PlannerListCommand);
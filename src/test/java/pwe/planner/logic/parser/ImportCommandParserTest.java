@@ -0,0 +1,34 @@
+package pwe.planner.logic.parser;
+
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static pwe.planner.logic.parser.ImportCommandParser.MESSAGE_UNSUPPORTED_FILE;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import pwe.planner.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/newModules.csv ", new ImportCommand(Paths.get("data", "newModules.csv")));
+        assertParseSuccess(parser, "newModules.json", new ImportCommand(Paths.get("newModules.json")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "newModules.txt",
+                String.format(MESSAGE_UNSUPPORTED_FILE, ImportCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,31 @@
+package pwe.planner.logic.parser;
+
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import pwe.planner.logic.CommandStatistics;
+import pwe.planner.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private CommandStatistics commandStatistics = new CommandStatistics();
+    private StatsCommandParser parser = new StatsCommandParser(commandStatistics);
+
+    @Test
+    public void parse_emptyArgs_returnsShowStatsCommand() {
+        assertParseSuccess(parser, "  ", new StatsCommand(commandStatistics, false));
+    }
+
+    @Test
+    public void parse_exportKeyword_returnsExportStatsCommand() {
+        assertParseSuccess(parser, " " + StatsCommand.EXPORT_KEYWORD + " ", new StatsCommand(commandStatistics, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "import", String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,144 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.model.ApplicationInvariantChecker.MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER;
+import static pwe.planner.model.ApplicationInvariantChecker.MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER;
+import static pwe.planner.model.ApplicationInvariantChecker.MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalModules.FIONA;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.testutil.DegreePlannerBuilder;
+
+public class ApplicationInvariantCheckerTest {
+
+    private static final Code NON_EXISTENT_CODE = new Code("CS9999");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Application application;
+    private ApplicationInvariantChecker invariantChecker;
+
+    @Before
+    public void setUp() {
+        application = new Application();
+        application.setModules(getTypicalModuleList());
+        application.setDegreePlanners(getTypicalDegreePlannerList());
+        application.setRequirementCategories(getTypicalRequirementCategoriesList());
+        invariantChecker = application.getInvariantChecker();
+    }
+
+    @Test
+    public void getNonExistentCodes_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        invariantChecker.getNonExistentCodes(null);
+    }
+
+    @Test
+    public void getNonExistentCodes_mixedCodes_returnsNonExistentCodesOnly() {
+        Set<Code> codes = new HashSet<>(Arrays.asList(ALICE.getCode(), NON_EXISTENT_CODE));
+        assertEquals(Collections.singleton(NON_EXISTENT_CODE), invariantChecker.getNonExistentCodes(codes));
+    }
+
+    @Test
+    public void getCodesNotOfferedIn_mixedCodes_returnsCodesNotOffered() {
+        Set<Code> codes = new HashSet<>(Arrays.asList(ALICE.getCode(), FIONA.getCode(), NON_EXISTENT_CODE));
+        Set<Code> expectedCodes = new HashSet<>(Arrays.asList(FIONA.getCode(), NON_EXISTENT_CODE));
+        assertEquals(expectedCodes, invariantChecker.getCodesNotOfferedIn(codes, new Semester("2")));
+    }
+
+    @Test
+    public void getCodesInDegreePlanners_mixedCodes_returnsPlannedCodesOnly() {
+        Set<Code> codes = new HashSet<>(Arrays.asList(BENSON.getCode(), HOON.getCode(), NON_EXISTENT_CODE));
+        assertEquals(Collections.singleton(BENSON.getCode()), invariantChecker.getCodesInDegreePlanners(codes));
+    }
+
+    @Test
+    public void getCorequisitesOf_mixedCodes_returnsCorequisitesOfExistingModules() {
+        Set<Code> codes = new HashSet<>(Arrays.asList(BENSON.getCode(), ALICE.getCode(), NON_EXISTENT_CODE));
+        assertEquals(BENSON.getCorequisites(), invariantChecker.getCorequisitesOf(codes));
+    }
+
+    @Test
+    public void verifyAll_typicalApplication_returnsEmptyList() {
+        assertTrue(invariantChecker.verifyAll().isEmpty());
+    }
+
+    @Test
+    public void verifyAll_nonExistentCodeInDegreePlanner_returnsViolation() {
+        DegreePlanner invalidDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1)
+                .withCodes(ALICE.getCode().value, NON_EXISTENT_CODE.value).build();
+        application.setDegreePlanner(YEAR_1_SEMESTER_1, invalidDegreePlanner);
+
+        List<String> expectedViolations = Collections.singletonList(String.format(
+                MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE, NON_EXISTENT_CODE, YEAR_1_SEMESTER_1.getYear(),
+                YEAR_1_SEMESTER_1.getSemester()));
+        assertEquals(expectedViolations, invariantChecker.verifyAll());
+    }
+
+    @Test
+    public void verifyTouched_noMutation_returnsEmptyList() {
+        assertTrue(invariantChecker.verifyTouched().isEmpty());
+    }
+
+    @Test
+    public void verifyTouched_corequisiteRemovedFromDegreePlanner_returnsViolation() {
+        Set<Code> codes = new HashSet<>(YEAR_1_SEMESTER_1.getCodes());
+        codes.remove(FIONA.getCode());
+        application.setDegreePlanner(YEAR_1_SEMESTER_1,
+                new DegreePlanner(YEAR_1_SEMESTER_1.getYear(), YEAR_1_SEMESTER_1.getSemester(), codes));
+
+        List<String> expectedViolations = Collections.singletonList(String.format(
+                MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER, BENSON.getCode(), FIONA.getCode()));
+        assertEquals(expectedViolations, invariantChecker.verifyTouched());
+
+        // touched codes are cleared after verification
+        assertTrue(invariantChecker.verifyTouched().isEmpty());
+    }
+
+    @Test
+    public void verifyTouched_moduleAddedToUnofferedSemester_returnsViolation() {
+        application.addModule(HOON);
+        assertTrue(invariantChecker.verifyTouched().isEmpty());
+
+        Set<Code> codes = new HashSet<>(YEAR_1_SEMESTER_1.getCodes());
+        codes.add(HOON.getCode());
+        application.setDegreePlanner(YEAR_1_SEMESTER_1,
+                new DegreePlanner(YEAR_1_SEMESTER_1.getYear(), YEAR_1_SEMESTER_1.getSemester(), codes));
+
+        List<String> expectedViolations = Collections.singletonList(String.format(
+                MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER, HOON.getCode(), YEAR_1_SEMESTER_1.getYear(),
+                YEAR_1_SEMESTER_1.getSemester(), "3"));
+        assertEquals(expectedViolations, invariantChecker.verifyTouched());
+    }
+
+    @Test
+    public void verifyTouched_afterResetData_returnsEmptyList() {
+        application.setDegreePlanner(YEAR_1_SEMESTER_1, new DegreePlannerBuilder(YEAR_1_SEMESTER_1)
+                .withCodes(NON_EXISTENT_CODE.value).build());
+        application.resetData(new Application());
+
+        assertTrue(invariantChecker.verifyTouched().isEmpty());
+    }
+}
@@ -2,13 +2,17 @@ package pwe.planner.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.HOON;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -24,6 +28,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
@@ -122,6 +127,84 @@ public class ApplicationTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void applyModuleListDiff_modulesAddedRemovedAndChanged_appliedWithCascadeAndOneNotification()
+            throws IllegalValueException {
+        application.resetData(getTypicalApplication());
+        Module editedCarl = new ModuleBuilder(CARL).withName("Carl Edited").build();
+        List<Module> updatedModules = new ArrayList<>(application.getModuleList());
+        updatedModules.remove(ALICE);
+        updatedModules.set(updatedModules.indexOf(CARL), editedCarl);
+        updatedModules.add(HOON);
+        ModuleListDiff diff = ModuleListDiff.of(application.getModuleList(), updatedModules);
+
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+        assertEquals(3, application.applyModuleListDiff(diff));
+
+        assertEquals(1, counter.get());
+        assertEquals(updatedModules.size(), application.getModuleList().size());
+        assertTrue(application.getModuleList().containsAll(updatedModules));
+        assertFalse(application.getDegreePlannerByCode(CARL.getCode()).getCodes().contains(ALICE.getCode()));
+    }
+
+    @Test
+    public void applyModuleListDiff_modulesModifiedSinceDiff_modifiedModulesKept() throws IllegalValueException {
+        application.resetData(getTypicalApplication());
+        Module carlEditedByDiff = new ModuleBuilder(CARL).withName("Carl Edited").build();
+        Module carlEditedLocally = new ModuleBuilder(CARL).withName("Carl Edited Locally").build();
+        Module aliceEditedLocally = new ModuleBuilder(ALICE).withName("Alice Edited Locally").build();
+        List<Module> updatedModules = new ArrayList<>(application.getModuleList());
+        updatedModules.remove(ALICE);
+        updatedModules.set(updatedModules.indexOf(CARL), carlEditedByDiff);
+        ModuleListDiff diff = ModuleListDiff.of(application.getModuleList(), updatedModules);
+
+        application.editModule(CARL, carlEditedLocally);
+        application.editModule(ALICE, aliceEditedLocally);
+        Application expectedApplication = new Application(application);
+        assertEquals(0, application.applyModuleListDiff(diff));
+        assertEquals(expectedApplication, application);
+    }
+
+    @Test
+    public void addModule_moduleListVersionChanged_otherVersionsUnchanged() {
+        long moduleListVersion = application.getModuleListVersion();
+        long degreePlannerListVersion = application.getDegreePlannerListVersion();
+        long requirementCategoryListVersion = application.getRequirementCategoryListVersion();
+        application.addModule(ALICE);
+        assertNotEquals(moduleListVersion, application.getModuleListVersion());
+        assertEquals(degreePlannerListVersion, application.getDegreePlannerListVersion());
+        assertEquals(requirementCategoryListVersion, application.getRequirementCategoryListVersion());
+    }
+
+    @Test
+    public void setModules_sameModules_moduleListVersionUnchanged() {
+        application.setModules(getTypicalModuleList());
+        long moduleListVersion = application.getModuleListVersion();
+        application.setModules(getTypicalModuleList());
+        assertEquals(moduleListVersion, application.getModuleListVersion());
+    }
+
+    @Test
+    public void resetData_withApplication_takesOnListVersions() {
+        Application newData = new Application();
+        newData.setModules(getTypicalModuleList());
+        application.resetData(newData);
+        assertEquals(newData.getModuleListVersion(), application.getModuleListVersion());
+        assertEquals(newData.getDegreePlannerListVersion(), application.getDegreePlannerListVersion());
+        assertEquals(newData.getRequirementCategoryListVersion(), application.getRequirementCategoryListVersion());
+    }
+
+    @Test
+    public void getModuleListVersion_differentApplications_differentVersions() {
+        assertNotEquals(application.getModuleListVersion(), new Application().getModuleListVersion());
+    }
+
+    private static Application getTypicalApplication() throws IllegalValueException {
+        return new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
     /**
      * A stub ReadOnlyApplication whose modules list can violate interface constraints.
      */
@@ -149,6 +232,21 @@ public class ApplicationTest {
             return requirementCategories;
         }
 
+        @Override
+        public long getModuleListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDegreePlannerListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getRequirementCategoryListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,155 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.DANIEL;
+import static pwe.planner.testutil.TypicalModules.FIONA;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.testutil.DegreePlannerBuilder;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class CreditTotalsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Application application;
+    private CreditTotals creditTotals;
+
+    @Before
+    public void setUp() {
+        application = new Application();
+        application.setModules(getTypicalModuleList());
+        application.setDegreePlanners(getTypicalDegreePlannerList());
+        application.setRequirementCategories(getTypicalRequirementCategoriesList());
+        creditTotals = application.getCreditTotals();
+    }
+
+    @Test
+    public void degreePlannerCreditsProperty_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        creditTotals.degreePlannerCreditsProperty(null);
+    }
+
+    @Test
+    public void requirementCategoryCreditsProperty_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        creditTotals.requirementCategoryCreditsProperty(null);
+    }
+
+    @Test
+    public void getDegreePlannerCredits_typicalApplication_returnsSumOfModuleCredits() {
+        assertEquals(sumCredits(YEAR_1_SEMESTER_1), creditTotals.getDegreePlannerCredits(YEAR_1_SEMESTER_1));
+    }
+
+    @Test
+    public void getRequirementCategoryCredits_typicalApplication_returnsSumOfModuleCredits() {
+        assertEquals(sumCredits(COMPUTING_FOUNDATION),
+                creditTotals.getRequirementCategoryCredits(COMPUTING_FOUNDATION));
+    }
+
+    @Test
+    public void getDegreePlannerCredits_nonExistentDegreePlanner_returnsZero() {
+        DegreePlanner nonExistentDegreePlanner = new DegreePlannerBuilder().withYear("4").withSemester("4").build();
+        assertEquals(0, creditTotals.getDegreePlannerCredits(nonExistentDegreePlanner));
+    }
+
+    @Test
+    public void setDegreePlanner_codesChanged_updatesSameProperty() {
+        ReadOnlyIntegerProperty credits = creditTotals.degreePlannerCreditsProperty(YEAR_1_SEMESTER_1);
+        DegreePlanner editedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1)
+                .withCodes(ALICE.getCode().value, CARL.getCode().value).build();
+        application.setDegreePlanner(YEAR_1_SEMESTER_1, editedDegreePlanner);
+
+        assertEquals(sumCredits(ALICE, CARL), credits.get());
+    }
+
+    @Test
+    public void editModule_creditsChanged_updatesDegreePlannerAndRequirementCategory() {
+        ReadOnlyIntegerProperty degreePlannerCredits = creditTotals.degreePlannerCreditsProperty(YEAR_1_SEMESTER_1);
+        ReadOnlyIntegerProperty requirementCategoryCredits =
+                creditTotals.requirementCategoryCreditsProperty(COMPUTING_FOUNDATION);
+        int initialDegreePlannerCredits = degreePlannerCredits.get();
+        int initialRequirementCategoryCredits = requirementCategoryCredits.get();
+
+        Module editedDaniel = new ModuleBuilder(DANIEL).withCredits("100").build();
+        application.editModule(DANIEL, editedDaniel);
+
+        int creditsDifference = 100 - Integer.parseInt(DANIEL.getCredits().value);
+        assertEquals(initialDegreePlannerCredits + creditsDifference, degreePlannerCredits.get());
+        assertEquals(initialRequirementCategoryCredits + creditsDifference, requirementCategoryCredits.get());
+    }
+
+    @Test
+    public void removeModule_moduleInDegreePlanner_updatesDegreePlanner() {
+        ReadOnlyIntegerProperty credits = creditTotals.degreePlannerCreditsProperty(YEAR_1_SEMESTER_1);
+        int initialCredits = credits.get();
+
+        application.removeModule(DANIEL);
+
+        assertEquals(initialCredits - Integer.parseInt(DANIEL.getCredits().value), credits.get());
+    }
+
+    @Test
+    public void removeDegreePlanner_existingDegreePlanner_resetsPropertyToZero() {
+        ReadOnlyIntegerProperty credits = creditTotals.degreePlannerCreditsProperty(YEAR_1_SEMESTER_1);
+        application.removeDegreePlanner(YEAR_1_SEMESTER_1);
+
+        assertEquals(0, credits.get());
+    }
+
+    @Test
+    public void addRequirementCategory_newRequirementCategory_computesCredits() {
+        RequirementCategory requirementCategory = new RequirementCategoryBuilder().withName("Focus Area")
+                .withCodes(BENSON.getCode().value, FIONA.getCode().value).build();
+        application.addRequirementCategory(requirementCategory);
+
+        assertEquals(sumCredits(BENSON, FIONA), creditTotals.getRequirementCategoryCredits(requirementCategory));
+    }
+
+    @Test
+    public void resetData_emptyApplication_resetsPropertiesToZero() {
+        ReadOnlyIntegerProperty credits = creditTotals.degreePlannerCreditsProperty(YEAR_1_SEMESTER_1);
+        application.resetData(new Application());
+
+        assertEquals(0, credits.get());
+    }
+
+    private int sumCredits(DegreePlanner degreePlanner) {
+        return degreePlanner.getCodes().stream().map(application::getModuleByCode).mapToInt(module ->
+                Integer.parseInt(module.getCredits().value)).sum();
+    }
+
+    private int sumCredits(RequirementCategory requirementCategory) {
+        return requirementCategory.getCodeSet().stream().map(application::getModuleByCode).mapToInt(module ->
+                Integer.parseInt(module.getCredits().value)).sum();
+    }
+
+    /**
+     * Returns the total credits of {@code modules}.
+     */
+    private int sumCredits(Module... modules) {
+        int totalCredits = 0;
+        for (Module module : modules) {
+            totalCredits += Integer.parseInt(module.getCredits().value);
+        }
+        return totalCredits;
+    }
+}
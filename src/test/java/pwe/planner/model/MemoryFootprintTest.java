@@ -0,0 +1,77 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pwe.planner.model.util.SyntheticDataGenerator;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class MemoryFootprintTest {
+
+    private static final int MODULE_COUNT = 200;
+
+    private final Model model = new ModelManager(
+            new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).generateApplication(MODULE_COUNT),
+            new UserPrefs());
+
+    @Test
+    public void getMemoryFootprint_initialModel_allStructuresEstimated() {
+        MemoryFootprint memoryFootprint = model.getMemoryFootprint();
+
+        assertTrue(memoryFootprint.getBytes(MemoryFootprint.STRUCTURE_MODULE_LIST) > 0);
+        assertTrue(memoryFootprint.getBytes(MemoryFootprint.STRUCTURE_DEGREE_PLANNERS) > 0);
+        assertTrue(memoryFootprint.getBytes(MemoryFootprint.STRUCTURE_REQUIREMENT_CATEGORIES) > 0);
+        assertTrue(memoryFootprint.getBytes(MemoryFootprint.STRUCTURE_FILTERED_LISTS) > 0);
+        assertTrue(memoryFootprint.getStructureBytes()
+                .containsKey(String.format(MemoryFootprint.STRUCTURE_CURRENT_UNDO_STATE, 1)));
+
+        long sum = memoryFootprint.getStructureBytes().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(sum, memoryFootprint.getTotalBytes());
+    }
+
+    @Test
+    public void getMemoryFootprint_sameModelTwice_sameEstimate() {
+        assertEquals(model.getMemoryFootprint().getStructureBytes(), model.getMemoryFootprint().getStructureBytes());
+    }
+
+    @Test
+    public void getMemoryFootprint_committedState_sharedModulesCountedOnce() {
+        model.addModule(new ModuleBuilder().withCode("ZZZ9999").build());
+        model.commitApplication();
+        MemoryFootprint memoryFootprint = model.getMemoryFootprint();
+
+        String initialState = String.format(MemoryFootprint.STRUCTURE_UNDO_STATE, 1);
+        String currentState = String.format(MemoryFootprint.STRUCTURE_CURRENT_UNDO_STATE, 2);
+        assertTrue(memoryFootprint.getStructureBytes().containsKey(initialState));
+        assertTrue(memoryFootprint.getStructureBytes().containsKey(currentState));
+
+        // the modules of the undo states are the modules of the module list, so only the states' own lists are counted
+        long moduleListBytes = memoryFootprint.getBytes(MemoryFootprint.STRUCTURE_MODULE_LIST);
+        assertTrue(memoryFootprint.getBytes(initialState) < moduleListBytes);
+        assertTrue(memoryFootprint.getBytes(currentState) < moduleListBytes);
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("0 B", MemoryFootprint.formatBytes(0));
+        assertEquals("1023 B", MemoryFootprint.formatBytes(1023));
+        assertEquals("1.0 KiB", MemoryFootprint.formatBytes(1024));
+        assertEquals("1.5 MiB", MemoryFootprint.formatBytes(1024 * 1024 * 3 / 2));
+        assertEquals("2.0 GiB", MemoryFootprint.formatBytes(2L * 1024 * 1024 * 1024));
+    }
+
+    @Test
+    public void toTable_containsEveryStructureAndTotal() {
+        MemoryFootprint memoryFootprint = model.getMemoryFootprint();
+        String table = memoryFootprint.toTable();
+
+        for (String structure : memoryFootprint.getStructureBytes().keySet()) {
+            assertTrue(table.contains(structure));
+        }
+        assertTrue(table.contains(MemoryFootprint.formatBytes(memoryFootprint.getTotalBytes())));
+        assertTrue(table.contains("JVM heap used: "));
+        assertTrue(memoryFootprint.toLogLine().startsWith("Model memory footprint: total "));
+    }
+}
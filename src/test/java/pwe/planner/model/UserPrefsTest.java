@@ -18,4 +18,16 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setModuleListFilePath(null));
     }
 
+    @Test
+    public void setCommandStatisticsLogIntervalMinutes_negativeInterval_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setCommandStatisticsLogIntervalMinutes(-1));
+    }
+
+    @Test
+    public void setMemoryFootprintLogIntervalMinutes_negativeInterval_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setMemoryFootprintLogIntervalMinutes(-1));
+    }
+
 }
@@ -2,6 +2,7 @@ package pwe.planner.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static pwe.planner.testutil.TypicalModules.AMY;
@@ -59,6 +60,54 @@ public class VersionedApplicationTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void endTransaction_multipleCommits_singleStateSaved() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+
+        versionedapplication.beginTransaction();
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        assertFalse(versionedapplication.canUndo());
+        versionedapplication.endTransaction();
+
+        assertFalse(versionedapplication.isInTransaction());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(emptyapplication),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void endTransaction_noCommit_noStateSaved() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication, applicationWithAmy);
+
+        versionedapplication.beginTransaction();
+        versionedapplication.endTransaction();
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(emptyapplication),
+                applicationWithAmy,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void rollbackTransaction_commitsInTransaction_stateBeforeTransactionRestored() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication, applicationWithAmy);
+        shiftCurrentStatePointerLeftwards(versionedapplication, 1);
+
+        versionedapplication.beginTransaction();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.rollbackTransaction();
+
+        assertFalse(versionedapplication.isInTransaction());
+        assertapplicationListStatus(versionedapplication,
+                Collections.emptyList(),
+                emptyapplication,
+                Collections.singletonList(applicationWithAmy));
+    }
+
     @Test
     public void canUndo_multipleapplicationPointerAtEndOfStateList_returnsTrue() {
         VersionedApplication versionedapplication = prepareapplicationList(
@@ -207,6 +256,30 @@ public class VersionedApplicationTest {
         assertThrows(VersionedApplication.NoRedoableStateException.class, versionedapplication::redo);
     }
 
+    @Test
+    public void getCurrentState_afterCommit_returnsSavedState() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        versionedapplication.addModule(AMY);
+        versionedapplication.commit();
+
+        ReadOnlyApplication currentState = versionedapplication.getCurrentState();
+        assertEquals(applicationWithAmy, currentState);
+        assertSame(currentState, versionedapplication.getCurrentState());
+    }
+
+    @Test
+    public void getCurrentState_uncommittedChanges_returnsCopyOfCurrentState() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        versionedapplication.addModule(AMY);
+
+        ReadOnlyApplication currentState = versionedapplication.getCurrentState();
+        assertEquals(applicationWithAmy, currentState);
+
+        // later changes do not affect the copy
+        versionedapplication.addModule(BOB);
+        assertEquals(applicationWithAmy, new Application(currentState));
+    }
+
     @Test
     public void equals() {
         VersionedApplication versionedapplication = prepareapplicationList(applicationWithAmy, applicationWithBob);
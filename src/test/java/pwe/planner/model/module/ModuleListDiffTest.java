@@ -0,0 +1,68 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.HOON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import pwe.planner.testutil.Assert;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class ModuleListDiffTest {
+
+    @Test
+    public void of_nullModuleList_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> ModuleListDiff.of(null, Collections.emptyList()));
+        Assert.assertThrows(NullPointerException.class, () -> ModuleListDiff.of(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void of_sameModules_emptyDiff() {
+        List<Module> modules = Arrays.asList(ALICE, BENSON, CARL);
+        ModuleListDiff diff = ModuleListDiff.of(modules, Arrays.asList(CARL, ALICE, BENSON));
+
+        assertTrue(diff.isEmpty());
+        assertEquals(ModuleListDiff.of(Collections.emptyList(), Collections.emptyList()), diff);
+    }
+
+    @Test
+    public void of_differentModules_modulesMatchedByCode() {
+        Module editedBenson = new ModuleBuilder(BENSON).withName("Benson Edited").build();
+        ModuleListDiff diff = ModuleListDiff.of(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(editedBenson, CARL, HOON));
+
+        assertFalse(diff.isEmpty());
+        assertEquals(Collections.singletonList(HOON), diff.getAddedModules());
+        assertEquals(Collections.singletonList(ALICE), diff.getRemovedModules());
+        assertEquals(Map.of(BENSON, editedBenson), diff.getChangedModules());
+    }
+
+    @Test
+    public void equals() {
+        ModuleListDiff diff = ModuleListDiff.of(Collections.singletonList(ALICE), Collections.singletonList(BENSON));
+
+        // same values -> returns true
+        assertTrue(diff.equals(ModuleListDiff.of(Collections.singletonList(ALICE),
+                Collections.singletonList(BENSON))));
+
+        // same object -> returns true
+        assertTrue(diff.equals(diff));
+
+        // null -> returns false
+        assertFalse(diff.equals(null));
+
+        // different changes -> returns false
+        assertFalse(diff.equals(ModuleListDiff.of(Collections.singletonList(BENSON),
+                Collections.singletonList(ALICE))));
+    }
+}
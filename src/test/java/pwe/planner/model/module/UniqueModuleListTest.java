@@ -11,6 +11,7 @@ import static pwe.planner.testutil.TypicalModules.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -62,6 +63,60 @@ public class UniqueModuleListTest {
         uniqueModuleList.add(ALICE);
     }
 
+    @Test
+    public void addAll_duplicateModule_throwsDuplicateModuleException() {
+        uniqueModuleList.add(ALICE);
+        thrown.expect(DuplicateModuleException.class);
+        uniqueModuleList.addAll(Arrays.asList(BOB, ALICE));
+    }
+
+    @Test
+    public void addAll_duplicateModulesToAdd_throwsDuplicateModuleException() {
+        thrown.expect(DuplicateModuleException.class);
+        uniqueModuleList.addAll(Arrays.asList(BOB, BOB));
+    }
+
+    @Test
+    public void addAll_corequisitesLinkingGroups_mergesGroups() {
+        Module existingModule = new ModuleBuilder().withCode("CS2100").build();
+        Module existingCorequisite = new ModuleBuilder().withCode("CS2101").withCorequisites("CS2100").build();
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(existingModule);
+        uniqueModuleList.add(existingCorequisite);
+
+        // CS3230 links ALICE to CS3231, which links to the existing group of CS2100 and CS2101
+        Module firstModule = new ModuleBuilder().withCode("CS3230").withCorequisites(ALICE.getCode().value, "CS3231")
+                .build();
+        Module secondModule = new ModuleBuilder().withCode("CS3231").withCorequisites("CS2101").build();
+        Map<Module, Module> replacedModules = uniqueModuleList.addAll(Arrays.asList(firstModule, secondModule));
+
+        Module expectedAlice = new ModuleBuilder(ALICE).withCorequisites("CS2100", "CS2101", "CS3230", "CS3231")
+                .build();
+        Module expectedExistingModule = new ModuleBuilder(existingModule)
+                .withCorequisites("CS1010", "CS2101", "CS3230", "CS3231").build();
+        Module expectedExistingCorequisite = new ModuleBuilder(existingCorequisite)
+                .withCorequisites("CS1010", "CS2100", "CS3230", "CS3231").build();
+        UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
+        expectedUniqueModuleList.setModules(Arrays.asList(expectedAlice, expectedExistingModule,
+                expectedExistingCorequisite,
+                new ModuleBuilder(firstModule).withCorequisites("CS1010", "CS2100", "CS2101", "CS3231").build(),
+                new ModuleBuilder(secondModule).withCorequisites("CS1010", "CS2100", "CS2101", "CS3230").build()));
+        assertEquals(expectedUniqueModuleList, uniqueModuleList);
+        assertEquals(3, replacedModules.size());
+        assertEquals(expectedAlice, replacedModules.get(ALICE));
+    }
+
+    @Test
+    public void addAll_noCorequisites_replacesNoModule() {
+        uniqueModuleList.add(ALICE);
+        Map<Module, Module> replacedModules = uniqueModuleList.addAll(Collections.singletonList(BOB));
+        UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
+        expectedUniqueModuleList.add(ALICE);
+        expectedUniqueModuleList.add(BOB);
+        assertEquals(expectedUniqueModuleList, uniqueModuleList);
+        assertTrue(replacedModules.isEmpty());
+    }
+
     @Test
     public void setModule_nullTargetModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,106 @@
+package pwe.planner.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.JsonApplicationStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final int MODULE_COUNT = 2000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+
+    @Test
+    public void generateApplication_negativeModuleCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        generator.generateApplication(-1);
+    }
+
+    @Test
+    public void generateApplication_zeroModules_emptyDegreePlanners() {
+        Application application = generator.generateApplication(0);
+        assertTrue(application.getModuleList().isEmpty());
+        assertEquals(16, application.getDegreePlannerList().size());
+        assertTrue(application.getDegreePlannerList().stream().allMatch(planner -> planner.getCodes().isEmpty()));
+    }
+
+    @Test
+    public void generateApplication_sameSeed_sameApplication() {
+        assertEquals(generator.generateApplication(MODULE_COUNT),
+                new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).generateApplication(MODULE_COUNT));
+        assertEquals(generator.generateModules(MODULE_COUNT),
+                generator.generateApplication(MODULE_COUNT).getModuleList());
+    }
+
+    @Test
+    public void generateApplication_differentSeed_differentApplication() {
+        assertNotEquals(generator.generateApplication(MODULE_COUNT),
+                new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED + 1).generateApplication(MODULE_COUNT));
+    }
+
+    @Test
+    public void generateApplication_validApplication() {
+        Application application = generator.generateApplication(MODULE_COUNT);
+
+        List<Module> modules = application.getModuleList();
+        assertEquals(MODULE_COUNT, modules.size());
+        assertTrue(application.getInvariantChecker().verifyAll().isEmpty());
+        assertTrue(modules.stream().anyMatch(module -> !module.getCorequisites().isEmpty()));
+
+        // every degree planner of a regular semester is filled, and no module is planned twice
+        Set<Code> plannedCodes = new HashSet<>();
+        for (DegreePlanner degreePlanner : application.getDegreePlannerList()) {
+            assertFalse(degreePlanner.getCodes().isEmpty());
+            for (Code code : degreePlanner.getCodes()) {
+                assertTrue(plannedCodes.add(code));
+            }
+        }
+
+        // every planned module is in a requirement category, and no module is in two categories
+        Set<Code> categorisedCodes = new HashSet<>();
+        for (RequirementCategory requirementCategory : application.getRequirementCategoryList()) {
+            for (Code code : requirementCategory.getCodeSet()) {
+                assertTrue(categorisedCodes.add(code));
+            }
+        }
+        assertTrue(categorisedCodes.containsAll(plannedCodes));
+        assertTrue(categorisedCodes.size() > plannedCodes.size());
+    }
+
+    @Test
+    public void generateApplication_savedToDataFiles_readBack() throws Exception {
+        Path folder = testFolder.getRoot().toPath();
+        JsonApplicationStorage storage = new JsonApplicationStorage(folder.resolve("modules.json"),
+                folder.resolve("planners.json"), folder.resolve("categories.json"));
+        Application application = generator.generateApplication(MODULE_COUNT);
+        storage.saveApplication(application);
+
+        ReadOnlyApplication readBack = storage.readApplication().get();
+        assertEquals(application, new Application(readBack));
+    }
+}
@@ -0,0 +1,219 @@
+package pwe.planner.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import pwe.planner.model.UserPrefs;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.SharedModuleCatalog;
+
+/**
+ * A load test of {@link PlannerServer}, which executes the same rounds of commands in many sessions concurrently and
+ * measures the throughput and latency of the requests.
+ * <br><br>
+ * Run {@link #main(String[])} with the optional arguments {@code SESSIONS ROUNDS CLIENTS WORKERS} to load test a server
+ * over the typical modules, e.g. {@code 500 20 64 8} for 500 sessions of 20 rounds each, sent by 64 client threads to a
+ * server with 8 workers.
+ */
+public class PlannerServerLoadTester {
+
+    /** Commands executed in each round, which leave the plan of the session as it was before the round. */
+    public static final List<String> ROUND_COMMANDS = Arrays.asList(
+            "planner_add year/1 sem/1 code/CS1010", "list", "planner_remove code/CS1010", "list");
+
+    private static final Path TYPICAL_MODULES_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableApplicationTest", "typicalModulesList.json");
+
+    /**
+     * Starts a server over the typical modules, warms it up, then load tests it and prints the result.
+     */
+    public static void main(String[] args) throws Exception {
+        int sessionCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int roundCount = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int clientCount = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int workerCount = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        Path planDirectory = Files.createTempDirectory("plans");
+        ServerSettings settings = new ServerSettings();
+        settings.setPort(0);
+        settings.setWorkerCount(workerCount);
+        settings.setQueueCapacity(Math.max(clientCount, 1));
+        settings.setMaxSessionCount(sessionCount);
+        settings.setPlanDirectoryPath(planDirectory);
+
+        try (PlannerServer server = new PlannerServer(SharedModuleCatalog.read(TYPICAL_MODULES_FILE), new UserPrefs(),
+                new JsonUserPrefsStorage(planDirectory.resolve("preferences.json")), settings)) {
+            server.start();
+            // warms up the server, so that class loading and compilation are not measured
+            run(server.getPort(), clientCount, 5, clientCount);
+            System.out.println(run(server.getPort(), sessionCount, roundCount, clientCount));
+        }
+    }
+
+    /**
+     * Executes {@code roundCount} rounds of {@link #ROUND_COMMANDS} in each of {@code sessionCount} sessions of the
+     * server on {@code port}, with the sessions spread over {@code clientCount} client threads.
+     */
+    public static LoadTestResult run(int port, int sessionCount, int roundCount, int clientCount)
+            throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        long startTime = System.nanoTime();
+        List<Future<long[]>> sessionLatencies = new ArrayList<>();
+        for (int i = 0; i < sessionCount; i++) {
+            String sessionId = "load-" + i;
+            sessionLatencies.add(clients.submit(() -> runSession(port, sessionId, roundCount)));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        int errorCount = 0;
+        for (Future<long[]> future : sessionLatencies) {
+            for (long latency : future.get()) {
+                // failed requests are recorded with a negative latency
+                if (latency < 0) {
+                    errorCount++;
+                }
+                latencies.add(Math.abs(latency));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.MINUTES);
+
+        long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new LoadTestResult(sessionCount, sortedLatencies, errorCount, elapsedNanos);
+    }
+
+    /**
+     * Executes {@code roundCount} rounds of {@link #ROUND_COMMANDS} in session {@code sessionId}, then closes the
+     * session. Returns the latency of each command, negated if the command failed.
+     */
+    private static long[] runSession(int port, String sessionId, int roundCount) throws IOException {
+        long[] latencies = new long[roundCount * ROUND_COMMANDS.size()];
+        int requestIndex = 0;
+        for (int round = 0; round < roundCount; round++) {
+            for (String command : ROUND_COMMANDS) {
+                long requestStartTime = System.nanoTime();
+                int statusCode = sendCommand(port, sessionId, command).statusCode;
+                long latency = System.nanoTime() - requestStartTime;
+                latencies[requestIndex++] = statusCode == HttpURLConnection.HTTP_OK ? latency : -latency;
+            }
+        }
+        send(port, "DELETE", PlannerServer.SESSIONS_PATH + sessionId, null);
+        return latencies;
+    }
+
+    /**
+     * Executes {@code commandText} in session {@code sessionId} of the server on {@code port}.
+     */
+    public static Response sendCommand(int port, String sessionId, String commandText) throws IOException {
+        return send(port, "POST", PlannerServer.SESSIONS_PATH + sessionId + PlannerServer.COMMANDS_PATH, commandText);
+    }
+
+    /**
+     * Sends a request with {@code method} to {@code path} of the server on {@code port}, with {@code body} unless it
+     * is null.
+     */
+    public static Response send(int port, String method, String path, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", port, path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int statusCode = connection.getResponseCode();
+        InputStream responseBody = statusCode < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        if (responseBody == null) {
+            return new Response(statusCode, "");
+        }
+        // the response is fully read, so that the connection is reused by the next request
+        try (InputStream in = responseBody) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            in.transferTo(content);
+            return new Response(statusCode, new String(content.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * A response of the server.
+     */
+    public static class Response {
+        public final int statusCode;
+        public final String body;
+
+        Response(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+    }
+
+    /**
+     * The throughput and latency of the requests of a load test.
+     */
+    public static class LoadTestResult {
+        private final int sessionCount;
+        private final long[] sortedLatencies;
+        private final int errorCount;
+        private final long elapsedNanos;
+
+        LoadTestResult(int sessionCount, long[] sortedLatencies, int errorCount, long elapsedNanos) {
+            this.sessionCount = sessionCount;
+            this.sortedLatencies = sortedLatencies;
+            this.errorCount = errorCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getRequestCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * Returns the number of requests completed per second.
+         */
+        public double getThroughput() {
+            return sortedLatencies.length / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns the latency, in milliseconds, within which {@code percentile} percent of the requests completed.
+         */
+        public double getLatencyPercentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%1$d sessions, %2$d requests (%3$d failed) in %4$.2f s: %5$.1f requests/s, "
+                    + "latency p50 %6$.2f ms, p99 %7$.2f ms, max %8$.2f ms", sessionCount, getRequestCount(),
+                    errorCount, elapsedNanos / 1e9, getThroughput(), getLatencyPercentileMillis(50),
+                    getLatencyPercentileMillis(99), getLatencyPercentileMillis(100));
+        }
+    }
+}
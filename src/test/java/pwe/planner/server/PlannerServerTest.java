@@ -0,0 +1,165 @@
+package pwe.planner.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.server.PlannerServerLoadTester.send;
+import static pwe.planner.server.PlannerServerLoadTester.sendCommand;
+
+import java.net.HttpURLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.logic.commands.ListCommand;
+import pwe.planner.logic.commands.UndoCommand;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.server.PlannerServerLoadTester.LoadTestResult;
+import pwe.planner.server.PlannerServerLoadTester.Response;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.SharedModuleCatalog;
+
+public class PlannerServerTest {
+
+    private static final Path TYPICAL_MODULES_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableApplicationTest", "typicalModulesList.json");
+    private static final String ADD_COMMAND = "planner_add year/1 sem/1 code/CS1010";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path planDirectory;
+    private PlannerServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        planDirectory = testFolder.getRoot().toPath().resolve("plans");
+        server = startServer(4, 100, Duration.ofMinutes(30));
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Returns a started server over the typical modules, with the plans in {@code planDirectory}.
+     */
+    private PlannerServer startServer(int workerCount, int maxSessionCount, Duration sessionIdleTimeout)
+            throws Exception {
+        ServerSettings settings = new ServerSettings();
+        settings.setPort(0);
+        settings.setWorkerCount(workerCount);
+        settings.setMaxSessionCount(maxSessionCount);
+        settings.setSessionIdleTimeout(sessionIdleTimeout);
+        settings.setPlanDirectoryPath(planDirectory);
+        PlannerServer plannerServer = new PlannerServer(SharedModuleCatalog.read(TYPICAL_MODULES_FILE),
+                new UserPrefs(), new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json")),
+                settings);
+        plannerServer.start();
+        return plannerServer;
+    }
+
+    @Test
+    public void execute_validCommand_feedbackReturned() throws Exception {
+        Response response = sendCommand(server.getPort(), "alice", ListCommand.COMMAND_WORD);
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode);
+        assertTrue(response.body.contains(ListCommand.MESSAGE_SUCCESS));
+        assertEquals(1, server.getSessionCount());
+    }
+
+    @Test
+    public void execute_invalidCommand_badRequest() throws Exception {
+        Response response = sendCommand(server.getPort(), "alice", "unknownCommand");
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, response.statusCode);
+        assertTrue(response.body.contains("\"error\""));
+    }
+
+    @Test
+    public void execute_sessionsHaveSeparateHistories() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_OK, sendCommand(server.getPort(), "alice", ADD_COMMAND).statusCode);
+
+        // bob has nothing to undo, as alice's command is only in alice's history
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST,
+                sendCommand(server.getPort(), "bob", UndoCommand.COMMAND_WORD).statusCode);
+        assertEquals(HttpURLConnection.HTTP_OK,
+                sendCommand(server.getPort(), "alice", UndoCommand.COMMAND_WORD).statusCode);
+    }
+
+    @Test
+    public void closeSession_planSavedAndReopened() throws Exception {
+        sendCommand(server.getPort(), "alice", ADD_COMMAND);
+        assertEquals(HttpURLConnection.HTTP_NO_CONTENT,
+                send(server.getPort(), "DELETE", PlannerServer.SESSIONS_PATH + "alice", null).statusCode);
+        assertEquals(0, server.getSessionCount());
+        assertTrue(Files.exists(planDirectory.resolve("alice.json")));
+
+        // the plan is read back from the overlay file, hence the module is already in the plan
+        Response response = sendCommand(server.getPort(), "alice", ADD_COMMAND);
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, response.statusCode);
+    }
+
+    @Test
+    public void closeIdleSessions_idleSessionClosed() throws Exception {
+        sendCommand(server.getPort(), "alice", ListCommand.COMMAND_WORD);
+        server.closeIdleSessions();
+        assertEquals(1, server.getSessionCount());
+
+        server.close();
+        server = startServer(4, 100, Duration.ZERO);
+        sendCommand(server.getPort(), "alice", ListCommand.COMMAND_WORD);
+        server.closeIdleSessions();
+        assertEquals(0, server.getSessionCount());
+    }
+
+    @Test
+    public void execute_tooManySessions_serviceUnavailable() throws Exception {
+        server.close();
+        server = startServer(1, 1, Duration.ofMinutes(30));
+
+        assertEquals(HttpURLConnection.HTTP_OK,
+                sendCommand(server.getPort(), "alice", ListCommand.COMMAND_WORD).statusCode);
+        Response response = sendCommand(server.getPort(), "bob", ListCommand.COMMAND_WORD);
+        assertEquals(HttpURLConnection.HTTP_UNAVAILABLE, response.statusCode);
+        assertTrue(response.body.contains(PlannerServer.MESSAGE_TOO_MANY_SESSIONS));
+    }
+
+    @Test
+    public void request_invalidPathOrMethod_rejected() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND,
+                sendCommand(server.getPort(), "..", ListCommand.COMMAND_WORD).statusCode);
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND,
+                send(server.getPort(), "POST", PlannerServer.SESSIONS_PATH + "alice/other", "list").statusCode);
+        assertEquals(HttpURLConnection.HTTP_BAD_METHOD,
+                send(server.getPort(), "GET", PlannerServer.SESSIONS_PATH + "alice/commands", null).statusCode);
+        assertEquals(HttpURLConnection.HTTP_BAD_METHOD,
+                send(server.getPort(), "POST", PlannerServer.SESSIONS_PATH + "alice", "list").statusCode);
+        assertFalse(Files.exists(planDirectory));
+    }
+
+    @Test
+    public void execute_concurrentSessions_allCommandsSucceed() throws Exception {
+        // each round only succeeds if the plan of its session is not changed by the rounds of other sessions
+        LoadTestResult result = PlannerServerLoadTester.run(server.getPort(), 20, 5, 8);
+        assertEquals(20 * 5 * PlannerServerLoadTester.ROUND_COMMANDS.size(), result.getRequestCount());
+        assertEquals(0, result.getErrorCount());
+        assertEquals(0, server.getSessionCount());
+    }
+
+    @Test
+    public void execute_unreadablePlan_internalError() throws Exception {
+        Files.createDirectories(planDirectory);
+        Files.write(planDirectory.resolve("alice.json"), "not json".getBytes());
+
+        Response response = sendCommand(server.getPort(), "alice", ListCommand.COMMAND_WORD);
+        assertEquals(HttpURLConnection.HTTP_INTERNAL_ERROR, response.statusCode);
+        assertEquals(0, server.getSessionCount());
+    }
+}
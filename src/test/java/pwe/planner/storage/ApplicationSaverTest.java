@@ -0,0 +1,199 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalModules.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.testutil.ApplicationBuilder;
+
+public class ApplicationSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private JsonApplicationStorage applicationStorage;
+    private JsonUserPrefsStorage userPrefsStorage;
+    private StorageManager storageManager;
+
+    @Before
+    public void setUp() {
+        applicationStorage =
+                new JsonApplicationStorage(getTempFilePath("ab"), getTempFilePath("dp"), getTempFilePath("reqCat"));
+        userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        storageManager = new StorageManager(applicationStorage, userPrefsStorage);
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ApplicationSaver(storageManager, Runnable::run).requestSave(null);
+    }
+
+    @Test
+    public void requestSave_snapshot_savedAfterFlush() throws Exception {
+        ApplicationSaver applicationSaver = new ApplicationSaver(storageManager, Runnable::run);
+        Application snapshot = new ApplicationBuilder().withModule(ALICE).build();
+
+        applicationSaver.requestSave(snapshot);
+        applicationSaver.flush();
+
+        assertEquals(snapshot, new Application(storageManager.readApplication().get()));
+        assertNull(applicationSaver.saveFailureProperty().get());
+    }
+
+    @Test
+    public void requestSave_burstWhileSaving_latestSnapshotSavedOnce() throws Exception {
+        BlockingStorageStub storage = new BlockingStorageStub(applicationStorage, userPrefsStorage);
+        ApplicationSaver applicationSaver = new ApplicationSaver(storage, Runnable::run);
+        Application firstSnapshot = new ApplicationBuilder().withModule(ALICE).build();
+        Application latestSnapshot = new ApplicationBuilder().withModule(CARL).build();
+
+        applicationSaver.requestSave(firstSnapshot);
+        storage.saveStarted.await();
+        applicationSaver.requestSave(new ApplicationBuilder().withModule(BENSON).build());
+        applicationSaver.requestSave(latestSnapshot);
+        storage.allowSave.countDown();
+        applicationSaver.flush();
+
+        assertEquals(2, storage.savedSnapshots.size());
+        assertSame(firstSnapshot, storage.savedSnapshots.get(0));
+        assertSame(latestSnapshot, storage.savedSnapshots.get(1));
+    }
+
+    @Test
+    public void requestSave_saveTimeRecorders_onlySavedSnapshotsRecorded() throws Exception {
+        BlockingStorageStub storage = new BlockingStorageStub(applicationStorage, userPrefsStorage);
+        ApplicationSaver applicationSaver = new ApplicationSaver(storage, Runnable::run);
+        List<String> recordedSaves = new ArrayList<>();
+
+        applicationSaver.requestSave(new Application(), saveNanos -> recordedSaves.add("first"));
+        storage.saveStarted.await();
+        // replaced by the latest snapshot before it is saved
+        applicationSaver.requestSave(new Application(), saveNanos -> recordedSaves.add("replaced"));
+        applicationSaver.requestSave(new Application(), saveNanos -> recordedSaves.add("latest"));
+        storage.allowSave.countDown();
+        applicationSaver.flush();
+
+        assertEquals(List.of("first", "latest"), recordedSaves);
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_reportsSaveFailureUntilNextSuccessfulSave() {
+        IoExceptionThrowingStorageStub storage =
+                new IoExceptionThrowingStorageStub(applicationStorage, userPrefsStorage);
+        ApplicationSaver applicationSaver = new ApplicationSaver(storage, Runnable::run);
+
+        applicationSaver.requestSave(new Application());
+        applicationSaver.flush();
+        assertEquals(DUMMY_IO_EXCEPTION, applicationSaver.saveFailureProperty().get());
+
+        storage.shouldThrow = false;
+        applicationSaver.requestSave(new Application());
+        applicationSaver.flush();
+        assertNull(applicationSaver.saveFailureProperty().get());
+    }
+
+    @Test
+    public void shutdown_pendingSnapshot_savedBeforeShutdown() throws Exception {
+        ApplicationSaver applicationSaver = new ApplicationSaver(storageManager, Runnable::run);
+        Application snapshot = new ApplicationBuilder().withModule(CARL).build();
+
+        applicationSaver.requestSave(snapshot);
+        applicationSaver.shutdown();
+
+        assertEquals(snapshot, new Application(storageManager.readApplication().get()));
+    }
+
+    @Test
+    public void createSynchronous_requestSave_savedBeforeReturning() throws Exception {
+        ApplicationSaver applicationSaver = ApplicationSaver.createSynchronous(storageManager);
+        Application snapshot = new ApplicationBuilder().withModule(ALICE).build();
+
+        applicationSaver.requestSave(snapshot);
+
+        assertEquals(snapshot, new Application(storageManager.readApplication().get()));
+        assertNull(applicationSaver.saveFailureProperty().get());
+    }
+
+    @Test
+    public void createSynchronous_storageThrowsIoException_reportsSaveFailureBeforeReturning() {
+        IoExceptionThrowingStorageStub storage =
+                new IoExceptionThrowingStorageStub(applicationStorage, userPrefsStorage);
+        ApplicationSaver applicationSaver = ApplicationSaver.createSynchronous(storage);
+
+        applicationSaver.requestSave(new Application());
+        assertEquals(DUMMY_IO_EXCEPTION, applicationSaver.saveFailureProperty().get());
+
+        storage.shouldThrow = false;
+        applicationSaver.requestSave(new Application());
+        assertNull(applicationSaver.saveFailureProperty().get());
+    }
+
+    /**
+     * A StorageManager stub which records the snapshots saved, and holds up the first save until allowed to continue.
+     */
+    private static class BlockingStorageStub extends StorageManager {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch allowSave = new CountDownLatch(1);
+        private final List<ReadOnlyApplication> savedSnapshots = new ArrayList<>();
+
+        BlockingStorageStub(ApplicationStorage applicationStorage, UserPrefsStorage userPrefsStorage) {
+            super(applicationStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveApplication(ReadOnlyApplication application) {
+            saveStarted.countDown();
+            try {
+                allowSave.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError("The save should not be interrupted.", ie);
+            }
+            savedSnapshots.add(application);
+        }
+    }
+
+    /**
+     * A StorageManager stub which throws an {@code IOException} when saving, unless told otherwise.
+     */
+    private static class IoExceptionThrowingStorageStub extends StorageManager {
+        private volatile boolean shouldThrow = true;
+
+        IoExceptionThrowingStorageStub(ApplicationStorage applicationStorage, UserPrefsStorage userPrefsStorage) {
+            super(applicationStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveApplication(ReadOnlyApplication application) throws IOException {
+            if (shouldThrow) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.model.Application;
+
+public class BinaryApplicationStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Application application;
+    private Path snapshotFilePath;
+    private BinaryApplicationStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        application = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+        snapshotFilePath = testFolder.getRoot().toPath().resolve("data").resolve("application.snapshot");
+        storage = new BinaryApplicationStorage(snapshotFilePath);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new BinaryApplicationStorage(null);
+    }
+
+    @Test
+    public void getListFilePaths_returnsSnapshotFilePath() {
+        assertEquals(snapshotFilePath, storage.getModuleListFilePath());
+        assertEquals(snapshotFilePath, storage.getDegreePlannerListFilePath());
+        assertEquals(snapshotFilePath, storage.getRequirementCategoryListFilePath());
+    }
+
+    @Test
+    public void readApplication_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readApplication().isPresent());
+    }
+
+    @Test
+    public void readApplication_notSnapshotFile_throwsDataConversionException() throws Exception {
+        Files.createDirectories(snapshotFilePath.getParent());
+        Files.write(snapshotFilePath, "not a snapshot".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        storage.readApplication();
+    }
+
+    @Test
+    public void readAndSaveApplication_allInOrder_success() throws Exception {
+        storage.saveApplication(application);
+        assertEquals(application, new Application(storage.readApplication().get()));
+
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        assertEquals(application, new Application(new BinaryApplicationStorage(snapshotFilePath)
+                .readApplication().get()));
+    }
+
+    @Test
+    public void readLists_savedApplication_sameLists() throws Exception {
+        storage.saveApplication(application);
+
+        assertEquals(application.getModuleList(), storage.readModuleList().get());
+        assertEquals(application.getDegreePlannerList(), storage.readDegreePlannerList().get());
+        assertEquals(application.getRequirementCategoryList(), storage.readRequirementCategoryList().get());
+    }
+
+    @Test
+    public void saveApplication_unchangedApplication_skipsWrite() throws Exception {
+        storage.saveApplication(application);
+        Files.delete(snapshotFilePath);
+
+        storage.saveApplication(application);
+        assertFalse(Files.exists(snapshotFilePath));
+    }
+
+    @Test
+    public void saveApplication_savedToOtherFile_stillSavesToSnapshotFile() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("other.snapshot");
+        storage.saveApplication(application, otherFilePath);
+
+        storage.saveApplication(application);
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(application, new Application(storage.readApplication().get()));
+    }
+}
@@ -0,0 +1,134 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+
+public class BinarySnapshotTest {
+
+    private static final int PAYLOAD_CHECKSUM_OFFSET = Integer.BYTES * 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Application application;
+
+    @Before
+    public void setUp() throws Exception {
+        application = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        BinarySnapshot.encode(null);
+    }
+
+    @Test
+    public void decode_encodedApplication_sameApplication() throws Exception {
+        assertEquals(application, BinarySnapshot.decode(BinarySnapshot.encode(application)));
+        assertEquals(new Application(), BinarySnapshot.decode(BinarySnapshot.encode(new Application())));
+    }
+
+    @Test
+    public void decode_sameCodeInSeveralLists_sharesModelObject() throws Exception {
+        Application decodedApplication = BinarySnapshot.decode(BinarySnapshot.encode(application));
+
+        Module module = decodedApplication.getModuleList().stream()
+                .filter(moduleInList -> decodedApplication.getDegreePlannerList().stream()
+                        .anyMatch(degreePlanner -> degreePlanner.getCodes().contains(moduleInList.getCode())))
+                .findFirst().get();
+        Code codeInDegreePlanner = decodedApplication.getDegreePlannerList().stream()
+                .flatMap(degreePlanner -> degreePlanner.getCodes().stream())
+                .filter(module.getCode()::equals)
+                .findFirst().get();
+        assertSame(module.getCode(), codeInDegreePlanner);
+    }
+
+    @Test
+    public void decode_notSnapshot_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinarySnapshot.MESSAGE_NOT_A_SNAPSHOT);
+        BinarySnapshot.decode("{ \"modules\": [] }".getBytes());
+    }
+
+    @Test
+    public void decode_unsupportedFormatVersion_throwsIllegalValueException() throws Exception {
+        byte[] snapshot = BinarySnapshot.encode(application);
+        ByteBuffer.wrap(snapshot).putInt(Integer.BYTES, BinarySnapshot.FORMAT_VERSION + 1);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(BinarySnapshot.MESSAGE_UNSUPPORTED_FORMAT_VERSION,
+                BinarySnapshot.FORMAT_VERSION + 1));
+        BinarySnapshot.decode(snapshot);
+    }
+
+    @Test
+    public void decode_checksumMismatch_throwsIllegalValueException() throws Exception {
+        byte[] snapshot = BinarySnapshot.encode(application);
+        snapshot[snapshot.length - 1]++;
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinarySnapshot.MESSAGE_CORRUPTED);
+        BinarySnapshot.decode(snapshot);
+    }
+
+    @Test
+    public void decode_truncated_throwsIllegalValueException() throws Exception {
+        byte[] snapshot = BinarySnapshot.encode(application);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinarySnapshot.MESSAGE_CORRUPTED);
+        BinarySnapshot.decode(Arrays.copyOf(snapshot, snapshot.length - 1));
+    }
+
+    @Test
+    public void decode_truncatedPayloadWithValidChecksum_throwsIllegalValueException() throws Exception {
+        byte[] snapshot = BinarySnapshot.encode(application);
+        byte[] truncatedSnapshot = Arrays.copyOf(snapshot, snapshot.length - 1);
+        ByteBuffer.wrap(truncatedSnapshot).putInt(Integer.BYTES * 2, truncatedSnapshot.length
+                - BinarySnapshot.HEADER_LENGTH);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinarySnapshot.MESSAGE_CORRUPTED);
+        BinarySnapshot.decode(withValidChecksum(truncatedSnapshot));
+    }
+
+    @Test
+    public void decode_invalidCode_throwsIllegalValueException() throws Exception {
+        byte[] snapshot = BinarySnapshot.encode(application);
+        // the first value of the dictionary is the code of the first module, after the dictionary size and its length
+        snapshot[BinarySnapshot.HEADER_LENGTH + 2] = '1';
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Code.MESSAGE_CONSTRAINTS);
+        BinarySnapshot.decode(withValidChecksum(snapshot));
+    }
+
+    /**
+     * Returns {@code snapshot} with the checksum in its header updated to match its payload.
+     */
+    private byte[] withValidChecksum(byte[] snapshot) {
+        CRC32 crc = new CRC32();
+        crc.update(snapshot, BinarySnapshot.HEADER_LENGTH, snapshot.length - BinarySnapshot.HEADER_LENGTH);
+        ByteBuffer.wrap(snapshot).putLong(PAYLOAD_CHECKSUM_OFFSET, crc.getValue());
+        return snapshot;
+    }
+}
@@ -0,0 +1,161 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.IDA;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.Application;
+
+public class CachedApplicationStorageTest {
+
+    private static final int CACHE_HEADER_LENGTH = Integer.BYTES * 2 + 32 * 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Application application;
+
+    @Before
+    public void setUp() throws Exception {
+        application = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    @Test
+    public void constructor_nullCacheFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CachedApplicationStorage(createDataFilesStorage(), null);
+    }
+
+    @Test
+    public void readApplication_missingDataFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readApplication().isPresent());
+        assertFalse(Files.exists(getCacheFilePath()));
+    }
+
+    @Test
+    public void readApplication_noCache_readsDataFilesAndWritesCache() throws Exception {
+        createDataFilesStorage().saveApplication(application);
+
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+        assertCacheMatchesDataFiles(application);
+    }
+
+    @Test
+    public void readApplication_dataFilesUnchanged_readsCache() throws Exception {
+        createDataFilesStorage().saveApplication(application);
+        createStorage().readApplication();
+
+        // the cache is trusted as long as the data files are unchanged, which is shown by changing the cache only
+        Application cachedApplication = new Application(application);
+        cachedApplication.addModule(HOON);
+        replaceCachedApplication(cachedApplication);
+
+        assertEquals(cachedApplication, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_dataFileChanged_readsDataFilesAndRewritesCache() throws Exception {
+        createDataFilesStorage().saveApplication(application);
+        createStorage().readApplication();
+
+        Application changedApplication = new Application(application);
+        changedApplication.addModule(HOON);
+        createDataFilesStorage().saveModuleList(changedApplication);
+
+        assertEquals(changedApplication, new Application(createStorage().readApplication().get()));
+        assertCacheMatchesDataFiles(changedApplication);
+    }
+
+    @Test
+    public void readApplication_invalidCache_readsDataFiles() throws Exception {
+        createDataFilesStorage().saveApplication(application);
+        Files.write(getCacheFilePath(), "not a cache".getBytes());
+
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+        assertCacheMatchesDataFiles(application);
+    }
+
+    @Test
+    public void compact_afterSave_writesSavedApplicationToCache() throws Exception {
+        createDataFilesStorage().saveApplication(application);
+        CachedApplicationStorage storage = createStorage();
+        Application readApplication = new Application(storage.readApplication().get());
+
+        readApplication.addModule(HOON);
+        storage.saveApplication(readApplication);
+        readApplication.addModule(IDA);
+        storage.saveApplication(readApplication);
+        storage.compact();
+
+        assertCacheMatchesDataFiles(readApplication);
+        assertEquals(readApplication, new Application(createStorage().readApplication().get()));
+    }
+
+    /**
+     * Asserts that the cache holds the hashes of the data files and {@code expectedApplication}.
+     */
+    private void assertCacheMatchesDataFiles(Application expectedApplication) throws Exception {
+        byte[] cache = Files.readAllBytes(getCacheFilePath());
+        ByteBuffer buffer = ByteBuffer.wrap(cache);
+        assertEquals(CachedApplicationStorage.MAGIC, buffer.getInt());
+        assertEquals(CachedApplicationStorage.FORMAT_VERSION, buffer.getInt());
+        for (Path dataFilePath : new Path[] {getTempFilePath("modules.json"), getTempFilePath("planners.json"),
+                getTempFilePath("requirements.json")}) {
+            byte[] dataFileHash = new byte[32];
+            buffer.get(dataFileHash);
+            assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(dataFilePath)),
+                    dataFileHash);
+        }
+        assertEquals(expectedApplication,
+                BinarySnapshot.decode(Arrays.copyOfRange(cache, CACHE_HEADER_LENGTH, cache.length)));
+    }
+
+    /**
+     * Replaces the application in the cache with {@code cachedApplication}, keeping the hashes of the data files.
+     */
+    private void replaceCachedApplication(Application cachedApplication) throws Exception {
+        byte[] header = Arrays.copyOf(Files.readAllBytes(getCacheFilePath()), CACHE_HEADER_LENGTH);
+        byte[] snapshot = BinarySnapshot.encode(cachedApplication);
+        byte[] cache = Arrays.copyOf(header, header.length + snapshot.length);
+        System.arraycopy(snapshot, 0, cache, header.length, snapshot.length);
+        Files.write(getCacheFilePath(), cache);
+    }
+
+    private JsonApplicationStorage createDataFilesStorage() {
+        return new JsonApplicationStorage(getTempFilePath("modules.json"), getTempFilePath("planners.json"),
+                getTempFilePath("requirements.json"));
+    }
+
+    private CachedApplicationStorage createStorage() {
+        return new CachedApplicationStorage(createDataFilesStorage(), getCacheFilePath());
+    }
+
+    private Path getCacheFilePath() {
+        return getTempFilePath("startup.cache");
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
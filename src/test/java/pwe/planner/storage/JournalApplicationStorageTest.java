@@ -0,0 +1,277 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.IDA;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+
+public class JournalApplicationStorageTest {
+
+    private static final String INCOMPLETE_RECORD = "{\"modules\":{\"index\":0,";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Application application;
+
+    @Before
+    public void setUp() throws Exception {
+        application = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    @Test
+    public void constructor_nullJournalFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new JournalApplicationStorage(createDataFilesStorage(), null);
+    }
+
+    @Test
+    public void saveApplication_firstSave_writesDataFilesAndJournalHeader() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+
+        assertEquals(1, readJournalLines().length);
+        assertEquals(application, new Application(createDataFilesStorage().readApplication().get()));
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void saveApplication_laterSaves_appendsToJournalOnly() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        byte[] moduleListFileContent = Files.readAllBytes(storage.getModuleListFilePath());
+
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        application.removeModule(ALICE);
+        storage.saveApplication(application);
+
+        assertArrayEquals(moduleListFileContent, Files.readAllBytes(storage.getModuleListFilePath()));
+        assertEquals(3, readJournalLines().length);
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void saveApplication_unchangedApplication_journalUnchanged() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        storage.saveApplication(application);
+
+        assertEquals(1, readJournalLines().length);
+    }
+
+    @Test
+    public void saveApplication_journalFull_compacts() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        for (int i = 0; i < JournalApplicationStorage.COMPACTION_INTERVAL; i++) {
+            if (i % 2 == 0) {
+                application.addModule(HOON);
+            } else {
+                application.removeModule(HOON);
+            }
+            storage.saveApplication(application);
+        }
+        assertEquals(JournalApplicationStorage.COMPACTION_INTERVAL + 1, readJournalLines().length);
+
+        application.addModule(IDA);
+        storage.saveApplication(application);
+
+        assertEquals(1, readJournalLines().length);
+        assertEquals(application, new Application(createDataFilesStorage().readApplication().get()));
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void compact_journalWithRecords_rewritesDataFiles() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+
+        storage.compact();
+
+        assertEquals(1, readJournalLines().length);
+        assertEquals(application, new Application(createDataFilesStorage().readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_missingDataFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readApplication().isPresent());
+    }
+
+    @Test
+    public void readApplication_missingJournal_readsDataFiles() throws Exception {
+        createDataFilesStorage().saveApplication(application);
+
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_incompleteLastRecord_ignoresLastRecord() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        appendToJournal(INCOMPLETE_RECORD);
+
+        JournalApplicationStorage restartedStorage = createStorage();
+        assertEquals(application, new Application(restartedStorage.readApplication().get()));
+
+        // the journal is restarted rather than appended to after the incomplete record
+        application.addModule(IDA);
+        restartedStorage.saveApplication(application);
+        assertEquals(1, readJournalLines().length);
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_incompleteRecordBeforeOtherRecords_throwsDataConversionException() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        appendToJournal(INCOMPLETE_RECORD);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+
+        thrown.expect(DataConversionException.class);
+        createStorage().readApplication();
+    }
+
+    @Test
+    public void readApplication_dataFilesNewerThanJournal_ignoresJournal() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+
+        // data files and their backup files rewritten without restarting the journal
+        Application dataFilesApplication = new Application(application);
+        dataFilesApplication.addModule(IDA);
+        createDataFilesStorage().saveApplication(dataFilesApplication);
+        createDataFilesStorage().saveApplication(dataFilesApplication);
+
+        assertEquals(dataFilesApplication, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_compactionStoppedAfterFirstDataFile_restoresDataFilesAndReplaysJournal()
+            throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        application.removeModule(ALICE);
+        storage.saveApplication(application);
+        byte[] moduleListFileContent = Files.readAllBytes(storage.getModuleListFilePath());
+
+        JournalApplicationStorage restartedStorage = new JournalApplicationStorage(
+                new FirstDataFileOnlyJsonApplicationStorage(), getTempFilePath("journal.jsonl"));
+        restartedStorage.readApplication();
+        try {
+            restartedStorage.compact();
+            fail("The compaction should have stopped after the first data file");
+        } catch (IOException ioe) {
+            // the module list file no longer has the module still planned in the degree planner list file
+            assertFalse(Arrays.equals(moduleListFileContent, Files.readAllBytes(storage.getModuleListFilePath())));
+        }
+
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+        assertArrayEquals(moduleListFileContent, Files.readAllBytes(storage.getModuleListFilePath()));
+    }
+
+    @Test
+    public void readApplication_compactionStoppedBeforeJournalRestarted_restoresDataFilesAndReplaysJournal()
+            throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+
+        // every data file rewritten by a compaction, which stopped before restarting the journal
+        Application compactedApplication = new Application(application);
+        compactedApplication.addModule(IDA);
+        createDataFilesStorage().saveApplication(compactedApplication);
+
+        JournalApplicationStorage restartedStorage = createStorage();
+        assertEquals(application, new Application(restartedStorage.readApplication().get()));
+
+        // the journal is appended to, as it follows on from the restored data files
+        application.addModule(IDA);
+        restartedStorage.saveApplication(application);
+        assertEquals(3, readJournalLines().length);
+        assertEquals(application, new Application(createStorage().readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_recordNotMatchingDataFiles_throwsDataConversionException() throws Exception {
+        JournalApplicationStorage storage = createStorage();
+        storage.saveApplication(application);
+        appendToJournal("{\"modules\":{\"index\":1000,\"removedCount\":1,\"addedElements\":[]}}");
+
+        thrown.expect(DataConversionException.class);
+        createStorage().readApplication();
+    }
+
+    /**
+     * A {@code JsonApplicationStorage} which stops saving an application after writing the module list file, as if the
+     * application had crashed.
+     */
+    private class FirstDataFileOnlyJsonApplicationStorage extends JsonApplicationStorage {
+        FirstDataFileOnlyJsonApplicationStorage() {
+            super(getTempFilePath("modules.json"), getTempFilePath("planners.json"),
+                    getTempFilePath("requirements.json"));
+        }
+
+        @Override
+        public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+
+    private JsonApplicationStorage createDataFilesStorage() {
+        return new JsonApplicationStorage(getTempFilePath("modules.json"), getTempFilePath("planners.json"),
+                getTempFilePath("requirements.json"));
+    }
+
+    private JournalApplicationStorage createStorage() {
+        return new JournalApplicationStorage(createDataFilesStorage(), getTempFilePath("journal.jsonl"));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private String[] readJournalLines() throws Exception {
+        return Files.readAllLines(getTempFilePath("journal.jsonl"), StandardCharsets.UTF_8).toArray(new String[0]);
+    }
+
+    private void appendToJournal(String line) throws Exception {
+        Files.write(getTempFilePath("journal.jsonl"), (line + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    }
+}
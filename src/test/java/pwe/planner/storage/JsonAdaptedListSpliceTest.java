@@ -0,0 +1,88 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+
+public class JsonAdaptedListSpliceTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_equalLists_returnsEmpty() {
+        List<String> list = Arrays.asList("a", "b", "c");
+        assertFalse(JsonAdaptedListSplice.of(list, new ArrayList<>(list), Function.identity()).isPresent());
+    }
+
+    @Test
+    public void of_elementAppended_onlyAppendedElementRecorded() throws Exception {
+        assertSpliceApplies(Arrays.asList("a", "b", "c"), Arrays.asList("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void of_elementRemoved_splicesCorrectly() throws Exception {
+        assertSpliceApplies(Arrays.asList("a", "b", "c"), Arrays.asList("a", "c"));
+    }
+
+    @Test
+    public void of_elementReplaced_splicesCorrectly() throws Exception {
+        assertSpliceApplies(Arrays.asList("a", "b", "c"), Arrays.asList("a", "x", "c"));
+    }
+
+    @Test
+    public void of_repeatedElements_splicesCorrectly() throws Exception {
+        assertSpliceApplies(Arrays.asList("a", "a", "a"), Arrays.asList("a", "a"));
+        assertSpliceApplies(Collections.emptyList(), Arrays.asList("a", "b"));
+        assertSpliceApplies(Arrays.asList("a", "b"), Collections.emptyList());
+    }
+
+    @Test
+    public void applyTo_rangeOutOfBounds_throwsIllegalValueException() throws Exception {
+        JsonAdaptedListSplice<String> splice = new JsonAdaptedListSplice<>(2, 2, Collections.emptyList());
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(JsonAdaptedListSplice.MESSAGE_SPLICE_OUT_OF_BOUNDS, 2, 2, 3));
+        splice.applyTo(new ArrayList<>(Arrays.asList("a", "b", "c")), element -> element);
+    }
+
+    /**
+     * Asserts that the splice from {@code oldList} to {@code newList} turns {@code oldList} into {@code newList}, and
+     * only records the elements which differ.
+     */
+    private void assertSpliceApplies(List<String> oldList, List<String> newList) throws Exception {
+        List<String> addedElements = new ArrayList<>();
+        JsonAdaptedListSplice<String> splice = JsonAdaptedListSplice.of(oldList, newList, element -> {
+            addedElements.add(element);
+            return element;
+        }).get();
+
+        List<String> list = new ArrayList<>(oldList);
+        splice.applyTo(list, element -> element);
+        assertEquals(newList, list);
+        assertEquals(Math.max(0, newList.size() - oldList.size()) + countReplaced(oldList, newList),
+                addedElements.size());
+    }
+
+    /**
+     * Returns the number of elements in the range of {@code newList} which replaces a range of {@code oldList} of the
+     * same size.
+     */
+    private int countReplaced(List<String> oldList, List<String> newList) {
+        return oldList.size() == newList.size()
+                ? (int) java.util.stream.IntStream.range(0, oldList.size())
+                        .filter(i -> !oldList.get(i).equals(newList.get(i))).count()
+                : 0;
+    }
+}
@@ -10,8 +10,10 @@ import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +21,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.model.Application;
 import pwe.planner.model.ReadOnlyApplication;
 
@@ -91,6 +94,61 @@ public class JsonApplicationStorageTest {
                 "invalidAndValidModuleList.json");
     }
 
+    @Test
+    public void readApplication_onlyDegreePlannerListInvalid_throwDataConversionException() throws Exception {
+        Path moduleListFilePath = testFolder.getRoot().toPath().resolve("TempModuleApplication.json");
+        Path requirementCategoryListFilePath = testFolder.getRoot().toPath().resolve("TempRequirementApplication.json");
+        Application original = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+        JsonApplicationStorage jsonApplicationStorage = new JsonApplicationStorage(moduleListFilePath,
+                TEST_DATA_FOLDER.resolve("invalidDegreePlannerList.json"), requirementCategoryListFilePath);
+        jsonApplicationStorage.saveModuleList(original);
+        jsonApplicationStorage.saveRequirementCategoryList(original);
+
+        thrown.expect(DataConversionException.class);
+        jsonApplicationStorage.readApplication();
+    }
+
+    @Test
+    public void readApplication_corruptedModuleListWithBackup_readsBackupAndKeepsItOnSave() throws Exception {
+        Path moduleListFilePath = testFolder.getRoot().toPath().resolve("TempModuleApplication.json");
+        Path degreePlannerListFilePath = testFolder.getRoot().toPath().resolve("TempDegreePlannerApplication.json");
+        Path requirementCategoryListFilePath =
+                testFolder.getRoot().toPath().resolve("TempRequirementCategoryApplication.json");
+        Application original = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+        JsonApplicationStorage jsonApplicationStorage = new JsonApplicationStorage(moduleListFilePath,
+                degreePlannerListFilePath, requirementCategoryListFilePath);
+
+        // the second save keeps the first as the backup file, then the data file is truncated by a crash
+        jsonApplicationStorage.saveApplication(original);
+        jsonApplicationStorage.saveModuleList(original);
+        Files.write(moduleListFilePath, Arrays.copyOf(Files.readAllBytes(moduleListFilePath), 10));
+
+        JsonApplicationStorage restartedStorage = new JsonApplicationStorage(moduleListFilePath,
+                degreePlannerListFilePath, requirementCategoryListFilePath);
+        assertEquals(original, new Application(restartedStorage.readApplication().get()));
+
+        // the truncated data file does not replace the last good backup file
+        original.addModule(HOON);
+        restartedStorage.saveModuleList(original);
+        assertEquals(original, new Application(restartedStorage.readApplication().get()));
+        assertFalse(restartedStorage.readModuleList(FileUtil.getBackupFilePath(moduleListFilePath)).get()
+                .contains(HOON));
+    }
+
+    @Test
+    public void readApplication_corruptedModuleListWithCorruptedBackup_throwDataConversionException()
+            throws Exception {
+        Path moduleListFilePath = testFolder.getRoot().toPath().resolve("TempModuleApplication.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("notJsonFormatList.json"), moduleListFilePath);
+        Files.copy(TEST_DATA_FOLDER.resolve("notJsonFormatList.json"), FileUtil.getBackupFilePath(moduleListFilePath));
+
+        thrown.expect(DataConversionException.class);
+        new JsonApplicationStorage(moduleListFilePath, TEST_DATA_FOLDER.resolve("notJsonFormatList.json"),
+                TEST_DATA_FOLDER.resolve("notJsonFormatList.json")).readApplication();
+    }
+
     @Test
     public void readAndSaveApplication_allInOrder_success() throws Exception {
         Path moduleListFilePath = testFolder.getRoot().toPath().resolve("TempModuleApplication.json");
@@ -0,0 +1,86 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.storage.JsonSerializableModuleList.MESSAGE_DUPLICATE_MODULE;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.JsonUtil;
+
+public class JsonModuleListStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableApplicationTest");
+    private static final Path TYPICAL_MODULES_FILE = TEST_DATA_FOLDER.resolve("typicalModulesList.json");
+    private static final Path INVALID_MODULE_FILE = TEST_DATA_FOLDER.resolve("invalidModuleList.json");
+    private static final Path DUPLICATE_MODULE_FILE = TEST_DATA_FOLDER.resolve("duplicateModuleList.json");
+    private static final Path NOT_JSON_FORMAT_FILE =
+            Paths.get("src", "test", "data", "JsonApplicationStorageTest", "notJsonFormatList.json");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void readModuleList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        JsonModuleListStreamReader.readModuleList((Path) null);
+    }
+
+    @Test
+    public void readModuleList_typicalModulesFile_success() throws Exception {
+        assertEquals(getTypicalModuleList(), JsonModuleListStreamReader.readModuleList(TYPICAL_MODULES_FILE));
+    }
+
+    @Test
+    public void readModuleList_typicalModulesFile_sameAsJsonSerializableModuleList() throws Exception {
+        JsonSerializableModuleList dataFromFile = JsonUtil.readJsonFile(TYPICAL_MODULES_FILE,
+                JsonSerializableModuleList.class).get();
+        assertEquals(dataFromFile.toModelType(), JsonModuleListStreamReader.readModuleList(TYPICAL_MODULES_FILE));
+    }
+
+    @Test
+    public void readModuleList_invalidModuleFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        JsonModuleListStreamReader.readModuleList(INVALID_MODULE_FILE);
+    }
+
+    @Test
+    public void readModuleList_duplicateModules_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(MESSAGE_DUPLICATE_MODULE);
+        JsonModuleListStreamReader.readModuleList(DUPLICATE_MODULE_FILE);
+    }
+
+    @Test
+    public void readModuleList_notJsonFormat_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        JsonModuleListStreamReader.readModuleList(NOT_JSON_FORMAT_FILE);
+    }
+
+    @Test
+    public void readModuleList_missingModulesField_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage(JsonModuleListStreamReader.MESSAGE_MISSING_MODULES_FIELD);
+        JsonModuleListStreamReader.readModuleList(toInputStream("{ \"_comment\" : [ { \"modules\" : [ ] } ] }"));
+    }
+
+    @Test
+    public void readModuleList_unexpectedEndOfModules_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        JsonModuleListStreamReader.readModuleList(toInputStream("{ \"modules\" : [ "));
+    }
+
+    private InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
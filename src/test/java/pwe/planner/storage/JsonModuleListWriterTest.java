@@ -0,0 +1,61 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.TypicalModules.AMY;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+
+public class JsonModuleListWriterTest {
+
+    private final JsonModuleListWriter writer = new JsonModuleListWriter();
+
+    @Test(expected = NullPointerException.class)
+    public void toJsonString_nullModules_throwsNullPointerException() throws Exception {
+        writer.toJsonString(null);
+    }
+
+    @Test
+    public void toJsonString_emptyModuleList_sameAsJsonSerializableModuleList() throws Exception {
+        assertSameAsJsonSerializableModuleList(new Application());
+    }
+
+    @Test
+    public void toJsonString_typicalModules_sameAsJsonSerializableModuleList() throws Exception {
+        assertSameAsJsonSerializableModuleList(getTypicalApplication());
+    }
+
+    @Test
+    public void toJsonString_modulesChangedBetweenWrites_sameAsJsonSerializableModuleList() throws Exception {
+        Application application = getTypicalApplication();
+        writer.toJsonString(application.getModuleList());
+
+        // fragments of the unchanged modules are reused around the added and removed modules
+        application.addModule(AMY);
+        assertSameAsJsonSerializableModuleList(application);
+        application.removeModule(getTypicalModules().get(0));
+        assertSameAsJsonSerializableModuleList(application);
+        application.setModules(Collections.emptyList());
+        assertSameAsJsonSerializableModuleList(application);
+    }
+
+    /**
+     * Asserts that the JSON written by {@code writer} is identical to that of {@link JsonSerializableModuleList}.
+     */
+    private void assertSameAsJsonSerializableModuleList(ReadOnlyApplication application) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableModuleList(application)),
+                writer.toJsonString(application.getModuleList()));
+    }
+
+    private static Application getTypicalApplication() {
+        Application application = new Application();
+        getTypicalModules().forEach(application::addModule);
+        return application;
+    }
+}
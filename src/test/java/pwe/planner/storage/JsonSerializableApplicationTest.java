@@ -1,11 +1,15 @@
 package pwe.planner.storage;
 
 import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -13,7 +17,10 @@ import org.junit.rules.ExpectedException;
 
 import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.commons.util.StringUtil;
 import pwe.planner.model.Application;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.testutil.DegreePlannerBuilder;
 import pwe.planner.testutil.TypicalDegreePlanners;
 
 public class JsonSerializableApplicationTest {
@@ -70,4 +77,18 @@ public class JsonSerializableApplicationTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toValidatedApplication_codeInTwoDegreePlanners_eachDegreePlannerChecked() throws Exception {
+        // the module is offered in the semester of the first degree planner, but not in that of the second
+        DegreePlanner offeredDegreePlanner = new DegreePlannerBuilder().withYear("1").withSemester("1")
+                .withCodes(ALICE.getCode().value).build();
+        DegreePlanner notOfferedDegreePlanner = new DegreePlannerBuilder().withYear("2").withSemester("3")
+                .withCodes(ALICE.getCode().value).build();
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(JsonSerializableApplication.MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER,
+                ALICE.getCode(), "2", "3", StringUtil.joinStreamAsString(ALICE.getSemesters().stream().sorted())));
+        JsonSerializableApplication.toValidatedApplication(getTypicalModules(),
+                List.of(offeredDegreePlanner, notOfferedDegreePlanner), Collections.emptyList());
+    }
 }
@@ -0,0 +1,130 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.model.module.Module;
+
+public class MappedModuleCatalogTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path catalogFilePath;
+
+    @Before
+    public void setUp() {
+        catalogFilePath = testFolder.getRoot().toPath().resolve("catalog").resolve("modules.catalog");
+    }
+
+    @Test
+    public void open_writtenCatalog_sameModulesSortedByCode() throws Exception {
+        List<Module> modules = getTypicalModules();
+        MappedModuleCatalog.write(modules, catalogFilePath);
+        MappedModuleCatalog catalog = MappedModuleCatalog.open(catalogFilePath);
+
+        assertEquals(modules.size(), catalog.size());
+        List<Module> sortedModules = modules.stream().sorted(Comparator.comparing(Module::getCode))
+                .collect(Collectors.toList());
+        assertEquals(sortedModules, catalog.stream().map(MappedModuleCatalog.ModuleView::toModule)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void open_emptyCatalog_noModules() throws Exception {
+        MappedModuleCatalog.write(new HashSet<>(), catalogFilePath);
+
+        MappedModuleCatalog catalog = MappedModuleCatalog.open(catalogFilePath);
+        assertEquals(0, catalog.size());
+        assertFalse(catalog.find(ALICE.getCode()).isPresent());
+    }
+
+    @Test
+    public void find_moduleInCatalog_returnsView() throws Exception {
+        MappedModuleCatalog.write(getTypicalModules(), catalogFilePath);
+        MappedModuleCatalog catalog = MappedModuleCatalog.open(catalogFilePath);
+
+        MappedModuleCatalog.ModuleView view = catalog.find(ALICE.getCode()).get();
+        assertEquals(ALICE.getCode(), view.getCode());
+        assertEquals(ALICE.getName(), view.getName());
+        assertEquals(ALICE.getCredits(), view.getCredits());
+        assertEquals(ALICE.getSemesters(), view.getSemesters());
+        assertEquals(ALICE.getCorequisites(), view.getCorequisites());
+        assertEquals(ALICE.getTags(), view.getTags());
+        assertEquals(ALICE, view.toModule());
+        assertEquals(ALICE, view);
+        assertEquals(ALICE.hashCode(), view.hashCode());
+        assertEquals(view, catalog.find(ALICE.getCode()).get());
+    }
+
+    @Test
+    public void find_moduleNotInCatalog_returnsEmpty() throws Exception {
+        MappedModuleCatalog.write(getTypicalModules(), catalogFilePath);
+
+        assertFalse(MappedModuleCatalog.open(catalogFilePath).find(HOON.getCode()).isPresent());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() throws Exception {
+        MappedModuleCatalog.write(getTypicalModules(), catalogFilePath);
+        MappedModuleCatalog catalog = MappedModuleCatalog.open(catalogFilePath);
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        catalog.get(catalog.size());
+    }
+
+    @Test
+    public void open_notCatalogFile_throwsDataConversionException() throws Exception {
+        Files.createDirectories(catalogFilePath.getParent());
+        Files.write(catalogFilePath, "not a catalog".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        MappedModuleCatalog.open(catalogFilePath);
+    }
+
+    @Test
+    public void open_unsupportedFormatVersion_throwsDataConversionException() throws Exception {
+        MappedModuleCatalog.write(getTypicalModules(), catalogFilePath);
+        byte[] catalog = Files.readAllBytes(catalogFilePath);
+        ByteBuffer.wrap(catalog).putInt(Integer.BYTES, MappedModuleCatalog.FORMAT_VERSION + 1);
+        Files.write(catalogFilePath, catalog);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(MappedModuleCatalog.MESSAGE_UNSUPPORTED_FORMAT_VERSION,
+                MappedModuleCatalog.FORMAT_VERSION + 1));
+        MappedModuleCatalog.open(catalogFilePath);
+    }
+
+    @Test
+    public void open_moduleOffsetOutsideFile_throwsDataConversionException() throws Exception {
+        MappedModuleCatalog.write(getTypicalModules(), catalogFilePath);
+        byte[] catalog = Files.readAllBytes(catalogFilePath);
+        ByteBuffer.wrap(catalog).putInt(Integer.BYTES * 3, catalog.length);
+        Files.write(catalogFilePath, catalog);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(MappedModuleCatalog.MESSAGE_CORRUPTED);
+        MappedModuleCatalog.open(catalogFilePath);
+    }
+}
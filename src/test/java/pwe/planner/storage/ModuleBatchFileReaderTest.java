@@ -0,0 +1,105 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.storage.ModuleBatchFileReader.MESSAGE_INVALID_COLUMN_COUNT;
+import static pwe.planner.storage.ModuleBatchFileReader.MESSAGE_INVALID_CSV_HEADER;
+import static pwe.planner.storage.ModuleBatchFileReader.MESSAGE_INVALID_ROW;
+import static pwe.planner.storage.ModuleBatchFileReader.MESSAGE_UNTERMINATED_QUOTE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class ModuleBatchFileReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ModuleBatchFileReaderTest");
+
+    private static final List<Module> VALID_MODULES = Arrays.asList(
+            new ModuleBuilder().withCode("CS3230").withName("Design and Analysis of Algorithms, Advanced")
+                    .withCredits("4").withSemesters("1", "2").withCorequisites("CS3231").withTags("algorithms")
+                    .build(),
+            new ModuleBuilder().withCode("CS3231").withName("Theory of Computation").withCredits("4")
+                    .withSemesters("2").withCorequisites("CS3230").build());
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void isSupportedFile() {
+        assertTrue(ModuleBatchFileReader.isSupportedFile(Paths.get("modules.csv")));
+        assertTrue(ModuleBatchFileReader.isSupportedFile(Paths.get("data", "modules.JSON")));
+        assertFalse(ModuleBatchFileReader.isSupportedFile(Paths.get("modules.txt")));
+        assertFalse(ModuleBatchFileReader.isSupportedFile(Paths.get("modules")));
+    }
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        ModuleBatchFileReader.read(null);
+    }
+
+    @Test
+    public void read_validCsvFile_success() throws Exception {
+        assertEquals(VALID_MODULES, ModuleBatchFileReader.read(TEST_DATA_FOLDER.resolve("validModules.csv")));
+    }
+
+    @Test
+    public void read_validJsonFile_success() throws Exception {
+        assertEquals(VALID_MODULES, ModuleBatchFileReader.read(TEST_DATA_FOLDER.resolve("validModules.json")));
+    }
+
+    @Test
+    public void read_invalidCsvRows_throwsIllegalValueExceptionWithAllRows() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_ROW, 1, Credits.MESSAGE_CONSTRAINTS));
+        thrown.expectMessage(String.format(MESSAGE_INVALID_ROW, 3, Code.MESSAGE_CONSTRAINTS));
+        ModuleBatchFileReader.read(TEST_DATA_FOLDER.resolve("invalidModules.csv"));
+    }
+
+    @Test
+    public void read_invalidJsonRow_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_ROW, 1, Credits.MESSAGE_CONSTRAINTS));
+        ModuleBatchFileReader.read(TEST_DATA_FOLDER.resolve("invalidModules.json"));
+    }
+
+    @Test
+    public void read_invalidCsvHeader_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(MESSAGE_INVALID_CSV_HEADER);
+        ModuleBatchFileReader.read(TEST_DATA_FOLDER.resolve("invalidHeader.csv"));
+    }
+
+    @Test
+    public void read_missingCsvColumns_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_ROW, 1, String.format(MESSAGE_INVALID_COLUMN_COUNT, 6, 3)));
+        ModuleBatchFileReader.read(TEST_DATA_FOLDER.resolve("missingColumns.csv"));
+    }
+
+    @Test
+    public void splitCsvLine_quotedFields_success() throws Exception {
+        assertEquals(Arrays.asList("CS3230", "Algorithms, \"Advanced\"", "", "4"),
+                ModuleBatchFileReader.splitCsvLine("CS3230,\"Algorithms, \"\"Advanced\"\"\",,4"));
+    }
+
+    @Test
+    public void splitCsvLine_unterminatedQuote_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(MESSAGE_UNTERMINATED_QUOTE);
+        ModuleBatchFileReader.splitCsvLine("CS3230,\"Algorithms");
+    }
+}
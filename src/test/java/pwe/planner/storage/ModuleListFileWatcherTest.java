@@ -0,0 +1,142 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleListDiff;
+import pwe.planner.testutil.Assert;
+
+public class ModuleListFileWatcherTest {
+
+    private static final long WATCH_TIMEOUT_SECONDS = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<ModuleListDiff> reportedDiffs = new ArrayList<>();
+    private Path moduleListFilePath;
+    private List<Module> updatedModules;
+
+    @Before
+    public void setUp() throws Exception {
+        moduleListFilePath = testFolder.getRoot().toPath().resolve("moduleList.json");
+        writeModuleList(getTypicalModules());
+
+        updatedModules = new ArrayList<>(getTypicalModules());
+        updatedModules.remove(ALICE);
+        updatedModules.add(HOON);
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () ->
+                new ModuleListFileWatcher(null, getTypicalModules(), reportedDiffs::add, Runnable::run));
+        Assert.assertThrows(NullPointerException.class, () ->
+                new ModuleListFileWatcher(moduleListFilePath, null, reportedDiffs::add, Runnable::run));
+    }
+
+    @Test
+    public void checkForChanges_modulesChanged_diffFromKnownModulesReported() throws Exception {
+        try (ModuleListFileWatcher watcher = createWatcher()) {
+            writeModuleList(updatedModules);
+            watcher.checkForChanges();
+            // the modules reported are known to be in the file afterwards
+            watcher.checkForChanges();
+        }
+
+        assertEquals(List.of(ModuleListDiff.of(getTypicalModules(), updatedModules)), reportedDiffs);
+    }
+
+    @Test
+    public void checkForChanges_changesRejected_diffFromKnownModulesReportedAgain() throws Exception {
+        Predicate<ModuleListDiff> rejectingHandler = diff -> {
+            reportedDiffs.add(diff);
+            return false;
+        };
+        try (ModuleListFileWatcher watcher = new ModuleListFileWatcher(moduleListFilePath, getTypicalModules(),
+                rejectingHandler, Runnable::run)) {
+            writeModuleList(updatedModules);
+            watcher.checkForChanges();
+            // the modules rejected are not known to be in the file afterwards
+            watcher.checkForChanges();
+        }
+
+        ModuleListDiff expectedDiff = ModuleListDiff.of(getTypicalModules(), updatedModules);
+        assertEquals(List.of(expectedDiff, expectedDiff), reportedDiffs);
+    }
+
+    @Test
+    public void checkForChanges_modulesUnchanged_nothingReported() throws Exception {
+        try (ModuleListFileWatcher watcher = createWatcher()) {
+            writeModuleList(getTypicalModules());
+            watcher.checkForChanges();
+        }
+
+        assertTrue(reportedDiffs.isEmpty());
+    }
+
+    @Test
+    public void checkForChanges_fileNotInCorrectFormat_skippedUntilFixed() throws Exception {
+        try (ModuleListFileWatcher watcher = createWatcher()) {
+            FileUtil.writeToFile(moduleListFilePath, "{ \"modules\" : [ ");
+            watcher.checkForChanges();
+            assertTrue(reportedDiffs.isEmpty());
+
+            writeModuleList(updatedModules);
+            watcher.checkForChanges();
+        }
+
+        assertEquals(List.of(ModuleListDiff.of(getTypicalModules(), updatedModules)), reportedDiffs);
+    }
+
+    @Test
+    public void start_fileReplaced_diffReported() throws Exception {
+        CountDownLatch reported = new CountDownLatch(1);
+        Predicate<ModuleListDiff> changeHandler = diff -> {
+            reportedDiffs.add(diff);
+            reported.countDown();
+            return true;
+        };
+        try (ModuleListFileWatcher watcher = new ModuleListFileWatcher(moduleListFilePath, getTypicalModules(),
+                changeHandler, Runnable::run)) {
+            watcher.start();
+            writeModuleList(updatedModules);
+
+            assertTrue(reported.await(WATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        assertEquals(ModuleListDiff.of(getTypicalModules(), updatedModules), reportedDiffs.get(0));
+    }
+
+    private ModuleListFileWatcher createWatcher() throws Exception {
+        return new ModuleListFileWatcher(moduleListFilePath, getTypicalModules(), reportedDiffs::add, Runnable::run);
+    }
+
+    /**
+     * Replaces the module list file with one containing {@code modules}.
+     */
+    private void writeModuleList(List<Module> modules) throws Exception {
+        Application application = new Application();
+        application.setModules(modules);
+        FileUtil.writeToFile(moduleListFilePath, JsonUtil.toJsonString(new JsonSerializableModuleList(application)));
+    }
+}
@@ -0,0 +1,144 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.storage.PlanOverlayApplicationStorage.MESSAGE_CATALOG_READ_ONLY;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.util.SampleDataUtil;
+import pwe.planner.testutil.Assert;
+
+public class PlanOverlayApplicationStorageTest {
+
+    private static final Path TYPICAL_MODULES_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableApplicationTest", "typicalModulesList.json");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private SharedModuleCatalog catalog;
+    private Path overlayFilePath;
+    private PlanOverlayApplicationStorage storage;
+    private Application typicalApplication;
+
+    @Before
+    public void setUp() throws Exception {
+        catalog = SharedModuleCatalog.read(TYPICAL_MODULES_FILE);
+        overlayFilePath = testFolder.getRoot().toPath().resolve("plan.json");
+        storage = new PlanOverlayApplicationStorage(catalog, overlayFilePath);
+        typicalApplication = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    @Test
+    public void readApplication_missingOverlayFile_newPlanWithCatalogModules() throws Exception {
+        ReadOnlyApplication application = storage.readApplication().get();
+
+        assertEquals(catalog.getModules(), application.getModuleList());
+        assertSame(catalog.getModules().get(0), application.getModuleList().get(0));
+        assertEquals(SampleDataUtil.getSampleDegreePlanners().length, application.getDegreePlannerList().size());
+        assertTrue(application.getDegreePlannerList().stream().allMatch(planner -> planner.getCodes().isEmpty()));
+        assertEquals(SampleDataUtil.getSampleRequirementCategories().length,
+                application.getRequirementCategoryList().size());
+        assertTrue(application.getRequirementCategoryList().stream()
+                .allMatch(requirementCategory -> requirementCategory.getCodeSet().isEmpty()));
+    }
+
+    @Test
+    public void readAndSaveApplication_typicalPlan_success() throws Exception {
+        storage.saveApplication(typicalApplication);
+        ReadOnlyApplication readBack = storage.readApplication().get();
+        assertEquals(typicalApplication, new Application(readBack));
+        assertSame(catalog.getModules().get(0), readBack.getModuleList().get(0));
+
+        // the overlay file only holds the plan
+        assertFalse(FileUtil.readFromFile(overlayFilePath).contains(ALICE.getName().toString()));
+    }
+
+    @Test
+    public void readAndSaveApplication_mappedCatalog_success() throws Exception {
+        Path catalogFilePath = testFolder.getRoot().toPath().resolve("moduleList.catalog");
+        storage = new PlanOverlayApplicationStorage(SharedModuleCatalog.map(TYPICAL_MODULES_FILE, catalogFilePath),
+                overlayFilePath);
+
+        Application application = new Application(storage.readApplication().get());
+        storage.saveApplication(application);
+        ReadOnlyApplication readBack = storage.readApplication().get();
+        assertEquals(application, new Application(readBack));
+        assertTrue(readBack.getModuleList().get(0) instanceof MappedModuleCatalog.ModuleView);
+    }
+
+    @Test
+    public void readApplication_planNotInCatalog_throwsDataConversionException() throws Exception {
+        Application catalogWithoutAlice = new Application(typicalApplication);
+        catalogWithoutAlice.removeModule(ALICE);
+        Path catalogFilePath = testFolder.getRoot().toPath().resolve("catalog.json");
+        JsonUtil.saveJsonFile(new JsonSerializableModuleList(catalogWithoutAlice), catalogFilePath);
+        storage.saveApplication(typicalApplication);
+
+        PlanOverlayApplicationStorage otherCatalogStorage =
+                new PlanOverlayApplicationStorage(SharedModuleCatalog.read(catalogFilePath), overlayFilePath);
+        Assert.assertThrows(DataConversionException.class, otherCatalogStorage::readApplication);
+    }
+
+    @Test
+    public void saveApplication_modulesChanged_throwsIoException() {
+        typicalApplication.addModule(HOON);
+
+        Assert.assertThrows(IOException.class, String.format(MESSAGE_CATALOG_READ_ONLY, TYPICAL_MODULES_FILE), () ->
+                storage.saveApplication(typicalApplication));
+        assertFalse(Files.exists(overlayFilePath));
+    }
+
+    @Test
+    public void isModuleListReadOnly_catalogModules_returnsTrue() {
+        assertTrue(storage.isModuleListReadOnly());
+    }
+
+    @Test
+    public void switchOverlay_otherOverlayFile_otherPlanReadAndSavedTo() throws Exception {
+        Path otherOverlayFilePath = testFolder.getRoot().toPath().resolve("otherPlan.json");
+        storage.saveApplication(typicalApplication, otherOverlayFilePath);
+
+        ReadOnlyApplication otherPlan = storage.switchOverlay(otherOverlayFilePath);
+        assertEquals(typicalApplication, new Application(otherPlan));
+        assertEquals(otherOverlayFilePath, storage.getOverlayFilePath());
+        assertEquals(otherOverlayFilePath, storage.getDegreePlannerListFilePath());
+
+        Application editedPlan = new Application(otherPlan);
+        editedPlan.resetPlanner();
+        storage.saveApplication(editedPlan);
+        assertEquals(editedPlan, new Application(storage.readApplication().get()));
+        assertFalse(Files.exists(overlayFilePath));
+    }
+
+    @Test
+    public void switchOverlay_overlayNotInCorrectFormat_overlayFileUnchanged() throws Exception {
+        Path invalidOverlayFilePath = testFolder.getRoot().toPath().resolve("invalidPlan.json");
+        FileUtil.writeToFile(invalidOverlayFilePath, "not a plan");
+
+        Assert.assertThrows(DataConversionException.class, () -> storage.switchOverlay(invalidOverlayFilePath));
+        assertEquals(overlayFilePath, storage.getOverlayFilePath());
+    }
+}
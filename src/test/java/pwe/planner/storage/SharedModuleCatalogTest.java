@@ -0,0 +1,148 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.module.Module;
+
+public class SharedModuleCatalogTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableApplicationTest");
+    private static final Path TYPICAL_MODULES_FILE = TEST_DATA_FOLDER.resolve("typicalModulesList.json");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path moduleListFilePath;
+    private Path catalogFilePath;
+
+    @Before
+    public void setUp() {
+        moduleListFilePath = testFolder.getRoot().toPath().resolve("moduleList.json");
+        catalogFilePath = testFolder.getRoot().toPath().resolve("moduleList.catalog");
+    }
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        SharedModuleCatalog.read(null);
+    }
+
+    @Test
+    public void read_typicalModulesFile_success() throws Exception {
+        SharedModuleCatalog catalog = SharedModuleCatalog.read(TYPICAL_MODULES_FILE);
+        assertEquals(TYPICAL_MODULES_FILE, catalog.getFilePath());
+        assertEquals(getTypicalModuleList(), catalog.getModules());
+    }
+
+    @Test
+    public void read_missingFile_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        SharedModuleCatalog.read(TEST_DATA_FOLDER.resolve("NonExistentFile.json"));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        SharedModuleCatalog.read(Paths.get("src", "test", "data", "JsonApplicationStorageTest",
+                "notJsonFormatList.json"));
+    }
+
+    @Test
+    public void read_duplicateModules_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        SharedModuleCatalog.read(TEST_DATA_FOLDER.resolve("duplicateModuleList.json"));
+    }
+
+    @Test
+    public void map_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        SharedModuleCatalog.map(TYPICAL_MODULES_FILE, null);
+    }
+
+    @Test
+    public void map_missingCatalogFile_catalogFileBuiltFromModuleListFile() throws Exception {
+        Files.copy(TYPICAL_MODULES_FILE, moduleListFilePath);
+        SharedModuleCatalog catalog = SharedModuleCatalog.map(moduleListFilePath, catalogFilePath);
+
+        assertEquals(moduleListFilePath, catalog.getFilePath());
+        assertEquals(getSortedTypicalModules(), catalog.getModules());
+        assertTrue(catalog.getModules().stream().allMatch(module -> module instanceof MappedModuleCatalog.ModuleView));
+    }
+
+    @Test
+    public void map_catalogFileOlderThanModuleListFile_catalogFileRebuilt() throws Exception {
+        MappedModuleCatalog.write(Set.of(ALICE), catalogFilePath);
+        Files.copy(TYPICAL_MODULES_FILE, moduleListFilePath);
+        Files.setLastModifiedTime(moduleListFilePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(catalogFilePath).toMillis() + 1000));
+
+        assertEquals(getSortedTypicalModules(), SharedModuleCatalog.map(moduleListFilePath, catalogFilePath)
+                .getModules());
+    }
+
+    @Test
+    public void map_catalogFileNewerThanModuleListFile_catalogFileMapped() throws Exception {
+        MappedModuleCatalog.write(Set.of(ALICE), catalogFilePath);
+        Files.copy(TYPICAL_MODULES_FILE, moduleListFilePath);
+        Files.setLastModifiedTime(moduleListFilePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(catalogFilePath).toMillis() - 1000));
+
+        assertEquals(List.of(ALICE), SharedModuleCatalog.map(moduleListFilePath, catalogFilePath).getModules());
+    }
+
+    @Test
+    public void map_missingModuleListFile_catalogFileMapped() throws Exception {
+        MappedModuleCatalog.write(Set.of(ALICE), catalogFilePath);
+
+        assertEquals(List.of(ALICE), SharedModuleCatalog.map(moduleListFilePath, catalogFilePath).getModules());
+    }
+
+    @Test
+    public void map_missingFiles_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        SharedModuleCatalog.map(moduleListFilePath, catalogFilePath);
+    }
+
+    @Test
+    public void map_notCatalogFormat_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(catalogFilePath, "not a catalog");
+
+        thrown.expect(DataConversionException.class);
+        SharedModuleCatalog.map(moduleListFilePath, catalogFilePath);
+    }
+
+    @Test
+    public void getModules_modifyList_throwsUnsupportedOperationException() throws Exception {
+        thrown.expect(UnsupportedOperationException.class);
+        SharedModuleCatalog.read(TYPICAL_MODULES_FILE).getModules().remove(0);
+    }
+
+    private static List<Module> getSortedTypicalModules() {
+        return getTypicalModules().stream().sorted(Comparator.comparing(Module::getCode)).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,128 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.Application;
+
+public class StorageFormatConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameApplication() throws Exception {
+        Application application = new JsonSerializableApplication(getTypicalModuleList(),
+                getTypicalDegreePlannerList(), getTypicalRequirementCategoriesList()).toModelType();
+        JsonApplicationStorage jsonStorage = createJsonStorage("original");
+        jsonStorage.saveApplication(application);
+
+        BinaryApplicationStorage binaryStorage = new BinaryApplicationStorage(getTempFilePath("application.snapshot"));
+        assertTrue(StorageFormatConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(application, new Application(binaryStorage.readApplication().get()));
+
+        JsonApplicationStorage exportedJsonStorage = createJsonStorage("exported");
+        assertTrue(StorageFormatConverter.convert(binaryStorage, exportedJsonStorage));
+        assertEquals(application, new Application(exportedJsonStorage.readApplication().get()));
+    }
+
+    @Test
+    public void convert_noSourceData_targetUnchanged() throws Exception {
+        Path snapshotFilePath = getTempFilePath("application.snapshot");
+
+        assertFalse(StorageFormatConverter.convert(createJsonStorage("missing"),
+                new BinaryApplicationStorage(snapshotFilePath)));
+        assertFalse(Files.exists(snapshotFilePath));
+    }
+
+    @Test
+    public void convertIfNewer_sourceNewerThanTarget_converted() throws Exception {
+        Application application = getTypicalApplication();
+        BinaryApplicationStorage binaryStorage = new BinaryApplicationStorage(getTempFilePath("application.snapshot"));
+        binaryStorage.saveApplication(application);
+        JsonApplicationStorage jsonStorage = createJsonStorage("stale");
+        jsonStorage.saveApplication(new Application());
+        setLastModifiedTime(getJsonFilePaths("stale"), 1000);
+        setLastModifiedTime(List.of(binaryStorage.getModuleListFilePath()), 2000);
+
+        assertTrue(StorageFormatConverter.convertIfNewer(binaryStorage, List.of(binaryStorage.getModuleListFilePath()),
+                jsonStorage, getJsonFilePaths("stale")));
+        assertEquals(application, new Application(createJsonStorage("stale").readApplication().get()));
+    }
+
+    @Test
+    public void convertIfNewer_missingTarget_converted() throws Exception {
+        Application application = getTypicalApplication();
+        JsonApplicationStorage jsonStorage = createJsonStorage("original");
+        jsonStorage.saveApplication(application);
+        BinaryApplicationStorage binaryStorage = new BinaryApplicationStorage(getTempFilePath("application.snapshot"));
+
+        assertTrue(StorageFormatConverter.convertIfNewer(jsonStorage, getJsonFilePaths("original"), binaryStorage,
+                List.of(binaryStorage.getModuleListFilePath())));
+        assertEquals(application, new Application(binaryStorage.readApplication().get()));
+    }
+
+    @Test
+    public void convertIfNewer_targetNewerThanSource_targetUnchanged() throws Exception {
+        BinaryApplicationStorage binaryStorage = new BinaryApplicationStorage(getTempFilePath("application.snapshot"));
+        binaryStorage.saveApplication(new Application());
+        Application application = getTypicalApplication();
+        JsonApplicationStorage jsonStorage = createJsonStorage("current");
+        jsonStorage.saveApplication(application);
+        setLastModifiedTime(List.of(binaryStorage.getModuleListFilePath()), 1000);
+        // only one of the target files needs to be newer than the source files
+        setLastModifiedTime(getJsonFilePaths("current").subList(1, 3), 500);
+        setLastModifiedTime(getJsonFilePaths("current").subList(0, 1), 2000);
+
+        assertFalse(StorageFormatConverter.convertIfNewer(binaryStorage,
+                List.of(binaryStorage.getModuleListFilePath()), jsonStorage, getJsonFilePaths("current")));
+        assertEquals(application, new Application(createJsonStorage("current").readApplication().get()));
+    }
+
+    @Test
+    public void convertIfNewer_missingSource_targetUnchanged() throws Exception {
+        Path snapshotFilePath = getTempFilePath("application.snapshot");
+
+        assertFalse(StorageFormatConverter.convertIfNewer(createJsonStorage("missing"), getJsonFilePaths("missing"),
+                new BinaryApplicationStorage(snapshotFilePath), List.of(snapshotFilePath)));
+        assertFalse(Files.exists(snapshotFilePath));
+    }
+
+    private Application getTypicalApplication() throws Exception {
+        return new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    private void setLastModifiedTime(List<Path> filePaths, long millis) throws Exception {
+        for (Path filePath : filePaths) {
+            Files.setLastModifiedTime(filePath, FileTime.fromMillis(millis));
+        }
+    }
+
+    private List<Path> getJsonFilePaths(String prefix) {
+        return List.of(getTempFilePath(prefix + "Modules.json"), getTempFilePath(prefix + "Planners.json"),
+                getTempFilePath(prefix + "Requirements.json"));
+    }
+
+    private JsonApplicationStorage createJsonStorage(String prefix) {
+        return new JsonApplicationStorage(getTempFilePath(prefix + "Modules.json"),
+                getTempFilePath(prefix + "Planners.json"), getTempFilePath(prefix + "Requirements.json"));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -1,10 +1,15 @@
 package pwe.planner.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.Before;
@@ -67,6 +72,41 @@ public class StorageManagerTest {
         assertEquals(original, new Application(retrieved));
     }
 
+    @Test
+    public void saveApplication_onlyModuleListModified_savesModuleListOnly() throws Exception {
+        Application application =
+                new JsonSerializableApplication(TypicalModules.getTypicalModuleList(), getTypicalDegreePlannerList(),
+                        getTypicalRequirementCategoriesList()).toModelType();
+        storageManager.saveApplication(application);
+
+        // unchanged lists are not written again, hence their deleted files are not recreated
+        Files.delete(storageManager.getDegreePlannerListFilePath());
+        Files.delete(storageManager.getRequirementCategoryListFilePath());
+        application.addModule(TypicalModules.HOON);
+        storageManager.saveApplication(application);
+
+        assertEquals(application.getModuleList(), storageManager.readModuleList().get());
+        assertFalse(Files.exists(storageManager.getDegreePlannerListFilePath()));
+        assertFalse(Files.exists(storageManager.getRequirementCategoryListFilePath()));
+    }
+
+    @Test
+    public void saveApplication_previousSaveFailed_savesAgain() throws Exception {
+        Application application = new Application();
+        Path moduleListFilePath = storageManager.getModuleListFilePath();
+        Files.createDirectory(moduleListFilePath); // a directory cannot be written to as a file
+        try {
+            storageManager.saveApplication(application);
+            fail("Expected the save to fail");
+        } catch (IOException ioe) {
+            // expected
+        }
+
+        Files.delete(moduleListFilePath);
+        storageManager.saveApplication(application);
+        assertTrue(Files.exists(moduleListFilePath));
+    }
+
     @Test
     public void getModuleListFilePath() {
         assertNotNull(storageManager.getModuleListFilePath());
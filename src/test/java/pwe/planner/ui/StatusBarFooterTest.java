@@ -3,8 +3,10 @@ package pwe.planner.ui;
 import static org.junit.Assert.assertEquals;
 import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
+import static pwe.planner.ui.StatusBarFooter.SYNC_STATUS_SAVE_FAILED;
 import static pwe.planner.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
@@ -18,6 +20,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import pwe.planner.model.Application;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -30,6 +34,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     private StatusBarFooterHandle statusBarFooterHandle;
     private final Application application = new Application();
+    private final ObjectProperty<IOException> saveFailure = new SimpleObjectProperty<>();
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -45,7 +50,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, application);
+        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, application, saveFailure);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -60,6 +65,17 @@ public class StatusBarFooterTest extends GuiUnitTest {
         guiRobot.interact(() -> application.addModule(ALICE));
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+
+        // after save fails
+        IOException ioException = new IOException("dummy exception");
+        guiRobot.interact(() -> saveFailure.set(ioException));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_SAVE_FAILED, ioException));
+
+        // after save succeeds again
+        guiRobot.interact(() -> saveFailure.set(null));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
     /**